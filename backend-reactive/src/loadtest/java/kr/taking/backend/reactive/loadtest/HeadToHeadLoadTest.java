@@ -0,0 +1,262 @@
+package kr.taking.backend.reactive.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <pre>
+ * ClassName : HeadToHeadLoadTest
+ * Type : class
+ * Description : servlet(backend), reactive(backend-reactive) 모듈에 같은 부하를 주고 일반 클라이언트의 지연 시간을 비교하는 부하 테스트입니다.
+ * Related : backend, backend-reactive
+ * How-to :
+ *  1. 두 모듈을 같은 DB 로 실행합니다. (기본 포트 backend 8888, backend-reactive 8889)
+ *  2. ./gradlew :backend-reactive:loadTest -Dloadtest.userid=... -Dloadtest.password=...
+ *  3. 느린 클라이언트(slowClients)는 작은 수신 버퍼로 큰 목록 응답을 천천히 읽어 연결(과 servlet 의 요청 스레드)을 오래 점유하고,
+ *     그동안 일반 클라이언트(clients)가 쉬지 않고 요청하여 p50, p95, p99 지연 시간, 처리량, 오류 수를 측정합니다.
+ *
+ * 설정 (-Dloadtest.*) :
+ *  servlet, reactive     : 대상 주소 (빈 값이면 해당 대상은 건너뜀)
+ *  userid, password      : 로그인 계정 (없으면 회원가입 후 로그인)
+ *  path, slowPath        : 일반, 느린 클라이언트의 요청 경로
+ *  clients, slowClients  : 동시 클라이언트 수
+ *  durationSec, warmUpSec: 측정 시간, 측정 전 예열 시간
+ *  slowReadBytes, slowReadDelayMs : 느린 클라이언트가 한 번에 읽는 크기, 읽기 간격
+ * </pre>
+ */
+public class HeadToHeadLoadTest {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final String userid = property("userid", "loadtest");
+    private final String password = property("password", "loadtest1234!");
+    private final String path = property("path", "/api/v1/user?size=5");
+    private final String slowPath = property("slowPath", "/api/v1/user?size=1000");
+    private final int clients = Integer.parseInt(property("clients", "32"));
+    private final int slowClients = Integer.parseInt(property("slowClients", "256"));
+    private final int durationSec = Integer.parseInt(property("durationSec", "30"));
+    private final int warmUpSec = Integer.parseInt(property("warmUpSec", "5"));
+    private final int slowReadBytes = Integer.parseInt(property("slowReadBytes", "64"));
+    private final long slowReadDelayMs = Long.parseLong(property("slowReadDelayMs", "500"));
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        HeadToHeadLoadTest test = new HeadToHeadLoadTest();
+
+        List<Result> results = new ArrayList<>();
+        String servlet = property("servlet", "http://localhost:8888");
+        String reactive = property("reactive", "http://localhost:8889");
+        if (!servlet.isEmpty()) results.add(test.run("servlet", servlet));
+        if (!reactive.isEmpty()) results.add(test.run("reactive", reactive));
+
+        System.out.printf("%n%-10s %10s %10s %8s %10s %10s %10s %10s%n",
+                "target", "requests", "req/s", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (Result result : results) {
+            System.out.println(result);
+        }
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    /**
+     * [HeadToHeadLoadTest] 대상 부하 테스트 함수
+     *
+     * @param name 결과에 표시할 대상 이름입니다.
+     * @param baseUrl 대상 주소입니다. (ex. http://localhost:8888)
+     * @return 측정 구간의 일반 클라이언트 요청 결과를 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    Result run(String name, String baseUrl) throws Exception {
+        String token = login(baseUrl);
+        URI target = URI.create(baseUrl + path);
+        URI slowTarget = URI.create(baseUrl + slowPath);
+
+        System.out.printf("[%s] slowClients=%d, clients=%d, warmUp=%ds, duration=%ds%n", name, slowClients, clients, warmUpSec, durationSec);
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmUpSec);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(durationSec);
+
+        ExecutorService slowPool = Executors.newFixedThreadPool(Math.max(1, slowClients));
+        for (int i = 0; i < slowClients; i++) {
+            slowPool.execute(() -> slowClient(slowTarget, token, deadline));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, clients));
+        List<Recorder> recorders = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            pool.execute(() -> client(target, token, measureFrom, deadline, recorder));
+        }
+
+        pool.shutdown();
+        pool.awaitTermination(warmUpSec + durationSec + 60L, TimeUnit.SECONDS);
+        slowPool.shutdownNow();
+        slowPool.awaitTermination(10, TimeUnit.SECONDS);
+
+        return Result.of(name, recorders, durationSec);
+    }
+
+    // 측정 구간(measureFrom ~ deadline)에 시작한 요청만 기록
+    private void client(URI target, String token, long measureFrom, long deadline, Recorder recorder) {
+        HttpRequest request = HttpRequest.newBuilder(target)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        long now;
+        while ((now = System.nanoTime()) < deadline) {
+            boolean ok;
+            try {
+                HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                ok = response.statusCode() == 200;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (now >= measureFrom) recorder.record(System.nanoTime() - now, ok);
+        }
+    }
+
+    // 작은 수신 버퍼로 응답을 조금씩 천천히 읽고, 다 읽으면 다시 요청
+    private void slowClient(URI target, String token, long deadline) {
+        byte[] buffer = new byte[slowReadBytes];
+        String request = "GET " + target.getRawPath() + (target.getRawQuery() != null ? "?" + target.getRawQuery() : "") + " HTTP/1.1\r\n"
+                + "Host: " + target.getHost() + ":" + target.getPort() + "\r\n"
+                + "Authorization: Bearer " + token + "\r\n"
+                + "Connection: close\r\n\r\n";
+
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            try (Socket socket = new Socket()) {
+                socket.setReceiveBufferSize(1024);
+                socket.connect(new InetSocketAddress(target.getHost(), target.getPort()), 5000);
+                OutputStream out = socket.getOutputStream();
+                out.write(request.getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+
+                InputStream in = socket.getInputStream();
+                while (System.nanoTime() < deadline && in.read(buffer) >= 0) {
+                    Thread.sleep(slowReadDelayMs);
+                }
+            } catch (IOException e) {
+                sleepQuietly(100);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private String login(String baseUrl) throws IOException, InterruptedException {
+        String credentials = "{\"userid\":\"" + userid + "\",\"password\":\"" + password + "\"}";
+        HttpResponse<String> response = post(baseUrl + "/api/auth/login", credentials);
+
+        if (response.statusCode() == 404) {
+            String register = "{\"userid\":\"" + userid + "\",\"password\":\"" + password + "\",\"username\":\"" + userid
+                    + "\",\"email\":\"" + userid + "@loadtest.local\"}";
+            post(baseUrl + "/api/auth/register", register);
+            response = post(baseUrl + "/api/auth/login", credentials);
+        }
+
+        Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("login failed (" + baseUrl + ") : " + response.statusCode() + " " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private HttpResponse<String> post(String url, String json) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 클라이언트(스레드)별 기록, 측정이 끝난 뒤에만 합산
+    static class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long latencyNanos, boolean ok) {
+            if (!ok) {
+                errors.incrementAndGet();
+                return;
+            }
+            if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+            latencies[count++] = latencyNanos;
+        }
+    }
+
+    record Result(String name, long requests, double throughput, long errors, double p50, double p95, double p99, double max) {
+
+        static Result of(String name, List<Recorder> recorders, int durationSec) {
+            long errors = 0;
+            int total = 0;
+            for (Recorder recorder : recorders) {
+                errors += recorder.errors.get();
+                total += recorder.count;
+            }
+
+            long[] all = new long[total];
+            int offset = 0;
+            for (Recorder recorder : recorders) {
+                System.arraycopy(recorder.latencies, 0, all, offset, recorder.count);
+                offset += recorder.count;
+            }
+            Arrays.sort(all);
+
+            return new Result(name, total + errors, (double) total / durationSec, errors,
+                    percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99),
+                    (all.length > 0) ? all[all.length - 1] / 1_000_000.0 : 0);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %10d %10.1f %8d %10.1f %10.1f %10.1f %10.1f", name, requests, throughput, errors, p50, p95, p99, max);
+        }
+    }
+}
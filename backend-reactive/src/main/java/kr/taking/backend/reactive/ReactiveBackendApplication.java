@@ -0,0 +1,28 @@
+package kr.taking.backend.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+/**
+ * <pre>
+ * ClassName : ReactiveBackendApplication
+ * Type : class
+ * Description : backend 모듈과 같은 API(/api/auth, /api/v1/user, /api/v1/org, /api/v1/role)를 WebFlux, Reactive Mongo 로 제공하는 애플리케이션입니다.
+ * Related : common (UserEntity, OrgEntity, RoleEntity, ErrorCode)
+ * How-to :
+ *  1. backend 모듈과 같은 DB, 같은 jwtSecret 을 사용하므로 어느 쪽에서 발급한 토큰이든 양쪽에서 사용할 수 있습니다.
+ *  2. 요청을 이벤트 루프에서 처리하므로, 느린 클라이언트가 응답을 늦게 읽어도 스레드를 점유하지 않습니다.
+ *  3. 비밀번호 해시(bcrypt, pbkdf2)처럼 CPU 를 오래 쓰는 작업만 boundedElastic 스케줄러에서 실행합니다.
+ * </pre>
+ */
+@SpringBootApplication(exclude = {ReactiveUserDetailsServiceAutoConfiguration.class})   // JWT 인증만 사용 (기본 사용자 생성 안 함)
+@EntityScan("kr.taking.backend.model")
+@EnableReactiveMongoRepositories
+public class ReactiveBackendApplication {
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveBackendApplication.class, args);
+    }
+}
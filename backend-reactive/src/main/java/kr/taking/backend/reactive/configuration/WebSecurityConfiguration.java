@@ -0,0 +1,66 @@
+package kr.taking.backend.reactive.configuration;
+
+import kr.taking.backend.reactive.configuration.filter.JwtWebFilter;
+import kr.taking.backend.reactive.error.handler.CustomAccessDeniedHandler;
+import kr.taking.backend.reactive.error.handler.UnauthorizedHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+
+/**
+ * <pre>
+ * ClassName : WebSecurityConfiguration
+ * Type : class
+ * Description : Spring Security(WebFlux) 설정과 관련된 함수를 포함하고 있는 클래스입니다.
+ * Related : Spring Security, JwtWebFilter
+ * </pre>
+ */
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class WebSecurityConfiguration {
+
+    private final UnauthorizedHandler unauthorizedHandler;
+    private final CustomAccessDeniedHandler accessDeniedHandler;
+    private final JwtWebFilter jwtWebFilter;
+    private final CorsConfigurationSource corsConfigurationSource;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        // 토큰 사용으로 csrf 설정 Disable 처리
+        http
+            .csrf(csrf -> csrf
+                    .disable())
+            .formLogin(login -> login
+                    .disable())
+            .httpBasic(basic -> basic
+                    .disable())
+            .cors(cors -> cors
+                    .configurationSource(corsConfigurationSource))
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance());  // 세션 사용하지 않음 (STATELESS 처리)
+
+        // 엔트리 포인트
+        http
+            .authorizeExchange(exchanges -> exchanges
+                .pathMatchers("/api/auth/**")
+                  .permitAll()
+                .pathMatchers("/api/v1/**").hasAnyRole("ADMIN", "USER") // spring boot 에서 ROLE_ 은 자동으로 붙음
+                .anyExchange()
+                  .authenticated());
+
+        http
+            // 권한이 없는 경우 Exception 핸들링 지정
+            .exceptionHandling(handling -> handling
+                .accessDeniedHandler(accessDeniedHandler)
+                .authenticationEntryPoint(unauthorizedHandler))
+            .addFilterAt(jwtWebFilter, SecurityWebFiltersOrder.AUTHENTICATION);
+
+        return http.build();
+    }
+}
@@ -0,0 +1,111 @@
+package kr.taking.backend.reactive.configuration.bean;
+
+import kr.taking.backend.service.security.CalibratedPasswordEncoder;
+import kr.taking.backend.service.security.PasswordHashMetrics;
+import kr.taking.backend.util.projection.FieldSelection;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * ClassName : BeanConfig
+ * Type : class
+ * Description : Bean으로 등록한 외부 패키지와 관련된 함수를 포함하고 있는 클래스입니다.
+ * Related : All
+ * Included : PasswordEncoder(CalibratedPasswordEncoder), Jackson 필터, CORS 등 (backend 모듈의 BeanConfig 와 같은 설정)
+ * </pre>
+ */
+@Slf4j
+@Configuration
+public class BeanConfig {
+
+    @Value("${kr.taking.backend.password.algorithm:bcrypt}")
+    private String passwordAlgorithm;
+
+    @Value("${kr.taking.backend.password.targetMs:100}")
+    private long passwordTargetMs;
+
+    // 0 : 기동 시 측정하여 자동 선택
+    @Value("${kr.taking.backend.password.strength:0}")
+    private int passwordStrength;
+
+    // 0 : 알고리즘 기본값 (bcrypt 10 ~ 14, pbkdf2 100,000 ~ 2,000,000)
+    @Value("${kr.taking.backend.password.minStrength:0}")
+    private int passwordMinStrength;
+
+    @Value("${kr.taking.backend.password.maxStrength:0}")
+    private int passwordMaxStrength;
+
+    // common 모듈의 클래스는 component scan 대상(kr.taking.backend.reactive)이 아니므로 직접 등록
+    @Bean
+    public PasswordHashMetrics passwordHashMetrics() {
+        return new PasswordHashMetrics();
+    }
+
+    // 같은 DB 의 해시를 검증하므로 algorithm 은 backend 모듈과 같게 설정 (strength 는 해시에 포함되어 있어 달라도 검증 가능)
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashMetrics passwordHashMetrics, ReactiveMongoTemplate mongoTemplate) {
+        boolean bcrypt = CalibratedPasswordEncoder.BCRYPT.equals(passwordAlgorithm);
+        int minStrength = (passwordMinStrength > 0) ? passwordMinStrength : (bcrypt ? 10 : 100000);
+        int maxStrength = (passwordMaxStrength > 0) ? passwordMaxStrength : (bcrypt ? 14 : 2000000);
+
+        return CalibratedPasswordEncoder.calibrate(passwordAlgorithm, passwordTargetMs, passwordStrength,
+                minStrength, maxStrength, passwordHashMetrics, measured -> sharedPasswordStrength(mongoTemplate, measured));
+    }
+
+    // backend 모듈과 같은 저장 값(password_settings)을 사용, 기동 중 한 번만 조회하므로 block (실패 시 0)
+    private int sharedPasswordStrength(ReactiveMongoTemplate mongoTemplate, int measuredStrength) {
+        Query query = Query.query(Criteria.where("_id").is(passwordAlgorithm));
+        try {
+            Document saved = mongoTemplate.upsert(query, new Update().setOnInsert("strength", measuredStrength),
+                            CalibratedPasswordEncoder.SETTINGS_COLLECTION)
+                    .then()
+                    .onErrorResume(DuplicateKeyException.class, e -> Mono.empty())  // 다른 인스턴스가 동시에 저장한 경우
+                    .then(mongoTemplate.findOne(query, Document.class, CalibratedPasswordEncoder.SETTINGS_COLLECTION))
+                    .block(Duration.ofSeconds(10));
+            return (saved != null && saved.get("strength") instanceof Number strength) ? strength.intValue() : 0;
+        } catch (RuntimeException e) {
+            log.warn("Shared password strength unavailable, using measured strength : {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    // Entity 의 @JsonFilter 기본값 : fields= 가 없는 요청은 모든 필드를 직렬화
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilters() {
+        return builder -> builder.filters(FieldSelection.defaultFilters());
+    }
+
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        CorsConfiguration config = new CorsConfiguration();
+
+        config.setAllowCredentials(true); // 자격 증명 허용 설정
+        config.addAllowedOriginPattern("*"); // 허용할 오리진 설정
+        config.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        config.setExposedHeaders(Arrays.asList("Content-Disposition", "Filename"));
+        config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")); // 허용할 HTTP 메서드 설정
+        source.registerCorsConfiguration("/api/**", config);
+
+        return source;
+    }
+}
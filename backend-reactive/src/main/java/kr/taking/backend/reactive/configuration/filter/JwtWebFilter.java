@@ -0,0 +1,45 @@
+package kr.taking.backend.reactive.configuration.filter;
+
+import io.jsonwebtoken.Claims;
+import kr.taking.backend.reactive.service.TokenRevocationService;
+import kr.taking.backend.reactive.service.TokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ * ClassName : JwtWebFilter
+ * Type : class
+ * Description : 요청의 JWT 토큰을 검증하여 인증 정보를 설정하는 WebFilter 입니다. (backend 모듈의 JwtFilter 와 같은 역할)
+ * Related : TokenService, TokenRevocationService, WebSecurityConfiguration
+ * How-to :
+ *  1. 토큰이 없거나, 유효하지 않거나, 폐기된 경우 인증 정보 없이 다음 필터로 넘기며, 인가 단계에서 401 을 반환합니다.
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtWebFilter implements WebFilter {
+
+    private final TokenService tokenService;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        Claims claims = tokenService.verifyToken(tokenService.resolveJwtToken(exchange));
+        if (claims == null) return chain.filter(exchange);
+
+        return tokenRevocationService.isRevoked(claims)
+                .filter(revoked -> !revoked)
+                .flatMap(ignored -> tokenService.getAuthentication(claims))
+                .flatMap(authentication -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication))
+                        .thenReturn(true))
+                .switchIfEmpty(Mono.defer(() -> chain.filter(exchange).thenReturn(true)))
+                .then();
+    }
+}
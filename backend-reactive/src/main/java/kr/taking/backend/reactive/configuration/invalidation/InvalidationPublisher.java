@@ -0,0 +1,148 @@
+package kr.taking.backend.reactive.configuration.invalidation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Date;
+
+/**
+ * <pre>
+ * ClassName : InvalidationPublisher
+ * Type : class
+ * Description : 변경 스트림을 사용할 수 없는 환경(단일 mongod)에서 backend 인스턴스가 읽는 캐시 무효화 이벤트를 capped 컬렉션에 기록하는 클래스입니다.
+ * Related : TokenRevocationServiceImpl, RoleServiceImpl, OrgServiceImpl, UserServiceImpl, AuthServiceImpl
+ * How-to :
+ *  1. backend 모듈의 InvalidationPublisher 와 같은 형식({ region, key, value, origin, at })으로 cache_invalidations 컬렉션에 기록합니다.
+ *  2. kr.taking.backend.invalidation.mode 는 backend 모듈과 같게 설정합니다. (auto : replica set 이 아니면 polling)
+ *     변경 스트림 모드에서는 backend 인스턴스가 컬렉션 변경을 직접 감지하므로 기록하지 않습니다.
+ *  3. 기록 실패는 로그만 남기며, 쓰기 요청은 실패로 처리하지 않습니다. (backend 인스턴스의 캐시는 TTL 이 지나면 갱신)
+ *  4. 이 모듈은 메모리에 폐기 목록을 두지 않으므로(요청마다 DB 조회) 다른 인스턴스의 이벤트는 읽지 않습니다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvalidationPublisher {
+
+    public static final String COLLECTION = "cache_invalidations";
+
+    // backend 모듈의 Invalidation.Region 과 같은 이름
+    public enum Region {
+        ROLE, ORG, PRINCIPAL, USER_CREATED, TOKEN_GENERATION, REVOKED_TOKEN
+    }
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Value("${kr.taking.backend.invalidation.enabled:true}")
+    private boolean enabled;
+
+    // auto | changeStream | polling
+    @Value("${kr.taking.backend.invalidation.mode:auto}")
+    private String mode;
+
+    @Value("${kr.taking.backend.invalidation.cappedSizeBytes:1048576}")
+    private long cappedSizeBytes;
+
+    @Value("${kr.taking.backend.invalidation.cappedMaxDocuments:10000}")
+    private long cappedMaxDocuments;
+
+    @Value("${kr.taking.backend.invalidation.instanceId:}")
+    private String instanceId;
+
+    @Value("${server.port:8889}")
+    private int serverPort;
+
+    private volatile boolean polling;
+
+    /**
+     * [InvalidationPublisher] 기록 모드 결정 함수
+     *
+     * <pre>
+     * polling 이면 capped 컬렉션을 만든 뒤 기록을 시작합니다. (먼저 insert 하면 일반 컬렉션이 생성되어 backend 의 tailable 커서가 실패)
+     * auto 이면 hello 명령의 setName 으로 replica set 여부를 확인합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled || "changeStream".equals(mode)) return;
+        if (!StringUtils.hasText(instanceId)) instanceId = defaultInstanceId();
+
+        Mono<Boolean> pollingMode = "polling".equals(mode)
+                ? Mono.just(true)
+                : mongoTemplate.executeCommand(new Document("hello", 1))
+                        .map(hello -> !hello.containsKey("setName") && !"isdbgrid".equals(hello.getString("msg")));
+
+        pollingMode
+                .filter(Boolean::booleanValue)
+                .flatMap(ignored -> ensureCappedCollection().thenReturn(true))
+                .subscribe(
+                        ignored -> {
+                            polling = true;
+                            log.info("[InvalidationPublisher] publishing invalidations to {}", COLLECTION);
+                        },
+                        e -> log.warn("[InvalidationPublisher] polling mode check failed : {}", e.getMessage()));
+    }
+
+    public Mono<Void> publish(Region region, String key) {
+        return publish(region, key, null);
+    }
+
+    /**
+     * [InvalidationPublisher] 캐시 무효화 이벤트 기록 함수
+     *
+     * @param region 지울 캐시 영역입니다.
+     * @param key 지울 캐시 키입니다.
+     * @param value 영역별 값입니다. (TOKEN_GENERATION : 증가된 세대, REVOKED_TOKEN : 만료 시각)
+     * @return polling 모드가 아니면 바로 완료하며, 기록 실패는 로그만 남기고 완료합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public Mono<Void> publish(Region region, String key, Long value) {
+        return Mono.defer(() -> {
+            if (!polling) return Mono.empty();
+
+            return mongoTemplate.getCollection(COLLECTION)
+                    .flatMap(collection -> Mono.from(collection.insertOne(new Document("region", region.name())
+                            .append("key", key)
+                            .append("value", value)
+                            .append("origin", instanceId)
+                            .append("at", new Date()))))
+                    .doOnError(e -> log.warn("[InvalidationPublisher] publish failed : {} {} {}", region, key, e.getMessage()))
+                    .onErrorResume(e -> Mono.empty())
+                    .then();
+        });
+    }
+
+    // 여러 인스턴스가 동시에 만들 수 있으므로 생성 실패 시 다시 확인
+    private Mono<Void> ensureCappedCollection() {
+        return mongoTemplate.collectionExists(COLLECTION)
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : mongoTemplate.createCollection(COLLECTION,
+                                        CollectionOptions.empty().capped().size(cappedSizeBytes).maxDocuments(cappedMaxDocuments))
+                                .then()
+                                .onErrorResume(e -> mongoTemplate.collectionExists(COLLECTION)
+                                        .flatMap(created -> created ? Mono.<Void>empty() : Mono.<Void>error(e))));
+    }
+
+    private String defaultInstanceId() {
+        try {
+            return InetAddress.getLocalHost().getHostName() + ":" + serverPort;
+        } catch (UnknownHostException e) {
+            return "unknown:" + serverPort;
+        }
+    }
+}
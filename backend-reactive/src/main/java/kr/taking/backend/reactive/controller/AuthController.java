@@ -0,0 +1,74 @@
+package kr.taking.backend.reactive.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import kr.taking.backend.error.ResultResponse;
+import kr.taking.backend.error.enums.SuccessCode;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.reactive.service.AuthService;
+import kr.taking.backend.util.Security.AccessToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ * ClassName : AuthController
+ * Type : class
+ * Description : 회원가입, 로그인, 토큰 재발급, 로그아웃 등 인증과 관련된 함수를 포함하고 있는 클래스입니다. (backend 모듈과 같은 API)
+ * Related : AuthService, AuthServiceImpl
+ * </pre>
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/auth")
+@Tag(name = "Auth", description = "Auth API Document")
+public class AuthController {
+
+    private final AuthService authService;
+
+    @PostMapping("/register")
+    @Operation(summary = "회원가입", description = "사용자를 추가합니다.")
+    public Mono<ResponseEntity<?>> register(@Valid @RequestBody UserEntity.RegisterDto userRegisterDto) {
+        return authService.register(userRegisterDto)
+                .map(accessToken -> new ResponseEntity<>(accessToken, new HttpHeaders(), HttpStatus.OK));
+    }
+
+    @PostMapping("/login")
+    @Operation(summary = "로그인", description = "JWT 인증을 통한 사용자 로그인을 진행합니다.")
+    public Mono<ResponseEntity<?>> login(@Valid @RequestBody UserEntity.LoginDto userLoginDto) {
+        return authService.login(userLoginDto)
+                .map(accessToken -> new ResponseEntity<>(accessToken, new HttpHeaders(), HttpStatus.OK));
+    }
+
+    // 중복된 경우 409 (DUPLICATE)
+    @GetMapping("/check/{userid}")
+    @Operation(summary = "사용자 아이디 중복체크", description = "사용자 아이디를 중복체크합니다.")
+    public Mono<ResponseEntity<?>> existUserId(@PathVariable("userid") String userid) {
+        log.debug("[AuthController] existUserId...!");
+
+        return authService.checkExistsWithUserId(userid)
+                .then(Mono.fromSupplier(() -> new ResponseEntity<>(ResultResponse.of(SuccessCode.OK), new HttpHeaders(), HttpStatus.OK)));
+    }
+
+    @PostMapping("/refresh")
+    @Operation(summary = "토큰 재발급", description = "Refresh 토큰으로 Access 토큰을 재발급합니다.")
+    public Mono<ResponseEntity<?>> refresh(@Valid @RequestBody AccessToken.RefreshDto refreshDto) {
+        return authService.refresh(refreshDto.getRefreshToken())
+                .map(accessToken -> new ResponseEntity<>(accessToken, new HttpHeaders(), HttpStatus.OK));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "로그아웃", description = "Access 토큰과 Refresh 토큰을 폐기합니다.")
+    public Mono<ResponseEntity<?>> logout(ServerWebExchange exchange, @RequestBody(required = false) AccessToken.RefreshDto refreshDto) {
+        return authService.logout(exchange, (refreshDto != null) ? refreshDto.getRefreshToken() : null)
+                .then(Mono.fromSupplier(() -> new ResponseEntity<>(ResultResponse.of(SuccessCode.OK), new HttpHeaders(), HttpStatus.OK)));
+    }
+}
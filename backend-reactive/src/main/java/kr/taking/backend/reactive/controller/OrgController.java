@@ -0,0 +1,113 @@
+package kr.taking.backend.reactive.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import kr.taking.backend.error.ResultResponse;
+import kr.taking.backend.error.enums.SuccessCode;
+import kr.taking.backend.model.OrgEntity;
+import kr.taking.backend.reactive.service.OrgService;
+import kr.taking.backend.reactive.util.Common;
+import kr.taking.backend.util.projection.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ * ClassName : OrgController
+ * Type : class
+ * Description : 조직 목록 조회, 조직 상세 조회, 조직 업데이트, 조직 삭제 등 조직과 관련된 함수를 포함하고 있는 클래스입니다. (backend 모듈과 같은 API)
+ * Related : OrgService, OrgServiceImpl
+ * How-to :
+ *  1. 목록 조회는 backend 와 같은 Page 응답을, /stream 은 전체 건수 없이 NDJSON 스트리밍 응답을 반환합니다.
+ * </pre>
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/org")
+@Tag(name = "Organization", description = "Organization API Document")
+public class OrgController {
+
+    private final OrgService orgService;
+
+    @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "조직 목록", description = "조직 목록을 조회합니다.")
+    public Mono<ResponseEntity<?>> findAllOrganizations(
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "5") Integer size,
+            @RequestParam(defaultValue = "id,desc") String[] sort,
+            @RequestParam(required = false) String fields) {
+
+        log.info("retrieve all orgs controller...!");
+
+        FieldSelection selection = FieldSelection.of(OrgEntity.class, fields);
+        return orgService.getOrganizations(name, PageRequest.of(page, size, Sort.by(Common.getOrder(sort))), selection)
+                .map(orgEntity -> new ResponseEntity<>(selection.view(orgEntity), new HttpHeaders(), HttpStatus.OK));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "조직 목록 스트리밍", description = "조직 목록을 NDJSON 으로 조회합니다.")
+    public Flux<OrgEntity> streamOrganizations(
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "5") Integer size,
+            @RequestParam(defaultValue = "id,desc") String[] sort,
+            @RequestParam(required = false) String fields) {
+
+        log.info("stream orgs controller...!");
+
+        return orgService.streamOrganizations(name, PageRequest.of(page, size, Sort.by(Common.getOrder(sort))), FieldSelection.of(OrgEntity.class, fields));
+    }
+
+    @PostMapping("")
+    @Operation(summary = "조직 생성", description = "조직을 생성합니다.")
+    public Mono<ResponseEntity<?>> createOrganization(@Valid @RequestBody OrgEntity.CreateDto orgCreateDto) {
+
+        log.info("[OrgController] createOrganization...!");
+
+        return orgService.createOrganization(orgCreateDto)
+                .map(orgEntity -> new ResponseEntity<>(orgEntity, new HttpHeaders(), HttpStatus.OK));
+    }
+
+    @PatchMapping("{id}")
+    @Operation(summary = "조직 업데이트", description = "특정 조직을 업데이트합니다.")
+    public Mono<ResponseEntity<?>> updateOrgById(@PathVariable("id") String id, @RequestBody OrgEntity.UpdateDto orgEntity) {
+
+        log.info("[OrgController] updateOrgById...!");
+
+        return orgService.updateById(id, orgEntity)
+                .map(updated -> new ResponseEntity<>(updated, new HttpHeaders(), HttpStatus.OK));
+    }
+
+    @GetMapping("{id}")
+    @Operation(summary = "ID로 조직 찾기", description = "조직을 조회합니다.")
+    public Mono<ResponseEntity<?>> findByOrgId(@PathVariable("id") String id, @RequestParam(required = false) String fields) {
+
+        log.info("[OrgController] findByOrgId...!");
+
+        FieldSelection selection = FieldSelection.of(OrgEntity.class, fields);
+        return orgService.findById(id, selection)
+                .map(orgEntity -> new ResponseEntity<>(selection.view(orgEntity), new HttpHeaders(), HttpStatus.OK));
+    }
+
+    @DeleteMapping("{id}")
+    @Operation(summary = "조직 삭제", description = "조직을 삭제합니다.")
+    public Mono<ResponseEntity<?>> deleteOrganization(@PathVariable("id") String id) {
+
+        log.info("[OrgController] deleteOrganization...!");
+
+        return orgService.deleteById(id)
+                .then(Mono.fromSupplier(() -> new ResponseEntity<>(ResultResponse.of(SuccessCode.OK), new HttpHeaders(), HttpStatus.OK)));
+    }
+}
@@ -0,0 +1,113 @@
+package kr.taking.backend.reactive.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import kr.taking.backend.error.ResultResponse;
+import kr.taking.backend.error.enums.SuccessCode;
+import kr.taking.backend.model.RoleEntity;
+import kr.taking.backend.reactive.service.RoleService;
+import kr.taking.backend.reactive.util.Common;
+import kr.taking.backend.util.projection.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ * ClassName : RoleController
+ * Type : class
+ * Description : 역할 목록 조회, 역할 상세 조회, 역할 업데이트, 역할 삭제 등 역할과 관련된 함수를 포함하고 있는 클래스입니다. (backend 모듈과 같은 API)
+ * Related : RoleService, RoleServiceImpl
+ * How-to :
+ *  1. 목록 조회는 backend 와 같은 Page 응답을, /stream 은 전체 건수 없이 NDJSON 스트리밍 응답을 반환합니다.
+ * </pre>
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/role")
+@Tag(name = "Role", description = "Role API Document")
+public class RoleController {
+
+    private final RoleService roleService;
+
+    @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "역할 목록", description = "역할 목록을 조회합니다.")
+    public Mono<ResponseEntity<?>> findAllRoles(
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "5") Integer size,
+            @RequestParam(defaultValue = "id,desc") String[] sort,
+            @RequestParam(required = false) String fields) {
+
+        log.info("retrieve all roles controller...!");
+
+        FieldSelection selection = FieldSelection.of(RoleEntity.class, fields);
+        return roleService.getRoles(name, PageRequest.of(page, size, Sort.by(Common.getOrder(sort))), selection)
+                .map(roleEntity -> new ResponseEntity<>(selection.view(roleEntity), new HttpHeaders(), HttpStatus.OK));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "역할 목록 스트리밍", description = "역할 목록을 NDJSON 으로 조회합니다.")
+    public Flux<RoleEntity> streamRoles(
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "5") Integer size,
+            @RequestParam(defaultValue = "id,desc") String[] sort,
+            @RequestParam(required = false) String fields) {
+
+        log.info("stream roles controller...!");
+
+        return roleService.streamRoles(name, PageRequest.of(page, size, Sort.by(Common.getOrder(sort))), FieldSelection.of(RoleEntity.class, fields));
+    }
+
+    @PostMapping("")
+    @Operation(summary = "역할 생성", description = "역할을 생성합니다.")
+    public Mono<ResponseEntity<?>> createRole(@Valid @RequestBody RoleEntity.CreateDto roleCreateDto) {
+
+        log.info("[RoleController] createRole...!");
+
+        return roleService.createRole(roleCreateDto)
+                .map(roleEntity -> new ResponseEntity<>(roleEntity, new HttpHeaders(), HttpStatus.OK));
+    }
+
+    @PatchMapping("{id}")
+    @Operation(summary = "역할 업데이트", description = "특정 역할을 업데이트합니다.")
+    public Mono<ResponseEntity<?>> updateRoleById(@PathVariable("id") String id, @RequestBody RoleEntity.UpdateDto roleEntity) {
+
+        log.info("[RoleController] updateRoleById...!");
+
+        return roleService.updateById(id, roleEntity)
+                .map(updated -> new ResponseEntity<>(updated, new HttpHeaders(), HttpStatus.OK));
+    }
+
+    @GetMapping("{id}")
+    @Operation(summary = "ID로 역할 찾기", description = "역할을 조회합니다.")
+    public Mono<ResponseEntity<?>> findByRoleId(@PathVariable("id") String id, @RequestParam(required = false) String fields) {
+
+        log.info("[RoleController] findByRoleId...!");
+
+        FieldSelection selection = FieldSelection.of(RoleEntity.class, fields);
+        return roleService.findById(id, selection)
+                .map(roleEntity -> new ResponseEntity<>(selection.view(roleEntity), new HttpHeaders(), HttpStatus.OK));
+    }
+
+    @DeleteMapping("{id}")
+    @Operation(summary = "역할 삭제", description = "역할을 삭제합니다.")
+    public Mono<ResponseEntity<?>> deleteRole(@PathVariable("id") String id) {
+
+        log.info("[RoleController] deleteRole...!");
+
+        return roleService.deleteById(id)
+                .then(Mono.fromSupplier(() -> new ResponseEntity<>(ResultResponse.of(SuccessCode.OK), new HttpHeaders(), HttpStatus.OK)));
+    }
+}
@@ -0,0 +1,132 @@
+package kr.taking.backend.reactive.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.taking.backend.error.ResultResponse;
+import kr.taking.backend.error.enums.SuccessCode;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.reactive.service.UserService;
+import kr.taking.backend.reactive.util.Common;
+import kr.taking.backend.util.projection.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * ClassName : UserController
+ * Type : class
+ * Description : 사용자 목록 조회, 사용자 상세 조회, 사용자 업데이트, 사용자 삭제 등 사용자와 관련된 함수를 포함하고 있는 클래스입니다. (backend 모듈과 같은 API)
+ * Related : UserService, UserServiceImpl
+ * How-to :
+ *  1. 목록 조회는 기본적으로 backend 와 같은 Page 응답을 반환합니다.
+ *  2. /stream 으로 요청하면 전체 건수 없이 NDJSON(application/x-ndjson) 으로 한 줄에 한 사용자씩 조회되는 대로 내보냅니다.
+ * </pre>
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/user")
+@Tag(name = "User", description = "User API Document")
+public class UserController {
+
+    private final UserService userService;
+
+    @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "사용자 목록", description = "사용자 목록을 조회합니다.")
+    public Mono<ResponseEntity<?>> findAllUsers(
+            @RequestParam(required = false) String userid,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "5") Integer size,
+            @RequestParam(defaultValue = "id,desc") String[] sort,
+            @RequestParam(required = false) String fields) {
+
+        log.info("retrieve all users controller...!");
+
+        FieldSelection selection = FieldSelection.of(UserEntity.class, fields);
+        return userService.getUsers(userid, PageRequest.of(page, size, Sort.by(Common.getOrder(sort))), selection)
+                .map(userEntity -> new ResponseEntity<>(selection.view(userEntity), new HttpHeaders(), HttpStatus.OK));
+    }
+
+    // 선택하지 않은 필드는 조회하지 않으며, null 필드는 직렬화하지 않음 (spring.jackson.default-property-inclusion=NON_NULL)
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "사용자 목록 스트리밍", description = "사용자 목록을 NDJSON 으로 조회합니다.")
+    public Flux<UserEntity> streamUsers(
+            @RequestParam(required = false) String userid,
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "5") Integer size,
+            @RequestParam(defaultValue = "id,desc") String[] sort,
+            @RequestParam(required = false) String fields) {
+
+        log.info("stream users controller...!");
+
+        return userService.streamUsers(userid, PageRequest.of(page, size, Sort.by(Common.getOrder(sort))), FieldSelection.of(UserEntity.class, fields));
+    }
+
+    @PatchMapping("{id}")
+    @Operation(summary = "사용자 업데이트", description = "특정 사용자를 업데이트합니다.")
+    public Mono<ResponseEntity<?>> updateUser(
+            @PathVariable("id") String id,
+            @RequestBody UserEntity.UpdateDto userEntity) {
+
+        log.info("[UserController] updateUser...!");
+
+        return userService.updateById(id, userEntity)
+                .map(updated -> new ResponseEntity<>(updated, new HttpHeaders(), HttpStatus.OK));
+    }
+
+    @PutMapping("{id}/orgs")
+    @Operation(summary = "사용자 조직 업데이트", description = "특정 사용자의 조직 정보를 업데이트합니다.")
+    public Mono<ResponseEntity<?>> updateUserOrgs(
+            @PathVariable("id") String id,
+            @RequestBody Map<String, List<String>> request) {
+
+        log.info("[UserController] updateUserOrgs...!");
+
+        return userService.updateOrgById(id, request.get("orgIds"))
+                .then(Mono.fromSupplier(() -> new ResponseEntity<>(ResultResponse.of(SuccessCode.OK), new HttpHeaders(), HttpStatus.OK)));
+    }
+
+    @GetMapping("{id}")
+    @Operation(summary = "사용자 찾기", description = "사용자를 조회합니다.")
+    public Mono<ResponseEntity<?>> findUser(
+            @PathVariable("id") String id, @RequestParam(required = false) String fields) {
+
+        log.info("[UserController] findUser...!");
+
+        FieldSelection selection = FieldSelection.of(UserEntity.class, fields);
+        return userService.findById(id, selection)
+                .map(userEntity -> new ResponseEntity<>(selection.view(userEntity), new HttpHeaders(), HttpStatus.OK));
+    }
+
+    @DeleteMapping("{id}")
+    @Operation(summary = "사용자 삭제", description = "사용자를 삭제합니다.")
+    public Mono<ResponseEntity<?>> deleteById(@PathVariable("id") String id) {
+
+        log.info("[UserController] deleteUser...!");
+
+        return userService.deleteById(id)
+                .then(Mono.fromSupplier(() -> new ResponseEntity<>(ResultResponse.of(SuccessCode.OK), new HttpHeaders(), HttpStatus.OK)));
+    }
+
+    @DeleteMapping("{id}/tokens")
+    @Operation(summary = "사용자 토큰 폐기", description = "사용자에게 발급된 모든 토큰을 폐기합니다.")
+    public Mono<ResponseEntity<?>> revokeTokens(@PathVariable("id") String id) {
+
+        log.info("[UserController] revokeTokens...!");
+
+        return userService.revokeTokens(id)
+                .then(Mono.fromSupplier(() -> new ResponseEntity<>(ResultResponse.of(SuccessCode.OK), new HttpHeaders(), HttpStatus.OK)));
+    }
+}
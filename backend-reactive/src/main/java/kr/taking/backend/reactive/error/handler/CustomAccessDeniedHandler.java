@@ -0,0 +1,36 @@
+package kr.taking.backend.reactive.error.handler;
+
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.util.FormatConverter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ * ClassName : CustomAccessDeniedHandler
+ * Type : class
+ * Descrption : 권한이 없는 경우 CustomAccessDeniedHandler Exception 설정과 관련된 함수를 포함하고 있는 클래스입니다.
+ * Related : Spring Security
+ * </pre>
+ */
+@Component
+public class CustomAccessDeniedHandler implements ServerAccessDeniedHandler {
+
+    /**
+     * [Exception] 권한 없는 경우 예외처리 함수
+     * <pre>
+     * 상태 코드와 관련 메세지를 반환합니다. (backend 모듈과 같은 응답)
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     *
+     */
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException denied) {
+        return UnauthorizedHandler.write(exchange.getResponse(), HttpStatus.FORBIDDEN, FormatConverter.toJson(ErrorCode.FORBIDDEN));
+    }
+}
@@ -0,0 +1,104 @@
+package kr.taking.backend.reactive.error.handler;
+
+import kr.taking.backend.error.ErrorResponse;
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.error.exception.CustomException;
+import kr.taking.backend.error.exception.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * <pre>
+ * ClassName : GlobalExceptionHandler
+ * Type : class
+ * Description : backend 모듈의 GlobalExceptionHandler 와 같은 응답(ErrorResponse)으로 예외를 처리하는 클래스입니다.
+ * Related : ErrorCode, ErrorResponse
+ * </pre>
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * javax.validation.Valid or @Validated 으로 binding error 발생시 발생한다.
+     * 주로 @RequestBody 어노테이션에서 발생
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    protected ResponseEntity<ErrorResponse> handleWebExchangeBindException(WebExchangeBindException e) {
+        log.error(e.getMessage());
+        final ErrorResponse response = ErrorResponse.of(ErrorCode.INVALID_INPUT_VALUE, e.getBindingResult());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * 요청 본문이 없거나 읽을 수 없는 경우, 파라미터 타입이 일치하지 않는 경우 발생
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    protected ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException e) {
+        log.error(e.getMessage());
+        boolean body = e.getMethodParameter() != null && e.getMethodParameter().hasParameterAnnotation(RequestBody.class);
+        final ErrorResponse response = ErrorResponse.of(body ? ErrorCode.NO_BODY : ErrorCode.INVALID_INPUT_VALUE);
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * 지원하지 않은 HTTP method 호출 할 경우 발생
+     */
+    @ExceptionHandler(MethodNotAllowedException.class)
+    protected ResponseEntity<ErrorResponse> handleMethodNotAllowedException(MethodNotAllowedException e) {
+        log.error(e.getMessage());
+        final ErrorResponse response = ErrorResponse.of(ErrorCode.METHOD_NOT_ALLOWED);
+        return new ResponseEntity<>(response, HttpStatus.METHOD_NOT_ALLOWED);
+    }
+
+    /**
+     * Authentication 객체가 필요한 권한을 보유하지 않은 경우 발생
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    protected ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException e) {
+        log.error(e.getMessage());
+        final ErrorResponse response = ErrorResponse.of(ErrorCode.FORBIDDEN);
+        return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.FORBIDDEN.getStatus()));
+    }
+
+    /**
+     * 유니크 인덱스(userid, name 등)에 중복된 값을 저장하는 경우 발생
+     */
+    @ExceptionHandler(DuplicateKeyException.class)
+    protected ResponseEntity<ErrorResponse> handleDuplicateKeyException(DuplicateKeyException e) {
+        log.error(e.getMessage());
+        final ErrorResponse response = ErrorResponse.of(ErrorCode.DUPLICATE);
+        return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.DUPLICATE.getStatus()));
+    }
+
+    @ExceptionHandler(CustomException.class)
+    protected ResponseEntity<ErrorResponse> handleBusinessException(final CustomException e) {
+        log.error(e.getMessage());
+        final ErrorCode errorCode = e.getErrorCode();
+        final ErrorResponse response = ErrorResponse.of(errorCode);
+        return new ResponseEntity<>(response, HttpStatus.valueOf(errorCode.getStatus()));
+    }
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    protected ResponseEntity<ErrorResponse> handleEntityNotFoundException(EntityNotFoundException e) {
+        log.error(e.getMessage());
+        final ErrorResponse response = ErrorResponse.of(ErrorCode.ENTITY_NOT_FOUND);
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(Exception.class)
+    protected ResponseEntity<ErrorResponse> handleException(Exception e) {
+        log.error(e.getMessage());
+        final ErrorResponse response = ErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR);
+        return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,47 @@
+package kr.taking.backend.reactive.error.handler;
+
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.util.FormatConverter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <pre>
+ * ClassName : UnauthorizedHandler
+ * Type : class
+ * Descrption : 인증이 안된 경우 UnauthorizedHandler Exception 설정과 관련된 함수를 포함하고 있는 클래스입니다.
+ * Related : Spring Security
+ * </pre>
+ */
+@Component
+public class UnauthorizedHandler implements ServerAuthenticationEntryPoint {
+
+    /**
+     * [Exception] 인증이 안된 경우 예외처리 함수
+     * <pre>
+     * 상태 코드와 관련 메세지를 반환합니다. (backend 모듈과 같은 응답)
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     *
+     */
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException authException) {
+        return write(exchange.getResponse(), HttpStatus.UNAUTHORIZED, FormatConverter.toJson(ErrorCode.ACCESS_DENIED_EXCEPTION));
+    }
+
+    static Mono<Void> write(ServerHttpResponse response, HttpStatus status, String json) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = (json != null ? json : "").getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,20 @@
+package kr.taking.backend.reactive.repository;
+
+import kr.taking.backend.model.OrgEntity;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+
+/**
+ * <pre>
+ * ClassName : OrgRepository
+ * Type : interface
+ * Descrption : Org Reactive Mongo 구현을 위한 인터페이스입니다.
+ * Related : OrgServiceImpl, UserServiceImpl
+ * </pre>
+ */
+public interface OrgRepository extends ReactiveMongoRepository<OrgEntity, String> {
+
+    Mono<OrgEntity> findByName(String name);
+
+}
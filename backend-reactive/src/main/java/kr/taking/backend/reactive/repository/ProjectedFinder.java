@@ -0,0 +1,78 @@
+package kr.taking.backend.reactive.repository;
+
+import kr.taking.backend.util.projection.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <pre>
+ * ClassName : ProjectedFinder
+ * Type : class
+ * Description : fields= 로 선택한 필드만 조회하는 페이지 조회, 스트리밍 조회, 단건 조회 함수를 포함하고 있는 클래스입니다.
+ * Related : FieldSelection, UserServiceImpl, OrgServiceImpl, RoleServiceImpl
+ * How-to :
+ *  1. findPage : backend 와 같은 Page 응답입니다. count 는 첫 페이지가 가득 찬 경우에만 조회합니다. (PageableExecutionUtils 와 같은 규칙)
+ *  2. stream : count 없이 조회한 순서대로 내보내며, 전체 결과를 메모리에 모으지 않습니다.
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectedFinder {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public <T> Mono<Page<T>> findPage(Class<T> type, Criteria criteria, Pageable pageable, FieldSelection fields) {
+        return findPage(type, criteria, pageable, fields, query -> mongoTemplate.find(query, type));
+    }
+
+    // loader : 조회 방법을 바꿀 때 사용 (ex. 사용자 요약 조회 UserRepository::findAllSummaries)
+    public <T> Mono<Page<T>> findPage(Class<T> type, Criteria criteria, Pageable pageable, FieldSelection fields,
+                                      Function<Query, Flux<T>> loader) {
+        Query query = (criteria != null) ? Query.query(criteria) : new Query();
+        return stream(query, pageable, fields, loader)
+                .collectList()
+                .flatMap(content -> total(content, pageable, () -> mongoTemplate.count(query, type))
+                        .map(total -> (Page<T>) new PageImpl<>(content, pageable, total)));
+    }
+
+    public <T> Flux<T> stream(Class<T> type, Criteria criteria, Pageable pageable, FieldSelection fields) {
+        return stream(type, criteria, pageable, fields, query -> mongoTemplate.find(query, type));
+    }
+
+    public <T> Flux<T> stream(Class<T> type, Criteria criteria, Pageable pageable, FieldSelection fields,
+                              Function<Query, Flux<T>> loader) {
+        return stream((criteria != null) ? Query.query(criteria) : new Query(), pageable, fields, loader);
+    }
+
+    public <T> Mono<T> findById(Class<T> type, String id, FieldSelection fields) {
+        return mongoTemplate.findOne(fields.applyTo(Query.query(Criteria.where("id").is(id))), type);
+    }
+
+    private static <T> Flux<T> stream(Query query, Pageable pageable, FieldSelection fields, Function<Query, Flux<T>> loader) {
+        return loader.apply(fields.applyTo(Query.of(query).with(pageable)));
+    }
+
+    // 마지막 페이지임을 알 수 있으면 count 를 생략
+    private static <T> Mono<Long> total(List<T> content, Pageable pageable, Supplier<Mono<Long>> count) {
+        if (pageable.isUnpaged() || pageable.getOffset() == 0) {
+            if (pageable.isUnpaged() || pageable.getPageSize() > content.size()) return Mono.just((long) content.size());
+            return count.get();
+        }
+        if (!content.isEmpty() && pageable.getPageSize() > content.size()) {
+            return Mono.just(pageable.getOffset() + content.size());
+        }
+        return count.get();
+    }
+}
@@ -0,0 +1,20 @@
+package kr.taking.backend.reactive.repository;
+
+import kr.taking.backend.model.RoleEntity;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+
+/**
+ * <pre>
+ * ClassName : RoleRepository
+ * Type : interface
+ * Descrption : Role Reactive Mongo 구현을 위한 인터페이스입니다.
+ * Related : RoleServiceImpl, AuthServiceImpl
+ * </pre>
+ */
+public interface RoleRepository extends ReactiveMongoRepository<RoleEntity, String> {
+
+    Mono<RoleEntity> findByName(String rolename);
+
+}
@@ -0,0 +1,25 @@
+package kr.taking.backend.reactive.repository;
+
+import kr.taking.backend.model.UserEntity;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+
+/**
+ * <pre>
+ * ClassName : UserRepository
+ * Type : interface
+ * Descrption : User Reactive Mongo 구현을 위한 인터페이스입니다.
+ * Related : UserServiceImpl, AuthServiceImpl, JwtWebFilter
+ * How-to :
+ *  1. Reactive Mongo 는 DBRef(role, orgs)를 따라가지 못하므로, 상속받은 findById, findAll 등으로 사용자를 읽으면 안 됩니다.
+ *  2. 요약(roleName, orgSummaries)만 필요하면 findByUserid, findAllSummaries 를, 역할/조직이 필요하면 findAllResolved 를 사용합니다.
+ * </pre>
+ */
+public interface UserRepository extends ReactiveMongoRepository<UserEntity, String>, UserRepositoryCustom {
+
+    @Query(value = "{ 'userid': ?0 }", fields = "{ 'role': 0, 'orgs': 0 }")
+    Mono<UserEntity> findByUserid(String userid);
+
+}
@@ -0,0 +1,30 @@
+package kr.taking.backend.reactive.repository;
+
+import kr.taking.backend.model.UserEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ * ClassName : UserRepositoryCustom
+ * Type : interface
+ * Descrption : 파생 쿼리로 표현하기 어려운 사용자 부분 갱신, DBRef 조회 등을 정의한 인터페이스입니다.
+ * Related : UserRepository, UserRepositoryCustomImpl
+ * </pre>
+ */
+public interface UserRepositoryCustom {
+
+    Mono<Void> updatePassword(String id, String password);
+
+    Mono<UserEntity> updateFields(String id, Update update);
+
+    Mono<Long> incrementTokenGeneration(String userid);
+
+    Mono<Boolean> existsByUseridCovered(String userid);
+
+    Flux<UserEntity> findAllResolved(Query query);
+
+    Flux<UserEntity> findAllSummaries(Query query);
+}
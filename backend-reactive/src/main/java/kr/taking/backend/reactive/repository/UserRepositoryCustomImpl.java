@@ -0,0 +1,176 @@
+package kr.taking.backend.reactive.repository;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import kr.taking.backend.error.exception.EntityNotFoundException;
+import kr.taking.backend.model.OrgEntity;
+import kr.taking.backend.model.RoleEntity;
+import kr.taking.backend.model.UserEntity;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * ClassName : UserRepositoryCustomImpl
+ * Type : class
+ * Descrption : UserRepositoryCustom 을 ReactiveMongoTemplate 으로 구현한 클래스입니다.
+ * Related : UserRepository, UserRepositoryCustom
+ * </pre>
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final Bson USERID_ONLY = Projections.fields(Projections.include("userid"), Projections.excludeId());
+
+    // 참조를 일괄 조회할 사용자 묶음 크기 (스트리밍 응답이 묶음 단위로 나감)
+    private static final int RESOLVE_BATCH_SIZE = 100;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final QueryMapper queryMapper;
+
+    public UserRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    }
+
+    // 전체 문서를 다시 저장하지 않고 password 필드만 $set
+    @Override
+    public Mono<Void> updatePassword(String id, String password) {
+        return mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(id)),
+                Update.update("password", password),
+                UserEntity.class).then();
+    }
+
+    // PATCH : 전달된 필드만 $set 하고 변경 후 문서를 한 번에 반환 (DBRef 는 읽지 않고 요약만 반환)
+    @Override
+    public Mono<UserEntity> updateFields(String id, Update update) {
+        Query query = Query.query(Criteria.where("id").is(id));
+        query.fields().exclude("role", "orgs");
+
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), UserEntity.class)
+                .map(user -> user.toBuilder().orgs(null).build());
+    }
+
+    // 토큰 전체 폐기 시 세대를 원자적으로 증가시키고 증가된 값을 반환
+    @Override
+    public Mono<Long> incrementTokenGeneration(String userid) {
+        Query query = Query.query(Criteria.where("userid").is(userid));
+        query.fields().include("tokenGeneration");
+
+        return mongoTemplate.findAndModify(query, new Update().inc("tokenGeneration", 1),
+                        FindAndModifyOptions.options().returnNew(true), UserEntity.class)
+                .map(UserEntity::getTokenGeneration)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("User with userId " + userid + " Not Found.")));
+    }
+
+    // userid 유니크 인덱스만으로 처리되는 covered 쿼리 (_id 제외, userid 만 projection)
+    @Override
+    public Mono<Boolean> existsByUseridCovered(String userid) {
+        return mongoTemplate.execute(mongoTemplate.getCollectionName(UserEntity.class), collection -> collection
+                        .find(Filters.eq("userid", userid))
+                        .projection(USERID_ONLY)
+                        .first())
+                .hasElements();
+    }
+
+    /**
+     * [UserRepositoryCustomImpl] 참조(역할, 조직) 일괄 조회 함수
+     *
+     * @param query 사용자 조회 조건입니다. (정렬, skip, limit 포함)
+     * @return 역할, 조직이 채워진 사용자를 순서대로 내보냅니다.
+     * <pre>
+     * 사용자 문서를 DBRef 를 따라가지 않은 채로 읽고, RESOLVE_BATCH_SIZE 개씩 묶어 참조된 역할, 조직 id 를 모아
+     * 컬렉션별로 한 번씩($in) 조회한 뒤 다시 연결합니다. (묶음마다 쿼리 최대 2번)
+     * 전체 결과를 모으지 않으므로 묶음 단위로 바로 응답에 쓸 수 있습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Flux<UserEntity> findAllResolved(Query query) {
+        return findDocuments(query)
+                .buffer(RESOLVE_BATCH_SIZE)
+                .concatMap(this::resolve);
+    }
+
+    // 목록 조회용 : DBRef(role, orgs)는 읽지 않고 문서에 포함된 roleName, orgSummaries 만 사용 (users 컬렉션 한 번 조회)
+    // fields= 로 포함할 필드를 지정한 경우(include projection)에는 exclude 를 함께 쓸 수 없으므로 그대로 사용
+    @Override
+    public Flux<UserEntity> findAllSummaries(Query query) {
+        Query summaries = Query.of(query);
+        if (query.getFieldsObject().isEmpty()) summaries.fields().exclude("role", "orgs");
+        return mongoTemplate.find(summaries, UserEntity.class)
+                .map(user -> user.toBuilder().orgs(null).build());
+    }
+
+    private Flux<UserEntity> resolve(List<Document> documents) {
+        Set<Object> roleIds = new HashSet<>();
+        Set<Object> orgIds = new HashSet<>();
+        for (Document document : documents) {
+            if (document.get("role") instanceof DBRef role) roleIds.add(role.getId());
+            for (DBRef org : orgRefs(document)) orgIds.add(org.getId());
+        }
+
+        return Mono.zip(findByIds(roleIds, RoleEntity.class, RoleEntity::getId), findByIds(orgIds, OrgEntity.class, OrgEntity::getId))
+                .flatMapIterable(refs -> {
+                    List<UserEntity> users = new ArrayList<>(documents.size());
+                    for (Document document : documents) {
+                        Object role = document.remove("role");
+                        List<DBRef> orgRefs = orgRefs(document);
+                        document.remove("orgs");
+
+                        Set<OrgEntity> userOrgs = new HashSet<>();
+                        for (DBRef org : orgRefs) {
+                            OrgEntity orgEntity = refs.getT2().get(org.getId().toString());
+                            if (orgEntity != null) userOrgs.add(orgEntity);     // 삭제된 조직 참조는 제외 (backend 와 동일)
+                        }
+
+                        users.add(mongoTemplate.getConverter().read(UserEntity.class, document).toBuilder()
+                                .role((role instanceof DBRef ref) ? refs.getT1().get(ref.getId().toString()) : null)
+                                .orgs(userOrgs)
+                                .build());
+                    }
+                    return users;
+                });
+    }
+
+    // UserEntity 기준으로 필드명, id 타입을 변환한 뒤, DBRef 를 따라가지 않는 원본 문서로 조회
+    private Flux<Document> findDocuments(Query query) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(UserEntity.class);
+
+        return mongoTemplate.execute(entity.getCollection(), collection -> {
+            FindPublisher<Document> documents = collection
+                    .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                    .projection(queryMapper.getMappedFields(query.getFieldsObject(), entity))
+                    .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                    .skip((int) query.getSkip());
+            if (query.getLimit() > 0) documents = documents.limit(query.getLimit());
+            return documents;
+        });
+    }
+
+    private <T> Mono<Map<String, T>> findByIds(Set<Object> ids, Class<T> type, Function<T, String> idGetter) {
+        if (ids.isEmpty()) return Mono.just(Map.of());
+        return mongoTemplate.find(Query.query(Criteria.where("_id").in(ids)), type).collectMap(idGetter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<DBRef> orgRefs(Document document) {
+        Object orgs = document.get("orgs");
+        return (orgs instanceof List<?> list) ? (List<DBRef>) list : List.of();
+    }
+}
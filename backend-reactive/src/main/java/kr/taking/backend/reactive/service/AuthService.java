@@ -0,0 +1,22 @@
+package kr.taking.backend.reactive.service;
+
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.util.Security.AccessToken;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ * ClassName : AuthService
+ * Type : interface
+ * Description : Auth와 관련된 함수를 정리한 인터페이스입니다.
+ * Related : AuthController, AuthServiceImpl
+ * </pre>
+ */
+public interface AuthService {
+    Mono<AccessToken> register(UserEntity.RegisterDto userRegisterDto);
+    Mono<AccessToken.Get> login(UserEntity.LoginDto userLoginDto);
+    Mono<AccessToken.Get> refresh(String refreshToken);
+    Mono<Void> logout(ServerWebExchange exchange, String refreshToken);
+    Mono<Void> checkExistsWithUserId(String userid);
+}
@@ -0,0 +1,215 @@
+package kr.taking.backend.reactive.service.Impl;
+
+import io.jsonwebtoken.Claims;
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.error.exception.CustomException;
+import kr.taking.backend.error.exception.EntityNotFoundException;
+import kr.taking.backend.model.RoleEntity;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.reactive.configuration.invalidation.InvalidationPublisher;
+import kr.taking.backend.reactive.repository.RoleRepository;
+import kr.taking.backend.reactive.repository.UserRepository;
+import kr.taking.backend.reactive.service.AuthService;
+import kr.taking.backend.reactive.service.TokenRevocationService;
+import kr.taking.backend.reactive.service.TokenService;
+import kr.taking.backend.util.Security.AccessToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+
+/**
+ * <pre>
+ * ClassName : AuthServiceImpl
+ * Type : class
+ * Description : 인증과 관련된 서비스 구현과 관련된 함수를 포함하고 있는 클래스입니다.
+ * Related : AuthController, TokenServiceImpl, TokenRevocationServiceImpl
+ * How-to :
+ *  1. 비밀번호 해시(encode, matches)는 수십~수백 ms 동안 CPU 를 쓰므로 boundedElastic 스케줄러에서 실행하여 이벤트 루프를 막지 않습니다.
+ *  2. 로그인 호출 빈도 제한(rate limit)은 backend 모듈에만 있으므로, 외부에 노출할 때는 앞단(게이트웨이)에서 제한합니다.
+ * </pre>
+ */
+@Slf4j
+@Service("authServiceImpl")
+@RequiredArgsConstructor
+public class AuthServiceImpl implements AuthService {
+
+    private final TokenService tokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final InvalidationPublisher invalidationPublisher;
+
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+    private volatile RoleEntity defaultRole;
+
+    /**
+     * [AuthServiceImpl] 회원가입 함수
+     *
+     * @param userRegisterDto 회원가입에 필요한 사용자 등록 정보를 담은 개체입니다.
+     * @return 생성된 JWT 토큰을 리턴합니다.
+     * <pre>
+     * 중복 아이디는 사전 조회 없이 insert 시 유니크 인덱스 위반(DuplicateKeyException, 409)으로 판별합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Mono<AccessToken> register(UserEntity.RegisterDto userRegisterDto) {
+        return Mono.zip(getDefaultRole(), encode(userRegisterDto.getPassword()), tokenRevocationService.initialGeneration(userRegisterDto.getUserid()))
+                .flatMap(prepared -> {
+                    RoleEntity role = prepared.getT1();
+                    UserEntity userEntity = UserEntity.builder()
+                        .userid(userRegisterDto.getUserid())
+                        .username(userRegisterDto.getUsername())
+                        .email(userRegisterDto.getEmail())
+                        .password(prepared.getT2())
+                        .role(role)
+                        .roleName(role.getName())
+                        .enabled(true)
+                        .created_at(Instant.now())
+                        .tokenGeneration(prepared.getT3())   // 삭제된 계정과 같은 아이디이면 이전 세대부터 시작
+                        .build();
+
+                    return userRepository.insert(userEntity)
+                            .then(invalidationPublisher.publish(InvalidationPublisher.Region.USER_CREATED, userEntity.getUserid()))   // backend 의 아이디 인덱스에 추가
+                            .thenReturn(userEntity);
+                })
+                .map(tokenService::generateJwtToken);
+    }
+
+    /**
+     * [AuthServiceImpl] 로그인 함수
+     *
+     * @param userLoginDto 로그인에 필요한 사용자 등록 정보를 담은 개체입니다.
+     * @return 생성된 JWT 토큰을 리턴합니다.
+     * <pre>
+     * 사용자가 없으면 404, 비밀번호가 다르면 400 을 반환합니다. (backend 와 동일)
+     * 비밀번호 해시 설정이 바뀐 경우 로그인 시 재해시하여 저장합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Mono<AccessToken.Get> login(UserEntity.LoginDto userLoginDto) {
+        if (userLoginDto == null) {
+            return Mono.error(new CustomException(ErrorCode.INVALID_INPUT_VALUE));
+        }
+
+        return findResolvedByUserid(userLoginDto.getUserid())
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.NOT_FOUND)))
+                .flatMap(user -> matches(userLoginDto.getPassword(), user.getPassword())
+                        .flatMap(matched -> {
+                            if (!matched) {
+                                log.error("{} Account Password is Corrent!", userLoginDto.getUserid());
+                                return Mono.<UserEntity>error(new CustomException(ErrorCode.INVALID_INPUT_VALUE));
+                            }
+                            return rehashIfNeeded(user, userLoginDto.getPassword()).thenReturn(user);
+                        }))
+                .map(this::issueTokens);
+    }
+
+    /**
+     * [AuthServiceImpl] 토큰 재발급 함수
+     *
+     * @param refreshToken 로그인 시 발급받은 Refresh 토큰입니다.
+     * @return 새로 발급된 Access/Refresh 토큰을 리턴합니다.
+     * <pre>
+     * Refresh 토큰은 한 번만 사용할 수 있으며(rotation), 이미 사용된 토큰이 다시 들어오면 사용자의 토큰을 모두 폐기합니다.
+     * 같은 Refresh 토큰으로 동시에 요청한 경우에도 한 요청만 새 토큰을 받습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Mono<AccessToken.Get> refresh(String refreshToken) {
+        Claims claims = tokenService.verifyRefreshToken(refreshToken);
+        if (claims == null) {
+            return Mono.error(new CustomException(ErrorCode.ACCESS_DENIED_EXCEPTION));
+        }
+
+        // 이미 폐기된 토큰은 조회로 거르고, 동시에 들어온 같은 토큰은 revoked_tokens insert(_id 중복)로 한 요청만 통과
+        return tokenRevocationService.isRevoked(claims)
+                .flatMap(revoked -> revoked ? Mono.just(false) : tokenRevocationService.revokeOnce(claims))
+                .flatMap(firstUse -> {
+                    if (!firstUse) {
+                        log.warn("{} Refresh Token is reused. All tokens are revoked.", claims.getSubject());
+                        return tokenRevocationService.revokeAll(claims.getSubject())
+                                .then(Mono.<UserEntity>error(new CustomException(ErrorCode.ACCESS_DENIED_EXCEPTION)));
+                    }
+                    return findResolvedByUserid(claims.getSubject());
+                })
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.ACCESS_DENIED_EXCEPTION)))
+                .map(this::issueTokens);
+    }
+
+    // 요청의 Access 토큰과 전달된 Refresh 토큰을 폐기 (유효하지 않은 토큰은 무시)
+    @Override
+    public Mono<Void> logout(ServerWebExchange exchange, String refreshToken) {
+        Claims accessClaims = tokenService.verifyToken(tokenService.resolveJwtToken(exchange));
+        Claims refreshClaims = tokenService.verifyRefreshToken(refreshToken);
+
+        return Mono.when(
+                (accessClaims != null) ? tokenRevocationService.revoke(accessClaims) : Mono.empty(),
+                (refreshClaims != null) ? tokenRevocationService.revoke(refreshClaims) : Mono.empty());
+    }
+
+    // userid 유니크 인덱스만 읽는 covered 쿼리로 확인 (backend 의 Bloom filter 는 프로세스 메모리이므로 공유하지 않음)
+    @Override
+    public Mono<Void> checkExistsWithUserId(String userid) {
+        return userRepository.existsByUseridCovered(userid)
+                .flatMap(exists -> exists ? Mono.<Void>error(new CustomException(ErrorCode.DUPLICATE)) : Mono.<Void>empty());
+    }
+
+    private AccessToken.Get issueTokens(UserEntity userEntity) {
+        AccessToken accessToken = tokenService.generateJwtToken(userEntity);
+
+        return AccessToken.Get.builder()
+            .accessToken(accessToken.getAccessToken())
+            .refreshToken(accessToken.getRefreshToken())
+            .userSeq(userEntity.getId())
+            .userId(userEntity.getUserid())
+            .userName(userEntity.getUsername())
+            .userRole(userEntity.getRole())
+            .build();
+    }
+
+    // 토큰의 roles 클레임, 응답의 userRole 에 역할 정보가 필요하므로 DBRef 를 일괄 조회 방식으로 읽음
+    private Mono<UserEntity> findResolvedByUserid(String userid) {
+        return userRepository.findAllResolved(Query.query(Criteria.where("userid").is(userid))).next();
+    }
+
+    private Mono<Void> rehashIfNeeded(UserEntity user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) return Mono.empty();
+
+        return encode(rawPassword)
+                .flatMap(encoded -> userRepository.updatePassword(user.getId(), encoded))
+                .doOnSuccess(ignored -> log.info("{} Account Password is rehashed.", user.getUserid()));
+    }
+
+    private Mono<String> encode(String rawPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(rawPassword)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // ROLE_USER 는 backend 기동 시(Initalizer) 생성되고 변경되지 않으므로, 최초 한 번만 조회하여 재사용
+    private Mono<RoleEntity> getDefaultRole() {
+        RoleEntity role = defaultRole;
+        if (role != null) return Mono.just(role);
+
+        return roleRepository.findByName(DEFAULT_ROLE)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Role with Name " + DEFAULT_ROLE + " Not Found.")))
+                .doOnNext(found -> defaultRole = found);
+    }
+}
@@ -0,0 +1,140 @@
+package kr.taking.backend.reactive.service.Impl;
+
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.error.exception.CustomException;
+import kr.taking.backend.error.exception.EntityNotFoundException;
+import kr.taking.backend.model.OrgEntity;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.reactive.configuration.invalidation.InvalidationPublisher;
+import kr.taking.backend.reactive.repository.OrgRepository;
+import kr.taking.backend.reactive.repository.ProjectedFinder;
+import kr.taking.backend.reactive.service.OrgService;
+import kr.taking.backend.util.projection.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * <pre>
+ * ClassName : OrgServiceImpl
+ * Type : class
+ * Description : 조직 서비스 구현과 관련된 함수를 포함하고 있는 클래스입니다.
+ * Related : OrgController, OrgRepository, ProjectedFinder
+ * How-to :
+ *  1. 조직 이름 변경, 삭제 시 사용자 문서의 조직 요약(orgSummaries)을 updateMany 로 함께 갱신합니다.
+ *     (backend 는 별도 스레드에서 갱신하지만, 여기서는 응답 전에 비동기로 완료하므로 스레드를 점유하지 않음)
+ * </pre>
+ */
+@Slf4j
+@Service("orgServiceImpl")
+@RequiredArgsConstructor
+public class OrgServiceImpl implements OrgService {
+
+    private final OrgRepository orgRepository;
+    private final ProjectedFinder projectedFinder;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final InvalidationPublisher invalidationPublisher;
+
+    @Override
+    public Mono<Page<OrgEntity>> getOrganizations(String name, Pageable pageable, FieldSelection fields) {
+        return projectedFinder.findPage(OrgEntity.class, filter(name), pageable, fields);
+    }
+
+    @Override
+    public Flux<OrgEntity> streamOrganizations(String name, Pageable pageable, FieldSelection fields) {
+        return projectedFinder.stream(OrgEntity.class, filter(name), pageable, fields);
+    }
+
+    // 중복된 이름은 name 유니크 인덱스 위반(DuplicateKeyException, 409)으로 판별
+    @Override
+    public Mono<OrgEntity> createOrganization(OrgEntity.CreateDto orgCreateDto) {
+
+        OrgEntity orgEntity = OrgEntity.builder()
+            .name(orgCreateDto.getName())
+            .biznum(orgCreateDto.getBiznum())
+            .contact(orgCreateDto.getContact())
+            .enabled(true)
+            .created_at(Instant.now())
+            .build();
+
+        return orgRepository.insert(orgEntity);
+    }
+
+    /**
+     * [OrgServiceImpl] 조직 수정 함수
+     *
+     * @param org 조직 수정에 필요한 정보를 담은 개체입니다.
+     * @return 수정된 조직 정보를 리턴합니다.
+     * <pre>
+     * 전달된 필드만 $set 하고, 수정된 문서를 한 번에 반환합니다. (findAndModify)
+     * 조직 이름이 전달된 경우 사용자 문서의 조직 요약도 갱신합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Mono<OrgEntity> updateById(String id, OrgEntity.UpdateDto org) {
+
+        if (org.getName() == null && org.getBiznum() == null && org.getContact() == null) {
+            log.error("[OrgServiceImpl - udpateOrganization] orgName, bizNum, contact 수정 가능합니다.");
+            return Mono.error(new CustomException(ErrorCode.INVALID_INPUT_VALUE));
+        }
+
+        Update update = new Update();
+        if (org.getName() != null) update.set("name", org.getName());
+        if (org.getBiznum() != null) update.set("biznum", org.getBiznum());
+        if (org.getContact() != null) update.set("contact", org.getContact());
+
+        return mongoTemplate.findAndModify(Query.query(Criteria.where("id").is(id)), update,
+                        FindAndModifyOptions.options().returnNew(true), OrgEntity.class)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Org with Id " + id + " Not Found.")))
+                .flatMap(orgEntity -> (org.getName() != null)
+                        ? mongoTemplate.updateMulti(
+                                Query.query(Criteria.where("orgs.$id").is(toObjectId(id))),   // orgs_id 인덱스
+                                new Update().set("orgSummaries.$[summary].orgName", orgEntity.getName())
+                                        .filterArray(Criteria.where("summary.orgId").is(id)),
+                                UserEntity.class).thenReturn(orgEntity)
+                        : Mono.just(orgEntity))
+                .flatMap(orgEntity -> invalidationPublisher.publish(InvalidationPublisher.Region.ORG, id).thenReturn(orgEntity));
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return orgRepository.existsById(id)
+                .flatMap(exists -> exists
+                        ? orgRepository.deleteById(id)
+                        : Mono.<Void>error(new EntityNotFoundException("Org with Id " + id + " Not Found.")))
+                .then(mongoTemplate.updateMulti(
+                        Query.query(Criteria.where("orgs.$id").is(toObjectId(id))),
+                        new Update().pull("orgSummaries", new Document("orgId", id)),
+                        UserEntity.class))
+                .then(invalidationPublisher.publish(InvalidationPublisher.Region.ORG, id));
+    }
+
+    @Override
+    public Mono<OrgEntity> findById(String id, FieldSelection fields) {
+        Mono<OrgEntity> org = fields.isAll() ? orgRepository.findById(id) : projectedFinder.findById(OrgEntity.class, id, fields);
+        return org.switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Org with Id " + id + " Not Found.")));
+    }
+
+    private static Criteria filter(String name) {
+        return (name != null) ? Criteria.where("name").is(name) : null;
+    }
+
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
@@ -0,0 +1,144 @@
+package kr.taking.backend.reactive.service.Impl;
+
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.error.exception.CustomException;
+import kr.taking.backend.error.exception.EntityNotFoundException;
+import kr.taking.backend.model.RoleEntity;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.reactive.configuration.invalidation.InvalidationPublisher;
+import kr.taking.backend.reactive.repository.ProjectedFinder;
+import kr.taking.backend.reactive.repository.RoleRepository;
+import kr.taking.backend.reactive.service.RoleService;
+import kr.taking.backend.reactive.service.TokenService;
+import kr.taking.backend.util.projection.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * <pre>
+ * ClassName : RoleServiceImpl
+ * Type : class
+ * Description : 역할 서비스 구현과 관련된 함수를 포함하고 있는 클래스입니다.
+ * Related : RoleController, RoleRepository, ProjectedFinder
+ * How-to :
+ *  1. 역할 이름 변경, 삭제 시 사용자 문서의 역할 이름(roleName)을 updateMany 로 함께 갱신하고, 권한 캐시를 비웁니다.
+ *  2. polling 모드에서는 backend 인스턴스의 역할, 권한 캐시도 비우도록 InvalidationPublisher 로 기록합니다.
+ * </pre>
+ */
+@Slf4j
+@Service("roleServiceImpl")
+@RequiredArgsConstructor
+public class RoleServiceImpl implements RoleService {
+
+    private final RoleRepository roleRepository;
+    private final ProjectedFinder projectedFinder;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final TokenService tokenService;
+    private final InvalidationPublisher invalidationPublisher;
+
+    // 기동 시(Initalizer) 생성되어 인증, 회원가입에서 이름으로 찾는 역할은 이름을 바꿀 수 없음
+    private static final Set<String> BUILT_IN_ROLES = Set.of("ROLE_ADMIN", "ROLE_USER");
+
+    @Override
+    public Mono<Page<RoleEntity>> getRoles(String name, Pageable pageable, FieldSelection fields) {
+        return projectedFinder.findPage(RoleEntity.class, filter(name), pageable, fields);
+    }
+
+    @Override
+    public Flux<RoleEntity> streamRoles(String name, Pageable pageable, FieldSelection fields) {
+        return projectedFinder.stream(RoleEntity.class, filter(name), pageable, fields);
+    }
+
+    // 중복된 이름은 name 유니크 인덱스 위반(DuplicateKeyException, 409)으로 판별
+    @Override
+    public Mono<RoleEntity> createRole(RoleEntity.CreateDto roleCreateDto) {
+
+        RoleEntity roleEntity = RoleEntity.builder()
+            .name("ROLE_" + roleCreateDto.getName())
+            .created_at(Instant.now())
+            .build();
+
+        return roleRepository.insert(roleEntity);
+    }
+
+    /**
+     * [RoleServiceImpl] 역할 수정 함수
+     *
+     * @param id 수정할 역할의 식별자입니다.
+     * @param role 역할 수정에 필요한 정보를 담은 개체입니다.
+     * @return 수정된 역할 정보를 리턴합니다.
+     * <pre>
+     * 이름이 없거나 기본 역할(ROLE_ADMIN, ROLE_USER)인 경우 400 을 반환합니다. (backend 와 동일)
+     * 역할 이름을 변경하고, 사용자 문서의 역할 이름(roleName)을 일괄 갱신합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Mono<RoleEntity> updateById(String id, RoleEntity.UpdateDto role) {
+        return findById(id, FieldSelection.all())
+                .flatMap(roleEntity -> {
+                    if (role.getName() == null || BUILT_IN_ROLES.contains(roleEntity.getName())) {
+                        log.error("[RoleServiceImpl - updateRole] 기본 역할은 수정할 수 없습니다.");
+                        return Mono.<RoleEntity>error(new CustomException(ErrorCode.INVALID_INPUT_VALUE));
+                    }
+
+                    String name = "ROLE_" + role.getName();
+                    if (name.equals(roleEntity.getName())) return Mono.just(roleEntity);
+
+                    RoleEntity renamed = RoleEntity.builder()
+                        .id(roleEntity.getId())
+                        .name(name)
+                        .created_at(roleEntity.getCreated_at())
+                        .build();
+
+                    return roleRepository.save(renamed)     // 중복된 경우 DuplicateKeyException (409)
+                            .flatMap(saved -> mongoTemplate.updateMulti(
+                                    Query.query(Criteria.where("role.$id").is(toObjectId(id))),
+                                    Update.update("roleName", saved.getName()),
+                                    UserEntity.class).thenReturn(saved))
+                            .doOnSuccess(ignored -> tokenService.invalidatePrincipals())
+                            .flatMap(saved -> invalidationPublisher.publish(InvalidationPublisher.Region.ROLE, id).thenReturn(saved));
+                });
+    }
+
+    // 해당 역할을 가진 사용자를 알 수 없으므로 권한 캐시 전체 무효화
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return findById(id, FieldSelection.all())
+                .flatMap(roleRepository::delete)
+                .then(mongoTemplate.updateMulti(
+                        Query.query(Criteria.where("role.$id").is(toObjectId(id))),
+                        new Update().unset("roleName"),
+                        UserEntity.class))
+                .doOnSuccess(ignored -> tokenService.invalidatePrincipals())
+                .then(invalidationPublisher.publish(InvalidationPublisher.Region.ROLE, id));
+    }
+
+    @Override
+    public Mono<RoleEntity> findById(String id, FieldSelection fields) {
+        Mono<RoleEntity> role = fields.isAll() ? roleRepository.findById(id) : projectedFinder.findById(RoleEntity.class, id, fields);
+        return role.switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Role with Id " + id + " Not Found.")));
+    }
+
+    private static Criteria filter(String name) {
+        return (name != null) ? Criteria.where("name").is(name) : null;
+    }
+
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
@@ -0,0 +1,140 @@
+package kr.taking.backend.reactive.service.Impl;
+
+import io.jsonwebtoken.Claims;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.reactive.configuration.invalidation.InvalidationPublisher;
+import kr.taking.backend.reactive.repository.UserRepository;
+import kr.taking.backend.reactive.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+
+/**
+ * <pre>
+ * ClassName : TokenRevocationServiceImpl
+ * Type : class
+ * Description : backend 모듈과 같은 저장소(revoked_tokens 컬렉션, 사용자 tokenGeneration)로 JWT 토큰 폐기 여부를 판별하는 클래스입니다.
+ * Related : TokenRevocationService, JwtWebFilter, AuthServiceImpl
+ * How-to :
+ *  1. 개별 폐기 : jti 를 revoked_tokens 컬렉션에 저장합니다. (TTL 인덱스는 backend 모듈이 생성)
+ *  2. 전체 폐기 : 사용자의 tokenGeneration 을 증가시키며, 이전 세대(gen 클레임)로 발급된 토큰은 모두 거부됩니다.
+ *  3. 메모리에 목록을 두지 않고 요청마다 두 조회(_id, userid 인덱스)를 동시에 실행하므로, 다른 인스턴스의 폐기도 바로 반영됩니다.
+ *  4. 사용자 삭제 시 마지막 세대를 token_generations 컬렉션(_id : userid)에 남기고, 같은 아이디로 다시 가입하면 그 세대부터 시작합니다.
+ *  5. 폐기, 세대 증가는 InvalidationPublisher 로 기록하여 polling 모드의 backend 인스턴스에도 반영합니다.
+ * </pre>
+ */
+@Service("tokenRevocationServiceImpl")
+@RequiredArgsConstructor
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private static final String COLLECTION = "revoked_tokens";
+    private static final String GENERATIONS = "token_generations";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final UserRepository userRepository;
+    private final InvalidationPublisher invalidationPublisher;
+
+    /**
+     * [TokenRevocationServiceImpl] 토큰 폐기 함수
+     *
+     * @param claims 폐기할 토큰의 Claims 입니다. jti 가 없는 토큰(이전 발급 형식)은 폐기할 수 없습니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Mono<Void> revoke(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) return Mono.empty();
+
+        Date expireAt = (claims.getExpiration() != null) ? claims.getExpiration() : new Date();
+        return mongoTemplate.upsert(
+                Query.query(Criteria.where("_id").is(jti)),
+                new Update().set("userid", claims.getSubject()).set("expireAt", expireAt),
+                COLLECTION)
+                .then(invalidationPublisher.publish(InvalidationPublisher.Region.REVOKED_TOKEN, jti, expireAt.getTime()));
+    }
+
+    /**
+     * [TokenRevocationServiceImpl] 토큰 1회 사용 처리 함수
+     *
+     * @param claims 사용 처리할 토큰(Refresh 토큰)의 Claims 입니다.
+     * @return 처음 사용된 경우 true, 이미 사용(폐기)된 경우 false 를 반환합니다.
+     * <pre>
+     * jti 를 _id 로 insert 하므로, 같은 토큰으로 동시에 요청해도 한 요청만 true 를 받습니다. (jti 가 없는 토큰은 true)
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Mono<Boolean> revokeOnce(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) return Mono.just(true);
+
+        Date expireAt = (claims.getExpiration() != null) ? claims.getExpiration() : new Date();
+        return mongoTemplate.insert(new Document("_id", jti).append("userid", claims.getSubject()).append("expireAt", expireAt), COLLECTION)
+                .then(invalidationPublisher.publish(InvalidationPublisher.Region.REVOKED_TOKEN, jti, expireAt.getTime()))
+                .thenReturn(true)
+                .onErrorReturn(DuplicateKeyException.class, false);
+    }
+
+    /**
+     * [TokenRevocationServiceImpl] 사용자 토큰 전체 폐기 함수
+     *
+     * @param userid 토큰을 폐기할 사용자 아이디입니다.
+     * @return 증가된 토큰 세대를 반환합니다. 이후 발급되는 토큰은 이 세대를 가집니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Mono<Long> revokeAll(String userid) {
+        return userRepository.incrementTokenGeneration(userid)
+                .flatMap(generation -> publishGeneration(userid, generation));
+    }
+
+    // 삭제할 사용자 : 증가된 세대를 token_generations 에 남겨, 같은 아이디로 다시 가입한 계정이 이어서 사용
+    @Override
+    public Mono<Long> revokeAllForDeletion(String userid) {
+        return userRepository.incrementTokenGeneration(userid)
+                .flatMap(generation -> mongoTemplate.upsert(
+                                Query.query(Criteria.where("_id").is(userid)),
+                                new Update().max("generation", generation),
+                                GENERATIONS)
+                        .then(publishGeneration(userid, generation)));
+    }
+
+    // 삭제된 계정과 같은 아이디이면 이전 세대, 아니면 0
+    @Override
+    public Mono<Long> initialGeneration(String userid) {
+        return mongoTemplate.findById(userid, Document.class, GENERATIONS)
+                .map(document -> ((Number) document.get("generation")).longValue())
+                .defaultIfEmpty(0L);
+    }
+
+    // backend 인스턴스의 메모리 세대, 권한 캐시 갱신 (polling 모드)
+    private Mono<Long> publishGeneration(String userid, long generation) {
+        return invalidationPublisher.publish(InvalidationPublisher.Region.TOKEN_GENERATION, userid, generation).thenReturn(generation);
+    }
+
+    @Override
+    public Mono<Boolean> isRevoked(Claims claims) {
+        Object generation = claims.get(TokenServiceImpl.CLAIM_GENERATION);
+        long tokenGeneration = (generation instanceof Number number) ? number.longValue() : 0L;
+
+        Query generationQuery = Query.query(Criteria.where("userid").is(claims.getSubject()).and("tokenGeneration").gt(tokenGeneration));
+        Mono<Boolean> staleGeneration = mongoTemplate.exists(generationQuery, UserEntity.class);
+
+        String jti = claims.getId();
+        if (jti == null) return staleGeneration;
+
+        Mono<Boolean> revoked = mongoTemplate.exists(Query.query(Criteria.where("_id").is(jti)), Document.class, COLLECTION);
+        return Mono.zip(staleGeneration, revoked, (stale, revokedJti) -> stale || revokedJti);
+    }
+}
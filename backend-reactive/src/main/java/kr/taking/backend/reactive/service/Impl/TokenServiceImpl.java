@@ -0,0 +1,252 @@
+package kr.taking.backend.reactive.service.Impl;
+
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.reactive.repository.UserRepository;
+import kr.taking.backend.reactive.service.TokenService;
+import kr.taking.backend.service.security.RoleAuthorities;
+import kr.taking.backend.util.Security.AccessToken;
+import kr.taking.backend.util.cache.LocalCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * <pre>
+ * ClassName : TokenServiceImpl
+ * Type : class
+ * Description : backend 모듈의 TokenServiceImpl 과 같은 형식(클레임, 서명 키)의 JWT 토큰을 발급, 검증하는 클래스입니다.
+ * Related : TokenService, JwtWebFilter, AuthServiceImpl
+ * How-to :
+ *  1. 서명 검증은 CPU 작업만 하므로 이벤트 루프에서 바로 실행하고, 검증된 토큰은 다이제스트(SHA-256) 키로 캐시합니다.
+ *  2. jwtClaimsAuthentication=false 이면 사용자 문서의 roleName 으로 권한을 만들며, 결과를 principalCacheTtlMs 동안 캐시합니다.
+ * </pre>
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TokenServiceImpl implements TokenService {
+
+    @Value("${kr.taking.backend.jwtSecret}")
+    private String jwtSecretKey;
+
+    @Value("${kr.taking.backend.jwtExpirationMs}")
+    private int jwtExpirationMs;
+
+    @Value("${kr.taking.backend.jwtRefreshExpirationMs:1209600000}")
+    private long jwtRefreshExpirationMs;
+
+    @Value("${kr.taking.backend.jwtCacheSize:10000}")
+    private int jwtCacheSize;
+
+    @Value("${kr.taking.backend.jwtCacheTtlMs:300000}")
+    private long jwtCacheTtlMs;
+
+    // true : roles 클레임으로 인증 정보 생성 (DB 조회 없음), false : DB 조회 (principal 캐시 사용)
+    @Value("${kr.taking.backend.jwtClaimsAuthentication:false}")
+    private boolean jwtClaimsAuthentication;
+
+    @Value("${kr.taking.backend.principalCacheSize:10000}")
+    private int principalCacheSize;
+
+    @Value("${kr.taking.backend.principalCacheTtlMs:60000}")
+    private long principalCacheTtlMs;
+
+    public static final String CLAIM_TYPE = "type";
+    public static final String CLAIM_GENERATION = "gen";
+    private static final String TYPE_ACCESS = "access";
+    private static final String TYPE_REFRESH = "refresh";
+
+    private final UserRepository userRepository;
+
+    private Key signingKey;
+    private JwtParser jwtParser;
+    private LocalCache<String, Claims> verifiedTokens;
+    private LocalCache<String, Set<GrantedAuthority>> authorities;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecretKey));
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokens = new LocalCache<>(jwtCacheSize, jwtCacheTtlMs);
+        authorities = new LocalCache<>(principalCacheSize, principalCacheTtlMs);
+    }
+
+    /**
+     * [TokenServiceImpl] JWT 토큰 발급 함수
+     *
+     * @param user 이미 조회(또는 저장)된 사용자 정보입니다.
+     * @return 발급된 Access 토큰과 Refresh 토큰을 반환합니다.
+     * <pre>
+     * backend 모듈과 같은 클레임(type, gen, id, name, roles)을 사용하므로, 발급한 토큰은 양쪽 모듈에서 사용할 수 있습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public AccessToken generateJwtToken(UserEntity user) {
+
+        Claims claims = Jwts.claims().setSubject(user.getUserid());
+        claims.put(CLAIM_TYPE, TYPE_ACCESS);
+        claims.put(CLAIM_GENERATION, user.getTokenGeneration());
+        claims.put("id", user.getUserid());
+        claims.put("name", user.getUsername());
+        claims.put("roles", user.getRole().getName());
+
+        Claims refreshClaims = Jwts.claims().setSubject(user.getUserid());
+        refreshClaims.put(CLAIM_TYPE, TYPE_REFRESH);
+        refreshClaims.put(CLAIM_GENERATION, user.getTokenGeneration());
+
+        Instant issuedAt = Instant.now();
+
+        return new AccessToken(
+                sign(claims, issuedAt, issuedAt.plusMillis(jwtExpirationMs)),
+                sign(refreshClaims, issuedAt, issuedAt.plusMillis(jwtRefreshExpirationMs)));
+    }
+
+    private String sign(Claims claims, Instant issuedAt, Instant validUntil) {
+        return Jwts
+                .builder()
+                .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(Date.from(issuedAt))
+                .setExpiration(Date.from(validUntil))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    // Refresh 토큰은 API 인증에 사용할 수 없으므로 null 을 반환 (폐기 여부는 JwtWebFilter 에서 확인)
+    @Override
+    public Claims verifyToken(AccessToken token) {
+        if (token == null || !StringUtils.hasText(token.getAccessToken())) return null;
+
+        String digest = digest(token.getAccessToken());
+        Claims claims = verifiedTokens.get(digest);
+        if (claims != null) return claims;
+
+        claims = parse(token.getAccessToken());
+        if (claims == null || TYPE_REFRESH.equals(claims.get(CLAIM_TYPE))) return null;
+
+        Date expiration = claims.getExpiration();
+        verifiedTokens.put(digest, claims, (expiration != null) ? expiration.getTime() : Long.MAX_VALUE);
+        return claims;
+    }
+
+    // Refresh 토큰은 재발급 시 한 번만 사용되므로 캐시하지 않음
+    @Override
+    public Claims verifyRefreshToken(String refreshToken) {
+        if (!StringUtils.hasText(refreshToken)) return null;
+
+        Claims claims = parse(refreshToken);
+        if (claims == null || !TYPE_REFRESH.equals(claims.get(CLAIM_TYPE))) return null;
+        return claims;
+    }
+
+    private Claims parse(String token) {
+        try {
+            return jwtParser
+                .parseClaimsJws(token)
+                .getBody();
+        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
+            log.info("잘못된 JWT 서명입니다.");
+            return null;
+        } catch (ExpiredJwtException e) {
+            log.info("만료된 JWT 토큰입니다.");
+            return null;
+        } catch (UnsupportedJwtException e) {
+            log.info("지원되지 않는 JWT 토큰입니다.");
+            return null;
+        } catch (IllegalArgumentException e) {
+            log.info("JWT 토큰이 잘못되었습니다.");
+            return null;
+        }
+    }
+
+    @Override
+    public AccessToken resolveJwtToken(ServerWebExchange exchange) {
+        final String headerAuth = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (headerAuth == null) return null;
+        if (!headerAuth.startsWith("Bearer ")) return null;
+
+        return new AccessToken(headerAuth.substring(7));
+    }
+
+    /**
+     * [TokenServiceImpl] 인증 정보 생성 함수
+     *
+     * @param claims 검증된 JWT 토큰의 Claims 입니다.
+     * @return 인증 정보를 반환하고, 사용자가 없으면 빈 Mono 를 반환합니다.
+     * <pre>
+     * jwtClaimsAuthentication 모드에서는 roles 클레임만으로 인증 정보를 생성하여 DB 를 조회하지 않습니다.
+     * 그 외에는 사용자 문서의 역할 이름(roleName, DBRef 를 따라가지 않는 요약 필드)으로 권한을 만듭니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Mono<Authentication> getAuthentication(Claims claims) {
+        String userid = claims.getSubject();
+
+        if (jwtClaimsAuthentication) {
+            return Mono.just(authentication(userid, RoleAuthorities.fromClaim(claims.get("roles"))));
+        }
+
+        Set<GrantedAuthority> cached = authorities.get(userid);
+        if (cached != null) return Mono.just(authentication(userid, cached));
+
+        long stamp = authorities.epoch();  // 조회 중 invalidatePrincipal 이 호출되면 조회한 권한은 캐시하지 않음
+        return userRepository.findByUserid(userid)
+                .map(user -> {
+                    Set<GrantedAuthority> granted = RoleAuthorities.of(user.getRoleName());
+                    authorities.putIfUnchanged(userid, granted, stamp);
+                    return authentication(userid, granted);
+                });
+    }
+
+    // 역할 변경, 사용자 수정/삭제 시 호출 (backend 의 PrincipalCache.invalidate 와 같은 용도)
+    @Override
+    public void invalidatePrincipal(String userid) {
+        authorities.invalidate(userid);
+    }
+
+    @Override
+    public void invalidatePrincipals() {
+        authorities.invalidateAll();
+    }
+
+    private static Authentication authentication(String userid, Set<GrantedAuthority> granted) {
+        return new UsernamePasswordAuthenticationToken(new User(userid, "", granted), null, granted);
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);  // 모든 JVM 에서 SHA-256 지원이 보장됨
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package kr.taking.backend.reactive.service.Impl;
+
+import com.mongodb.DBRef;
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.error.exception.CustomException;
+import kr.taking.backend.error.exception.EntityNotFoundException;
+import kr.taking.backend.model.OrgEntity;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.reactive.configuration.invalidation.InvalidationPublisher;
+import kr.taking.backend.reactive.repository.OrgRepository;
+import kr.taking.backend.reactive.repository.ProjectedFinder;
+import kr.taking.backend.reactive.repository.UserRepository;
+import kr.taking.backend.reactive.service.TokenRevocationService;
+import kr.taking.backend.reactive.service.TokenService;
+import kr.taking.backend.reactive.service.UserService;
+import kr.taking.backend.util.projection.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * ClassName : UserServiceImpl
+ * Type : class
+ * Description : 사용자 서비스 구현과 관련된 함수를 포함하고 있는 클래스입니다.
+ * Related : UserController, UserRepository, ProjectedFinder
+ * How-to :
+ *  1. 목록은 문서에 포함된 요약(userRoleName, userOrgSummaries)만 읽고, fields= 로 userRole, userOrgs 를 요청한 경우에만 참조를 일괄 조회합니다.
+ *  2. 단건 조회는 역할, 조직을 채워서 반환합니다. (backend 와 동일)
+ * </pre>
+ */
+@Slf4j
+@Service("userServiceImpl")
+@RequiredArgsConstructor
+public class UserServiceImpl implements UserService {
+
+    private final UserRepository userRepository;
+    private final OrgRepository orgRepository;
+    private final ProjectedFinder projectedFinder;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TokenService tokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final InvalidationPublisher invalidationPublisher;
+
+    @Override
+    public Mono<Page<UserEntity>> getUsers(String userid, Pageable pageable, FieldSelection fields) {
+        return projectedFinder.findPage(UserEntity.class, filter(userid), pageable, fields, listLoader(fields));
+    }
+
+    @Override
+    public Flux<UserEntity> streamUsers(String userid, Pageable pageable, FieldSelection fields) {
+        return projectedFinder.stream(UserEntity.class, filter(userid), pageable, fields, listLoader(fields));
+    }
+
+    // 선택하지 않은 역할(userRole), 조직(userOrgs)은 참조를 조회하지 않음
+    @Override
+    public Mono<UserEntity> findById(String id, FieldSelection fields) {
+        Query query = fields.applyTo(Query.query(Criteria.where("id").is(id)));
+        return userRepository.findAllResolved(query).next()
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("User with Id " + id + " Not Found.")));
+    }
+
+    /**
+     * [UserServiceImpl] 사용자 수정 함수
+     *
+     * @param id 조회할 사용자의 고유번호입니다.
+     * @param user 사용자 수정에 필요한 사용자 정보를 담은 개체입니다.
+     * @return 수정된 사용자 정보를 리턴합니다.
+     * <pre>
+     * 전달된 필드(이름, 이메일, 비밀번호)만 $set 하고, 수정된 문서를 한 번에 반환합니다. (findAndModify)
+     * 비밀번호를 변경한 경우 기존에 발급된 토큰을 모두 폐기합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Mono<UserEntity> updateById(String id, UserEntity.UpdateDto user) {
+
+        if (user.getUsername() == null && user.getEmail() == null && user.getPassword() == null) {
+            log.error("[UserServiceImpl - udpateUser] userName, userEmail, userPassword만 수정 가능합니다.");
+            return Mono.error(new CustomException(ErrorCode.INVALID_INPUT_VALUE));
+        }
+
+        Mono<String> password = (user.getPassword() != null)
+                ? Mono.fromCallable(() -> passwordEncoder.encode(user.getPassword())).subscribeOn(Schedulers.boundedElastic())
+                : Mono.empty();
+
+        return password
+                .map(encoded -> new Update().set("password", encoded))
+                .defaultIfEmpty(new Update())
+                .flatMap(update -> {
+                    if (user.getUsername() != null) update.set("username", user.getUsername());
+                    if (user.getEmail() != null) update.set("email", user.getEmail());
+                    return userRepository.updateFields(id, update);
+                })
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("User with Id " + id + " Not Found.")))
+                .flatMap(userEntity -> {
+                    tokenService.invalidatePrincipal(userEntity.getUserid());
+                    return (user.getPassword() != null)
+                            ? tokenRevocationService.revokeAll(userEntity.getUserid()).thenReturn(userEntity)  // TOKEN_GENERATION 으로 권한 캐시도 무효화
+                            : invalidationPublisher.publish(InvalidationPublisher.Region.PRINCIPAL, userEntity.getUserid()).thenReturn(userEntity);
+                });
+    }
+
+    /**
+     * [UserServiceImpl] 사용자 조직 수정 함수
+     *
+     * @param id 조회할 사용자의 고유번호입니다.
+     * @param orgIds 사용자의 조직 고유번호 리스트입니다.
+     * <pre>
+     * 조직 참조(orgs)와 목록 조회용 요약(orgSummaries)을 한 번의 $set 으로 교체합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Mono<Void> updateOrgById(String id, List<String> orgIds) {
+        return orgRepository.findAllById(orgIds).collectList()
+                .flatMap(orgs -> mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("id").is(id)),
+                        new Update()
+                                .set("orgs", orgs.stream().map(org -> new DBRef(mongoTemplate.getCollectionName(OrgEntity.class), new ObjectId(org.getId()))).toList())
+                                .set("orgSummaries", orgs.stream().map(UserEntity.OrgSummary::of).toList()),
+                        UserEntity.class))
+                .flatMap(result -> (result.getMatchedCount() == 0)
+                        ? Mono.<Void>error(new EntityNotFoundException("User with Id " + id + " Not Found."))
+                        : Mono.<Void>empty());
+    }
+
+    // 삭제 후 같은 아이디로 재가입해도 이전 토큰은 사용 불가
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return findSummary(id)
+                .flatMap(userEntity -> tokenRevocationService.revokeAllForDeletion(userEntity.getUserid())
+                        .then(userRepository.deleteById(id))
+                        .doOnSuccess(ignored -> tokenService.invalidatePrincipal(userEntity.getUserid())));
+    }
+
+    @Override
+    public Mono<Void> revokeTokens(String id) {
+        return findSummary(id)
+                .flatMap(userEntity -> tokenRevocationService.revokeAll(userEntity.getUserid()))
+                .then();
+    }
+
+    private Mono<UserEntity> findSummary(String id) {
+        return userRepository.findAllSummaries(Query.query(Criteria.where("id").is(id))).next()
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("User with Id " + id + " Not Found.")));
+    }
+
+    private static Criteria filter(String userid) {
+        return (userid != null) ? Criteria.where("userid").is(userid) : null;
+    }
+
+    private Function<Query, Flux<UserEntity>> listLoader(FieldSelection fields) {
+        boolean references = !fields.isAll() && (fields.includes("role") || fields.includes("orgs"));
+        return references ? userRepository::findAllResolved : userRepository::findAllSummaries;
+    }
+}
@@ -0,0 +1,25 @@
+package kr.taking.backend.reactive.service;
+
+import kr.taking.backend.model.OrgEntity;
+import kr.taking.backend.util.projection.FieldSelection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ * ClassName : OrgService
+ * Type : interface
+ * Description : Org와 관련된 함수를 정리한 인터페이스입니다.
+ * Related : OrgController, OrgServiceImpl
+ * </pre>
+ */
+public interface OrgService {
+    Mono<Page<OrgEntity>> getOrganizations(String name, Pageable pageable, FieldSelection fields);
+    Flux<OrgEntity> streamOrganizations(String name, Pageable pageable, FieldSelection fields);
+    Mono<OrgEntity> createOrganization(OrgEntity.CreateDto orgCreateDto);
+    Mono<OrgEntity> updateById(String id, OrgEntity.UpdateDto org);
+    Mono<Void> deleteById(String id);
+    Mono<OrgEntity> findById(String id, FieldSelection fields);
+}
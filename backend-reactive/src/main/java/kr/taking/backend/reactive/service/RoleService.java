@@ -0,0 +1,25 @@
+package kr.taking.backend.reactive.service;
+
+import kr.taking.backend.model.RoleEntity;
+import kr.taking.backend.util.projection.FieldSelection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ * ClassName : RoleService
+ * Type : interface
+ * Description : Role과 관련된 함수를 정리한 인터페이스입니다.
+ * Related : RoleController, RoleServiceImpl
+ * </pre>
+ */
+public interface RoleService {
+    Mono<Page<RoleEntity>> getRoles(String name, Pageable pageable, FieldSelection fields);
+    Flux<RoleEntity> streamRoles(String name, Pageable pageable, FieldSelection fields);
+    Mono<RoleEntity> createRole(RoleEntity.CreateDto roleCreateDto);
+    Mono<RoleEntity> updateById(String id, RoleEntity.UpdateDto role);
+    Mono<Void> deleteById(String id);
+    Mono<RoleEntity> findById(String id, FieldSelection fields);
+}
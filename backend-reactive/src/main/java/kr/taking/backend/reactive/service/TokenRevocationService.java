@@ -0,0 +1,21 @@
+package kr.taking.backend.reactive.service;
+
+import io.jsonwebtoken.Claims;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ * ClassName : TokenRevocationService
+ * Type : interface
+ * Description : JWT 토큰 폐기(로그아웃, 전체 폐기)와 관련된 함수를 정리한 인터페이스입니다.
+ * Related : JwtWebFilter, AuthServiceImpl, UserServiceImpl, TokenRevocationServiceImpl
+ * </pre>
+ */
+public interface TokenRevocationService {
+    Mono<Void> revoke(Claims claims);
+    Mono<Boolean> revokeOnce(Claims claims);
+    Mono<Long> revokeAll(String userid);
+    Mono<Long> revokeAllForDeletion(String userid);
+    Mono<Long> initialGeneration(String userid);
+    Mono<Boolean> isRevoked(Claims claims);
+}
@@ -0,0 +1,26 @@
+package kr.taking.backend.reactive.service;
+
+import io.jsonwebtoken.Claims;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.util.Security.AccessToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ * ClassName : TokenService
+ * Type : interface
+ * Description : JWT 토큰 발급, 검증, 인증 정보 생성과 관련된 함수를 정리한 인터페이스입니다.
+ * Related : JwtWebFilter, AuthServiceImpl, TokenServiceImpl
+ * </pre>
+ */
+public interface TokenService {
+    AccessToken generateJwtToken(UserEntity user);
+    Claims verifyToken(AccessToken token);
+    Claims verifyRefreshToken(String refreshToken);
+    AccessToken resolveJwtToken(ServerWebExchange exchange);
+    Mono<Authentication> getAuthentication(Claims claims);
+    void invalidatePrincipal(String userid);
+    void invalidatePrincipals();
+}
@@ -0,0 +1,28 @@
+package kr.taking.backend.reactive.service;
+
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.util.projection.FieldSelection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * ClassName : UserService
+ * Type : interface
+ * Description : User와 관련된 함수를 정리한 인터페이스입니다.
+ * Related : UserController, UserServiceImpl
+ * </pre>
+ */
+public interface UserService {
+    Mono<Page<UserEntity>> getUsers(String userid, Pageable pageable, FieldSelection fields);
+    Flux<UserEntity> streamUsers(String userid, Pageable pageable, FieldSelection fields);
+    Mono<UserEntity> findById(String id, FieldSelection fields);
+    Mono<UserEntity> updateById(String id, UserEntity.UpdateDto user);
+    Mono<Void> updateOrgById(String id, List<String> orgIds);
+    Mono<Void> deleteById(String id);
+    Mono<Void> revokeTokens(String id);
+}
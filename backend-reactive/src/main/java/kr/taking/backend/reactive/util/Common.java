@@ -0,0 +1,41 @@
+package kr.taking.backend.reactive.util;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * ClassName : Common
+ * Type : class
+ * Description : 컨트롤러에서 공통으로 사용하는 함수를 포함하고 있는 클래스입니다.
+ * Related : UserController, OrgController, RoleController
+ * How-to :
+ *  1. sort 파라미터 형식은 backend 모듈의 Common.getOrder 와 같습니다. (sort=id,desc 또는 sort=id&sort=desc)
+ * </pre>
+ */
+public class Common {
+
+    public static List<Sort.Order> getOrder(String[] sort) {
+
+        List<Sort.Order> orders = new ArrayList<>();
+
+        if (sort[0].contains(",")) {
+            // sortOrder="field, direction"
+            for (String sortOrder : sort) {
+                String[] _sort = sortOrder.split(",");
+                orders.add(new Sort.Order(getSortDirection(_sort[1]), _sort[0]));
+            }
+        } else {
+            // sort=[field, direction]
+            orders.add(new Sort.Order(getSortDirection(sort[1]), sort[0]));
+        }
+
+        return orders;
+    }
+
+    public static Sort.Direction getSortDirection(String direction) {
+        return "desc".equals(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
+}
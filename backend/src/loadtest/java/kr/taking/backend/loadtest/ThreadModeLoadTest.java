@@ -0,0 +1,245 @@
+package kr.taking.backend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <pre>
+ * ClassName : ThreadModeLoadTest
+ * Type : class
+ * Description : 플랫폼 스레드, 가상 스레드(kr.taking.backend.threads.virtual)로 실행한 backend 에 같은 부하를 주고 처리량, 지연 시간, 스레드 수, 메모리를 비교하는 부하 테스트입니다.
+ * Related : ExecutionMode, ThreadConfig, MonitorController
+ * How-to :
+ *  1. backend 를 같은 DB 로 두 번 실행합니다. (platform : threads.virtual=false, 8888 / virtual : threads.virtual=true, JDK 21 이상, 8890)
+ *  2. ./gradlew :backend:threadModeLoadTest -Dloadtest.clients=2000
+ *  3. clients 개의 클라이언트가 쉬지 않고 요청하여 처리량, p50, p95, p99 지연 시간, 오류 수를 측정하고,
+ *     측정 중 1초마다 /api/v1/monitor/threads 를 조회하여 플랫폼 스레드 수, 힙 사용량의 최댓값을 함께 출력합니다.
+ *
+ * 설정 (-Dloadtest.*) :
+ *  platform, virtual          : 대상 주소 (빈 값이면 해당 대상은 건너뜀)
+ *  userid, password           : 요청에 사용할 계정 (없으면 회원가입 후 로그인)
+ *  adminUserid, adminPassword : /monitor/threads 를 조회할 관리자 계정
+ *  path                       : 요청 경로
+ *  clients                    : 동시 클라이언트 수
+ *  durationSec, warmUpSec     : 측정 시간, 측정 전 예열 시간
+ * </pre>
+ */
+public class ThreadModeLoadTest {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern PLATFORM_THREADS = Pattern.compile("\"platformThreads\"\\s*:\\s*(\\d+)");
+    private static final Pattern HEAP_USED = Pattern.compile("\"heapUsedBytes\"\\s*:\\s*(\\d+)");
+
+    private final String userid = property("userid", "loadtest");
+    private final String password = property("password", "loadtest1234!");
+    private final String adminUserid = property("adminUserid", "admin");
+    private final String adminPassword = property("adminPassword", "admin");
+    private final String path = property("path", "/api/v1/user?size=20");
+    private final int clients = Integer.parseInt(property("clients", "1000"));
+    private final int durationSec = Integer.parseInt(property("durationSec", "30"));
+    private final int warmUpSec = Integer.parseInt(property("warmUpSec", "5"));
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        ThreadModeLoadTest test = new ThreadModeLoadTest();
+
+        List<Result> results = new ArrayList<>();
+        String platform = property("platform", "http://localhost:8888");
+        String virtual = property("virtual", "http://localhost:8890");
+        if (!platform.isEmpty()) results.add(test.run("platform", platform));
+        if (!virtual.isEmpty()) results.add(test.run("virtual", virtual));
+
+        System.out.printf("%n%-10s %10s %10s %8s %10s %10s %10s %12s %14s%n",
+                "mode", "requests", "req/s", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "maxThreads", "maxHeap(MB)");
+        for (Result result : results) {
+            System.out.println(result);
+        }
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    /**
+     * [ThreadModeLoadTest] 대상 부하 테스트 함수
+     *
+     * @param name 결과에 표시할 실행 방식입니다.
+     * @param baseUrl 대상 주소입니다. (ex. http://localhost:8888)
+     * @return 측정 구간의 요청 결과와 스레드 수, 힙 사용량 최댓값을 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    Result run(String name, String baseUrl) throws Exception {
+        String token = login(baseUrl, userid, password, true);
+        String adminToken = login(baseUrl, adminUserid, adminPassword, false);
+        URI target = URI.create(baseUrl + path);
+        URI monitor = URI.create(baseUrl + "/api/v1/monitor/threads");
+
+        System.out.printf("[%s] clients=%d, warmUp=%ds, duration=%ds%n", name, clients, warmUpSec, durationSec);
+
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmUpSec);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(durationSec);
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, clients));
+        List<Recorder> recorders = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            pool.execute(() -> client(target, token, measureFrom, deadline, recorder));
+        }
+
+        // 측정 구간 동안 1초마다 서버의 스레드 수, 힙 사용량을 조회
+        long maxThreads = 0;
+        long maxHeap = 0;
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(1000);
+            if (System.nanoTime() < measureFrom) continue;
+            String body = get(monitor, adminToken);
+            maxThreads = Math.max(maxThreads, extract(PLATFORM_THREADS, body));
+            maxHeap = Math.max(maxHeap, extract(HEAP_USED, body));
+        }
+
+        pool.shutdown();
+        pool.awaitTermination(60, TimeUnit.SECONDS);
+
+        return Result.of(name, recorders, durationSec, maxThreads, maxHeap);
+    }
+
+    // 측정 구간(measureFrom ~ deadline)에 시작한 요청만 기록
+    private void client(URI target, String token, long measureFrom, long deadline, Recorder recorder) {
+        HttpRequest request = HttpRequest.newBuilder(target)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        long now;
+        while ((now = System.nanoTime()) < deadline) {
+            boolean ok;
+            try {
+                ok = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (now >= measureFrom) recorder.record(System.nanoTime() - now, ok);
+        }
+    }
+
+    private String login(String baseUrl, String userid, String password, boolean register) throws IOException, InterruptedException {
+        String credentials = "{\"userid\":\"" + userid + "\",\"password\":\"" + password + "\"}";
+        HttpResponse<String> response = post(baseUrl + "/api/auth/login", credentials);
+
+        if (response.statusCode() == 404 && register) {
+            String body = "{\"userid\":\"" + userid + "\",\"password\":\"" + password + "\",\"username\":\"" + userid
+                    + "\",\"email\":\"" + userid + "@loadtest.local\"}";
+            post(baseUrl + "/api/auth/register", body);
+            response = post(baseUrl + "/api/auth/login", credentials);
+        }
+
+        Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("login failed (" + baseUrl + ", " + userid + ") : " + response.statusCode() + " " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private String get(URI uri, String token) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        } catch (IOException e) {
+            return "";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "";
+        }
+    }
+
+    private HttpResponse<String> post(String url, String json) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static long extract(Pattern pattern, String body) {
+        Matcher matcher = pattern.matcher(body);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    // 클라이언트(스레드)별 기록, 측정이 끝난 뒤에만 합산
+    static class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long latencyNanos, boolean ok) {
+            if (!ok) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+            latencies[count++] = latencyNanos;
+        }
+    }
+
+    record Result(String name, long requests, double throughput, long errors, double p50, double p95, double p99,
+                  long maxThreads, long maxHeapBytes) {
+
+        static Result of(String name, List<Recorder> recorders, int durationSec, long maxThreads, long maxHeapBytes) {
+            long errors = 0;
+            int total = 0;
+            for (Recorder recorder : recorders) {
+                errors += recorder.errors;
+                total += recorder.count;
+            }
+
+            long[] all = new long[total];
+            int offset = 0;
+            for (Recorder recorder : recorders) {
+                System.arraycopy(recorder.latencies, 0, all, offset, recorder.count);
+                offset += recorder.count;
+            }
+            Arrays.sort(all);
+
+            return new Result(name, total + errors, (double) total / durationSec, errors,
+                    percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99), maxThreads, maxHeapBytes);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %10d %10.1f %8d %10.1f %10.1f %10.1f %12d %14.1f",
+                    name, requests, throughput, errors, p50, p95, p99, maxThreads, maxHeapBytes / (1024.0 * 1024.0));
+        }
+    }
+}
@@ -7,6 +7,7 @@ import kr.taking.backend.model.UserEntity;
 import kr.taking.backend.repository.OrgRepository;
 import kr.taking.backend.repository.RoleRepository;
 import kr.taking.backend.repository.UserRepository;
+import kr.taking.backend.service.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
@@ -14,6 +15,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.List;
 
 @RequiredArgsConstructor
 @Component
@@ -23,6 +25,7 @@ public class Initalizer implements ApplicationRunner {
     private final RoleRepository roleRepository;
     private final OrgRepository orgRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public void run(ApplicationArguments args) {
@@ -71,7 +74,9 @@ public class Initalizer implements ApplicationRunner {
                 .password(passwordEncoder.encode("admin"))
                 .email("admin@test.com")
                 .role(roleEntity)
+                .roleName(roleEntity.getName())
                 .enabled(true)
+                .tokenGeneration(tokenRevocationService.initialGenerations(List.of("admin")).getOrDefault("admin", 0L))
                 .build());
         }
     }
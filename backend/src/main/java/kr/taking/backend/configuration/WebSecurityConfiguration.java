@@ -1,6 +1,9 @@
 package kr.taking.backend.configuration;
 
+import kr.taking.backend.configuration.filter.BulkheadFilter;
+import kr.taking.backend.configuration.filter.CausalSessionFilter;
 import kr.taking.backend.configuration.filter.JwtFilter;
+import kr.taking.backend.configuration.filter.RateLimitFilter;
 import kr.taking.backend.configuration.filter.RequestLoggingFilter;
 import kr.taking.backend.error.handler.CustomAccessDeniedHandler;
 import kr.taking.backend.error.handler.UnauthorizedHandler;
@@ -36,6 +39,9 @@ public class WebSecurityConfiguration {
     private final JwtFilter jwtFilter;
     private final CorsConfigurationSource corsConfigurationSource;
     private final RequestLoggingFilter requestLoggingFilter;
+    private final BulkheadFilter bulkheadFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final CausalSessionFilter causalSessionFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -77,7 +83,10 @@ public class WebSecurityConfiguration {
 
         http
             .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
-            .addFilterBefore(requestLoggingFilter, JwtFilter.class);
+            .addFilterBefore(requestLoggingFilter, JwtFilter.class)
+            .addFilterBefore(rateLimitFilter, JwtFilter.class)  // 인증 API 는 Bulkhead 대기열에 들어가기 전에 IP 별 호출 빈도 제한
+            .addFilterBefore(bulkheadFilter, JwtFilter.class)   // 로깅 후, 인증 전에 경로 그룹별 동시 처리 수 제한
+            .addFilterBefore(causalSessionFilter, JwtFilter.class);    // 인증(토큰 폐기 확인 등)부터 같은 세션 사용
 
         return http.build();
     }
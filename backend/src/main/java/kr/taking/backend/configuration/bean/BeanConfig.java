@@ -1,15 +1,29 @@
 package kr.taking.backend.configuration.bean;
 
+import com.mongodb.MongoWriteException;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import kr.taking.backend.configuration.mongo.CausalSessions;
+import kr.taking.backend.service.security.CalibratedPasswordEncoder;
 import kr.taking.backend.service.security.CustomUserDetailsService;
+import kr.taking.backend.service.security.PasswordHashMetrics;
+import kr.taking.backend.util.projection.FieldSelection;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.mapping.event.ValidatingMongoEventListener;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import org.springframework.web.cors.CorsConfiguration;
@@ -25,18 +39,62 @@ import java.util.Arrays;
  * Type : class
  * Description : Bean으로 등록한 외부 패키지와 관련된 함수를 포함하고 있는 클래스입니다.
  * Related : All
- * Included : PasswordEncoder, UserDetailsService, AuthenticationProvider, AuthenticationManager 등
+ * Included : PasswordEncoder(CalibratedPasswordEncoder), UserDetailsService, AuthenticationProvider, AuthenticationManager, Jackson 필터 등
  * </pre>
  */
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class BeanConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
+    private final PasswordHashMetrics passwordHashMetrics;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${kr.taking.backend.password.algorithm:bcrypt}")
+    private String passwordAlgorithm;
+
+    @Value("${kr.taking.backend.password.targetMs:100}")
+    private long passwordTargetMs;
+
+    // 0 : 기동 시 측정하여 자동 선택
+    @Value("${kr.taking.backend.password.strength:0}")
+    private int passwordStrength;
+
+    // 0 : 알고리즘 기본값 (bcrypt 10 ~ 14, pbkdf2 100,000 ~ 2,000,000)
+    @Value("${kr.taking.backend.password.minStrength:0}")
+    private int passwordMinStrength;
+
+    @Value("${kr.taking.backend.password.maxStrength:0}")
+    private int passwordMaxStrength;
 
     @Bean
     public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder(12);
+        boolean bcrypt = CalibratedPasswordEncoder.BCRYPT.equals(passwordAlgorithm);
+        int minStrength = (passwordMinStrength > 0) ? passwordMinStrength : (bcrypt ? 10 : 100000);
+        int maxStrength = (passwordMaxStrength > 0) ? passwordMaxStrength : (bcrypt ? 14 : 2000000);
+
+        return CalibratedPasswordEncoder.calibrate(passwordAlgorithm, passwordTargetMs, passwordStrength,
+                minStrength, maxStrength, passwordHashMetrics, this::sharedPasswordStrength);
+    }
+
+    // 처음 기동한 인스턴스(backend, backend-reactive)의 측정값을 저장하고, 이후 인스턴스는 저장된 값을 사용 (실패 시 0)
+    private int sharedPasswordStrength(int measuredStrength) {
+        try {
+            MongoCollection<Document> settings = mongoTemplate.getCollection(CalibratedPasswordEncoder.SETTINGS_COLLECTION)
+                    .withReadPreference(ReadPreference.primary());
+            try {
+                settings.updateOne(Filters.eq("_id", passwordAlgorithm), Updates.setOnInsert("strength", measuredStrength),
+                        new UpdateOptions().upsert(true));
+            } catch (MongoWriteException e) {
+                // 다른 인스턴스가 동시에 저장한 경우(_id 중복) 저장된 값을 사용
+            }
+            Document saved = settings.find(Filters.eq("_id", passwordAlgorithm)).first();
+            return (saved != null && saved.get("strength") instanceof Number strength) ? strength.intValue() : 0;
+        } catch (RuntimeException e) {
+            log.warn("Shared password strength unavailable, using measured strength : {}", e.getMessage());
+            return 0;
+        }
     }
 
     @Bean
@@ -51,6 +109,12 @@ public class BeanConfig {
         return config.getAuthenticationManager();
     }
 
+    // Entity 의 @JsonFilter 기본값 : fields= 가 없는 요청은 모든 필드를 직렬화
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilters() {
+        return builder -> builder.filters(FieldSelection.defaultFilters());
+    }
+
     @Bean
     public Yaml yaml() {
         return new Yaml();
@@ -64,8 +128,8 @@ public class BeanConfig {
 
         config.setAllowCredentials(true); // 자격 증명 허용 설정
         config.addAllowedOriginPattern("*"); // 허용할 오리진 설정
-        config.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
-        config.setExposedHeaders(Arrays.asList("Content-Disposition", "Filename"));
+        config.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", CausalSessions.TOKEN_HEADER));
+        config.setExposedHeaders(Arrays.asList("Content-Disposition", "Filename", CausalSessions.TOKEN_HEADER));
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")); // 허용할 HTTP 메서드 설정
         source.registerCorsConfiguration("/api/**", config);
 
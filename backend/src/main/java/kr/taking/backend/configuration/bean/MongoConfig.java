@@ -1,10 +1,36 @@
 package kr.taking.backend.configuration.bean;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.WriteConcern;
+import kr.taking.backend.configuration.mongo.CachingDbRefResolver;
+import kr.taking.backend.configuration.mongo.CausalSessions;
+import kr.taking.backend.configuration.mongo.MongoClientProperties;
+import kr.taking.backend.configuration.mongo.MongoPoolMetrics;
+import kr.taking.backend.configuration.mongo.MongoTimeouts;
+import kr.taking.backend.configuration.mongo.ReadRouting;
+import kr.taking.backend.configuration.mongo.ReferenceCache;
+import kr.taking.backend.configuration.mongo.RoutingMongoTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <pre>
@@ -12,11 +38,26 @@ import com.mongodb.client.MongoClients;
  * Type : class
  * Description : Mongo 연결에 필요한 정보를 포함하고 있는 클래스입니다.
  * Related : All
+ * How-to :
+ *  1. URI 의 옵션을 먼저 적용한 뒤, kr.taking.backend.mongo.* 에 직접 설정한 값(커넥션 풀, 타임아웃, 압축)만 덮어씁니다.
+ *  2. 커넥션 풀 상태는 MongoPoolMetrics(/api/v1/monitor/mongo-pool)로 확인하며, 웹 서버 시작 전 MongoPoolWarmUp 이 풀을 채웁니다.
+ *  3. readOnly 서비스 메소드의 조회는 보조 노드로 보내며(ReadRouting), 요청 단위 세션(CausalSessions)으로 쓰기 후 읽기를 보장합니다.
+ *  4. 역할, 조직 DBRef 는 ReferenceCache 를 거쳐 조회합니다. (CachingDbRefResolver)
  * </pre>
  */
+@Slf4j
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(MongoClientProperties.class)
 public class MongoConfig extends AbstractMongoClientConfiguration {
 
+    private final MongoClientProperties properties;
+    private final MongoPoolMetrics poolMetrics;
+    private final MongoTimeouts timeouts;
+    private final ReadRouting readRouting;
+    private final CausalSessions causalSessions;
+    private final ReferenceCache referenceCache;
+
     @Value("${spring.data.mongodb.uri}")
     private String mongoUri;
 
@@ -27,7 +68,87 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
 
     @Override
     public MongoClient mongoClient() {
-        return MongoClients.create(mongoUri);
+        return MongoClients.create(mongoClientSettings());
+    }
+
+    @Override
+    protected MongoClientSettings mongoClientSettings() {
+        MongoClientProperties.Pool pool = properties.getPool();
+        MongoClientProperties.Timeout timeout = properties.getTimeout();
+        ConnectionString connectionString = new ConnectionString(mongoUri);
+
+        // URI 옵션을 먼저 적용하고, 직접 설정한 값(null 이 아닌 값)만 덮어씀
+        MongoClientSettings.Builder builder = MongoClientSettings.builder()
+            .applyConnectionString(connectionString)
+            .applyToConnectionPoolSettings(settings -> {
+                if (pool.getMinSize() != null) settings.minSize(pool.getMinSize());
+                if (pool.getMaxSize() != null) settings.maxSize(pool.getMaxSize());
+                if (pool.getMaxWaitMs() != null) settings.maxWaitTime(pool.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+                if (pool.getMaxIdleMs() != null) settings.maxConnectionIdleTime(pool.getMaxIdleMs(), TimeUnit.MILLISECONDS);
+                if (pool.getMaxConnecting() != null) settings.maxConnecting(pool.getMaxConnecting());
+                settings.maintenanceInitialDelay(0, TimeUnit.MILLISECONDS)     // 생성 직후 minSize 까지 커넥션 생성 시작
+                        .addConnectionPoolListener(poolMetrics);
+            })
+            .applyToSocketSettings(settings -> {
+                if (timeout.getConnectMs() != null) settings.connectTimeout(timeout.getConnectMs().intValue(), TimeUnit.MILLISECONDS);
+                if (timeout.getReadMs() != null) settings.readTimeout(timeout.getReadMs().intValue(), TimeUnit.MILLISECONDS);
+            })
+            .applyToClusterSettings(settings -> {
+                if (timeout.getServerSelectionMs() != null) settings.serverSelectionTimeout(timeout.getServerSelectionMs(), TimeUnit.MILLISECONDS);
+            });
+
+        // 설정하지 않은 경우 URI 의 compressors= 옵션을 그대로 사용
+        List<MongoCompressor> compressors = compressors();
+        if (!compressors.isEmpty()) builder.compressorList(compressors);
+
+        // 보조 노드 읽기에서 쓰기 결과를 보려면(causal consistency) 쓰기도 majority 로 확인해야 함
+        if (connectionString.getWriteConcern() == null && properties.getRead().isCausalSession()) {
+            builder.writeConcern(WriteConcern.MAJORITY);
+        }
+        return builder.build();
+    }
+
+    // 기본 설정과 같으며, DbRefResolver 만 캐시를 사용하는 구현으로 교체
+    @Override
+    public MappingMongoConverter mappingMongoConverter(MongoDatabaseFactory databaseFactory,
+                                                       MongoCustomConversions customConversions, MongoMappingContext mappingContext) {
+        MappingMongoConverter converter = new MappingMongoConverter(new CachingDbRefResolver(databaseFactory, referenceCache), mappingContext);
+        converter.setCustomConversions(customConversions);
+        converter.setCodecRegistryProvider(databaseFactory);
+        return converter;
+    }
+
+    @Override
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory databaseFactory, MappingMongoConverter converter) {
+        return new RoutingMongoTemplate(databaseFactory, converter, timeouts, readRouting, causalSessions);
+    }
+
+    // @Indexed, @CompoundIndex 로 선언된 인덱스는 IndexCatalog 가 생성 및 검사
+    @Override
+    protected boolean autoIndexCreation() {
+        return false;
     }
 
-}
\ No newline at end of file
+    // zstd, snappy 는 압축 라이브러리(zstd-jni, snappy-java)가 있는 경우에만 사용
+    private List<MongoCompressor> compressors() {
+        List<MongoCompressor> compressors = new ArrayList<>();
+        for (String name : properties.getCompressors()) {
+            switch (name.trim().toLowerCase(Locale.ROOT)) {
+                case "zstd" -> addIfPresent(compressors, "com.github.luben.zstd.Zstd", MongoCompressor.createZstdCompressor(), name);
+                case "snappy" -> addIfPresent(compressors, "org.xerial.snappy.Snappy", MongoCompressor.createSnappyCompressor(), name);
+                case "zlib" -> compressors.add(MongoCompressor.createZlibCompressor());
+                case "" -> { }
+                default -> log.warn("[MongoConfig] unknown compressor : {}", name);
+            }
+        }
+        return compressors;
+    }
+
+    private static void addIfPresent(List<MongoCompressor> compressors, String className, MongoCompressor compressor, String name) {
+        if (ClassUtils.isPresent(className, MongoConfig.class.getClassLoader())) {
+            compressors.add(compressor);
+        } else {
+            log.warn("[MongoConfig] compressor {} is not available ({} not found)", name, className);
+        }
+    }
+}
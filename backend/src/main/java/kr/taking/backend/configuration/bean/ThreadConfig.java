@@ -0,0 +1,87 @@
+package kr.taking.backend.configuration.bean;
+
+import kr.taking.backend.configuration.thread.ContextTaskDecorator;
+import kr.taking.backend.configuration.thread.ExecutionMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * <pre>
+ * ClassName : ThreadConfig
+ * Type : class
+ * Description : 요청 처리(Tomcat), 비동기 작업(applicationTaskExecutor)의 실행 스레드를 설정하는 클래스입니다.
+ * Related : ExecutionMode, ContextTaskDecorator
+ * Included : TomcatProtocolHandlerCustomizer, AsyncTaskExecutor(applicationTaskExecutor, exportTaskExecutor)
+ * </pre>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ThreadConfig {
+
+    private final ExecutionMode executionMode;
+
+    // 플랫폼 스레드 모드의 applicationTaskExecutor 크기 (기본값은 Spring Boot 의 task.execution.pool 과 같은 core 8)
+    @Value("${kr.taking.backend.threads.task.coreSize:8}")
+    private int taskCoreSize;
+
+    @Value("${kr.taking.backend.threads.task.maxSize:16}")
+    private int taskMaxSize;
+
+    @Value("${kr.taking.backend.threads.task.queueCapacity:1000}")
+    private int taskQueueCapacity;
+
+    @Value("${kr.taking.backend.export.maxConcurrent:4}")
+    private int exportMaxConcurrent;
+
+    // 가상 스레드 모드 : 요청마다 새 가상 스레드에서 처리 (동시 요청 수는 server.tomcat.max-connections 로 제한)
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> executionModeProtocolHandler() {
+        return protocolHandler -> {
+            if (executionMode.isVirtual()) {
+                protocolHandler.setExecutor(executionMode.newVirtualThreadPerTaskExecutor("http-vt-"));
+            }
+        };
+    }
+
+    // @Async, MVC 비동기 응답, 서비스의 백그라운드 작업(인덱스 생성, 아이디 인덱스 재생성, 캐시 무효화 구독 등)에 사용
+    @Bean(name = "applicationTaskExecutor")
+    @Primary
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        if (executionMode.isVirtual()) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(executionMode.virtualThreadFactory("task-vt-"));
+            executor.setTaskDecorator(new ContextTaskDecorator());
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(taskCoreSize);
+        executor.setMaxPoolSize(Math.max(taskCoreSize, taskMaxSize));
+        executor.setQueueCapacity(taskQueueCapacity);
+        executor.setThreadNamePrefix("task-");
+        executor.setDaemon(true);
+        executor.setTaskDecorator(new ContextTaskDecorator());
+        return executor;
+    }
+
+    // 내보내기(StreamingResponseBody) 전용 : 동시 내보내기 수는 StreamingExporter 가 같은 값으로 제한하고 초과 요청은 429 로 거절
+    // 대기열은 끝난 작업의 스레드가 반환되기 전 다음 내보내기가 제출되는 짧은 구간만 흡수
+    @Bean(name = "exportTaskExecutor")
+    public AsyncTaskExecutor exportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportMaxConcurrent);
+        executor.setMaxPoolSize(exportMaxConcurrent);
+        executor.setQueueCapacity(exportMaxConcurrent);
+        executor.setThreadNamePrefix("export-");
+        executor.setDaemon(true);
+        if (executionMode.isVirtual()) executor.setThreadFactory(executionMode.virtualThreadFactory("export-vt-"));
+        executor.setTaskDecorator(new ContextTaskDecorator());
+        return executor;
+    }
+}
@@ -0,0 +1,32 @@
+package kr.taking.backend.configuration.bean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * <pre>
+ * ClassName : WebMvcConfig
+ * Type : class
+ * Description : Spring MVC 설정을 포함하고 있는 클래스입니다.
+ * Related : ThreadConfig, StreamingExporter
+ * Included : AsyncSupportConfigurer
+ * </pre>
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final AsyncTaskExecutor exportTaskExecutor;
+
+    public WebMvcConfig(@Qualifier("exportTaskExecutor") AsyncTaskExecutor exportTaskExecutor) {
+        this.exportTaskExecutor = exportTaskExecutor;
+    }
+
+    // MVC 비동기 응답(내보내기 StreamingResponseBody)은 applicationTaskExecutor 와 나누어 실행 (긴 내보내기가 백그라운드 작업을 막지 않도록)
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportTaskExecutor);
+    }
+}
@@ -0,0 +1,89 @@
+package kr.taking.backend.configuration.filter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <pre>
+ * ClassName : Bulkhead
+ * Type : class
+ * Description : 경로 그룹별 동시 처리 수와 대기열 길이를 제한하는 클래스입니다.
+ * Related : BulkheadRegistry, BulkheadFilter
+ * </pre>
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitMs;
+
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public Bulkhead(String name, int maxConcurrent, int maxQueue, long maxWaitMs) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitMs = maxWaitMs;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * [Bulkhead] 진입 함수
+     *
+     * @return 처리 가능한 경우 true, 대기열이 가득 찼거나 대기 시간을 초과한 경우 false 를 반환합니다.
+     * <pre>
+     * 빈 자리가 있으면 즉시 진입하고, 없으면 maxQueue 범위 안에서 최대 maxWaitMs 동안 기다립니다.
+     * true 를 반환한 경우 반드시 exit() 를 호출해야 합니다.
+     * </pre>
+     */
+    public boolean tryEnter() throws InterruptedException {
+        if (permits.tryAcquire()) {
+            accepted.increment();
+            return true;
+        }
+
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+
+        try {
+            if (permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                accepted.increment();
+                return true;
+            }
+            rejected.increment();
+            return false;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    public void exit() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("maxConcurrent", maxConcurrent);
+        snapshot.put("active", maxConcurrent - permits.availablePermits());
+        snapshot.put("maxQueue", maxQueue);
+        snapshot.put("queued", queued.get());
+        snapshot.put("accepted", accepted.sum());
+        snapshot.put("rejected", rejected.sum());
+        return snapshot;
+    }
+}
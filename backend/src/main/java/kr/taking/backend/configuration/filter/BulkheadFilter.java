@@ -0,0 +1,72 @@
+package kr.taking.backend.configuration.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.util.FormatConverter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * <pre>
+ * ClassName : BulkheadFilter
+ * Type : class
+ * Description : 경로 그룹별 Bulkhead 로 동시 처리 수를 제한하고, 초과 시 503 과 Retry-After 를 즉시 반환하는 필터입니다.
+ * Related : BulkheadRegistry, WebSecurityConfiguration
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Bulkhead bulkhead = bulkheadRegistry.resolve(request.getServletPath());
+        if (bulkhead == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean entered;
+        try {
+            entered = bulkhead.tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            entered = false;
+        }
+
+        if (!entered) {
+            log.warn("Bulkhead '{}' is full. Rejected {} {}", bulkhead.getName(), request.getMethod(), request.getRequestURI());
+            reject(response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.exit();
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(ErrorCode.SERVICE_UNAVAILABLE.getStatus());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(bulkheadRegistry.getRetryAfterSeconds()));
+        response.setHeader("Content-Type", "application/json");
+        response.getWriter().write(FormatConverter.toJson(
+            ErrorCode.SERVICE_UNAVAILABLE
+        ));
+        response.getWriter().flush();
+    }
+}
@@ -0,0 +1,100 @@
+package kr.taking.backend.configuration.filter;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <pre>
+ * ClassName : BulkheadRegistry
+ * Type : class
+ * Description : 경로 그룹(auth, user, org, role)별 Bulkhead 를 생성하고 요청 경로에 맞는 Bulkhead 를 찾는 클래스입니다.
+ * Related : Bulkhead, BulkheadFilter, MonitorController
+ * How-to :
+ *  1. kr.taking.backend.bulkhead.{group}.maxConcurrent=0 으로 설정하면 해당 그룹은 제한하지 않습니다.
+ * </pre>
+ */
+@Slf4j
+@Component
+public class BulkheadRegistry {
+
+    @Value("${kr.taking.backend.bulkhead.enabled:true}")
+    private boolean enabled;
+
+    @Value("${kr.taking.backend.bulkhead.maxWaitMs:200}")
+    private long maxWaitMs;
+
+    @Value("${kr.taking.backend.bulkhead.retryAfterSeconds:1}")
+    private int retryAfterSeconds;
+
+    @Value("${kr.taking.backend.bulkhead.auth.maxConcurrent:16}")
+    private int authMaxConcurrent;
+
+    @Value("${kr.taking.backend.bulkhead.auth.maxQueue:32}")
+    private int authMaxQueue;
+
+    @Value("${kr.taking.backend.bulkhead.user.maxConcurrent:64}")
+    private int userMaxConcurrent;
+
+    @Value("${kr.taking.backend.bulkhead.user.maxQueue:64}")
+    private int userMaxQueue;
+
+    @Value("${kr.taking.backend.bulkhead.org.maxConcurrent:32}")
+    private int orgMaxConcurrent;
+
+    @Value("${kr.taking.backend.bulkhead.org.maxQueue:32}")
+    private int orgMaxQueue;
+
+    @Value("${kr.taking.backend.bulkhead.role.maxConcurrent:32}")
+    private int roleMaxConcurrent;
+
+    @Value("${kr.taking.backend.bulkhead.role.maxQueue:32}")
+    private int roleMaxQueue;
+
+    // 경로 접두어 -> Bulkhead
+    private final Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+
+    @PostConstruct
+    void init() {
+        register("/api/auth/", "auth", authMaxConcurrent, authMaxQueue);
+        register("/api/v1/user", "user", userMaxConcurrent, userMaxQueue);
+        register("/api/v1/org", "org", orgMaxConcurrent, orgMaxQueue);
+        register("/api/v1/role", "role", roleMaxConcurrent, roleMaxQueue);
+    }
+
+    /**
+     * [BulkheadRegistry] 요청 경로의 Bulkhead 조회 함수
+     *
+     * @param path 요청 경로입니다.
+     * @return 해당 경로 그룹의 Bulkhead 를 반환하고, 제한 대상이 아닌 경우 null 을 반환합니다.
+     */
+    public Bulkhead resolve(String path) {
+        if (!enabled || path == null) return null;
+
+        for (Map.Entry<String, Bulkhead> entry : bulkheads.entrySet()) {
+            if (path.startsWith(entry.getKey())) return entry.getValue();
+        }
+        return null;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        bulkheads.values().forEach(bulkhead -> snapshot.put(bulkhead.getName(), bulkhead.snapshot()));
+        return snapshot;
+    }
+
+    private void register(String pathPrefix, String name, int maxConcurrent, int maxQueue) {
+        if (maxConcurrent <= 0) return;
+
+        bulkheads.put(pathPrefix, new Bulkhead(name, maxConcurrent, Math.max(0, maxQueue), maxWaitMs));
+        log.info("Bulkhead '{}' registered : maxConcurrent={}, maxQueue={}", name, maxConcurrent, maxQueue);
+    }
+}
@@ -0,0 +1,46 @@
+package kr.taking.backend.configuration.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.taking.backend.configuration.mongo.CausalSessions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * <pre>
+ * ClassName : CausalSessionFilter
+ * Type : class
+ * Description : API 요청마다 causal consistency 세션 범위를 열고, 요청이 끝나면 세션을 닫는 필터입니다.
+ * Related : CausalSessions, WebSecurityConfiguration
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Component
+public class CausalSessionFilter extends OncePerRequestFilter {
+
+    private static final String API_PATH = "/api/";
+
+    private final CausalSessions causalSessions;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !causalSessions.isEnabled() || !request.getServletPath().startsWith(API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        causalSessions.open(request.getHeader(CausalSessions.TOKEN_HEADER));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            causalSessions.close();
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package kr.taking.backend.configuration.filter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import kr.taking.backend.error.exception.CustomException;
+import kr.taking.backend.service.TokenRevocationService;
 import kr.taking.backend.service.TokenService;
 import kr.taking.backend.util.Security.AccessToken;
 import kr.taking.backend.error.enums.ErrorCode;
@@ -24,6 +26,7 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -33,11 +36,17 @@ public class JwtFilter extends OncePerRequestFilter {
 
         try {
 
-            if (checkAccessToken(token)) {
-                Authentication authentication = tokenService.getAuthentication(token);
+            // 요청당 한 번만 검증/파싱하고, 검증된 Claims 로 인증 정보를 생성
+            Claims claims = (token != null) ? tokenService.verifyToken(token) : null;
+            if (claims != null && tokenRevocationService.isRevoked(claims)) {
+                log.debug("폐기된 JWT 토큰입니다.");
+                claims = null;
+            }
+            if (claims != null) {
+                Authentication authentication = tokenService.getAuthentication(claims);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.error("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
-                log.error("getAuthorities : {}", authentication.getAuthorities());
+                log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
+                log.debug("getAuthorities : {}", authentication.getAuthorities());
             }
             filterChain.doFilter(request, response);
 
@@ -48,9 +57,4 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
     }
-
-    private boolean checkAccessToken(AccessToken accessToken) {
-        if (accessToken == null) return false;
-        return tokenService.validateToken(accessToken);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package kr.taking.backend.configuration.filter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.service.RateLimitService;
+import kr.taking.backend.util.FormatConverter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * <pre>
+ * ClassName : RateLimitFilter
+ * Type : class
+ * Description : 인증 API(/api/auth/**) 호출 빈도를 클라이언트 IP 별로 제한하고, 초과 시 429 와 Retry-After 를 반환하는 필터입니다.
+ * Related : RateLimitService, WebSecurityConfiguration
+ * How-to :
+ *  1. 기본으로 연결한 주소(remoteAddr)를 클라이언트 IP 로 사용합니다. 클라이언트가 보낸 X-Forwarded-For 등의 헤더는 신뢰하지 않습니다.
+ *  2. 로드 밸런서, 프록시 뒤에서 실행하는 경우 kr.taking.backend.ratelimit.trustedProxies 에 프록시 주소(IP 또는 CIDR)를 설정합니다.
+ *     연결한 주소가 신뢰하는 프록시이면 X-Forwarded-For 를 오른쪽부터 읽어, 신뢰하는 프록시가 아닌 첫 주소를 사용합니다.
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH = "/api/auth/";
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final RateLimitService rateLimitService;
+
+    @Value("${kr.taking.backend.ratelimit.trustedProxies:}")
+    private List<String> trustedProxies;
+
+    private List<IpAddressMatcher> proxyMatchers;
+
+    @PostConstruct
+    void init() {
+        proxyMatchers = trustedProxies.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getServletPath().startsWith(AUTH_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String clientIp = clientIp(request);
+        long retryAfterMs = rateLimitService.tryAcquire(RateLimitService.Scope.IP, clientIp);
+
+        if (retryAfterMs > 0) {
+            log.warn("Rate limit exceeded. IP: {}, RequestURI: {}", clientIp, request.getRequestURI());
+            reject(response, retryAfterMs);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * [RateLimitFilter] 클라이언트 IP 조회 함수
+     *
+     * @param request 요청 정보입니다.
+     * @return 제한 기준으로 사용할 클라이언트 IP 를 반환합니다.
+     * <pre>
+     * 신뢰하는 프록시를 거친 요청만 X-Forwarded-For 를 사용하며, 왼쪽(클라이언트가 직접 넣을 수 있는) 값은 사용하지 않습니다.
+     * 모든 주소가 신뢰하는 프록시이면 가장 왼쪽 주소를 사용합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    private String clientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) return remoteAddr;
+
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank()) return remoteAddr;
+
+        String[] hops = forwardedFor.split(",");
+        String client = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) continue;
+            client = hop;
+            if (!isTrustedProxy(hop)) break;
+        }
+        return client;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        for (IpAddressMatcher matcher : proxyMatchers) {
+            try {
+                if (matcher.matches(address)) return true;
+            } catch (IllegalArgumentException e) {
+                return false;   // IP 형식이 아닌 값 (ex. unknown)
+            }
+        }
+        return false;
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterMs) throws IOException {
+        response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMs + 999) / 1000)));
+        response.setHeader("Content-Type", "application/json");
+        response.getWriter().write(FormatConverter.toJson(
+            ErrorCode.TOO_MANY_REQUESTS
+        ));
+        response.getWriter().flush();
+    }
+}
@@ -0,0 +1,300 @@
+package kr.taking.backend.configuration.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.IndexDefinitionHolder;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * ClassName : IndexCatalog
+ * Type : class
+ * Description : Entity 에 선언된 인덱스(@Indexed, @CompoundIndex)를 기준으로 기동 시 인덱스를 생성하고, 실제 인덱스와의 차이(drift)를 검사하는 클래스입니다.
+ * Related : UserEntity, OrgEntity, RoleEntity, MongoConfig, MonitorController
+ * How-to :
+ *  1. 인덱스는 Entity 의 @Indexed, @CompoundIndex 로만 선언합니다. (MongoConfig 의 autoIndexCreation 은 사용하지 않음)
+ *  2. 없는 유니크 인덱스는 기동 중에 생성하고, 그 외 인덱스는 별도 스레드에서 생성합니다.
+ *     웹 서버 시작(WebServerStartStopLifecycle)보다 앞선 phase 의 SmartLifecycle 로 실행되므로, 유니크 인덱스가 생긴 뒤에 포트가 열립니다.
+ *     (4.2 부터 모든 인덱스 생성은 쓰기를 막지 않는 방식이며 background 옵션은 무시되므로 지정하지 않음)
+ *  3. 키는 같지만 옵션이 다른 인덱스(CONFLICT), 선언되지 않은 인덱스(UNDECLARED)는 삭제하지 않고 보고만 합니다.
+ *  4. Repository 파생 쿼리 메소드(findByName 등)의 조건 필드로 시작하는 인덱스가 없으면
+ *     kr.taking.backend.index.mode=fail 인 경우 기동을 중단하고, warn 인 경우 경고를 남깁니다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexCatalog implements SmartLifecycle {
+
+    // 웹 서버 시작 phase 보다 먼저, MongoPoolWarmUp(DEFAULT_PHASE - 2048) 다음에 실행
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2047;
+
+    public enum Status { OK, MISSING, CREATING, CREATED, FAILED, CONFLICT, UNDECLARED }
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+    private final ListableBeanFactory beanFactory;
+    private final AsyncTaskExecutor taskExecutor;
+
+    // warn : 경고만 남김, fail : 인덱스 없는 쿼리 메소드나 충돌이 있으면 기동 중단, off : 검사하지 않음
+    @Value("${kr.taking.backend.index.mode:warn}")
+    private String mode;
+
+    private final Map<String, Map<String, Object>> report = new ConcurrentHashMap<>();
+    private final List<String> unsupportedQueries = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+        if ("off".equalsIgnoreCase(mode)) return;
+
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        Map<String, List<IndexDefinitionHolder>> declared = new TreeMap<>();
+
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) continue;
+            declared.computeIfAbsent(entity.getCollection(), c -> new ArrayList<>())
+                    .addAll(resolver.resolveIndexForEntity(entity));
+        }
+
+        List<String> problems = new ArrayList<>();
+        List<IndexDefinitionHolder> deferred = new ArrayList<>();
+
+        declared.forEach((collection, indexes) -> {
+            List<Document> existing = mongoTemplate.getCollection(collection).listIndexes().into(new ArrayList<>());
+
+            for (IndexDefinitionHolder index : indexes) {
+                Document match = findByKeys(existing, index.getIndexKeys());
+                if (match == null) {
+                    if (index.getIndexOptions().getBoolean("unique", false)) {
+                        create(index);  // 유니크 인덱스가 없으면 중복 데이터가 들어올 수 있으므로 기동 전에 생성
+                    } else {
+                        record(index, Status.CREATING, null);
+                        deferred.add(index);
+                    }
+                } else if (!sameOptions(index.getIndexOptions(), match)) {
+                    record(index, Status.CONFLICT, "existing=" + match.toJson());
+                    problems.add(collection + " " + index.getIndexKeys().toJson() + " options differ from " + match.toJson());
+                } else {
+                    record(index, Status.OK, match.getString("name"));
+                }
+            }
+
+            for (Document index : existing) {
+                if ("_id_".equals(index.getString("name"))) continue;
+                if (indexes.stream().noneMatch(d -> sameKeys(d.getIndexKeys(), index.get("key", Document.class)))) {
+                    record(collection, index.getString("name"), index.get("key", Document.class), Status.UNDECLARED, null);
+                }
+            }
+        });
+
+        verifyQueryMethods(declared);
+        problems.addAll(unsupportedQueries);
+
+        if (!deferred.isEmpty()) {
+            taskExecutor.execute(() -> deferred.forEach(this::create));
+        }
+
+        if (!problems.isEmpty()) {
+            problems.forEach(problem -> log.warn("Index catalog : {}", problem));
+            if ("fail".equalsIgnoreCase(mode)) {
+                throw new IllegalStateException("Index catalog verification failed : " + problems);
+            }
+        }
+        log.info("Index catalog verified : collections={}, indexes={}", declared.size(), report.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * [IndexCatalog] 인덱스 현황 조회 함수
+     *
+     * @return 컬렉션, 인덱스별 상태(OK, CREATED, CONFLICT, UNDECLARED 등)와 인덱스가 없는 쿼리 메소드 목록을 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("mode", mode);
+        snapshot.put("indexes", new TreeMap<>(report));
+        snapshot.put("unsupportedQueries", List.copyOf(unsupportedQueries));
+        return snapshot;
+    }
+
+    /**
+     * [IndexCatalog] 사용 가능한 인덱스 키 조회 함수
+     *
+     * @param type 인덱스를 선언한 Entity 타입입니다.
+     * @param name 선언된 인덱스 이름입니다.
+     * @return 인덱스가 있거나(OK) 생성을 마친 경우(CREATED) 인덱스 키를 반환합니다. 생성 중이거나 없으면 null 입니다.
+     * <pre>
+     * hint 로 지정할 인덱스가 아직 생성 중이면 쿼리가 실패하므로, hint 를 사용하기 전에 확인합니다.
+     * 이미 있던 인덱스는 선언과 이름이 다를 수 있으므로, hint 에는 이름 대신 키를 사용합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public Document readyKeys(Class<?> type, String name) {
+        String collection = mappingContext.getRequiredPersistentEntity(type).getCollection();
+        return report.values().stream()
+                .filter(entry -> collection.equals(entry.get("collection")) && name.equals(entry.get("name")))
+                .filter(entry -> entry.get("status") == Status.OK || entry.get("status") == Status.CREATED)
+                .map(entry -> (Document) entry.get("keys"))
+                .findFirst()
+                .orElse(null);
+    }
+
+    // mode=off 이면 인덱스 현황이 없으므로 readyKeys 는 항상 null
+    public boolean isVerifying() {
+        return !"off".equalsIgnoreCase(mode);
+    }
+
+    // 파생 쿼리의 조건 필드 중 하나가 어떤 인덱스의 첫 번째 키이면 인덱스를 사용할 수 있는 것으로 판단
+    private void verifyQueryMethods(Map<String, List<IndexDefinitionHolder>> declared) {
+        Repositories repositories = new Repositories(beanFactory);
+
+        for (Class<?> domainType : repositories) {
+            MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(domainType);
+            if (entity == null) continue;
+
+            Set<String> leadingKeys = new HashSet<>();
+            leadingKeys.add("_id");
+            declared.getOrDefault(entity.getCollection(), List.of())
+                    .forEach(index -> leadingKeys.add(index.getIndexKeys().keySet().iterator().next()));
+
+            repositories.getRepositoryInformationFor(domainType).ifPresent(information -> {
+                for (Method method : information.getQueryMethods()) {
+                    if (method.isAnnotationPresent(Query.class)) continue;
+
+                    PartTree tree;
+                    try {
+                        tree = new PartTree(method.getName(), domainType);
+                    } catch (RuntimeException e) {
+                        continue;   // 파생 쿼리가 아닌 메소드
+                    }
+
+                    List<String> fields = new ArrayList<>();
+                    for (Part part : tree.getParts()) {
+                        fields.add(fieldName(part.getProperty()));
+                    }
+
+                    if (!fields.isEmpty() && fields.stream().noneMatch(leadingKeys::contains)) {
+                        unsupportedQueries.add(information.getRepositoryInterface().getSimpleName() + "." + method.getName()
+                                + " has no index on " + fields);
+                    }
+                }
+            });
+        }
+    }
+
+    private String fieldName(PropertyPath path) {
+        return mappingContext.getPersistentPropertyPath(path).toDotPath(MongoPersistentProperty::getFieldName);
+    }
+
+    private void create(IndexDefinitionHolder index) {
+        long start = System.nanoTime();
+        try {
+            String name = mongoTemplate.indexOps(index.getCollection())
+                    .ensureIndex(new DeclaredIndex(index.getIndexKeys(), new Document(index.getIndexOptions())));
+            record(index, Status.CREATED, name + " (" + (System.nanoTime() - start) / 1_000_000 + "ms)");
+            log.info("Index created : {} {} {}", index.getCollection(), name, index.getIndexKeys().toJson());
+        } catch (RuntimeException e) {
+            record(index, Status.FAILED, e.getMessage());
+            log.error("Index creation failed : {} {} : {}", index.getCollection(), index.getIndexKeys().toJson(), e.getMessage());
+            if (index.getIndexOptions().getBoolean("unique", false) && "fail".equalsIgnoreCase(mode)) throw e;
+        }
+    }
+
+    private void record(IndexDefinitionHolder index, Status status, String detail) {
+        record(index.getCollection(), index.getIndexOptions().getString("name"), index.getIndexKeys(), status, detail);
+    }
+
+    private void record(String collection, String name, Document keys, Status status, String detail) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("collection", collection);
+        entry.put("name", name);
+        entry.put("keys", keys);
+        entry.put("status", status);
+        if (detail != null) entry.put("detail", detail);
+        report.put(collection + "." + keys.toJson(), entry);
+    }
+
+    private static Document findByKeys(List<Document> existing, Document keys) {
+        return existing.stream()
+                .filter(index -> sameKeys(keys, index.get("key", Document.class)))
+                .findFirst()
+                .orElse(null);
+    }
+
+    // 복합 인덱스는 키 순서가 의미가 있으므로 순서까지 비교 (1 과 1.0 은 같은 값으로 취급)
+    private static boolean sameKeys(Document declared, Document existing) {
+        if (existing == null || declared.size() != existing.size()) return false;
+        Iterator<Map.Entry<String, Object>> a = declared.entrySet().iterator();
+        Iterator<Map.Entry<String, Object>> b = existing.entrySet().iterator();
+        while (a.hasNext()) {
+            Map.Entry<String, Object> x = a.next();
+            Map.Entry<String, Object> y = b.next();
+            if (!x.getKey().equals(y.getKey()) || !Objects.equals(normalize(x.getValue()), normalize(y.getValue()))) return false;
+        }
+        return true;
+    }
+
+    private static boolean sameOptions(Document declared, Document existing) {
+        return declared.getBoolean("unique", false) == existing.getBoolean("unique", false)
+                && declared.getBoolean("sparse", false) == existing.getBoolean("sparse", false)
+                && Objects.equals(normalize(declared.get("expireAfterSeconds")), normalize(existing.get("expireAfterSeconds")))
+                && Objects.equals(declared.get("partialFilterExpression"), existing.get("partialFilterExpression"));
+    }
+
+    private static Object normalize(Object value) {
+        return (value instanceof Number number) ? number.longValue() : value;
+    }
+
+    private record DeclaredIndex(Document keys, Document options)
+            implements org.springframework.data.mongodb.core.index.IndexDefinition {
+
+        @Override
+        public Document getIndexKeys() {
+            return keys;
+        }
+
+        @Override
+        public Document getIndexOptions() {
+            return options;
+        }
+    }
+}
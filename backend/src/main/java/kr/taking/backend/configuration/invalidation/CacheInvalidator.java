@@ -0,0 +1,87 @@
+package kr.taking.backend.configuration.invalidation;
+
+import kr.taking.backend.configuration.mongo.ReferenceCache;
+import kr.taking.backend.service.TokenRevocationService;
+import kr.taking.backend.service.security.PrincipalCache;
+import kr.taking.backend.service.security.UserIdIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : CacheInvalidator
+ * Type : class
+ * Description : 다른 인스턴스에서 발생한 변경(Invalidation)을 이 인스턴스의 캐시 영역별로 나누어 반영하는 클래스입니다.
+ * Related : InvalidationBus, ReferenceCache, PrincipalCache, UserIdIndex, TokenRevocationService
+ * How-to :
+ *  1. ROLE : 역할 캐시에서 제거하고, 역할 이름으로 만든 인증 주체를 모두 지웁니다. (RoleServiceImpl 과 같은 범위)
+ *  2. ORG : 조직 캐시에서 제거합니다.
+ *  3. PRINCIPAL, USER_CREATED, TOKEN_GENERATION, REVOKED_TOKEN : 인증 주체, 아이디 인덱스, 토큰 폐기 목록에 반영합니다.
+ *  4. 변경 이력을 놓친 경우 flushAll 로 전체 캐시를 비우고 폐기 목록을 다시 읽습니다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private final ReferenceCache referenceCache;
+    private final PrincipalCache principalCache;
+    private final UserIdIndex userIdIndex;
+    private final TokenRevocationService tokenRevocationService;
+    private final InvalidationPublisher invalidationPublisher;
+
+    /**
+     * [CacheInvalidator] 캐시 무효화 적용 함수
+     *
+     * @param invalidation 다른 인스턴스에서 발생한 변경입니다.
+     * <pre>
+     * 적용 중에 호출되는 evict, invalidate 는 다시 기록(publish)하지 않습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public void apply(Invalidation invalidation) {
+        invalidationPublisher.applyingRemote(() -> {
+            switch (invalidation.region()) {
+                case ROLE -> {
+                    referenceCache.evict(ReferenceCache.ROLES, invalidation.key());
+                    principalCache.invalidateAll();
+                }
+                case ORG -> referenceCache.evict(ReferenceCache.ORGS, invalidation.key());
+                case PRINCIPAL -> {
+                    if (invalidation.key() != null) {
+                        principalCache.invalidate(invalidation.key());
+                    } else {
+                        principalCache.invalidateAll();
+                    }
+                }
+                case USER_CREATED -> userIdIndex.add(invalidation.key());
+                case TOKEN_GENERATION -> {
+                    if (invalidation.value() != null) tokenRevocationService.raiseGeneration(invalidation.key(), invalidation.value());
+                    principalCache.invalidate(invalidation.key());
+                }
+                case REVOKED_TOKEN -> {
+                    long expireAt = (invalidation.value() != null) ? invalidation.value() : Long.MAX_VALUE;
+                    tokenRevocationService.markRevoked(invalidation.key(), expireAt);
+                }
+            }
+        });
+    }
+
+    // 놓친 변경을 알 수 없으므로 모든 영역을 비우고 원본에서 다시 읽음
+    public void flushAll() {
+        invalidationPublisher.applyingRemote(() -> {
+            referenceCache.evictAll();
+            principalCache.invalidateAll();
+            userIdIndex.rebuildAsync();
+            try {
+                tokenRevocationService.reload();
+            } catch (RuntimeException e) {
+                log.warn("[CacheInvalidator] token revocation reload failed : {}", e.getMessage());
+            }
+        });
+        log.warn("[CacheInvalidator] all local caches flushed");
+    }
+}
@@ -0,0 +1,30 @@
+package kr.taking.backend.configuration.invalidation;
+
+/**
+ * <pre>
+ * ClassName : Invalidation
+ * Type : record
+ * Description : 다른 인스턴스의 로컬 캐시에서 지워야 할 항목(캐시 영역, 키, 값)을 나타내는 레코드입니다.
+ * Related : InvalidationBus, InvalidationPublisher, CacheInvalidator
+ * How-to :
+ *  1. ROLE, ORG : key 는 문서 고유번호입니다.
+ *  2. PRINCIPAL : key 는 사용자 아이디이며, null 이면 전체를 지웁니다.
+ *  3. USER_CREATED : key 는 등록된 사용자 아이디입니다. (아이디 인덱스에 추가)
+ *  4. TOKEN_GENERATION : key 는 사용자 아이디, value 는 증가된 토큰 세대입니다.
+ *  5. REVOKED_TOKEN : key 는 jti, value 는 만료 시각(epoch millis)입니다.
+ * </pre>
+ */
+public record Invalidation(Region region, String key, Long value) {
+
+    public enum Region {
+        ROLE, ORG, PRINCIPAL, USER_CREATED, TOKEN_GENERATION, REVOKED_TOKEN
+    }
+
+    public static Invalidation of(Region region, String key) {
+        return new Invalidation(region, key, null);
+    }
+
+    public static Invalidation of(Region region, String key, long value) {
+        return new Invalidation(region, key, value);
+    }
+}
@@ -0,0 +1,445 @@
+package kr.taking.backend.configuration.invalidation;
+
+import com.mongodb.CursorType;
+import com.mongodb.MongoServerException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import jakarta.annotation.PreDestroy;
+import kr.taking.backend.configuration.mongo.ReferenceCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gte;
+
+/**
+ * <pre>
+ * ClassName : InvalidationBus
+ * Type : class
+ * Description : 다른 인스턴스에서 변경된 사용자, 역할, 조직, 폐기 토큰을 감지하여 이 인스턴스의 로컬 캐시를 지우는 클래스입니다.
+ * Related : CacheInvalidator, InvalidationPublisher, ReferenceCache, PrincipalCache, TokenRevocationServiceImpl, UserIdIndex
+ * How-to :
+ *  1. changeStream : users, organizations, roles, revoked_tokens 컬렉션의 변경 스트림을 applicationTaskExecutor 의 작업 하나로 계속 읽고, 변경된 문서의 키만 CacheInvalidator 로 전달합니다.
+ *     재개 토큰(resume token)을 cache_invalidation_state 컬렉션에 인스턴스별로 저장하여, 스트림이 끊기거나 재기동한 경우 이어서 읽습니다.
+ *  2. polling : 변경 스트림을 사용할 수 없는 단일 mongod 에서는 각 인스턴스가 쓰기 시 cache_invalidations(capped 컬렉션)에 기록하고,
+ *     tailable 커서로 다른 인스턴스의 기록을 읽습니다. (kr.taking.backend.invalidation.mode=auto 이면 자동 전환)
+ *  3. 재개 지점이 oplog(또는 capped 컬렉션)에서 밀려난 경우 놓친 변경을 알 수 없으므로 전체 캐시를 비웁니다.
+ *  4. 재개 토큰 없이 시작한 경우(첫 기동, instanceId 변경, polling)에도 스트림(커서)을 연 뒤 한 번 전체 캐시를 비우고 다시 읽습니다.
+ *     (기동 중 읽은 폐기 목록, 아이디 인덱스와 스트림 시작 사이의 변경을 놓치지 않도록)
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvalidationBus {
+
+    public static final String STATE_COLLECTION = "cache_invalidation_state";
+    private static final String USERS = "users";
+    private static final String REVOKED_TOKENS = "revoked_tokens";
+    private static final List<String> WATCHED = List.of(USERS, ReferenceCache.ORGS, ReferenceCache.ROLES, REVOKED_TOKENS);
+
+    private static final int NOT_REPLICA_SET = 40573;
+    // CappedPositionLost, InvalidResumeToken, ChangeStreamFatalError, ChangeStreamHistoryLost
+    private static final Set<Integer> HISTORY_LOST = Set.of(136, 260, 280, 286);
+    // 인스턴스 간 시계 차이를 고려하여 커서를 다시 열 때 겹쳐 읽는 구간 (중복 적용은 무해)
+    private static final long REOPEN_OVERLAP_MS = 5000;
+    private static final long RETRY_DELAY_MS = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final CacheInvalidator cacheInvalidator;
+    private final InvalidationPublisher invalidationPublisher;
+    private final AsyncTaskExecutor taskExecutor;
+
+    @Value("${kr.taking.backend.invalidation.enabled:true}")
+    private boolean enabled;
+
+    // auto | changeStream | polling
+    @Value("${kr.taking.backend.invalidation.mode:auto}")
+    private String mode;
+
+    @Value("${kr.taking.backend.invalidation.pollIntervalMs:500}")
+    private long pollIntervalMs;
+
+    @Value("${kr.taking.backend.invalidation.cappedSizeBytes:1048576}")
+    private long cappedSizeBytes;
+
+    @Value("${kr.taking.backend.invalidation.cappedMaxDocuments:10000}")
+    private long cappedMaxDocuments;
+
+    @Value("${kr.taking.backend.invalidation.resumeSaveIntervalMs:1000}")
+    private long resumeSaveIntervalMs;
+
+    private volatile boolean running;
+    private volatile Future<?> worker;
+    private volatile String activeMode = "stopped";
+
+    private volatile BsonDocument resumeToken;
+    private volatile BsonDocument savedResumeToken;
+    private volatile long resumeTokenSavedAt;
+    private volatile Date lastPolledAt;
+    private volatile boolean catchUp;
+
+    private final Map<Invalidation.Region, LongAdder> received = counters();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder restarts = new LongAdder();
+    private volatile long lastEventAt;
+    private volatile String lastError;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled) return;
+
+        // 가상 스레드 모드에서는 가상 스레드, 플랫폼 스레드 모드에서는 풀의 스레드 하나를 계속 사용
+        running = true;
+        worker = taskExecutor.submit(this::run);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        Future<?> task = worker;
+        if (task != null) task.cancel(true);
+    }
+
+    private void run() {
+        boolean polling = "polling".equals(mode);
+        if (!polling) resumeToken = loadResumeToken();
+        catchUp = (resumeToken == null);
+
+        while (running) {
+            try {
+                if (polling) {
+                    tail();
+                } else {
+                    watch();
+                }
+            } catch (MongoServerException e) {
+                if (!running) break;
+                if (!polling && e.getCode() == NOT_REPLICA_SET && "auto".equals(mode)) {
+                    log.info("[InvalidationBus] change streams are not supported, polling {}", InvalidationPublisher.COLLECTION);
+                    polling = true;
+                } else if (HISTORY_LOST.contains(e.getCode())) {
+                    log.warn("[InvalidationBus] invalidation history lost ({}), flushing local caches", e.getCode());
+                    resumeToken = null;
+                    lastPolledAt = null;
+                    catchUp = true;     // 다시 연 뒤에 비워야 비우는 동안의 변경도 놓치지 않음
+                } else {
+                    failed(e);
+                }
+            } catch (RuntimeException e) {
+                if (!running) break;
+                failed(e);
+            }
+        }
+        activeMode = "stopped";
+    }
+
+    /**
+     * [InvalidationBus] 변경 스트림 구독 함수
+     *
+     * <pre>
+     * 감시 대상 컬렉션의 변경만 남기고(match), 캐시 키를 만드는 데 필요한 필드만 받습니다.(project)
+     * 이벤트가 없어도 커서의 재개 토큰(post batch resume token)이 갱신되므로, resumeSaveIntervalMs 마다 저장합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    private void watch() {
+        List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.or(
+                        Filters.in("ns.coll", WATCHED),
+                        Filters.in("operationType", "dropDatabase", "invalidate"))),
+                Aggregates.project(Projections.include(
+                        "operationType", "ns", "documentKey",
+                        "fullDocument.userid", "fullDocument.tokenGeneration", "fullDocument.expireAt",
+                        "updateDescription.updatedFields.tokenGeneration")));
+
+        ChangeStreamIterable<Document> stream = mongoTemplate.getDb().watch(pipeline)
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(pollIntervalMs, TimeUnit.MILLISECONDS);
+        BsonDocument token = resumeToken;
+        if (token != null) stream = stream.resumeAfter(token);
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+            activeMode = "changeStream";
+            invalidationPublisher.setPolling(false);
+            catchUp();
+
+            while (running) {
+                ChangeStreamDocument<Document> event = cursor.tryNext();
+                if (event != null && !dispatch(event)) return;
+                if (cursor.getResumeToken() != null) resumeToken = cursor.getResumeToken();
+                saveResumeToken(false);
+            }
+            saveResumeToken(true);
+        }
+    }
+
+    // 재개 지점 없이 스트림(커서)을 연 경우 한 번 전체 캐시를 비움 (이후 변경은 스트림으로 받음)
+    private void catchUp() {
+        if (!catchUp) return;
+        catchUp = false;
+        log.info("[InvalidationBus] started without a resume point, reloading local caches");
+        flushes.increment();
+        cacheInvalidator.flushAll();
+    }
+
+    // false 를 반환하면 스트림이 닫힌 것이므로 새로 엶
+    private boolean dispatch(ChangeStreamDocument<Document> event) {
+        OperationType operation = event.getOperationType();
+        lastEventAt = System.currentTimeMillis();
+
+        if (operation == OperationType.INVALIDATE || operation == OperationType.DROP_DATABASE
+                || operation == OperationType.DROP || operation == OperationType.RENAME) {
+            log.warn("[InvalidationBus] {} on {}, flushing local caches", operation, event.getNamespace());
+            flushes.increment();
+            cacheInvalidator.flushAll();
+            if (operation != OperationType.INVALIDATE) return true;
+            resumeToken = null;
+            return false;
+        }
+
+        String collection = (event.getNamespace() != null) ? event.getNamespace().getCollectionName() : null;
+        String id = idOf(event.getDocumentKey());
+        Document document = event.getFullDocument();
+        if (collection == null || id == null) return true;
+
+        switch (collection) {
+            case ReferenceCache.ROLES -> apply(Invalidation.of(Invalidation.Region.ROLE, id));
+            case ReferenceCache.ORGS -> apply(Invalidation.of(Invalidation.Region.ORG, id));
+            case USERS -> dispatchUser(operation, document, event.getUpdateDescription());
+            case REVOKED_TOKENS -> {
+                if (operation == OperationType.DELETE || document == null) return true;  // TTL 삭제
+                Date expireAt = document.getDate("expireAt");
+                apply((expireAt != null)
+                        ? Invalidation.of(Invalidation.Region.REVOKED_TOKEN, id, expireAt.getTime())
+                        : Invalidation.of(Invalidation.Region.REVOKED_TOKEN, id));
+            }
+            default -> { }
+        }
+        return true;
+    }
+
+    // 삭제 이벤트에는 userid 가 없으므로(documentKey 만 전달) 인증 주체를 모두 지움
+    private void dispatchUser(OperationType operation, Document document, UpdateDescription update) {
+        String userid = (document != null) ? document.getString("userid") : null;
+
+        if (operation == OperationType.INSERT) {
+            if (userid != null) apply(Invalidation.of(Invalidation.Region.USER_CREATED, userid));
+            return;
+        }
+        if (userid == null) {
+            apply(Invalidation.of(Invalidation.Region.PRINCIPAL, null));
+            return;
+        }
+
+        boolean generationChanged = operation == OperationType.REPLACE
+                || (update != null && update.getUpdatedFields() != null && update.getUpdatedFields().containsKey("tokenGeneration"));
+        if (generationChanged && document.get("tokenGeneration") instanceof Number generation) {
+            apply(Invalidation.of(Invalidation.Region.TOKEN_GENERATION, userid, generation.longValue()));
+        } else {
+            apply(Invalidation.of(Invalidation.Region.PRINCIPAL, userid));
+        }
+    }
+
+    /**
+     * [InvalidationBus] capped 컬렉션 폴링 함수
+     *
+     * <pre>
+     * tailable await 커서로 다른 인스턴스의 기록을 읽고, 자신이 기록한 이벤트(origin)는 건너뜁니다.
+     * 컬렉션이 비어 있거나 커서가 닫히면 pollIntervalMs 후 마지막으로 읽은 시각부터 다시 엽니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    private void tail() {
+        ensureCappedCollection();
+        activeMode = "polling";
+        invalidationPublisher.setPolling(true);
+
+        Date since = (lastPolledAt != null) ? lastPolledAt : new Date();
+        Bson filter = gte("at", new Date(since.getTime() - REOPEN_OVERLAP_MS));
+
+        try (MongoCursor<Document> cursor = mongoTemplate.getCollection(InvalidationPublisher.COLLECTION).find(filter)
+                .cursorType(CursorType.TailableAwait)
+                .maxAwaitTime(pollIntervalMs, TimeUnit.MILLISECONDS)
+                .iterator()) {
+            lastPolledAt = since;
+            catchUp();
+
+            while (running) {
+                Document document = cursor.tryNext();
+                if (document == null) {
+                    if (cursor.getServerCursor() == null) break;
+                    continue;
+                }
+                received(document);
+            }
+        }
+        sleep(pollIntervalMs);
+    }
+
+    private void received(Document document) {
+        Date at = document.getDate("at");
+        if (at != null && at.after(lastPolledAt)) lastPolledAt = at;
+
+        if (invalidationPublisher.getInstanceId().equals(document.getString("origin"))) {
+            skipped.increment();
+            return;
+        }
+
+        Invalidation.Region region;
+        try {
+            region = Invalidation.Region.valueOf(document.getString("region"));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return;  // 다른 버전의 인스턴스가 기록한 영역
+        }
+        lastEventAt = System.currentTimeMillis();
+
+        // publishAll 로 기록한 문서는 keys, values 에 여러 항목을 담고 있음
+        List<?> keys = document.getList("keys", Object.class);
+        if (keys == null) {
+            apply(new Invalidation(region, document.getString("key"), toLong(document.get("value"))));
+            return;
+        }
+        List<?> values = document.getList("values", Object.class);
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = (values != null && i < values.size()) ? values.get(i) : null;
+            apply(new Invalidation(region, (keys.get(i) != null) ? keys.get(i).toString() : null, toLong(value)));
+        }
+    }
+
+    private static Long toLong(Object value) {
+        return (value instanceof Number number) ? number.longValue() : null;
+    }
+
+    private void apply(Invalidation invalidation) {
+        received.get(invalidation.region()).increment();
+        cacheInvalidator.apply(invalidation);
+    }
+
+    // 여러 인스턴스가 동시에 만들 수 있으므로 생성 실패 시 다시 확인
+    private void ensureCappedCollection() {
+        if (mongoTemplate.collectionExists(InvalidationPublisher.COLLECTION)) return;
+        try {
+            mongoTemplate.createCollection(InvalidationPublisher.COLLECTION,
+                    CollectionOptions.empty().capped().size(cappedSizeBytes).maxDocuments(cappedMaxDocuments));
+        } catch (RuntimeException e) {
+            if (!mongoTemplate.collectionExists(InvalidationPublisher.COLLECTION)) throw e;
+        }
+    }
+
+    private BsonDocument loadResumeToken() {
+        try {
+            BsonDocument state = mongoTemplate.getCollection(STATE_COLLECTION).withDocumentClass(BsonDocument.class)
+                    .find(eq("_id", invalidationPublisher.getInstanceId())).first();
+            BsonDocument token = (state != null && state.isDocument("resumeToken")) ? state.getDocument("resumeToken") : null;
+            savedResumeToken = token;
+            return token;
+        } catch (RuntimeException e) {
+            log.warn("[InvalidationBus] resume token load failed : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveResumeToken(boolean force) {
+        BsonDocument token = resumeToken;
+        long now = System.currentTimeMillis();
+        if (token == null || token.equals(savedResumeToken)) return;
+        if (!force && now - resumeTokenSavedAt < resumeSaveIntervalMs) return;
+
+        try {
+            String instanceId = invalidationPublisher.getInstanceId();
+            mongoTemplate.getCollection(STATE_COLLECTION).replaceOne(
+                    eq("_id", instanceId),
+                    new Document("_id", instanceId).append("resumeToken", token).append("savedAt", new Date(now)),
+                    new ReplaceOptions().upsert(true));
+            savedResumeToken = token;
+            resumeTokenSavedAt = now;
+        } catch (RuntimeException e) {
+            log.debug("[InvalidationBus] resume token save failed : {}", e.getMessage());
+        }
+    }
+
+    private void failed(RuntimeException e) {
+        restarts.increment();
+        lastError = e.getClass().getSimpleName() + " : " + e.getMessage();
+        log.warn("[InvalidationBus] {} failed, retrying : {}", activeMode, lastError);
+        sleep(RETRY_DELAY_MS);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", enabled);
+        snapshot.put("mode", mode);
+        snapshot.put("activeMode", activeMode);
+        snapshot.put("instanceId", invalidationPublisher.getInstanceId());
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        received.forEach((region, count) -> counts.put(region.name(), count.sum()));
+        snapshot.put("received", counts);
+        snapshot.put("skippedOwn", skipped.sum());
+        snapshot.put("published", invalidationPublisher.published());
+        snapshot.put("publishFailures", invalidationPublisher.failures());
+        snapshot.put("flushes", flushes.sum());
+        snapshot.put("restarts", restarts.sum());
+        snapshot.put("lastEventAt", (lastEventAt > 0) ? new Date(lastEventAt) : null);
+        snapshot.put("resumeTokenSavedAt", (resumeTokenSavedAt > 0) ? new Date(resumeTokenSavedAt) : null);
+        snapshot.put("lastError", lastError);
+        return snapshot;
+    }
+
+    private static String idOf(BsonDocument documentKey) {
+        BsonValue id = (documentKey != null) ? documentKey.get("_id") : null;
+        if (id == null) return null;
+        if (id.isObjectId()) return id.asObjectId().getValue().toHexString();
+        if (id.isString()) return id.asString().getValue();
+        return id.toString();
+    }
+
+    private static Map<Invalidation.Region, LongAdder> counters() {
+        Map<Invalidation.Region, LongAdder> counters = new EnumMap<>(Invalidation.Region.class);
+        for (Invalidation.Region region : Invalidation.Region.values()) counters.put(region, new LongAdder());
+        return counters;
+    }
+}
@@ -0,0 +1,169 @@
+package kr.taking.backend.configuration.invalidation;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <pre>
+ * ClassName : InvalidationPublisher
+ * Type : class
+ * Description : 변경 스트림을 사용할 수 없는 환경(단일 mongod)에서 캐시 무효화 이벤트를 capped 컬렉션에 기록하는 클래스입니다.
+ * Related : InvalidationBus, PrincipalCache, ReferenceFinder, TokenRevocationServiceImpl, UserIdIndex
+ * How-to :
+ *  1. 캐시를 지우는 쪽(evictRole, invalidate, revoke 등)에서 publish 를 호출합니다. 변경 스트림 모드에서는 아무것도 하지 않습니다.
+ *  2. 다른 인스턴스의 이벤트를 적용하는 동안(applyingRemote)에는 다시 기록하지 않습니다.
+ *  3. 기록 실패는 로그만 남기며, 다른 인스턴스의 캐시는 TTL 이 지나면 갱신됩니다.
+ *  4. 일괄 등록, 일괄 변경처럼 한 번에 많은 키가 바뀌면 publishAll 로 영역별 최대 MAX_KEYS_PER_EVENT 개의 키를 한 문서에 기록합니다.
+ *     (capped 컬렉션의 최대 문서 수를 한 작업이 채워 다른 인스턴스가 이력을 놓치지 않도록)
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvalidationPublisher {
+
+    public static final String COLLECTION = "cache_invalidations";
+    static final int MAX_KEYS_PER_EVENT = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${kr.taking.backend.invalidation.instanceId:}")
+    private String instanceId;
+
+    @Value("${server.port:8888}")
+    private int serverPort;
+
+    private volatile boolean polling;
+    private final ThreadLocal<Boolean> remote = ThreadLocal.withInitial(() -> false);
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        if (StringUtils.hasText(instanceId)) return;
+        try {
+            instanceId = InetAddress.getLocalHost().getHostName() + ":" + serverPort;
+        } catch (UnknownHostException e) {
+            instanceId = "unknown:" + serverPort;
+        }
+    }
+
+    public void publish(Invalidation.Region region, String key) {
+        publish(Invalidation.of(region, key));
+    }
+
+    public void publish(Invalidation.Region region, String key, long value) {
+        publish(Invalidation.of(region, key, value));
+    }
+
+    /**
+     * [InvalidationPublisher] 캐시 무효화 이벤트 기록 함수
+     *
+     * @param invalidation 다른 인스턴스에서 지워야 할 캐시 항목입니다.
+     * <pre>
+     * polling 모드에서만 cache_invalidations 컬렉션에 { region, key, value, origin, at } 을 추가합니다.
+     * origin 은 이 인스턴스의 아이디이며, 폴링할 때 자신이 기록한 이벤트를 건너뛰는 데 사용합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public void publish(Invalidation invalidation) {
+        if (!polling || remote.get()) return;
+
+        try {
+            mongoTemplate.getCollection(COLLECTION).insertOne(new Document("region", invalidation.region().name())
+                    .append("key", invalidation.key())
+                    .append("value", invalidation.value())
+                    .append("origin", instanceId)
+                    .append("at", new Date()));
+            published.increment();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("[InvalidationPublisher] publish failed : {} {}", invalidation, e.getMessage());
+        }
+    }
+
+    /**
+     * [InvalidationPublisher] 캐시 무효화 이벤트 일괄 기록 함수
+     *
+     * @param invalidations 다른 인스턴스에서 지워야 할 캐시 항목 목록입니다.
+     * <pre>
+     * 영역별로 묶어 MAX_KEYS_PER_EVENT 개씩 { region, keys, values, origin, at } 문서 하나로 기록하며, 한 번의 insertMany 로 전송합니다.
+     * values 는 keys 와 같은 순서이며, 값이 없는 항목은 null 입니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public void publishAll(Collection<Invalidation> invalidations) {
+        if (!polling || remote.get() || invalidations.isEmpty()) return;
+
+        Map<Invalidation.Region, List<Invalidation>> regions = new EnumMap<>(Invalidation.Region.class);
+        for (Invalidation invalidation : invalidations) {
+            regions.computeIfAbsent(invalidation.region(), region -> new ArrayList<>()).add(invalidation);
+        }
+
+        Date at = new Date();
+        List<Document> documents = new ArrayList<>();
+        regions.forEach((region, items) -> {
+            for (int from = 0; from < items.size(); from += MAX_KEYS_PER_EVENT) {
+                List<Invalidation> chunk = items.subList(from, Math.min(items.size(), from + MAX_KEYS_PER_EVENT));
+                documents.add(new Document("region", region.name())
+                        .append("keys", chunk.stream().map(Invalidation::key).toList())
+                        .append("values", chunk.stream().map(Invalidation::value).toList())
+                        .append("origin", instanceId)
+                        .append("at", at));
+            }
+        });
+
+        try {
+            mongoTemplate.getCollection(COLLECTION).insertMany(documents);
+            published.add(documents.size());
+        } catch (RuntimeException e) {
+            failures.add(documents.size());
+            log.warn("[InvalidationPublisher] publish failed : {} invalidations {}", invalidations.size(), e.getMessage());
+        }
+    }
+
+    // 다른 인스턴스의 이벤트를 적용하는 동안 발생하는 evict, invalidate 는 다시 기록하지 않음
+    public void applyingRemote(Runnable action) {
+        remote.set(true);
+        try {
+            action.run();
+        } finally {
+            remote.remove();
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    void setPolling(boolean polling) {
+        this.polling = polling;
+    }
+
+    long published() {
+        return published.sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+}
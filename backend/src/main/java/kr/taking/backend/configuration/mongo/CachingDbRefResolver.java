@@ -0,0 +1,87 @@
+package kr.taking.backend.configuration.mongo;
+
+import com.mongodb.DBRef;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import org.bson.Document;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * ClassName : CachingDbRefResolver
+ * Type : class
+ * Description : 역할, 조직 DBRef 를 ReferenceCache 에서 먼저 찾고, 없는 것만 DB 에서 조회하는 DbRefResolver 입니다.
+ * Related : ReferenceCache, MongoConfig
+ * How-to :
+ *  1. MongoConfig 의 MappingMongoConverter 에 등록되며, 사용자 조회 시 role, orgs 참조를 읽을 때 사용됩니다.
+ *  2. 여러 참조(orgs)는 캐시에 없는 것만 한 번의 $in 조회(bulkFetch)로 읽습니다.
+ *  3. 캐시에 넣을 문서는 읽기 라우팅과 관계없이 primary 에서 읽습니다. (지연된 복제본의 값이 TTL 동안 남지 않도록)
+ * </pre>
+ */
+public class CachingDbRefResolver extends DefaultDbRefResolver {
+
+    private final ReferenceCache referenceCache;
+
+    public CachingDbRefResolver(MongoDatabaseFactory mongoDbFactory, ReferenceCache referenceCache) {
+        super(mongoDbFactory);
+        this.referenceCache = referenceCache;
+    }
+
+    @Override
+    public Document fetch(DBRef dbRef) {
+        if (!referenceCache.supports(dbRef.getCollectionName())) return super.fetch(dbRef);
+
+        Document document = referenceCache.get(dbRef.getCollectionName(), dbRef.getId());
+        if (document != null) return document;
+
+        long stamp = referenceCache.stamp();
+        document = primary(dbRef).find(Filters.eq("_id", dbRef.getId())).first();
+        referenceCache.put(dbRef.getCollectionName(), document, stamp);
+        return document;
+    }
+
+    // DefaultDbRefResolver 와 같이 참조 순서대로 반환하며, 없는 문서는 제외
+    @Override
+    public List<Document> bulkFetch(List<DBRef> refs) {
+        if (refs.isEmpty() || !referenceCache.supports(refs.get(0).getCollectionName())) return super.bulkFetch(refs);
+
+        String collection = refs.get(0).getCollectionName();
+        Map<String, Document> found = new HashMap<>();
+        List<DBRef> missing = new ArrayList<>();
+        for (DBRef ref : refs) {
+            Document document = referenceCache.get(collection, ref.getId());
+            if (document != null) {
+                found.put(ref.getId().toString(), document);
+            } else {
+                missing.add(ref);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<Object> ids = missing.stream().map(DBRef::getId).toList();
+            long stamp = referenceCache.stamp();
+            for (Document document : primary(missing.get(0)).find(Filters.in("_id", ids))) {
+                referenceCache.put(collection, document, stamp);
+                found.put(document.get("_id").toString(), document);
+            }
+        }
+
+        List<Document> result = new ArrayList<>(refs.size());
+        for (DBRef ref : refs) {
+            Document document = found.get(ref.getId().toString());
+            if (document != null) result.add(document);
+        }
+        return result;
+    }
+
+    private MongoCollection<Document> primary(DBRef dbRef) {
+        return getCollection(dbRef).withReadPreference(ReadPreference.primary());
+    }
+}
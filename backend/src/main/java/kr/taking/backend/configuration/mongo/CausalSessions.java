@@ -0,0 +1,89 @@
+package kr.taking.backend.configuration.mongo;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import org.bson.BsonTimestamp;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : CausalSessions
+ * Type : class
+ * Description : 요청 단위의 causal consistency 세션을 관리하는 클래스입니다.
+ * Related : CausalSessionFilter, CausalTokenAdvice, RoutingMongoTemplate
+ * How-to :
+ *  1. CausalSessionFilter 가 요청 시작 시 open, 종료 시 close 합니다. 세션은 처음 DB 를 사용할 때 생성합니다.
+ *  2. 같은 요청 안에서 쓰기 후 보조 노드에서 읽어도 쓰기 결과가 보입니다. (read-your-writes)
+ *  3. 응답의 X-Causal-Token 을 다음 요청 헤더로 보내면, 이전 요청(PATCH, POST 등)의 쓰기 이후 시점부터 읽습니다.
+ * </pre>
+ */
+@Component
+public class CausalSessions {
+
+    public static final String TOKEN_HEADER = "X-Causal-Token";
+
+    private final ObjectProvider<MongoClient> mongoClient;
+    private final boolean enabled;
+    private final ThreadLocal<Scope> scope = new ThreadLocal<>();
+
+    public CausalSessions(ObjectProvider<MongoClient> mongoClient, MongoClientProperties properties) {
+        this.mongoClient = mongoClient;
+        this.enabled = properties.getRead().isCausalSession();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // token : 이전 응답의 X-Causal-Token (없거나 잘못된 값이면 무시)
+    public void open(String token) {
+        scope.set(new Scope(decode(token)));
+    }
+
+    public void close() {
+        Scope current = scope.get();
+        scope.remove();
+        if (current != null && current.session != null) current.session.close();
+    }
+
+    // 요청 범위 밖(스케줄러, 기동 작업 등)이면 null
+    public ClientSession currentSession() {
+        Scope current = scope.get();
+        if (current == null) return null;
+
+        if (current.session == null) {
+            current.session = mongoClient.getObject().startSession(ClientSessionOptions.builder().causallyConsistent(true).build());
+            if (current.after != null) current.session.advanceOperationTime(current.after);
+        }
+        return current.session;
+    }
+
+    // 이 요청에서 마지막으로 읽거나 쓴 시점 (DB 를 사용하지 않았으면 이전 요청의 토큰을 그대로 반환)
+    public String currentToken() {
+        Scope current = scope.get();
+        if (current == null) return null;
+
+        BsonTimestamp operationTime = (current.session != null) ? current.session.getOperationTime() : current.after;
+        return (operationTime != null) ? Long.toHexString(operationTime.getValue()) : null;
+    }
+
+    private static BsonTimestamp decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            return new BsonTimestamp(Long.parseUnsignedLong(token.trim(), 16));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class Scope {
+        final BsonTimestamp after;
+        ClientSession session;
+
+        Scope(BsonTimestamp after) {
+            this.after = after;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package kr.taking.backend.configuration.mongo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * <pre>
+ * ClassName : CausalTokenAdvice
+ * Type : class
+ * Description : 응답 본문을 쓰기 전에 요청 세션의 마지막 작업 시점을 X-Causal-Token 헤더로 추가하는 클래스입니다.
+ * Related : CausalSessions, CausalSessionFilter
+ * </pre>
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class CausalTokenAdvice implements ResponseBodyAdvice<Object> {
+
+    private final CausalSessions causalSessions;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return causalSessions.isEnabled();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        String token = causalSessions.currentToken();
+        if (token != null) response.getHeaders().set(CausalSessions.TOKEN_HEADER, token);
+        return body;
+    }
+}
@@ -0,0 +1,67 @@
+package kr.taking.backend.configuration.mongo;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * ClassName : MongoClientProperties
+ * Type : class
+ * Description : Mongo 클라이언트의 커넥션 풀, 타임아웃, 압축 설정을 담고 있는 클래스입니다. (kr.taking.backend.mongo.*)
+ * Related : MongoConfig, MongoTimeouts, MongoPoolMetrics, ReadRouting, CausalSessions
+ * How-to :
+ *  1. 커넥션 풀 : pool.minSize, pool.maxSize, pool.maxWaitMs, pool.maxIdleMs, pool.maxConnecting, pool.warmUp
+ *  2. 타임아웃 : timeout.connectMs, timeout.readMs, timeout.serverSelectionMs
+ *  3. 쿼리 실행 시간(maxTimeMS) : timeout.queryMs (기본값), timeout.methods.[Repository].[method] (메소드별)
+ *  4. 압축 : compressors=zstd,snappy,zlib (zstd, snappy 는 라이브러리가 있어야 사용되며, 없으면 제외)
+ *  5. 읽기 라우팅 : read.mode, read.maxStalenessSeconds, read.causalSession
+ *  6. 0 은 제한 없음을 의미합니다.
+ *  7. 커넥션 풀, 타임아웃은 설정한 값만 URI 옵션(maxPoolSize, connectTimeoutMS 등) 위에 적용하며, 설정하지 않으면 URI 또는 드라이버 기본값을 사용합니다.
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "kr.taking.backend.mongo")
+public class MongoClientProperties {
+
+    private Pool pool = new Pool();
+    private Timeout timeout = new Timeout();
+    private Read read = new Read();
+    private List<String> compressors = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private Integer minSize;
+        private Integer maxSize;
+        private Long maxWaitMs;                 // 풀이 가득 찬 경우 커넥션 대기 시간 (드라이버 기본값 2분)
+        private Long maxIdleMs;
+        private Integer maxConnecting;
+        private boolean warmUp = true;          // 기동 시 minSize 까지 커넥션을 연 뒤 웹 서버를 시작 (MongoPoolWarmUp)
+        private long warmUpTimeoutMs = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class Timeout {
+        private Long connectMs;
+        private Long readMs;
+        private Long serverSelectionMs;
+        private long queryMs = 0;
+        private Map<String, Long> methods = new HashMap<>();   // ex. UserRepository.findByUserid=500
+    }
+
+    @Getter
+    @Setter
+    public static class Read {
+        private String mode = "secondaryPreferred";     // @Transactional(readOnly = true) 메소드의 읽기 대상 (primary 이면 라우팅하지 않음)
+        private long maxStalenessSeconds = 90;          // 0 : 제한 없음, 최소 90초
+        private boolean causalSession = true;           // 요청 단위 causal consistency 세션 (쓰기 후 읽기 보장)
+    }
+}
@@ -0,0 +1,140 @@
+package kr.taking.backend.configuration.mongo;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.event.*;
+import kr.taking.backend.util.LatencyHistogram;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <pre>
+ * ClassName : MongoPoolMetrics
+ * Type : class
+ * Description : Mongo 커넥션 풀 이벤트로 서버별 커넥션 수, 사용 중인 커넥션 수, 대기 수와 커넥션 대기 시간 분포를 집계하는 클래스입니다.
+ * Related : MongoConfig, MonitorController
+ * How-to :
+ *  1. MongoConfig 에서 커넥션 풀 리스너로 등록합니다.
+ *  2. 대기(waiting) 가 계속 0 보다 크거나 TIMEOUT 실패가 늘어나면 pool.maxSize 가 부족한 상태입니다.
+ * </pre>
+ */
+@Component
+public class MongoPoolMetrics implements ConnectionPoolListener {
+
+    private final Map<ServerAddress, ServerPool> pools = new ConcurrentHashMap<>();
+    private final Map<ConnectionCheckOutFailedEvent.Reason, LongAdder> failures = new EnumMap<>(ConnectionCheckOutFailedEvent.Reason.class);
+    private final LatencyHistogram checkOutWait = new LatencyHistogram(1, 5, 10, 50, 100, 500, 1000);
+    private final ThreadLocal<Long> checkOutStarted = new ThreadLocal<>();
+
+    public MongoPoolMetrics() {
+        for (ConnectionCheckOutFailedEvent.Reason reason : ConnectionCheckOutFailedEvent.Reason.values()) {
+            failures.put(reason, new LongAdder());
+        }
+    }
+
+    @Override
+    public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+        ServerPool pool = pool(event.getServerId().getAddress());
+        pool.minSize = event.getSettings().getMinSize();
+        pool.maxSize = event.getSettings().getMaxSize();
+    }
+
+    @Override
+    public void connectionPoolCleared(ConnectionPoolClearedEvent event) {
+        pool(event.getServerId().getAddress()).cleared.increment();
+    }
+
+    @Override
+    public void connectionCreated(ConnectionCreatedEvent event) {
+        pool(event.getConnectionId().getServerId().getAddress()).size.incrementAndGet();
+    }
+
+    @Override
+    public void connectionClosed(ConnectionClosedEvent event) {
+        pool(event.getConnectionId().getServerId().getAddress()).size.decrementAndGet();
+    }
+
+    // 동기 드라이버는 요청 스레드에서 check out 하므로 시작 시간을 스레드별로 기록
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        pool(event.getServerId().getAddress()).waiting.incrementAndGet();
+        checkOutStarted.set(System.nanoTime());
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        ServerPool pool = pool(event.getConnectionId().getServerId().getAddress());
+        pool.waiting.decrementAndGet();
+        pool.checkedOut.incrementAndGet();
+        pool.checkOuts.increment();
+        recordWait();
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        pool(event.getServerId().getAddress()).waiting.decrementAndGet();
+        failures.get(event.getReason()).increment();
+        recordWait();
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        pool(event.getConnectionId().getServerId().getAddress()).checkedOut.decrementAndGet();
+    }
+
+    // 모든 서버의 풀이 minSize(URI 또는 pool.minSize) 개 이상의 커넥션을 가지고 있는지 (서버를 찾기 전이면 false)
+    public boolean isWarm() {
+        return !pools.isEmpty() && pools.values().stream().allMatch(pool -> pool.size.get() >= pool.minSize);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> servers = new LinkedHashMap<>();
+        pools.forEach((address, pool) -> {
+            Map<String, Object> server = new LinkedHashMap<>();
+            server.put("minSize", pool.minSize);
+            server.put("maxSize", pool.maxSize);
+            server.put("size", pool.size.get());
+            server.put("checkedOut", pool.checkedOut.get());
+            server.put("waiting", pool.waiting.get());
+            server.put("checkOuts", pool.checkOuts.sum());
+            server.put("cleared", pool.cleared.sum());
+            servers.put(address.toString(), server);
+        });
+
+        Map<String, Long> failed = new LinkedHashMap<>();
+        failures.forEach((reason, count) -> failed.put(reason.name(), count.sum()));
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("servers", servers);
+        snapshot.put("checkOutFailures", failed);
+        snapshot.put("checkOutWait", checkOutWait.snapshot());
+        return snapshot;
+    }
+
+    private void recordWait() {
+        Long started = checkOutStarted.get();
+        if (started != null) {
+            checkOutWait.record(System.nanoTime() - started);
+            checkOutStarted.remove();
+        }
+    }
+
+    private ServerPool pool(ServerAddress address) {
+        return pools.computeIfAbsent(address, key -> new ServerPool());
+    }
+
+    private static class ServerPool {
+        volatile int minSize;
+        volatile int maxSize;
+        final AtomicInteger size = new AtomicInteger();
+        final AtomicInteger checkedOut = new AtomicInteger();
+        final AtomicInteger waiting = new AtomicInteger();
+        final LongAdder checkOuts = new LongAdder();
+        final LongAdder cleared = new LongAdder();
+    }
+}
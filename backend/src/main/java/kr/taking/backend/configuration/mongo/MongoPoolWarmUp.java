@@ -0,0 +1,88 @@
+package kr.taking.backend.configuration.mongo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * ClassName : MongoPoolWarmUp
+ * Type : class
+ * Description : 웹 서버가 요청을 받기 전에 Mongo 커넥션 풀을 minSize 까지 채우는 클래스입니다.
+ * Related : MongoConfig, MongoPoolMetrics, MongoClientProperties
+ * How-to :
+ *  1. 웹 서버 시작(WebServerStartStopLifecycle)보다 앞선 phase 의 SmartLifecycle 로 실행되므로, 준비가 끝난 뒤에 포트가 열립니다.
+ *  2. 제한 시간(pool.warmUpTimeoutMs)이 지나면 경고만 남기고 기동을 계속합니다. (pool.warmUp=false 이면 실행하지 않음)
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoPoolWarmUp implements SmartLifecycle {
+
+    // 웹 서버 시작 phase(DEFAULT_PHASE - 1 ~ DEFAULT_PHASE - 1024)보다 먼저 실행
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    private final MongoClientProperties properties;
+    private final MongoPoolMetrics poolMetrics;
+    private final MongoTemplate mongoTemplate;
+
+    private volatile boolean running;
+
+    /**
+     * [MongoPoolWarmUp] 커넥션 풀 준비 함수
+     *
+     * <pre>
+     * 서버를 찾고(ping), 모든 서버의 커넥션 풀이 minSize 개의 커넥션을 가질 때까지 기다립니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public void start() {
+        running = true;
+        MongoClientProperties.Pool pool = properties.getPool();
+        if (!pool.isWarmUp()) return;
+
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(pool.getWarmUpTimeoutMs());
+        try {
+            mongoTemplate.getDb().runCommand(new Document("ping", 1));
+            while (!poolMetrics.isWarm() && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("[MongoPoolWarmUp] connection pool warm-up failed : {}", e.getMessage());
+            return;
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        if (poolMetrics.isWarm()) {
+            log.info("[MongoPoolWarmUp] connection pool warmed up in {}ms", elapsedMs);
+        } else {
+            log.warn("[MongoPoolWarmUp] connection pool not warmed up in {}ms", elapsedMs);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,65 @@
+package kr.taking.backend.configuration.mongo;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <pre>
+ * ClassName : MongoTimeouts
+ * Type : class
+ * Description : 쿼리 실행 시간 제한(maxTimeMS)의 기본값과 Repository 메소드별 값을 관리하는 클래스입니다.
+ * Related : MongoClientProperties, RoutingMongoTemplate
+ * How-to :
+ *  1. 모든 Repository 에 메소드 호출 동안 해당 메소드의 제한 시간을 적용하는 Advice 를 추가합니다.
+ *  2. RoutingMongoTemplate 은 currentMaxTimeMs() 를 find, aggregate, count 에 적용합니다.
+ *  3. @Meta(maxExecutionTimeMs) 로 지정한 값이 있으면 그 값이 우선합니다.
+ * </pre>
+ */
+@Component
+public class MongoTimeouts implements BeanPostProcessor {
+
+    private final long queryMs;
+    private final Map<String, Long> methodMs = new HashMap<>();
+    private final ThreadLocal<Long> current = new ThreadLocal<>();
+
+    public MongoTimeouts(MongoClientProperties properties) {
+        this.queryMs = properties.getTimeout().getQueryMs();
+        properties.getTimeout().getMethods().forEach((method, ms) -> methodMs.put(method.toLowerCase(Locale.ROOT), ms));
+    }
+
+    // 0 : 제한 없음
+    public long currentMaxTimeMs() {
+        Long ms = current.get();
+        return (ms != null) ? ms : queryMs;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean && !methodMs.isEmpty()) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(advice(information.getRepositoryInterface()))));
+        }
+        return bean;
+    }
+
+    private MethodInterceptor advice(Class<?> repository) {
+        return invocation -> {
+            Long ms = methodMs.get((repository.getSimpleName() + "." + invocation.getMethod().getName()).toLowerCase(Locale.ROOT));
+            if (ms == null) return invocation.proceed();
+
+            Long previous = current.get();
+            current.set(ms);
+            try {
+                return invocation.proceed();
+            } finally {
+                if (previous != null) current.set(previous); else current.remove();
+            }
+        };
+    }
+}
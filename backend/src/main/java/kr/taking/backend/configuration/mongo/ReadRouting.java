@@ -0,0 +1,124 @@
+package kr.taking.backend.configuration.mongo;
+
+import com.mongodb.ReadPreference;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * <pre>
+ * ClassName : ReadRouting
+ * Type : class
+ * Description : @Transactional(readOnly = true) 서비스 메소드 안의 조회를 보조(secondary) 노드로 보내는 읽기 라우팅 클래스입니다.
+ * Related : MongoClientProperties, RoutingMongoTemplate, CausalSessions
+ * How-to :
+ *  1. kr.taking.backend.service 패키지의 Bean 중 readOnly 메소드가 있는 Bean 에 Advice 를 추가합니다.
+ *  2. 메소드 실행 동안 RoutingMongoTemplate 이 read.mode, read.maxStalenessSeconds 의 ReadPreference 와 majority ReadConcern 을 적용합니다.
+ *  3. 같은 Bean 안에서 호출한 readOnly 메소드(ex. updateById 안의 findById)는 Advice 를 거치지 않으므로 primary 에서 조회합니다.
+ *  4. 캐시에 채울 값처럼 지연된 복제본을 읽으면 안 되는 조회는 onPrimary 로 감싸 readOnly 메소드 안에서도 primary 에서 조회합니다.
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ReadRouting implements BeanPostProcessor {
+
+    private static final String SERVICE_PACKAGE = "kr.taking.backend.service";
+    private static final long MIN_STALENESS_SECONDS = 90;   // Mongo 가 허용하는 maxStalenessSeconds 최소값
+
+    private final ReadPreference readPreference;
+    private final ThreadLocal<Integer> depth = ThreadLocal.withInitial(() -> 0);
+    private final ThreadLocal<Boolean> primaryOnly = ThreadLocal.withInitial(() -> false);
+    private final Map<Method, Boolean> readOnlyMethods = new ConcurrentHashMap<>();
+
+    public ReadRouting(MongoClientProperties properties) {
+        this.readPreference = readPreference(properties.getRead());
+    }
+
+    // onPrimary 안이면 primary, readOnly 메소드 실행 중이면 라우팅할 ReadPreference, 아니면 null
+    public ReadPreference currentReadPreference() {
+        if (primaryOnly.get()) return ReadPreference.primary();
+        return (readPreference != null && depth.get() > 0) ? readPreference : null;
+    }
+
+    /**
+     * [ReadRouting] primary 조회 함수
+     *
+     * @param read primary 에서 실행할 조회입니다.
+     * @return 조회 결과를 리턴합니다.
+     * <pre>
+     * readOnly 메소드 안에서 호출되어도 read 의 조회는 라우팅하지 않고 primary 에서 실행합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public <T> T onPrimary(Supplier<T> read) {
+        if (primaryOnly.get()) return read.get();
+
+        primaryOnly.set(true);
+        try {
+            return read.get();
+        } finally {
+            primaryOnly.remove();
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> type = AopUtils.getTargetClass(bean);
+        if (readPreference == null || !type.getName().startsWith(SERVICE_PACKAGE) || !hasReadOnlyMethod(type)) {
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            if (!isReadOnly(AopUtils.getMostSpecificMethod(invocation.getMethod(), type))) return invocation.proceed();
+
+            depth.set(depth.get() + 1);
+            try {
+                return invocation.proceed();
+            } finally {
+                int remaining = depth.get() - 1;
+                if (remaining == 0) depth.remove(); else depth.set(remaining);
+            }
+        });
+        return proxyFactory.getProxy(type.getClassLoader());
+    }
+
+    private boolean hasReadOnlyMethod(Class<?> type) {
+        return List.of(ReflectionUtils.getUniqueDeclaredMethods(type)).stream().anyMatch(this::isReadOnly);
+    }
+
+    private boolean isReadOnly(Method method) {
+        return readOnlyMethods.computeIfAbsent(method, key -> {
+            Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(key, Transactional.class);
+            return transactional != null && transactional.readOnly();
+        });
+    }
+
+    private static ReadPreference readPreference(MongoClientProperties.Read read) {
+        if ("primary".equalsIgnoreCase(read.getMode())) return null;
+
+        long staleness = read.getMaxStalenessSeconds();
+        if (staleness > 0 && staleness < MIN_STALENESS_SECONDS) {
+            log.warn("[ReadRouting] maxStalenessSeconds {} is below {}, using {}", staleness, MIN_STALENESS_SECONDS, MIN_STALENESS_SECONDS);
+            staleness = MIN_STALENESS_SECONDS;
+        }
+        return (staleness > 0)
+                ? ReadPreference.valueOf(read.getMode(), List.of(), staleness, TimeUnit.SECONDS)
+                : ReadPreference.valueOf(read.getMode());
+    }
+}
@@ -0,0 +1,148 @@
+package kr.taking.backend.configuration.mongo;
+
+import jakarta.annotation.PostConstruct;
+import kr.taking.backend.util.cache.LocalCache;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * ClassName : ReferenceCache
+ * Type : class
+ * Description : 역할(roles), 조직(organizations) 문서를 보관하는 크기 제한, 만료 시간을 가진 프로세스 내 캐시 클래스입니다.
+ * Related : CachingDbRefResolver, ReferenceFinder, RoleServiceImpl, OrgServiceImpl
+ * How-to :
+ *  1. 사용자의 DBRef(role, orgs) 조회(CachingDbRefResolver)와 서비스의 ID, 이름 조회(ReferenceFinder)가 같은 캐시를 사용합니다.
+ *  2. 역할, 조직을 수정, 삭제하는 서비스 함수에서 evict 를 호출합니다. 다른 인스턴스의 변경은 ttlMs 이내에 반영됩니다.
+ *  3. DB 조회 전에 stamp() 를 받아 put 에 전달합니다. 조회 중 evict 가 호출된 경우 조회한 문서는 캐시에 남지 않습니다.
+ *  4. kr.taking.backend.referenceCache.roleSize, orgSize 를 0 으로 설정하면 해당 캐시를 사용하지 않습니다.
+ * </pre>
+ */
+@Component
+public class ReferenceCache {
+
+    public static final String ROLES = "roles";
+    public static final String ORGS = "organizations";
+
+    @Value("${kr.taking.backend.referenceCache.roleSize:1000}")
+    private int roleSize;
+
+    @Value("${kr.taking.backend.referenceCache.orgSize:10000}")
+    private int orgSize;
+
+    @Value("${kr.taking.backend.referenceCache.ttlMs:600000}")
+    private long ttlMs;
+
+    private LocalCache<String, Document> roles;
+    private LocalCache<String, Document> orgs;
+    private LocalCache<String, String> roleIdsByName;
+    private final AtomicLong epoch = new AtomicLong();  // evict 호출마다 증가
+
+    @PostConstruct
+    void init() {
+        roles = new LocalCache<>(roleSize, ttlMs);
+        orgs = new LocalCache<>(orgSize, ttlMs);
+        roleIdsByName = new LocalCache<>(roleSize, ttlMs);
+    }
+
+    // 캐시 대상 컬렉션인지 확인 (DBRef 의 컬렉션 이름)
+    public boolean supports(String collection) {
+        return cache(collection) != null;
+    }
+
+    public Document get(String collection, Object id) {
+        LocalCache<String, Document> cache = cache(collection);
+        return (cache != null && id != null) ? cache.get(id.toString()) : null;
+    }
+
+    // DB 조회 전에 받아 put 에 전달하는 무효화 세대
+    public long stamp() {
+        return epoch.get();
+    }
+
+    /**
+     * [ReferenceCache] 캐시 저장 함수
+     *
+     * @param collection 문서의 컬렉션입니다. (roles, organizations)
+     * @param document DB 에서 조회한 문서입니다.
+     * @param stamp 조회 전에 stamp() 로 받은 무효화 세대입니다.
+     * <pre>
+     * 저장한 뒤 세대가 바뀌었으면(조회 중 evict 호출) 저장한 항목을 다시 제거합니다.
+     * evict 는 세대를 먼저 올리므로, 세대 비교 이후의 evict 는 저장된 항목을 제거합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public void put(String collection, Document document, long stamp) {
+        LocalCache<String, Document> cache = cache(collection);
+        if (cache == null || document == null || document.get("_id") == null) return;
+
+        String id = document.get("_id").toString();
+        String name = ROLES.equals(collection) ? document.getString("name") : null;
+        cache.put(id, document);
+        if (name != null) roleIdsByName.put(name, id);
+
+        if (epoch.get() != stamp) {
+            cache.invalidate(id, document);
+            if (name != null) roleIdsByName.invalidate(name, id);
+        }
+    }
+
+    public String getRoleId(String name) {
+        return roleIdsByName.get(name);
+    }
+
+    /**
+     * [ReferenceCache] 캐시 무효화 함수
+     *
+     * @param collection 변경된 문서의 컬렉션입니다. (roles, organizations)
+     * @param id 변경된 문서의 고유번호입니다.
+     * <pre>
+     * 역할은 이름 색인(이름 → 고유번호)도 함께 제거합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public void evict(String collection, Object id) {
+        LocalCache<String, Document> cache = cache(collection);
+        if (cache == null || id == null) return;
+
+        String key = id.toString();
+        epoch.incrementAndGet();
+        cache.invalidate(key);
+        if (ROLES.equals(collection)) {
+            roleIdsByName.invalidateIf((name, roleId) -> key.equals(roleId));
+        }
+    }
+
+    public void evictAll() {
+        epoch.incrementAndGet();
+        roles.invalidateAll();
+        orgs.invalidateAll();
+        roleIdsByName.invalidateAll();
+    }
+
+    public int capacity(String collection) {
+        LocalCache<String, Document> cache = cache(collection);
+        return (cache != null) ? cache.getMaxSize() : 0;
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put(ROLES, roles.snapshot());
+        snapshot.put(ORGS, orgs.snapshot());
+        snapshot.put("roleNames", roleIdsByName.snapshot());
+        return snapshot;
+    }
+
+    private LocalCache<String, Document> cache(String collection) {
+        if (ROLES.equals(collection)) return roles;
+        if (ORGS.equals(collection)) return orgs;
+        return null;
+    }
+}
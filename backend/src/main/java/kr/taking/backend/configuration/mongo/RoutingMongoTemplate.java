@@ -0,0 +1,95 @@
+package kr.taking.backend.configuration.mongo;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CountOptions;
+import org.bson.Document;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * ClassName : RoutingMongoTemplate
+ * Type : class
+ * Description : 요청 세션, 읽기 라우팅, 조회 제한 시간(maxTimeMS)을 적용하는 MongoTemplate 입니다.
+ * Related : MongoConfig, MongoTimeouts, ReadRouting, CausalSessions
+ * How-to :
+ *  1. 요청 범위 안이면 CausalSessions 의 세션으로 모든 작업을 실행합니다.
+ *  2. readOnly 서비스 메소드 안이면 ReadRouting 의 ReadPreference 와 majority ReadConcern 으로 조회합니다. (ReadRouting.onPrimary 안이면 primary)
+ *  3. 컬렉션을 감싸 조회 결과(Iterable)에 먼저 기본 maxTimeMS 를 적용하므로, 이후 Query 의 maxTimeMsec(@Meta) 이 있으면 그 값으로 덮어씁니다.
+ *  4. 제한 시간을 넘은 쿼리는 서버에서 중단되며 MongoExecutionTimeoutException 이 발생합니다.
+ * </pre>
+ */
+public class RoutingMongoTemplate extends MongoTemplate {
+
+    private final MongoTimeouts timeouts;
+    private final ReadRouting readRouting;
+    private final CausalSessions causalSessions;
+
+    public RoutingMongoTemplate(MongoDatabaseFactory databaseFactory, MongoConverter converter,
+                                MongoTimeouts timeouts, ReadRouting readRouting, CausalSessions causalSessions) {
+        super(databaseFactory, converter);
+        this.timeouts = timeouts;
+        this.readRouting = readRouting;
+        this.causalSessions = causalSessions;
+    }
+
+    @Override
+    protected MongoDatabase doGetDatabase() {
+        ClientSession session = causalSessions.currentSession();
+        return (session != null) ? getMongoDatabaseFactory().withSession(session).getMongoDatabase() : super.doGetDatabase();
+    }
+
+    @Override
+    protected MongoCollection<Document> prepareCollection(MongoCollection<Document> collection) {
+        MongoCollection<Document> prepared = super.prepareCollection(collection);
+
+        // 보조 노드에서 세션의 마지막 작업 시점(afterClusterTime) 이후를 읽으려면 majority 가 필요
+        ReadPreference readPreference = readRouting.currentReadPreference();
+        if (ReadPreference.primary().equals(readPreference)) {
+            prepared = prepared.withReadPreference(readPreference);
+        } else if (readPreference != null) {
+            prepared = prepared.withReadPreference(readPreference).withReadConcern(ReadConcern.MAJORITY);
+        }
+
+        long maxTimeMs = timeouts.currentMaxTimeMs();
+        return (maxTimeMs > 0) ? limit(prepared, maxTimeMs) : prepared;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> MongoCollection<T> limit(MongoCollection<T> collection, long maxTimeMs) {
+        return (MongoCollection<T>) Proxy.newProxyInstance(MongoCollection.class.getClassLoader(), new Class<?>[] { MongoCollection.class },
+                (proxy, method, args) -> {
+                    if (args != null) {
+                        for (Object arg : args) {
+                            if (arg instanceof CountOptions options && options.getMaxTime(TimeUnit.MILLISECONDS) == 0) {
+                                options.maxTime(maxTimeMs, TimeUnit.MILLISECONDS);
+                            }
+                        }
+                    }
+
+                    Object result;
+                    try {
+                        result = method.invoke(collection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+
+                    // withReadPreference 등으로 만든 컬렉션에도 적용
+                    if (result instanceof MongoCollection<?> derived) return limit(derived, maxTimeMs);
+                    if (result instanceof FindIterable<?> find) return find.maxTime(maxTimeMs, TimeUnit.MILLISECONDS);
+                    if (result instanceof AggregateIterable<?> aggregate) return aggregate.maxTime(maxTimeMs, TimeUnit.MILLISECONDS);
+                    return result;
+                });
+    }
+}
@@ -0,0 +1,44 @@
+package kr.taking.backend.configuration.thread;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+/**
+ * <pre>
+ * ClassName : ContextTaskDecorator
+ * Type : class
+ * Description : 비동기 작업에 작업을 등록한 스레드의 SecurityContext 와 MDC 를 전달하는 TaskDecorator 입니다.
+ * Related : ThreadConfig, ExecutionMode
+ * How-to :
+ *  1. SecurityContextHolder, MDC 는 ThreadLocal 이므로 다른 스레드(플랫폼, 가상 모두)에서는 비어 있습니다.
+ *  2. 작업 등록 시점의 값을 복사해 실행 동안 설정하고, 끝나면 실행 전 값으로 되돌립니다.
+ *     (CallerRunsPolicy 등으로 호출 스레드에서 직접 실행되어도 호출 스레드의 MDC 가 지워지지 않음)
+ * </pre>
+ */
+public class ContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        return () -> {
+            SecurityContext previous = SecurityContextHolder.getContext();
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            SecurityContextHolder.setContext(securityContext);
+            if (mdc != null) MDC.setContextMap(mdc);
+            else MDC.clear();
+            try {
+                runnable.run();
+            } finally {
+                if (previousMdc != null) MDC.setContextMap(previousMdc);
+                else MDC.clear();
+                SecurityContextHolder.setContext(previous);
+            }
+        };
+    }
+}
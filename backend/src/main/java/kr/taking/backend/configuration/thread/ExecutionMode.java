@@ -0,0 +1,99 @@
+package kr.taking.backend.configuration.thread;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * <pre>
+ * ClassName : ExecutionMode
+ * Type : class
+ * Description : 요청 처리, 비동기 작업을 플랫폼 스레드 또는 가상 스레드(Virtual Thread)로 실행할지 결정하는 클래스입니다.
+ * Related : ThreadConfig, ContextTaskDecorator, MonitorController
+ * How-to :
+ *  1. kr.taking.backend.threads.virtual=true 로 설정하고 JDK 21 이상에서 실행하면 가상 스레드를 사용합니다.
+ *  2. 빌드 대상은 Java 17 이므로 가상 스레드 API 는 리플렉션으로 사용하며, 지원하지 않는 JDK 에서는 경고 후 플랫폼 스레드로 실행합니다.
+ *  3. /api/v1/monitor/threads 의 스레드 수, 힙 사용량으로 두 방식의 동시 접속 처리량과 메모리를 비교합니다.
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ExecutionMode {
+
+    private final boolean virtual;
+    private final Method ofVirtual;
+
+    public ExecutionMode(@Value("${kr.taking.backend.threads.virtual:false}") boolean requested) {
+        Method method = null;
+        try {
+            method = Thread.class.getMethod("ofVirtual");
+            method.invoke(null);    // JDK 19, 20 은 --enable-preview 없이 호출하면 실패
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            method = null;
+            if (requested) log.warn("[ExecutionMode] virtual threads requested but not supported on Java {}, using platform threads", Runtime.version());
+        }
+        this.ofVirtual = method;
+        this.virtual = requested && method != null;
+        log.info("[ExecutionMode] {} threads", virtual ? "virtual" : "platform");
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * [ExecutionMode] 가상 스레드 ThreadFactory 생성 함수
+     *
+     * @param prefix 스레드 이름 접두어입니다. (prefix0, prefix1, ...)
+     * @return 가상 스레드를 만드는 ThreadFactory 를 반환합니다.
+     * @throws IllegalStateException 가상 스레드 모드가 아닌 경우 예외 처리 발생
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public ThreadFactory virtualThreadFactory(String prefix) {
+        if (!virtual) throw new IllegalStateException("virtual threads are not enabled");
+        try {
+            Object builder = ofVirtual.invoke(null);
+            builder = builder.getClass().getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builder.getClass().getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("virtual thread factory not available", e);
+        }
+    }
+
+    // 작업마다 새 가상 스레드 (풀링하지 않음)
+    public ExecutorService newVirtualThreadPerTaskExecutor(String prefix) {
+        try {
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) method.invoke(null, virtualThreadFactory(prefix));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("virtual thread executor not available", e);
+        }
+    }
+
+    public Map<String, Object> snapshot() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("mode", virtual ? "virtual" : "platform");
+        snapshot.put("javaVersion", Runtime.version().toString());
+        snapshot.put("platformThreads", threads.getThreadCount());     // 가상 스레드는 포함되지 않음
+        snapshot.put("peakPlatformThreads", threads.getPeakThreadCount());
+        snapshot.put("heapUsedBytes", heap.getUsed());
+        snapshot.put("heapCommittedBytes", heap.getCommitted());
+        snapshot.put("nonHeapUsedBytes", nonHeap.getUsed());
+        return snapshot;
+    }
+}
@@ -6,10 +6,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import kr.taking.backend.error.ErrorResponse;
 import kr.taking.backend.error.ResultResponse;
 import kr.taking.backend.util.Security.AccessToken;
+import kr.taking.backend.error.enums.ErrorCode;
 import kr.taking.backend.error.enums.SuccessCode;
 import kr.taking.backend.model.UserEntity;
 import kr.taking.backend.service.AuthService;
@@ -103,8 +105,9 @@ public class AuthController {
      * @param userid 사용자 아이디를 입력합니다.
      * @return boolean
      * <pre>
-     * true  : 특정 사용자를 삭제처리합니다.
-     * false : 에러(400, 404)를 반환합니다.
+     * true  : 사용 가능한 아이디입니다.
+     * false : 에러(409)를 반환합니다.
+     * 입력할 때마다 호출되므로 예외를 던지지 않고 바로 409 응답을 만듭니다.
      * </pre>
      *
      * Author : taking(taking@duck.com)
@@ -112,11 +115,58 @@ public class AuthController {
     @GetMapping("/check/{userid}")
     @Operation(summary = "사용자 아이디 중복체크", description = "사용자 아이디를 중복체크합니다.")
     public ResponseEntity<?> existUserId(@PathVariable("userid") String userid) {
-        log.info("[UserController] existUsername...!");
+        log.debug("[AuthController] existUserId...!");
 
-        authService.checkExistsWithUserId(userid);
+        if (authService.existsByUserId(userid)) {
+            return new ResponseEntity<>(ErrorResponse.of(ErrorCode.DUPLICATE), new HttpHeaders(), HttpStatus.CONFLICT);
+        }
 
         final ResultResponse response = ResultResponse.of(SuccessCode.OK);
         return new ResponseEntity<>(response, new HttpHeaders(), HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    /**
+     * [AuthController] 토큰 재발급 함수
+     *
+     * @param refreshDto 로그인 시 발급받은 Refresh 토큰을 담고 있는 객체입니다.
+     * @return
+     * <pre>
+     * true  : 새로운 Access/Refresh 토큰을 반환합니다. 사용한 Refresh 토큰은 폐기됩니다.
+     * false : 에러(400, 401)를 반환합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/refresh")
+    @Operation(summary = "토큰 재발급", description = "Refresh 토큰으로 Access 토큰을 재발급합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "토큰이 재발급되었습니다.", content = @Content(schema = @Schema(implementation = ResponseEntity.class))),
+            @ApiResponse(responseCode = "401", description = "인증 정보가 유효하지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<?> refresh(@Valid @RequestBody AccessToken.RefreshDto refreshDto) {
+
+        AccessToken.Get accessToken = authService.refresh(refreshDto.getRefreshToken());
+        return new ResponseEntity<>(accessToken, new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [AuthController] 로그아웃 함수
+     *
+     * @param refreshDto 함께 폐기할 Refresh 토큰을 담고 있는 객체입니다. (선택)
+     * @return
+     * <pre>
+     * true  : Authorization 헤더의 Access 토큰과 Refresh 토큰을 폐기합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/logout")
+    @Operation(summary = "로그아웃", description = "Access 토큰과 Refresh 토큰을 폐기합니다.")
+    public ResponseEntity<?> logout(HttpServletRequest request, @RequestBody(required = false) AccessToken.RefreshDto refreshDto) {
+
+        authService.logout(request, (refreshDto != null) ? refreshDto.getRefreshToken() : null);
+
+        final ResultResponse response = ResultResponse.of(SuccessCode.OK);
+        return new ResponseEntity<>(response, new HttpHeaders(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,214 @@
+package kr.taking.backend.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.taking.backend.configuration.filter.BulkheadRegistry;
+import kr.taking.backend.configuration.index.IndexCatalog;
+import kr.taking.backend.configuration.invalidation.InvalidationBus;
+import kr.taking.backend.configuration.mongo.MongoPoolMetrics;
+import kr.taking.backend.configuration.mongo.ReferenceCache;
+import kr.taking.backend.configuration.thread.ExecutionMode;
+import kr.taking.backend.service.security.PasswordHashMetrics;
+import kr.taking.backend.service.security.UserIdIndex;
+import kr.taking.backend.service.summary.UserSummarySynchronizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * <pre>
+ * ClassName : MonitorController
+ * Type : class
+ * Description : 비밀번호 해시 시간 분포, Bulkhead 사용량, 아이디 인덱스, 컬렉션 인덱스, 사용자 요약 동기화 현황, 역할/조직 캐시, 캐시 무효화 등 서버 내부 상태 조회와 관련된 함수를 포함하고 있는 클래스입니다.
+ * Related : PasswordHashMetrics, BulkheadRegistry, UserIdIndex, IndexCatalog, UserSummarySynchronizer, ReferenceCache, InvalidationBus
+ * </pre>
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/monitor")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Monitor", description = "Monitor API Document")
+public class MonitorController {
+
+    private final PasswordHashMetrics passwordHashMetrics;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final UserIdIndex userIdIndex;
+    private final IndexCatalog indexCatalog;
+    private final UserSummarySynchronizer userSummarySynchronizer;
+    private final MongoPoolMetrics mongoPoolMetrics;
+    private final ExecutionMode executionMode;
+    private final ReferenceCache referenceCache;
+    private final InvalidationBus invalidationBus;
+
+    /**
+     * [MonitorController] 비밀번호 해시 통계 조회 함수
+     *
+     * @return 측정된 해시 설정과 encode/matches 처리 시간 분포를 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/password")
+    @Operation(summary = "비밀번호 해시 통계", description = "비밀번호 해시 설정과 처리 시간 분포를 조회합니다.")
+    public ResponseEntity<?> passwordHashReport() {
+
+        log.info("[MonitorController] passwordHashReport...!");
+
+        return new ResponseEntity<>(passwordHashMetrics.snapshot(), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [MonitorController] Bulkhead 사용량 조회 함수
+     *
+     * @return 경로 그룹별 동시 처리 수, 대기열 길이, 처리/거절 건수를 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/bulkhead")
+    @Operation(summary = "Bulkhead 사용량", description = "경로 그룹별 동시 처리 현황과 거절 건수를 조회합니다.")
+    public ResponseEntity<?> bulkheadReport() {
+
+        log.info("[MonitorController] bulkheadReport...!");
+
+        return new ResponseEntity<>(bulkheadRegistry.snapshot(), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [MonitorController] 아이디 인덱스 현황 조회 함수
+     *
+     * @return 아이디 중복 체크용 Bloom filter 의 용량, 추가/삭제 건수, 메모리 응답/DB 조회 건수를 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/userid-index")
+    @Operation(summary = "아이디 인덱스 현황", description = "아이디 중복 체크용 인메모리 인덱스 현황을 조회합니다.")
+    public ResponseEntity<?> userIdIndexReport() {
+
+        log.info("[MonitorController] userIdIndexReport...!");
+
+        return new ResponseEntity<>(userIdIndex.snapshot(), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [MonitorController] 컬렉션 인덱스 현황 조회 함수
+     *
+     * @return 선언된 인덱스별 상태(OK, CREATED, CONFLICT, UNDECLARED 등)와 인덱스가 없는 쿼리 메소드 목록을 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/indexes")
+    @Operation(summary = "인덱스 현황", description = "선언된 인덱스와 실제 인덱스의 차이를 조회합니다.")
+    public ResponseEntity<?> indexReport() {
+
+        log.info("[MonitorController] indexReport...!");
+
+        return new ResponseEntity<>(indexCatalog.snapshot(), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [MonitorController] 사용자 요약 동기화 현황 조회 함수
+     *
+     * @return 대기 중인 fan-out 작업 수, 처리/실패 건수, 마지막 정합성 검사 결과를 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/user-summary")
+    @Operation(summary = "사용자 요약 동기화 현황", description = "역할 이름, 조직 요약 동기화 현황을 조회합니다.")
+    public ResponseEntity<?> userSummaryReport() {
+
+        log.info("[MonitorController] userSummaryReport...!");
+
+        return new ResponseEntity<>(userSummarySynchronizer.snapshot(), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [MonitorController] 사용자 요약 정합성 검사 함수
+     *
+     * @return 검사 후 동기화 현황을 반환합니다.
+     * <pre>
+     * 주기적인 검사를 기다리지 않고 즉시 전체 사용자의 요약 정보를 검사, 복구합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/user-summary/check")
+    @Operation(summary = "사용자 요약 정합성 검사", description = "사용자 요약 정보를 즉시 검사하고 복구합니다.")
+    public ResponseEntity<?> checkUserSummary() {
+
+        log.info("[MonitorController] checkUserSummary...!");
+
+        userSummarySynchronizer.checkConsistency();
+        return new ResponseEntity<>(userSummarySynchronizer.snapshot(), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [MonitorController] Mongo 커넥션 풀 현황 조회 함수
+     *
+     * @return 서버별 커넥션 수, 사용 중인 커넥션 수, 대기 수와 커넥션 대기 시간 분포, 실패 사유별 건수를 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/mongo-pool")
+    @Operation(summary = "Mongo 커넥션 풀 현황", description = "서버별 커넥션 풀 사용량과 커넥션 대기 시간을 조회합니다.")
+    public ResponseEntity<?> mongoPoolReport() {
+
+        log.info("[MonitorController] mongoPoolReport...!");
+
+        return new ResponseEntity<>(mongoPoolMetrics.snapshot(), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [MonitorController] 실행 스레드 현황 조회 함수
+     *
+     * @return 실행 방식(platform, virtual), 플랫폼 스레드 수, 힙 사용량을 반환합니다.
+     * <pre>
+     * 같은 부하(동시 접속 수)에서 두 실행 방식의 처리량과 함께 비교할 때 사용합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/threads")
+    @Operation(summary = "실행 스레드 현황", description = "요청 처리 스레드 방식과 스레드 수, 힙 사용량을 조회합니다.")
+    public ResponseEntity<?> threadReport() {
+
+        log.info("[MonitorController] threadReport...!");
+
+        return new ResponseEntity<>(executionMode.snapshot(), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [MonitorController] 역할/조직 캐시 현황 조회 함수
+     *
+     * @return 역할, 조직, 역할 이름 색인별 크기, 적중/실패 건수, 적중률, 크기 초과 제거/만료 건수를 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/reference-cache")
+    @Operation(summary = "역할/조직 캐시 현황", description = "역할, 조직 캐시의 적중률과 제거 건수를 조회합니다.")
+    public ResponseEntity<?> referenceCacheReport() {
+
+        log.info("[MonitorController] referenceCacheReport...!");
+
+        return new ResponseEntity<>(referenceCache.snapshot(), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [MonitorController] 캐시 무효화 현황 조회 함수
+     *
+     * @return 동작 방식(changeStream, polling), 영역별 수신 건수, 기록 건수, 전체 비움/재시작 횟수, 재개 토큰 저장 시각을 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/invalidation")
+    @Operation(summary = "캐시 무효화 현황", description = "다른 인스턴스의 변경을 반영하는 캐시 무효화 현황을 조회합니다.")
+    public ResponseEntity<?> invalidationReport() {
+
+        log.info("[MonitorController] invalidationReport...!");
+
+        return new ResponseEntity<>(invalidationBus.snapshot(), new HttpHeaders(), HttpStatus.OK);
+    }
+}
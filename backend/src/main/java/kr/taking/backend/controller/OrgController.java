@@ -10,9 +10,16 @@ import jakarta.validation.Valid;
 import kr.taking.backend.error.ErrorResponse;
 import kr.taking.backend.error.ResultResponse;
 import kr.taking.backend.util.Common;
+import kr.taking.backend.util.paging.CursorPage;
+import kr.taking.backend.util.projection.FieldSelection;
 import kr.taking.backend.error.enums.SuccessCode;
 import kr.taking.backend.model.OrgEntity;
 import kr.taking.backend.service.OrgService;
+import kr.taking.backend.service.bulk.BulkImporter;
+import kr.taking.backend.service.bulk.ImportReport;
+import kr.taking.backend.service.export.ExportFormat;
+import kr.taking.backend.service.export.StreamingExporter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,7 +29,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
 
 /**
  * <pre>
@@ -43,11 +55,18 @@ import org.springframework.web.bind.annotation.*;
 public class OrgController {
 
     private final OrgService orgService;
+    private final StreamingExporter streamingExporter;
+    private final BulkImporter bulkImporter;
 
     /**
      * [OrgController] 전체 조직 목록 함수
      *
      * @return 전체 조직 목록을 반환합니다.
+     * <pre>
+     * cursor 파라미터를 전달하면(첫 페이지는 빈 값) 전체 건수 없이 nextCursor 를 포함한 Keyset 페이지를 반환합니다.
+     * cursor 가 없으면 기존 page/size 페이징을 사용합니다.
+     * fields 파라미터(ex. orgName,orgEnabled)를 전달하면 해당 필드(+ 고유번호)만 조회하여 반환합니다.
+     * </pre>
      *
      * Author : taking(taking@duck.com)
      */
@@ -57,21 +76,31 @@ public class OrgController {
             @RequestParam(required = false) String name,
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "5") Integer size,
-            @RequestParam(defaultValue = "id,desc") String[] sort) {
+            @RequestParam(defaultValue = "id,desc") String[] sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields) {
 
         log.info("retrieve all orgs controller...!");
 
+        FieldSelection selection = FieldSelection.of(OrgEntity.class, fields);
+
+        // cursor 파라미터가 있으면(첫 페이지는 빈 값) count 없는 Keyset 페이징으로 조회
+        if (cursor != null) {
+            CursorPage<OrgEntity> cursorPage = orgService.getOrganizationsByCursor(name, Sort.by(Common.getOrder(sort)), cursor, size, selection);
+            return new ResponseEntity<>(selection.view(cursorPage), new HttpHeaders(), HttpStatus.OK);
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by(Common.getOrder(sort)));
 
         Page<OrgEntity> orgEntity;
         if(name == null) {
-            orgEntity = orgService.getOrganizations(pageable);
+            orgEntity = orgService.getOrganizations(pageable, selection);
         } else {
-            orgEntity = orgService.findPageByName(name, pageable);
+            orgEntity = orgService.findPageByName(name, pageable, selection);
         }
 
 //        final ResultResponse response = ResultResponse.of(SuccessCode.OK, userService.getUsers());
-        return new ResponseEntity<>(orgEntity, new HttpHeaders(), HttpStatus.OK);
+        return new ResponseEntity<>(selection.view(orgEntity), new HttpHeaders(), HttpStatus.OK);
     }
 
 
@@ -126,10 +155,8 @@ public class OrgController {
 
         log.info("[OrgController] updateOrgById...!");
 
-        orgService.updateById(id, orgEntity);
-
 //        final ResultResponse response = ResultResponse.of(SuccessCode.OK);
-        return new ResponseEntity<>(orgService.findById(id), new HttpHeaders(), HttpStatus.OK);
+        return new ResponseEntity<>(orgService.updateById(id, orgEntity), new HttpHeaders(), HttpStatus.OK);
     }
 
     /**
@@ -146,12 +173,13 @@ public class OrgController {
      */
     @GetMapping("{id}")
     @Operation(summary = "ID로 조직 찾기", description = "조직을 조회합니다.")
-    public ResponseEntity<?> findByOrgId(@PathVariable("id") String id) {
+    public ResponseEntity<?> findByOrgId(@PathVariable("id") String id, @RequestParam(required = false) String fields) {
 
         log.info("[OrgController] findByOrgId...!");
 
 //        final ResultResponse response = ResultResponse.of(SuccessCode.OK, userService.findById(id));
-        return new ResponseEntity<>(orgService.findById(id), new HttpHeaders(), HttpStatus.OK);
+        FieldSelection selection = FieldSelection.of(OrgEntity.class, fields);
+        return new ResponseEntity<>(selection.view(orgService.findById(id, selection)), new HttpHeaders(), HttpStatus.OK);
     }
 
     /**
@@ -177,4 +205,121 @@ public class OrgController {
         final ResultResponse response = ResultResponse.of(SuccessCode.OK);
         return new ResponseEntity<>(response, new HttpHeaders(), HttpStatus.OK);
     }
+
+    /**
+     * [OrgController] 조직 내보내기 함수
+     *
+     * @return 조직 전체를 파일(NDJSON, CSV)로 내려받습니다.
+     * <pre>
+     * 페이지로 나누지 않고 Mongo 커서에서 읽은 순서대로 응답에 바로 쓰므로, 건수와 관계없이 서버 메모리 사용량이 일정합니다.
+     * format : ndjson(기본값), csv / gzip : true 이면 gzip 으로 압축합니다.
+     * fields 파라미터로 내보낼 필드를 선택할 수 있습니다. (CSV 열)
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "조직 내보내기", description = "조직 전체를 NDJSON 또는 CSV 파일로 내려받습니다.")
+    public ResponseEntity<StreamingResponseBody> exportOrganizations(
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String fields) {
+
+        log.info("[OrgController] exportOrganizations...!");
+
+        FieldSelection selection = FieldSelection.of(OrgEntity.class, fields);
+        return streamingExporter.export("organizations", OrgEntity.class, selection, ExportFormat.of(format), gzip,
+                () -> orgService.streamOrganizations(name, selection));
+    }
+
+    /**
+     * [OrgController] 조직 일괄 등록 함수
+     *
+     * @return 전체, 성공, 실패 건수와 실패한 행별 사유(ImportReport)를 반환합니다.
+     * <pre>
+     * 요청 본문은 한 줄에 CreateDto 한 건(JSON)이 있는 NDJSON 이며, Content-Encoding: gzip 으로 압축해 보낼 수 있습니다.
+     * 형식 오류, 중복 등 실패한 행은 건너뛰고 나머지는 등록합니다. (전체 롤백 없음)
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "조직 일괄 등록", description = "NDJSON 파일로 조직을 일괄 등록합니다.")
+    public ResponseEntity<ImportReport> importOrganizations(HttpServletRequest request) throws IOException {
+
+        log.info("[OrgController] importOrganizations...!");
+
+        ImportReport report = bulkImporter.importOrganizations(BulkImporter.body(request));
+        return new ResponseEntity<>(report, new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [OrgController] 조직 일괄 조회 함수
+     *
+     * @param ids 조회할 조직 고유번호 목록(JSON 배열)입니다.
+     * @return
+     * <pre>
+     * 요청한 id 순서대로 조직 정보(200) 또는 404 를 항목별로 반환합니다. (BatchResult)
+     * id 목록이 길어 URL 길이 제한을 넘지 않도록 본문으로 받으며, 한 번의 $in 조회로 읽습니다.
+     * fields 파라미터로 필요한 필드만 조회할 수 있습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/batch/get")
+    @Operation(summary = "ID 목록으로 조직 찾기", description = "여러 조직을 한 번에 조회합니다.")
+    public ResponseEntity<?> findOrgsByIds(@RequestBody(required = false) List<String> ids, @RequestParam(required = false) String fields) {
+
+        log.info("[OrgController] findOrgsByIds...!");
+
+        FieldSelection selection = FieldSelection.of(OrgEntity.class, fields);
+        return new ResponseEntity<>(selection.view(orgService.findByIds(ids, selection)), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [OrgController] 조직 일괄 생성 함수
+     *
+     * @param orgCreateDtos 생성할 조직 정보 목록(JSON 배열)입니다.
+     * @return
+     * <pre>
+     * 요청 순서대로 생성된 조직 정보(201) 또는 400, 409 를 항목별로 반환합니다. (BatchResult)
+     * 한 번의 bulkWrite 로 등록하며, 실패한 항목이 있어도 나머지는 등록됩니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "조직 일괄 생성", description = "여러 조직을 한 번에 생성합니다.")
+    public ResponseEntity<?> createOrganizations(@RequestBody(required = false) List<OrgEntity.CreateDto> orgCreateDtos) {
+
+        log.info("[OrgController] createOrganizations...!");
+
+        return new ResponseEntity<>(orgService.createOrganizations(orgCreateDtos), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [OrgController] 조직 일괄 삭제 함수
+     *
+     * @param ids 삭제할 조직 고유번호 목록(JSON 배열)입니다.
+     * @return
+     * <pre>
+     * 요청한 id 순서대로 삭제 결과(200) 또는 404 를 항목별로 반환합니다. (BatchResult)
+     * 건수와 관계없이 조회 한 번, deleteMany 한 번으로 삭제합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/batch/delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "조직 일괄 삭제", description = "여러 조직을 한 번에 삭제합니다.")
+    public ResponseEntity<?> deleteOrganizations(@RequestBody(required = false) List<String> ids) {
+
+        log.info("[OrgController] deleteOrganizations...!");
+
+        return new ResponseEntity<>(orgService.deleteByIds(ids), new HttpHeaders(), HttpStatus.OK);
+    }
 }
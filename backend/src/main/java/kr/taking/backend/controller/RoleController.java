@@ -10,9 +10,13 @@ import jakarta.validation.Valid;
 import kr.taking.backend.error.ErrorResponse;
 import kr.taking.backend.error.ResultResponse;
 import kr.taking.backend.util.Common;
+import kr.taking.backend.util.paging.CursorPage;
+import kr.taking.backend.util.projection.FieldSelection;
 import kr.taking.backend.error.enums.SuccessCode;
 import kr.taking.backend.model.RoleEntity;
 import kr.taking.backend.service.RoleService;
+import kr.taking.backend.service.export.ExportFormat;
+import kr.taking.backend.service.export.StreamingExporter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,7 +26,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 /**
  * <pre>
@@ -43,11 +51,17 @@ import org.springframework.web.bind.annotation.*;
 public class RoleController {
 
     private final RoleService roleService;
+    private final StreamingExporter streamingExporter;
 
     /**
      * [RoleController] 전체 역할 목록 함수
      *
      * @return 전체 역할 목록을 반환합니다.
+     * <pre>
+     * cursor 파라미터를 전달하면(첫 페이지는 빈 값) 전체 건수 없이 nextCursor 를 포함한 Keyset 페이지를 반환합니다.
+     * cursor 가 없으면 기존 page/size 페이징을 사용합니다.
+     * fields 파라미터(ex. roleName)를 전달하면 해당 필드(+ 고유번호)만 조회하여 반환합니다.
+     * </pre>
      *
      * Author : taking(taking@duck.com)
      */
@@ -57,21 +71,31 @@ public class RoleController {
             @RequestParam(required = false) String name,
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "5") Integer size,
-            @RequestParam(defaultValue = "id,desc") String[] sort) {
+            @RequestParam(defaultValue = "id,desc") String[] sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields) {
 
         log.info("retrieve all roles controller...!");
 
+        FieldSelection selection = FieldSelection.of(RoleEntity.class, fields);
+
+        // cursor 파라미터가 있으면(첫 페이지는 빈 값) count 없는 Keyset 페이징으로 조회
+        if (cursor != null) {
+            CursorPage<RoleEntity> cursorPage = roleService.getRolesByCursor(name, Sort.by(Common.getOrder(sort)), cursor, size, selection);
+            return new ResponseEntity<>(selection.view(cursorPage), new HttpHeaders(), HttpStatus.OK);
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by(Common.getOrder(sort)));
 
         Page<RoleEntity> roleEntity;
         if(name == null) {
-            roleEntity = roleService.getRoles(pageable);
+            roleEntity = roleService.getRoles(pageable, selection);
         } else {
-            roleEntity = roleService.findPageByName(name, pageable);
+            roleEntity = roleService.findPageByName(name, pageable, selection);
         }
 
 //        final ResultResponse response = ResultResponse.of(SuccessCode.OK, userService.getUsers());
-        return new ResponseEntity<>(roleEntity, new HttpHeaders(), HttpStatus.OK);
+        return new ResponseEntity<>(selection.view(roleEntity), new HttpHeaders(), HttpStatus.OK);
     }
 
 
@@ -106,6 +130,28 @@ public class RoleController {
         return new ResponseEntity<>(roleEntity, new HttpHeaders(), HttpStatus.OK);
     }
 
+    /**
+     * [RoleController] 역할 업데이트 함수
+     *
+     * @param id 역할 고유번호를 입력합니다.
+     * @param roleUpdateDto 업데이트에 필요한 역할 정보를 담고 있는 객체입니다.
+     * @return
+     * <pre>
+     * true  : 업데이트된 역할 정보를 반환합니다.
+     * false : 에러(400, 404, 409)를 반환합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PatchMapping("{id}")
+    @Operation(summary = "역할 업데이트", description = "특정 역할의 이름을 변경합니다.")
+    public ResponseEntity<?> updateRoleById(@PathVariable("id") String id, @Valid @RequestBody RoleEntity.UpdateDto roleUpdateDto) {
+
+        log.info("[RoleController] updateRoleById...!");
+
+        return new ResponseEntity<>(roleService.updateById(id, roleUpdateDto), new HttpHeaders(), HttpStatus.OK);
+    }
+
     /**
      * [RoleController] 특정 역할 조회 함수
      *
@@ -120,12 +166,13 @@ public class RoleController {
      */
     @GetMapping("{id}")
     @Operation(summary = "ID로 역할 찾기", description = "역할을 조회합니다.")
-    public ResponseEntity<?> findByRoleId(@PathVariable("id") String id) {
+    public ResponseEntity<?> findByRoleId(@PathVariable("id") String id, @RequestParam(required = false) String fields) {
 
         log.info("[RoleController] findByRoleId...!");
 
 //        final ResultResponse response = ResultResponse.of(SuccessCode.OK, userService.findById(id));
-        return new ResponseEntity<>(roleService.findById(id), new HttpHeaders(), HttpStatus.OK);
+        FieldSelection selection = FieldSelection.of(RoleEntity.class, fields);
+        return new ResponseEntity<>(selection.view(roleService.findById(id, selection)), new HttpHeaders(), HttpStatus.OK);
     }
 
     /**
@@ -151,4 +198,99 @@ public class RoleController {
         final ResultResponse response = ResultResponse.of(SuccessCode.OK);
         return new ResponseEntity<>(response, new HttpHeaders(), HttpStatus.OK);
     }
+
+    /**
+     * [RoleController] 역할 내보내기 함수
+     *
+     * @return 역할 전체를 파일(NDJSON, CSV)로 내려받습니다.
+     * <pre>
+     * 페이지로 나누지 않고 Mongo 커서에서 읽은 순서대로 응답에 바로 쓰므로, 건수와 관계없이 서버 메모리 사용량이 일정합니다.
+     * format : ndjson(기본값), csv / gzip : true 이면 gzip 으로 압축합니다.
+     * fields 파라미터로 내보낼 필드를 선택할 수 있습니다. (CSV 열)
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "역할 내보내기", description = "역할 전체를 NDJSON 또는 CSV 파일로 내려받습니다.")
+    public ResponseEntity<StreamingResponseBody> exportRoles(
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String fields) {
+
+        log.info("[RoleController] exportRoles...!");
+
+        FieldSelection selection = FieldSelection.of(RoleEntity.class, fields);
+        return streamingExporter.export("roles", RoleEntity.class, selection, ExportFormat.of(format), gzip,
+                () -> roleService.streamRoles(name, selection));
+    }
+
+    /**
+     * [RoleController] 역할 일괄 조회 함수
+     *
+     * @param ids 조회할 역할 고유번호 목록(JSON 배열)입니다.
+     * @return
+     * <pre>
+     * 요청한 id 순서대로 역할 정보(200) 또는 404 를 항목별로 반환합니다. (BatchResult)
+     * id 목록이 길어 URL 길이 제한을 넘지 않도록 본문으로 받으며, 한 번의 $in 조회로 읽습니다.
+     * fields 파라미터로 필요한 필드만 조회할 수 있습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/batch/get")
+    @Operation(summary = "ID 목록으로 역할 찾기", description = "여러 역할을 한 번에 조회합니다.")
+    public ResponseEntity<?> findRolesByIds(@RequestBody(required = false) List<String> ids, @RequestParam(required = false) String fields) {
+
+        log.info("[RoleController] findRolesByIds...!");
+
+        FieldSelection selection = FieldSelection.of(RoleEntity.class, fields);
+        return new ResponseEntity<>(selection.view(roleService.findByIds(ids, selection)), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [RoleController] 역할 일괄 생성 함수
+     *
+     * @param roleCreateDtos 생성할 역할 정보 목록(JSON 배열)입니다.
+     * @return
+     * <pre>
+     * 요청 순서대로 생성된 역할 정보(201) 또는 400, 409 를 항목별로 반환합니다. (BatchResult)
+     * 한 번의 bulkWrite 로 등록하며, 실패한 항목이 있어도 나머지는 등록됩니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "역할 일괄 생성", description = "여러 역할을 한 번에 생성합니다.")
+    public ResponseEntity<?> createRoles(@RequestBody(required = false) List<RoleEntity.CreateDto> roleCreateDtos) {
+
+        log.info("[RoleController] createRoles...!");
+
+        return new ResponseEntity<>(roleService.createRoles(roleCreateDtos), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [RoleController] 역할 일괄 삭제 함수
+     *
+     * @param ids 삭제할 역할 고유번호 목록(JSON 배열)입니다.
+     * @return
+     * <pre>
+     * 요청한 id 순서대로 삭제 결과(200) 또는 404 를 항목별로 반환합니다. (BatchResult)
+     * 건수와 관계없이 조회 한 번, deleteMany 한 번으로 삭제합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/batch/delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "역할 일괄 삭제", description = "여러 역할을 한 번에 삭제합니다.")
+    public ResponseEntity<?> deleteRoles(@RequestBody(required = false) List<String> ids) {
+
+        log.info("[RoleController] deleteRoles...!");
+
+        return new ResponseEntity<>(roleService.deleteByIds(ids), new HttpHeaders(), HttpStatus.OK);
+    }
 }
@@ -4,19 +4,38 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.taking.backend.error.ResultResponse;
 import kr.taking.backend.util.Common;
+import kr.taking.backend.util.paging.CursorPage;
+import kr.taking.backend.util.projection.FieldSelection;
 import kr.taking.backend.error.enums.SuccessCode;
 import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.repository.UserFilter;
 import kr.taking.backend.service.UserService;
+import jakarta.validation.Valid;
+import kr.taking.backend.service.bulk.BulkImporter;
+import kr.taking.backend.service.bulk.BulkJob;
+import kr.taking.backend.service.bulk.UserBulkRequest;
+import kr.taking.backend.service.bulk.UserBulkUpdater;
+import kr.taking.backend.service.bulk.ImportReport;
+import kr.taking.backend.service.export.ExportFormat;
+import kr.taking.backend.service.export.StreamingExporter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -39,11 +58,24 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final StreamingExporter streamingExporter;
+    private final BulkImporter bulkImporter;
+    private final UserBulkUpdater userBulkUpdater;
+
+    // 내보내기 기본 필드 : DBRef(userRole, userOrgs) 대신 문서에 포함된 요약 필드 (건마다 참조 조회를 하지 않음)
+    private static final String EXPORT_FIELDS = "userId,userName,userEmail,userEnabled,userRoleName,userOrgSummaries,created_at";
 
     /**
      * [UserController] 전체사용자 목록 함수
      *
      * @return 전체 사용자 목록을 반환합니다.
+     * <pre>
+     * cursor 파라미터를 전달하면(첫 페이지는 빈 값) 전체 건수 없이 nextCursor 를 포함한 Keyset 페이지를 반환합니다.
+     * cursor 가 없으면 기존 page/size 페이징을 사용합니다.
+     * fields 파라미터(ex. userId,userName,userRoleName)를 전달하면 해당 필드(+ 고유번호)만 조회하여 반환합니다.
+     * userid, roleId, orgId, enabled, createdFrom, createdTo(ISO-8601, ex. 2024-01-01T00:00:00Z) 조건을 함께 사용할 수 있으며,
+     * 조건에 맞는 인덱스 범위만 탐색합니다. (인덱스가 생성 중이면 503)
+     * </pre>
      *
      * Author : taking(taking@duck.com)
      */
@@ -51,23 +83,41 @@ public class UserController {
     @Operation(summary = "사용자 목록", description = "사용자 목록을 조회합니다.")
     public ResponseEntity<?> findAllUsers(
             @RequestParam(required = false) String userid,
+            @RequestParam(required = false) String roleId,
+            @RequestParam(required = false) String orgId,
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo,
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "5") Integer size,
-            @RequestParam(defaultValue = "id,desc") String[] sort) {
+            @RequestParam(defaultValue = "id,desc") String[] sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields) {
 
         log.info("retrieve all users controller...!");
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Common.getOrder(sort)));
+        FieldSelection selection = FieldSelection.of(UserEntity.class, fields);
+        UserFilter filter = UserFilter.builder()
+                .userid(userid)
+                .roleId(roleId)
+                .orgId(orgId)
+                .enabled(enabled)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .build();
 
-        Page<UserEntity> userEntity;
-        if(userid == null) {
-            userEntity = userService.getUsers(pageable);
-        } else {
-            userEntity = userService.findPageByUserId(userid, pageable);
+        // cursor 파라미터가 있으면(첫 페이지는 빈 값) count 없는 Keyset 페이징으로 조회
+        if (cursor != null) {
+            CursorPage<UserEntity> cursorPage = userService.getUsersByCursor(filter, Sort.by(Common.getOrder(sort)), cursor, size, selection);
+            return new ResponseEntity<>(selection.view(cursorPage), new HttpHeaders(), HttpStatus.OK);
         }
 
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Common.getOrder(sort)));
+
+        Page<UserEntity> userEntity = userService.findUsers(filter, pageable, selection);
+
 //        final ResultResponse response = ResultResponse.of(SuccessCode.OK, userService.getUsers());
-        return new ResponseEntity<>(userEntity, new HttpHeaders(), HttpStatus.OK);
+        return new ResponseEntity<>(selection.view(userEntity), new HttpHeaders(), HttpStatus.OK);
     }
 
     /**
@@ -91,10 +141,7 @@ public class UserController {
 
         log.info("[UserController] updateUser...!");
 
-        userService.updateById(id, userEntity);
-
-        final ResultResponse response = ResultResponse.of(SuccessCode.OK);
-        return new ResponseEntity<>(response, new HttpHeaders(), HttpStatus.OK);
+        return new ResponseEntity<>(userService.updateById(id, userEntity), new HttpHeaders(), HttpStatus.OK);
     }
 
 
@@ -147,12 +194,13 @@ public class UserController {
     @GetMapping("{id}")
     @Operation(summary = "사용자 찾기", description = "사용자를 조회합니다.")
     public ResponseEntity<?> findUser(
-            @PathVariable("id") String id) {
+            @PathVariable("id") String id, @RequestParam(required = false) String fields) {
 
         log.info("[UserController] findUser...!");
 
 //        final ResultResponse response = ResultResponse.of(SuccessCode.OK, userService.findById(id));
-        return new ResponseEntity<>(userService.findById(id), new HttpHeaders(), HttpStatus.OK);
+        FieldSelection selection = FieldSelection.of(UserEntity.class, fields);
+        return new ResponseEntity<>(selection.view(userService.findById(id, selection)), new HttpHeaders(), HttpStatus.OK);
     }
 
     /**
@@ -178,4 +226,168 @@ public class UserController {
         final ResultResponse response = ResultResponse.of(SuccessCode.OK);
         return new ResponseEntity<>(response, new HttpHeaders(), HttpStatus.OK);
     }
+
+    /**
+     * [UserController] 특정 사용자 토큰 전체 폐기 함수
+     *
+     * @param id 사용자 고유번호를 입력합니다.
+     * @return
+     * <pre>
+     * true  : 특정 사용자에게 발급된 모든 토큰을 폐기합니다.
+     * false : 에러(400, 404)를 반환합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @DeleteMapping("{id}/tokens")
+    @Operation(summary = "사용자 토큰 폐기", description = "사용자에게 발급된 모든 토큰을 폐기합니다.")
+    public ResponseEntity<?> revokeTokens(@PathVariable("id") String id) {
+
+        log.info("[UserController] revokeTokens...!");
+
+        userService.revokeTokens(id);
+
+        final ResultResponse response = ResultResponse.of(SuccessCode.OK);
+        return new ResponseEntity<>(response, new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [UserController] 사용자 내보내기 함수
+     *
+     * @return 사용자 전체를 파일(NDJSON, CSV)로 내려받습니다.
+     * <pre>
+     * 페이지로 나누지 않고 Mongo 커서에서 읽은 순서대로 응답에 바로 쓰므로, 건수와 관계없이 서버 메모리 사용량이 일정합니다.
+     * format : ndjson(기본값), csv / gzip : true 이면 gzip 으로 압축합니다.
+     * fields 파라미터로 내보낼 필드를 선택할 수 있습니다. (CSV 열)
+     * fields 파라미터가 없으면 역할/조직은 요약 필드(userRoleName, userOrgSummaries)로 내보냅니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "사용자 내보내기", description = "사용자 전체를 NDJSON 또는 CSV 파일로 내려받습니다.")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) String userid,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String fields) {
+
+        log.info("[UserController] exportUsers...!");
+
+        FieldSelection selection = FieldSelection.of(UserEntity.class, StringUtils.hasText(fields) ? fields : EXPORT_FIELDS);
+        return streamingExporter.export("users", UserEntity.class, selection, ExportFormat.of(format), gzip,
+                () -> userService.streamUsers(userid, selection));
+    }
+
+    /**
+     * [UserController] 사용자 일괄 등록 함수
+     *
+     * @return 전체, 성공, 실패 건수와 실패한 행별 사유(ImportReport)를 반환합니다.
+     * <pre>
+     * 요청 본문은 한 줄에 RegisterDto 한 건(JSON)이 있는 NDJSON 이며, Content-Encoding: gzip 으로 압축해 보낼 수 있습니다.
+     * 형식 오류, 중복 등 실패한 행은 건너뛰고 나머지는 등록합니다. (전체 롤백 없음)
+     * 회원가입과 같이 ROLE_USER 역할로 등록합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "사용자 일괄 등록", description = "NDJSON 파일로 사용자를 일괄 등록합니다.")
+    public ResponseEntity<ImportReport> importUsers(HttpServletRequest request) throws IOException {
+
+        log.info("[UserController] importUsers...!");
+
+        ImportReport report = bulkImporter.importUsers(BulkImporter.body(request));
+        return new ResponseEntity<>(report, new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [UserController] 사용자 일괄 조회 함수
+     *
+     * @param ids 조회할 사용자 고유번호 목록(JSON 배열)입니다.
+     * @return
+     * <pre>
+     * 요청한 id 순서대로 사용자 정보(200) 또는 404 를 항목별로 반환합니다. (BatchResult)
+     * id 목록이 길어 URL 길이 제한을 넘지 않도록 본문으로 받으며, 한 번의 $in 조회로 읽습니다.
+     * fields 파라미터로 필요한 필드만 조회할 수 있습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/batch/get")
+    @Operation(summary = "ID 목록으로 사용자 찾기", description = "여러 사용자를 한 번에 조회합니다.")
+    public ResponseEntity<?> findUsersByIds(@RequestBody(required = false) List<String> ids, @RequestParam(required = false) String fields) {
+
+        log.info("[UserController] findUsersByIds...!");
+
+        FieldSelection selection = FieldSelection.of(UserEntity.class, fields);
+        return new ResponseEntity<>(selection.view(userService.findByIds(ids, selection)), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [UserController] 사용자 일괄 삭제 함수
+     *
+     * @param ids 삭제할 사용자 고유번호 목록(JSON 배열)입니다.
+     * @return
+     * <pre>
+     * 요청한 id 순서대로 삭제 결과(200) 또는 404 를 항목별로 반환합니다. (BatchResult)
+     * 건수와 관계없이 조회 한 번, deleteMany 한 번으로 삭제합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/batch/delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "사용자 일괄 삭제", description = "여러 사용자를 한 번에 삭제합니다.")
+    public ResponseEntity<?> deleteByIds(@RequestBody(required = false) List<String> ids) {
+
+        log.info("[UserController] deleteByIds...!");
+
+        return new ResponseEntity<>(userService.deleteByIds(ids), new HttpHeaders(), HttpStatus.OK);
+    }
+
+    /**
+     * [UserController] 조건으로 사용자 일괄 변경 함수
+     *
+     * @param request 대상 조건(역할, 조직, 활성화 여부, 생성일 범위)과 작업(ENABLE, DISABLE, ASSIGN_ROLE, ADD_ORG, REMOVE_ORG, DELETE)입니다.
+     * @return
+     * <pre>
+     * dryRun=true : 변경하지 않고 대상 건수(matched)만 반환합니다.
+     * 200 : 대상이 적으면 updateMany 한 번으로 처리하고 결과(DONE)를 반환합니다.
+     * 202 : 대상이 많으면 나누어 처리하며, 반환된 작업 id 로 진행 상황을 조회합니다. (GET /api/v1/user/bulk/{jobId})
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "조건으로 사용자 일괄 변경", description = "조건에 맞는 사용자 전체를 한 번에 변경하거나 삭제합니다.")
+    public ResponseEntity<BulkJob> bulkUpdateUsers(@Valid @RequestBody UserBulkRequest request) {
+
+        log.info("[UserController] bulkUpdateUsers...!");
+
+        BulkJob job = userBulkUpdater.run(request);
+        HttpStatus status = (job.getStatus() == BulkJob.Status.RUNNING) ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return new ResponseEntity<>(job, new HttpHeaders(), status);
+    }
+
+    /**
+     * [UserController] 사용자 일괄 변경 진행 상황 조회 함수
+     *
+     * @param jobId 일괄 변경 작업 id 입니다.
+     * @return 대상, 처리, 변경 건수와 상태를 반환합니다. (없거나 보관 시간이 지나면 404)
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @GetMapping("/bulk/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "사용자 일괄 변경 진행 상황", description = "일괄 변경 작업의 진행 상황을 조회합니다.")
+    public ResponseEntity<BulkJob> findBulkJob(@PathVariable("jobId") String jobId) {
+
+        log.info("[UserController] findBulkJob...!");
+
+        return new ResponseEntity<>(userBulkUpdater.findJob(jobId), new HttpHeaders(), HttpStatus.OK);
+    }
 }
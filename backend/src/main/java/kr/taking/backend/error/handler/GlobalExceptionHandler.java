@@ -3,9 +3,11 @@ package kr.taking.backend.error.handler;
 import kr.taking.backend.error.ErrorResponse;
 import kr.taking.backend.error.exception.CustomException;
 import kr.taking.backend.error.exception.EntityNotFoundException;
+import kr.taking.backend.error.exception.RateLimitExceededException;
 import kr.taking.backend.error.enums.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -91,6 +93,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.DUPLICATE.getStatus()));
     }
 
+    /**
+     * 호출 빈도 제한을 초과한 경우 발생
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException e) {
+        log.error(e.getMessage());
+        final ErrorResponse response = ErrorResponse.of(ErrorCode.TOO_MANY_REQUESTS);
+        final HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return new ResponseEntity<>(response, headers, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     @ExceptionHandler(CustomException.class)
     protected ResponseEntity<ErrorResponse> handleBusinessException(final CustomException e) {
         log.error(e.getMessage());
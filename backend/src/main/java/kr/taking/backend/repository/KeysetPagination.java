@@ -0,0 +1,148 @@
+package kr.taking.backend.repository;
+
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.error.exception.CustomException;
+import kr.taking.backend.util.paging.Cursor;
+import kr.taking.backend.util.paging.CursorPage;
+import kr.taking.backend.util.projection.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * ClassName : KeysetPagination
+ * Type : class
+ * Description : skip/limit 및 count 없이, 마지막으로 조회한 정렬 키와 _id 이후의 항목만 조회하는 Keyset(cursor) 페이징 클래스입니다.
+ * Related : Cursor, CursorPage, UserServiceImpl, OrgServiceImpl, RoleServiceImpl
+ * How-to :
+ *  1. 첫 번째 정렬 조건만 사용하며, 정렬 필드가 유니크하지 않으면 _id 를 같은 방향으로 추가 정렬하여 순서를 고정합니다.
+ *  2. size + 1 건을 조회하여 다음 페이지가 있는 경우에만 nextCursor 를 만듭니다.
+ *  3. 조회 깊이와 관계없이 인덱스 범위 탐색만 하므로, 정렬 필드에 인덱스가 있어야 합니다. (_id, userid, name 등)
+ *  4. 정렬 값이 없는(null, 필드 없음) 항목은 Mongo 정렬 순서와 같이 ASC 에서는 맨 앞, DESC 에서는 맨 뒤에 오며 _id 로 순서를 정합니다.
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetPagination {
+
+    private static final String ID_FIELD = "_id";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+
+    /**
+     * [KeysetPagination] 커서 페이지 조회 함수
+     *
+     * @param type 조회할 Entity 타입입니다.
+     * @param filter 조회 조건입니다. (없으면 null)
+     * @param sort 정렬 조건입니다. 첫 번째 정렬 조건만 사용합니다.
+     * @param cursor 이전 페이지의 nextCursor 입니다. 비어 있으면 첫 페이지를 조회합니다.
+     * @param size 페이지 크기입니다.
+     * @param fields 조회할 필드입니다. 선택한 경우 커서를 만들기 위해 정렬 필드를 함께 조회합니다.
+     * @return 조회된 항목과 다음 페이지 커서를 반환합니다.
+     * @throws CustomException 정렬 필드가 없거나, 커서가 유효하지 않거나, 페이지 크기가 1 보다 작은 경우 예외 처리 발생
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public <T> CursorPage<T> find(Class<T> type, Criteria filter, Sort sort, String cursor, int size, FieldSelection fields) {
+        return find(type, filter, sort, cursor, size, fields, query -> mongoTemplate.find(query, type));
+    }
+
+    // loader : 조회 방법을 바꿀 때 사용 (ex. 사용자 DBRef 일괄 조회 UserRepository::findAllResolved)
+    public <T> CursorPage<T> find(Class<T> type, Criteria filter, Sort sort, String cursor, int size,
+                                  FieldSelection fields, Function<Query, List<T>> loader) {
+
+        if (size < 1) {
+            throw new CustomException("size 는 1 이상이어야 합니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.desc("id"));
+
+        MongoPersistentProperty property = entity.getPersistentProperty(order.getProperty());
+        if (property == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);   // 존재하지 않는 정렬 필드
+        }
+
+        String field = property.isIdProperty() ? ID_FIELD : property.getFieldName();
+        Sort.Direction direction = order.getDirection();
+        boolean unique = property.isIdProperty() || isUnique(property);
+
+        Query query = new Query();
+        Cursor after = Cursor.decode(cursor, field, direction);
+        if (after != null) {
+            Criteria keyset = after(field, unique, !property.isIdProperty(), after);
+            query.addCriteria(filter != null ? new Criteria().andOperator(filter, keyset) : keyset);
+        } else if (filter != null) {
+            query.addCriteria(filter);
+        }
+
+        query.with(unique
+                ? Sort.by(direction, field)
+                : Sort.by(new Sort.Order(direction, field), new Sort.Order(direction, ID_FIELD)));
+        query.limit(size + 1);
+        if (!fields.isAll()) {
+            fields.applyTo(query).fields().include(property.getName());
+        }
+
+        List<T> content = loader.apply(query);
+        if (content.size() <= size) {
+            return new CursorPage<>(content, content.size(), null);
+        }
+
+        content = content.subList(0, size);
+        T last = content.get(size - 1);
+        Object id = toObjectId(entity.getIdentifierAccessor(last).getIdentifier());
+        Object value = property.isIdProperty()
+                ? id
+                : mongoTemplate.getConverter().convertToMongoType(entity.getPropertyAccessor(last).getProperty(property));
+
+        return new CursorPage<>(content, size, new Cursor(field, direction, value, id).encode());
+    }
+
+    // (field, _id) 가 커서보다 뒤에 있는 항목 : field > v OR (field = v AND _id > id)  (DESC 는 <)
+    // null(필드 없음)은 모든 값보다 앞이므로, ASC 는 null 다음에 값이 있는 항목이 오고 DESC 는 값 다음에 null 이 옴
+    private static Criteria after(String field, boolean unique, boolean nullable, Cursor cursor) {
+        boolean asc = cursor.direction() == Sort.Direction.ASC;
+        Criteria beyondId = asc ? Criteria.where(ID_FIELD).gt(cursor.id()) : Criteria.where(ID_FIELD).lt(cursor.id());
+
+        if (cursor.value() == null) {
+            Criteria sameNull = new Criteria().andOperator(Criteria.where(field).is(null), beyondId);
+            return asc ? new Criteria().orOperator(sameNull, Criteria.where(field).ne(null)) : sameNull;
+        }
+
+        Criteria beyondValue = asc ? Criteria.where(field).gt(cursor.value()) : Criteria.where(field).lt(cursor.value());
+        if (unique && (asc || !nullable)) {
+            return beyondValue;
+        }
+
+        List<Criteria> beyond = new ArrayList<>(3);
+        beyond.add(beyondValue);
+        if (!unique) beyond.add(new Criteria().andOperator(Criteria.where(field).is(cursor.value()), beyondId));
+        if (!asc && nullable) beyond.add(Criteria.where(field).is(null));   // $lt 는 null 을 포함하지 않음
+        return (beyond.size() == 1) ? beyond.get(0) : new Criteria().orOperator(beyond);
+    }
+
+    // $or 안의 조건은 id 변환이 되지 않으므로, 저장된 형태(ObjectId)로 커서에 담음
+    private static Object toObjectId(Object id) {
+        return (id instanceof String value && ObjectId.isValid(value)) ? new ObjectId(value) : id;
+    }
+
+    private static boolean isUnique(MongoPersistentProperty property) {
+        Indexed indexed = property.findAnnotation(Indexed.class);
+        return indexed != null && indexed.unique();
+    }
+}
@@ -18,7 +18,7 @@ import java.util.Optional;
  * </pre>
  */
 //@Repository
-public interface OrgRepository extends MongoRepository<OrgEntity, String> {
+public interface OrgRepository extends MongoRepository<OrgEntity, String>, OrgRepositoryCustom {
 
     Page<OrgEntity> findAll(Pageable pageable);
 
@@ -0,0 +1,19 @@
+package kr.taking.backend.repository;
+
+import kr.taking.backend.model.OrgEntity;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+
+/**
+ * <pre>
+ * ClassName : OrgRepositoryCustom
+ * Type : interface
+ * Descrption : 파생 쿼리로 표현하기 어려운 조직 부분 갱신 등을 정의한 인터페이스입니다.
+ * Related : OrgRepository, OrgRepositoryCustomImpl
+ * </pre>
+ */
+public interface OrgRepositoryCustom {
+
+    Optional<OrgEntity> updateFields(String id, Update update);
+}
@@ -0,0 +1,35 @@
+package kr.taking.backend.repository;
+
+import kr.taking.backend.model.OrgEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+
+/**
+ * <pre>
+ * ClassName : OrgRepositoryCustomImpl
+ * Type : class
+ * Descrption : OrgRepositoryCustom 을 MongoTemplate 으로 구현한 클래스입니다.
+ * Related : OrgRepository, OrgRepositoryCustom
+ * </pre>
+ */
+@RequiredArgsConstructor
+public class OrgRepositoryCustomImpl implements OrgRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    // PATCH : 전달된 필드만 $set 하고 변경 후 문서를 한 번에 반환
+    @Override
+    public Optional<OrgEntity> updateFields(String id, Update update) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                Query.query(Criteria.where("id").is(id)),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                OrgEntity.class));
+    }
+}
@@ -0,0 +1,94 @@
+package kr.taking.backend.repository;
+
+import kr.taking.backend.util.projection.FieldSelection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * ClassName : ProjectedFinder
+ * Type : class
+ * Description : fields= 로 선택한 필드만 조회하는 페이지 조회, 단건/다건 조회, 전체 스트리밍 조회 함수를 포함하고 있는 클래스입니다.
+ * Related : FieldSelection, UserServiceImpl, OrgServiceImpl, RoleServiceImpl
+ * How-to :
+ *  1. 선택하지 않은 필드는 Mongo 에서 읽지 않으며(projection), 응답은 FieldSelection.view 로 같은 필드만 직렬화합니다.
+ *  2. count 는 첫 페이지가 가득 찬 경우에만 조회합니다. (PageableExecutionUtils)
+ *  3. stream 은 커서를 그대로 감싼 Stream 을 반환하므로, 사용 후 반드시 닫아야 합니다. (try-with-resources)
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectedFinder {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${kr.taking.backend.export.cursorBatchSize:1000}")
+    private int cursorBatchSize;
+
+    // 내보내기는 전체 컬렉션을 읽으므로 기본 maxTimeMS(mongo.timeout.queryMs) 대신 사용
+    @Value("${kr.taking.backend.export.maxTimeMs:600000}")
+    private long exportMaxTimeMs;
+
+    public <T> Page<T> findPage(Class<T> type, Criteria criteria, Pageable pageable, FieldSelection fields) {
+        return findPage(type, criteria, pageable, fields, query -> mongoTemplate.find(query, type));
+    }
+
+    // loader : 조회 방법을 바꿀 때 사용 (ex. 사용자 요약 조회 UserRepository::findAllSummaries)
+    public <T> Page<T> findPage(Class<T> type, Criteria criteria, Pageable pageable, FieldSelection fields,
+                                Function<Query, List<T>> loader) {
+        return findPage(type, criteria, null, pageable, fields, loader);
+    }
+
+    // hint : 목록, count 조회에 사용할 인덱스 (이름 또는 키 JSON, 없으면 null)
+    public <T> Page<T> findPage(Class<T> type, Criteria criteria, String hint, Pageable pageable, FieldSelection fields,
+                                Function<Query, List<T>> loader) {
+        Query query = (criteria != null) ? Query.query(criteria) : new Query();
+        if (hint != null) query.withHint(hint);
+        List<T> content = loader.apply(fields.applyTo(Query.of(query).with(pageable)));
+        return PageableExecutionUtils.getPage(content, pageable, () -> mongoTemplate.count(query, type));
+    }
+
+    public <T> Optional<T> findById(Class<T> type, String id, FieldSelection fields) {
+        return Optional.ofNullable(mongoTemplate.findOne(fields.applyTo(Query.query(Criteria.where("id").is(id))), type));
+    }
+
+    // 여러 건을 한 번의 $in 조회로 읽음 (순서는 보장하지 않음)
+    public <T> List<T> findByIds(Class<T> type, Collection<String> ids, FieldSelection fields) {
+        return mongoTemplate.find(fields.applyTo(Query.query(Criteria.where("id").in(ids))), type);
+    }
+
+    /**
+     * [ProjectedFinder] 전체 스트리밍 조회 함수
+     *
+     * @param type 조회할 Entity 타입입니다.
+     * @param criteria 조회 조건입니다. (없으면 전체)
+     * @param fields 조회할 필드입니다.
+     * @return 커서에서 한 건씩 읽는 Stream 을 반환합니다.
+     * <pre>
+     * _id 순서로 읽으며, 서버에서 cursorBatchSize 건씩 가져오므로 결과 전체를 메모리에 올리지 않습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public <T> Stream<T> stream(Class<T> type, Criteria criteria, FieldSelection fields) {
+        Query query = fields.applyTo((criteria != null) ? Query.query(criteria) : new Query())
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .cursorBatchSize(cursorBatchSize);
+        if (exportMaxTimeMs > 0) query.maxTimeMsec(exportMaxTimeMs);
+        return mongoTemplate.stream(query, type);
+    }
+}
@@ -0,0 +1,178 @@
+package kr.taking.backend.repository;
+
+import kr.taking.backend.configuration.invalidation.Invalidation;
+import kr.taking.backend.configuration.invalidation.InvalidationPublisher;
+import kr.taking.backend.configuration.mongo.ReadRouting;
+import kr.taking.backend.configuration.mongo.ReferenceCache;
+import kr.taking.backend.model.OrgEntity;
+import kr.taking.backend.model.RoleEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <pre>
+ * ClassName : ReferenceFinder
+ * Type : class
+ * Description : 역할, 조직을 ReferenceCache 에서 먼저 찾고, 없는 경우에만 DB 에서 조회하는 함수를 포함하고 있는 클래스입니다.
+ * Related : ReferenceCache, RoleServiceImpl, OrgServiceImpl, UserServiceImpl, AuthServiceImpl
+ * How-to :
+ *  1. 캐시에는 문서(Document)를 보관하고 조회할 때마다 Entity 로 변환하므로, 반환된 Entity 를 수정해도 캐시에는 영향이 없습니다.
+ *  2. 역할, 조직을 수정, 삭제한 뒤에는 evictRole, evictOrg 를 호출합니다. (다른 인스턴스의 캐시는 InvalidationBus 가 지움)
+ *  3. kr.taking.backend.referenceCache.preload=true 이면 기동 후 캐시 크기만큼 미리 읽어 둡니다.
+ *  4. 캐시에 넣을 문서는 readOnly 메소드 안에서 호출되어도 primary 에서 읽습니다. (지연된 복제본의 값이 TTL 동안 남지 않도록)
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceFinder {
+
+    private final MongoTemplate mongoTemplate;
+    private final ReferenceCache referenceCache;
+    private final InvalidationPublisher invalidationPublisher;
+    private final ReadRouting readRouting;
+
+    @Value("${kr.taking.backend.referenceCache.preload:true}")
+    private boolean preload;
+
+    public Optional<RoleEntity> findRoleById(String id) {
+        return Optional.ofNullable(findDocument(ReferenceCache.ROLES, id)).map(document -> read(RoleEntity.class, document));
+    }
+
+    public Optional<OrgEntity> findOrgById(String id) {
+        return Optional.ofNullable(findDocument(ReferenceCache.ORGS, id)).map(document -> read(OrgEntity.class, document));
+    }
+
+    /**
+     * [ReferenceFinder] 이름으로 역할 조회 함수
+     *
+     * @param name 조회할 역할의 이름입니다. (ex. ROLE_USER)
+     * @return 주어진 이름에 해당하는 역할 정보를 리턴합니다.
+     * <pre>
+     * 이름 → 고유번호 색인으로 캐시된 문서를 찾고, 없으면 name 유니크 인덱스로 조회하여 캐시합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public Optional<RoleEntity> findRoleByName(String name) {
+        String id = referenceCache.getRoleId(name);
+        Document document = (id != null) ? referenceCache.get(ReferenceCache.ROLES, id) : null;
+
+        if (document == null) {
+            long stamp = referenceCache.stamp();
+            document = readRouting.onPrimary(() ->
+                    mongoTemplate.findOne(Query.query(Criteria.where("name").is(name)), Document.class, ReferenceCache.ROLES));
+            referenceCache.put(ReferenceCache.ROLES, document, stamp);
+        }
+        return Optional.ofNullable(document).map(found -> read(RoleEntity.class, found));
+    }
+
+    /**
+     * [ReferenceFinder] 조직 일괄 조회 함수
+     *
+     * @param ids 조회할 조직 고유번호 리스트입니다.
+     * @return 요청한 순서대로 조직 정보를 리턴하며, 없는 조직은 제외합니다.
+     * <pre>
+     * 캐시에 없는 조직만 한 번의 $in 조회로 읽습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public List<OrgEntity> findOrgsById(List<String> ids) {
+        Map<String, Document> found = new HashMap<>();
+        List<Object> missing = new ArrayList<>();
+        for (String id : ids) {
+            Document document = referenceCache.get(ReferenceCache.ORGS, id);
+            if (document != null) {
+                found.put(id, document);
+            } else {
+                missing.add(toObjectId(id));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long stamp = referenceCache.stamp();
+            List<Document> loaded = readRouting.onPrimary(() ->
+                    mongoTemplate.find(Query.query(Criteria.where("_id").in(missing)), Document.class, ReferenceCache.ORGS));
+            for (Document document : loaded) {
+                referenceCache.put(ReferenceCache.ORGS, document, stamp);
+                found.put(document.get("_id").toString(), document);
+            }
+        }
+
+        List<OrgEntity> orgs = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Document document = found.get(id);
+            if (document != null) orgs.add(read(OrgEntity.class, document));
+        }
+        return orgs;
+    }
+
+    public void evictRole(String id) {
+        referenceCache.evict(ReferenceCache.ROLES, id);
+        invalidationPublisher.publish(Invalidation.Region.ROLE, id);
+    }
+
+    public void evictOrg(String id) {
+        referenceCache.evict(ReferenceCache.ORGS, id);
+        invalidationPublisher.publish(Invalidation.Region.ORG, id);
+    }
+
+    // 캐시 크기를 넘는 문서는 읽지 않음 (나머지는 조회 시 캐시)
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        if (!preload) return;
+
+        try {
+            int roles = preload(ReferenceCache.ROLES);
+            int orgs = preload(ReferenceCache.ORGS);
+            log.info("[ReferenceFinder] preloaded {} roles, {} organizations", roles, orgs);
+        } catch (RuntimeException e) {
+            log.warn("[ReferenceFinder] preload failed : {}", e.getMessage());
+        }
+    }
+
+    private int preload(String collection) {
+        int capacity = referenceCache.capacity(collection);
+        if (capacity <= 0) return 0;
+
+        long stamp = referenceCache.stamp();
+        List<Document> documents = readRouting.onPrimary(() -> mongoTemplate.find(new Query().limit(capacity), Document.class, collection));
+        documents.forEach(document -> referenceCache.put(collection, document, stamp));
+        return documents.size();
+    }
+
+    private Document findDocument(String collection, String id) {
+        Document document = referenceCache.get(collection, id);
+        if (document != null) return document;
+
+        long stamp = referenceCache.stamp();
+        document = readRouting.onPrimary(() ->
+                mongoTemplate.findOne(Query.query(Criteria.where("_id").is(toObjectId(id))), Document.class, collection));
+        referenceCache.put(collection, document, stamp);
+        return document;
+    }
+
+    private <T> T read(Class<T> type, Document document) {
+        return mongoTemplate.getConverter().read(type, document);
+    }
+
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
@@ -0,0 +1,107 @@
+package kr.taking.backend.repository;
+
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.error.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * ClassName : UserFilter
+ * Type : class
+ * Description : 아이디, 역할, 조직, 활성화 여부, 생성일 범위로 사용자를 고르는 조건을 Mongo Criteria 로 바꾸는 클래스입니다.
+ * Related : UserServiceImpl, UserBulkUpdater, UserEntity, IndexCatalog
+ * How-to :
+ *  1. 전달된 조건만 AND 로 묶습니다. (userid, roleId : role.$id, orgId : orgs.$id, enabled, createdFrom <= created_at < createdTo)
+ *  2. indexHint 는 조건 중 범위를 가장 좁히는 인덱스를 고릅니다. (userid > 역할 > 조직 > 생성일)
+ *     나머지 조건은 해당 인덱스 범위 안에서만 비교하므로, 전체 컬렉션을 읽지 않습니다.
+ *  3. 활성화 여부만 있으면 값이 두 가지뿐이라 인덱스 범위가 좁혀지지 않으므로 hint 를 지정하지 않습니다. (쿼리 플래너가 선택)
+ *  4. 생성일 범위로 인덱스를 고른 경우 sortFor 로 인덱스 순서(created_at, id)로 정렬하여, 범위 전체를 메모리에서 정렬하지 않도록 합니다.
+ *  5. 인덱스 이름은 UserEntity 의 @Indexed, @CompoundIndex 와 같아야 합니다.
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor @AllArgsConstructor
+public class UserFilter {
+
+    public static final String USERID_INDEX = "userid";
+    public static final String ROLE_INDEX = "role_id";
+    public static final String ORGS_INDEX = "orgs_id";
+    public static final String CREATED_AT_INDEX = "created_at_id";
+
+    private String userid;
+    private String roleId;
+    private String orgId;
+    private Boolean enabled;
+    private Instant createdFrom;
+    private Instant createdTo;
+
+    public boolean isEmpty() {
+        return userid == null && roleId == null && orgId == null && enabled == null && createdFrom == null && createdTo == null;
+    }
+
+    public Criteria toCriteria() {
+        List<Criteria> criteria = new ArrayList<>();
+        if (userid != null) criteria.add(Criteria.where("userid").is(userid));
+        if (roleId != null) criteria.add(Criteria.where("role.$id").is(toObjectId(roleId)));
+        if (orgId != null) criteria.add(Criteria.where("orgs.$id").is(toObjectId(orgId)));
+        if (enabled != null) criteria.add(Criteria.where("enabled").is(enabled));
+        if (createdFrom != null || createdTo != null) {
+            Criteria created = Criteria.where("created_at");
+            if (createdFrom != null) created.gte(createdFrom);
+            if (createdTo != null) created.lt(createdTo);
+            criteria.add(created);
+        }
+
+        if (criteria.isEmpty()) return new Criteria();
+        return (criteria.size() == 1) ? criteria.get(0) : new Criteria().andOperator(criteria);
+    }
+
+    // 조건이 없거나 활성화 여부만 있으면 null (hint 없음)
+    public String indexHint() {
+        if (userid != null) return USERID_INDEX;
+        if (roleId != null) return ROLE_INDEX;
+        if (orgId != null) return ORGS_INDEX;
+        if (createdFrom != null || createdTo != null) return CREATED_AT_INDEX;
+        return null;
+    }
+
+    /**
+     * [UserFilter] 정렬 조건 확인 함수
+     *
+     * @param requested 요청한 정렬 조건입니다.
+     * @return 생성일 범위 인덱스를 사용하면 created_at, id 순서의 정렬을, 아니면 요청한 정렬을 리턴합니다.
+     * @throws CustomException 생성일 범위 인덱스를 사용하면서 created_at, id 외의 필드로 정렬을 요청한 경우 예외 처리 발생 (400)
+     * <pre>
+     * 기본 정렬(id)은 같은 방향의 created_at, id 로 바꾸며, 생성 순서와 같은 순서로 조회됩니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public Sort sortFor(Sort requested) {
+        if (!CREATED_AT_INDEX.equals(indexHint())) return requested;
+
+        Sort.Order first = requested.stream().findFirst().orElse(null);
+        if (first == null) return Sort.by(Sort.Direction.DESC, "created_at", "id");
+        if ("id".equals(first.getProperty()) || "created_at".equals(first.getProperty())) {
+            return Sort.by(first.getDirection(), "created_at", "id");
+        }
+        throw new CustomException("생성일 범위(createdFrom, createdTo) 조건은 created_at 또는 id 로만 정렬할 수 있습니다.", ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
@@ -17,7 +17,7 @@ import java.util.Optional;
  * </pre>
  */
 //@Repository
-public interface UserRepository extends MongoRepository<UserEntity, String> {
+public interface UserRepository extends MongoRepository<UserEntity, String>, UserRepositoryCustom {
 
     Page<UserEntity> findAll(Pageable pageable);
 
@@ -0,0 +1,40 @@
+package kr.taking.backend.repository;
+
+import kr.taking.backend.model.UserEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * <pre>
+ * ClassName : UserRepositoryCustom
+ * Type : interface
+ * Descrption : 파생 쿼리로 표현하기 어려운 사용자 부분 갱신 등을 정의한 인터페이스입니다.
+ * Related : UserRepository, UserRepositoryCustomImpl
+ * </pre>
+ */
+public interface UserRepositoryCustom {
+
+    void updatePassword(String id, String password);
+
+    Optional<UserEntity> updateFields(String id, Update update);
+
+    long incrementTokenGeneration(String userid);
+
+    List<UserEntity> incrementTokenGenerations(Collection<String> ids);
+
+    Map<String, Long> findTokenGenerations();
+
+    boolean existsByUseridCovered(String userid);
+
+    void forEachUserid(Consumer<String> consumer);
+
+    List<UserEntity> findAllResolved(Query query);
+
+    List<UserEntity> findAllSummaries(Query query);
+}
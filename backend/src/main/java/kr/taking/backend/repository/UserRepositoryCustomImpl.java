@@ -0,0 +1,218 @@
+package kr.taking.backend.repository;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.FindIterable;
+import kr.taking.backend.model.OrgEntity;
+import kr.taking.backend.model.RoleEntity;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.error.exception.EntityNotFoundException;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.function.Consumer;
+
+/**
+ * <pre>
+ * ClassName : UserRepositoryCustomImpl
+ * Type : class
+ * Descrption : UserRepositoryCustom 을 MongoTemplate 으로 구현한 클래스입니다.
+ * Related : UserRepository, UserRepositoryCustom
+ * </pre>
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final Bson USERID_ONLY = Projections.fields(Projections.include("userid"), Projections.excludeId());
+
+    private final MongoTemplate mongoTemplate;
+    private final QueryMapper queryMapper;
+
+    public UserRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    }
+
+    // 전체 문서를 다시 저장하지 않고 password 필드만 $set
+    @Override
+    public void updatePassword(String id, String password) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(id)),
+                Update.update("password", password),
+                UserEntity.class);
+    }
+
+    // PATCH : 전달된 필드만 $set 하고 변경 후 문서를 한 번에 반환 (DBRef 는 읽지 않고 요약만 반환)
+    @Override
+    public Optional<UserEntity> updateFields(String id, Update update) {
+        Query query = Query.query(Criteria.where("id").is(id));
+        query.fields().exclude("role", "orgs");
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), UserEntity.class))
+                .map(user -> user.toBuilder().orgs(null).build());
+    }
+
+    // 토큰 전체 폐기 시 세대를 원자적으로 증가시키고 증가된 값을 반환
+    @Override
+    public long incrementTokenGeneration(String userid) {
+        Query query = Query.query(Criteria.where("userid").is(userid));
+        query.fields().include("tokenGeneration");
+
+        UserEntity user = mongoTemplate.findAndModify(
+                query,
+                new Update().inc("tokenGeneration", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                UserEntity.class);
+
+        if (user == null) {
+            throw new EntityNotFoundException("User with userId " + userid + " Not Found.");
+        }
+        return user.getTokenGeneration();
+    }
+
+    // 일괄 삭제 전 여러 사용자의 세대를 한 번에 증가시키고, 존재하는 사용자의 id, userid, 증가된 세대를 반환
+    @Override
+    public List<UserEntity> incrementTokenGenerations(Collection<String> ids) {
+        Query query = Query.query(Criteria.where("id").in(ids));
+        mongoTemplate.updateMulti(query, new Update().inc("tokenGeneration", 1), UserEntity.class);
+
+        query.fields().include("userid", "tokenGeneration");
+        return mongoTemplate.find(query, UserEntity.class);
+    }
+
+    // 토큰을 전체 폐기한 적이 있는 사용자만 조회 (userid, tokenGeneration 만 projection)
+    @Override
+    public Map<String, Long> findTokenGenerations() {
+        Query query = Query.query(Criteria.where("tokenGeneration").gt(0));
+        query.fields().include("userid", "tokenGeneration").exclude("id");
+
+        Map<String, Long> generations = new HashMap<>();
+        mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(UserEntity.class))
+                .forEach(user -> generations.put(user.getString("userid"), ((Number) user.get("tokenGeneration")).longValue()));
+        return generations;
+    }
+
+    // userid 유니크 인덱스만으로 처리되는 covered 쿼리 (_id 제외, userid 만 projection)
+    @Override
+    public boolean existsByUseridCovered(String userid) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(UserEntity.class))
+                .find(Filters.eq("userid", userid))
+                .projection(USERID_ONLY)
+                .limit(1)
+                .first() != null;
+    }
+
+    // 전체 userid 를 인덱스 순서로 읽음 (문서 본문은 읽지 않음)
+    @Override
+    public void forEachUserid(Consumer<String> consumer) {
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(UserEntity.class))
+                .find(Filters.gte("userid", ""))   // 문자열 범위 조건이어야 인덱스만으로 처리됨
+                .projection(USERID_ONLY)
+                .hint(new Document("userid", 1))
+                .batchSize(10000)
+                .forEach(user -> consumer.accept(user.getString("userid")));
+    }
+
+    /**
+     * [UserRepositoryCustomImpl] 참조(역할, 조직) 일괄 조회 함수
+     *
+     * @param query 사용자 조회 조건입니다. (정렬, skip, limit 포함)
+     * @return 역할, 조직이 채워진 사용자 목록을 리턴합니다.
+     * <pre>
+     * 사용자 문서를 DBRef 를 따라가지 않은 채로 읽고, 전체 결과에서 참조된 역할, 조직 id 를 모아
+     * 컬렉션별로 한 번씩($in) 조회한 뒤 다시 연결합니다.
+     * 사용자 수, 참조 수와 관계없이 쿼리 수는 최대 3번(users, roles, organizations)입니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public List<UserEntity> findAllResolved(Query query) {
+        List<Document> documents = findDocuments(query);
+        if (documents.isEmpty()) return List.of();
+
+        Set<Object> roleIds = new HashSet<>();
+        Set<Object> orgIds = new HashSet<>();
+        for (Document document : documents) {
+            if (document.get("role") instanceof DBRef role) roleIds.add(role.getId());
+            for (DBRef org : orgRefs(document)) orgIds.add(org.getId());
+        }
+
+        Map<String, RoleEntity> roles = findByIds(roleIds, RoleEntity.class, RoleEntity::getId);
+        Map<String, OrgEntity> orgs = findByIds(orgIds, OrgEntity.class, OrgEntity::getId);
+
+        List<UserEntity> users = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            Object role = document.remove("role");
+            List<DBRef> orgRefs = orgRefs(document);
+            document.remove("orgs");
+
+            Set<OrgEntity> userOrgs = new HashSet<>();
+            for (DBRef org : orgRefs) {
+                OrgEntity orgEntity = orgs.get(org.getId().toString());
+                if (orgEntity != null) userOrgs.add(orgEntity);     // 삭제된 조직 참조는 제외 (기존 DBRef 조회와 동일)
+            }
+
+            users.add(mongoTemplate.getConverter().read(UserEntity.class, document).toBuilder()
+                    .role((role instanceof DBRef ref) ? roles.get(ref.getId().toString()) : null)
+                    .orgs(userOrgs)
+                    .build());
+        }
+        return users;
+    }
+
+    // 목록 조회용 : DBRef(role, orgs)는 읽지 않고 문서에 포함된 roleName, orgSummaries 만 사용 (users 컬렉션 한 번 조회)
+    // fields= 로 포함할 필드를 지정한 경우(include projection)에는 exclude 를 함께 쓸 수 없으므로 그대로 사용
+    @Override
+    public List<UserEntity> findAllSummaries(Query query) {
+        Query summaries = Query.of(query);
+        if (query.getFieldsObject().isEmpty()) summaries.fields().exclude("role", "orgs");
+        return mongoTemplate.find(summaries, UserEntity.class).stream()
+                .map(user -> user.toBuilder().orgs(null).build())
+                .collect(Collectors.toList());
+    }
+
+    // UserEntity 기준으로 필드명, id 타입을 변환한 뒤, DBRef 를 따라가지 않는 원본 문서로 조회
+    // (execute 로 조회해야 RoutingMongoTemplate 의 세션, 읽기 라우팅, maxTimeMS 가 적용됨)
+    private List<Document> findDocuments(Query query) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(UserEntity.class);
+
+        return mongoTemplate.execute(entity.getCollection(), collection -> {
+            FindIterable<Document> documents = collection
+                    .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                    .projection(queryMapper.getMappedFields(query.getFieldsObject(), entity))
+                    .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                    .skip((int) query.getSkip());
+            if (query.getLimit() > 0) documents.limit(query.getLimit());
+            String hint = query.getHint();
+            if (hint != null) {
+                if (hint.startsWith("{")) documents.hint(Document.parse(hint)); else documents.hintString(hint);
+            }
+
+            return documents.into(new ArrayList<>());
+        });
+    }
+
+    private <T> Map<String, T> findByIds(Set<Object> ids, Class<T> type, Function<T, String> idGetter) {
+        if (ids.isEmpty()) return Map.of();
+        return mongoTemplate.find(Query.query(Criteria.where("_id").in(ids)), type).stream()
+                .collect(Collectors.toMap(idGetter, Function.identity()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<DBRef> orgRefs(Document document) {
+        Object orgs = document.get("orgs");
+        return (orgs instanceof List<?> list) ? (List<DBRef>) list : List.of();
+    }
+}
@@ -1,5 +1,6 @@
 package kr.taking.backend.service;
 
+import jakarta.servlet.http.HttpServletRequest;
 import kr.taking.backend.util.Security.AccessToken;
 import kr.taking.backend.model.UserEntity;
 import org.springframework.stereotype.Component;
@@ -17,5 +18,8 @@ import org.springframework.stereotype.Component;
 public interface AuthService {
     AccessToken register(UserEntity.RegisterDto userRegisterDto);
     AccessToken.Get login(UserEntity.LoginDto userLoginDto);
+    AccessToken.Get refresh(String refreshToken);
+    void logout(HttpServletRequest request, String refreshToken);
     void checkExistsWithUserId(String userid);
+    boolean existsByUserId(String userid);
 }
@@ -1,14 +1,21 @@
 package kr.taking.backend.service.Impl;
 
-import kr.taking.backend.repository.RoleRepository;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
+import kr.taking.backend.repository.ReferenceFinder;
 import kr.taking.backend.repository.UserRepository;
 import kr.taking.backend.util.Security.AccessToken;
 import kr.taking.backend.error.enums.ErrorCode;
 import kr.taking.backend.error.exception.CustomException;
+import kr.taking.backend.error.exception.EntityNotFoundException;
+import kr.taking.backend.error.exception.RateLimitExceededException;
 import kr.taking.backend.model.RoleEntity;
 import kr.taking.backend.model.UserEntity;
 import kr.taking.backend.service.AuthService;
+import kr.taking.backend.service.RateLimitService;
+import kr.taking.backend.service.TokenRevocationService;
 import kr.taking.backend.service.TokenService;
+import kr.taking.backend.service.security.UserIdIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,9 +23,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
+import java.util.List;
 
 /**
  * <pre>
@@ -37,16 +42,22 @@ public class AuthServiceImpl implements AuthService {
     private final TokenService tokenService;
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final ReferenceFinder referenceFinder;
+    private final RateLimitService rateLimitService;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserIdIndex userIdIndex;
+
+    private static final String DEFAULT_ROLE = "ROLE_USER";
 
     /**
      * [AuthServiceImpl] 회원가입 함수
      *
      * @param userRegisterDto 회원가입에 필요한 사용자 등록 정보를 담은 개체입니다.
      * @return 생성된 JWT 토큰을 리턴합니다.
-     * @throws CustomException 중복된 아이디에 대한 예외 처리 발생
+     * @throws org.springframework.dao.DuplicateKeyException 중복된 아이디에 대한 예외 처리 발생 (userid 유니크 인덱스)
      * <pre>
      * 사용자를 등록하고, 등록된 사용자의 정보를 기반으로 JWT 토큰을 생성하여 반환합니다.
+     * 중복 아이디는 사전 조회 없이 insert 시 유니크 인덱스 위반으로 판별합니다.
      * </pre>
      *
      * Author : taking(taking@duck.com)
@@ -54,26 +65,25 @@ public class AuthServiceImpl implements AuthService {
     public AccessToken register(UserEntity.RegisterDto userRegisterDto) {
 
         Instant instant = Instant.now();
-        checkExistsWithUserId(userRegisterDto.getUserid()); // 동일한 이름 중복체크
-
-        RoleEntity roleEntity = roleRepository.findByName("ROLE_USER").get();
+        RoleEntity role = getDefaultRole();
 
         UserEntity userEntity = UserEntity.builder()
             .userid(userRegisterDto.getUserid())
             .username(userRegisterDto.getUsername())
             .email(userRegisterDto.getEmail())
             .password(passwordEncoder.encode(userRegisterDto.getPassword()))
-            .role(roleEntity)
+            .role(role)
+            .roleName(role.getName())
             .enabled(true)
             .created_at(instant)
+            .tokenGeneration(tokenRevocationService.initialGenerations(List.of(userRegisterDto.getUserid()))
+                    .getOrDefault(userRegisterDto.getUserid(), 0L))   // 삭제된 계정과 같은 아이디이면 이전 세대부터 시작
             .build();
 
-        userRepository.save(userEntity);
+        userRepository.insert(userEntity);  // 중복된 경우 DuplicateKeyException (409)
+        userIdIndex.add(userEntity.getUserid());
 
-        String userid = userEntity.getUserid();
-        RoleEntity role = userEntity.getRole();
-
-        return tokenService.generateJwtToken(userid,role);
+        return tokenService.generateJwtToken(userEntity);
     }
 
     /**
@@ -84,25 +94,90 @@ public class AuthServiceImpl implements AuthService {
      * @throws CustomException 입력 값이 유효하지 않거나 사용자가 등록되지 않았을 경우 예외 처리 발생
      * <pre>
      * 사용자의 로그인 정보를 검증하고, 검증된 사용자의 정보를 기반으로 JWT 토큰을 생성하여 반환합니다.
+     * 사용자 정보는 한 번만 조회하여 검증과 토큰 발급에 함께 사용합니다.
+     * 비밀번호 해시 설정이 바뀐 경우 로그인 시 재해시하여 저장하므로 readOnly 가 아닙니다.
      * </pre>
      *
      * Author : taking(taking@duck.com)
      */
-    @Transactional(readOnly = true)
     public AccessToken.Get login(UserEntity.LoginDto userLoginDto) {
 
-        authenticateByIdAndPassword(userLoginDto);
+        UserEntity userEntity = authenticateByIdAndPassword(userLoginDto);
+        return issueTokens(userEntity);
+
+    }
+
+    /**
+     * [AuthServiceImpl] 토큰 재발급 함수
+     *
+     * @param refreshToken 로그인 시 발급받은 Refresh 토큰입니다.
+     * @return 새로 발급된 Access/Refresh 토큰을 리턴합니다.
+     * @throws CustomException Refresh 토큰이 유효하지 않거나 폐기된 경우 예외 처리 발생
+     * <pre>
+     * Refresh 토큰은 한 번만 사용할 수 있으며(rotation), 사용된 토큰은 즉시 폐기됩니다.
+     * 이미 사용(폐기)된 Refresh 토큰이 다시 들어오면 탈취된 것으로 보고 사용자의 토큰을 모두 폐기합니다.
+     * 같은 Refresh 토큰으로 동시에 요청한 경우에도 한 요청만 새 토큰을 받고, 나머지는 재사용으로 처리됩니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public AccessToken.Get refresh(String refreshToken) {
+
+        Claims claims = tokenService.verifyRefreshToken(refreshToken);
+        if (claims == null) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED_EXCEPTION);
+        }
+
+        // 이미 폐기된 토큰은 메모리에서 바로 거르고, 동시에 들어온 같은 토큰은 revoked_tokens insert(_id 중복)로 한 요청만 통과
+        if (tokenRevocationService.isRevoked(claims) || !tokenRevocationService.revokeOnce(claims)) {
+            log.warn("{} Refresh Token is reused. All tokens are revoked.", claims.getSubject());
+            tokenRevocationService.revokeAll(claims.getSubject());
+            throw new CustomException(ErrorCode.ACCESS_DENIED_EXCEPTION);
+        }
+
+        UserEntity userEntity = userRepository.findByuserid(claims.getSubject())
+                .orElseThrow(() -> new CustomException(ErrorCode.ACCESS_DENIED_EXCEPTION));
+        if (!userEntity.isEnabled()) {  // 비활성화된 계정은 토큰을 재발급하지 않음
+            throw new CustomException(ErrorCode.DISABLED_ACCOUNT);
+        }
+        return issueTokens(userEntity);
+    }
 
-        Optional<UserEntity> userEntity = userRepository.findByuserid(userLoginDto.getUserid());
-        AccessToken accessToken = tokenService.generateJwtToken(userLoginDto.getUserid(), userEntity.get().getRole());
+    /**
+     * [AuthServiceImpl] 로그아웃 함수
+     *
+     * @param request Authorization 헤더에 Access 토큰을 포함한 요청입니다.
+     * @param refreshToken 함께 폐기할 Refresh 토큰입니다. (선택)
+     * <pre>
+     * 요청의 Access 토큰과 전달된 Refresh 토큰을 폐기합니다. 유효하지 않은 토큰은 무시합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public void logout(HttpServletRequest request, String refreshToken) {
+
+        Claims accessClaims = tokenService.verifyToken(tokenService.resolveJwtToken(request));
+        if (accessClaims != null) {
+            tokenRevocationService.revoke(accessClaims);
+        }
+
+        Claims refreshClaims = tokenService.verifyRefreshToken(refreshToken);
+        if (refreshClaims != null) {
+            tokenRevocationService.revoke(refreshClaims);
+        }
+    }
+
+    private AccessToken.Get issueTokens(UserEntity userEntity) {
+        AccessToken accessToken = tokenService.generateJwtToken(userEntity);
 
         return AccessToken.Get.builder()
             .accessToken(accessToken.getAccessToken())
-            .userId(userEntity.get().getUserid())
-            .userName(userEntity.get().getUsername())
-            .userRole(userEntity.get().getRole())
+            .refreshToken(accessToken.getRefreshToken())
+            .userSeq(userEntity.getId())
+            .userId(userEntity.getUserid())
+            .userName(userEntity.getUsername())
+            .userRole(userEntity.getRole())
             .build();
-
     }
 
     /**
@@ -118,28 +193,53 @@ public class AuthServiceImpl implements AuthService {
      */
     @Transactional(readOnly = true)
     public void checkExistsWithUserId(String userid) {
-        if (userRepository.findByuserid(userid).isPresent()) {
+        if (existsByUserId(userid)) {
             throw new CustomException(ErrorCode.DUPLICATE); // 사용자 아이디가 중복됨
         }
     }
 
+    /**
+     * [AuthServiceImpl] 아이디 존재 여부 확인 함수
+     *
+     * @param userid 확인할 사용자 아이디입니다.
+     * @return 이미 등록된 아이디이면 true 를 리턴합니다.
+     * <pre>
+     * UserIdIndex(Bloom filter)에 없는 아이디는 DB 조회 없이 false 를 반환합니다.
+     * 있을 수 있는 경우에만 userid 인덱스만 읽는 covered 쿼리로 확인합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Transactional(readOnly = true)
+    public boolean existsByUserId(String userid) {
+        return userIdIndex.mightExist(userid) && userRepository.existsByUseridCovered(userid);
+    }
+
     /**
      * [AuthServiceImpl] 로그인 정보 검증 함수
      *
      * @param userLoginDto userLoginDto 로그인 정보 검증에 필요한 사용자 등록 정보를 담은 개체입니다.
+     * @return 검증된 사용자 정보를 리턴합니다.
      * @throws CustomException 사용자가 등록되지 않았거나, 비밀번호가 일치하지 않을 경우 예외 처리 발생
+     * @throws RateLimitExceededException 같은 아이디로 로그인 시도가 너무 많은 경우 예외 처리 발생
      * <pre>
      * 입력된 사용자 로그인 정보를 검증합니다.
      * </pre>
      *
      * Author : taking(taking@duck.com)
      */
-    private void authenticateByIdAndPassword(UserEntity.LoginDto userLoginDto) {
+    private UserEntity authenticateByIdAndPassword(UserEntity.LoginDto userLoginDto) {
 
         if(userLoginDto == null) {  // Body 값이 비어 있을 경우, 예외처리
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);   // 입력 값이 유효하지 않음
         }
 
+        // 동일 아이디에 대한 반복 시도(credential stuffing)는 DB 조회, 해시 검증 전에 차단
+        long retryAfterMs = rateLimitService.tryAcquire(RateLimitService.Scope.USERID, userLoginDto.getUserid());
+        if (retryAfterMs > 0) {
+            throw new RateLimitExceededException(retryAfterMs);
+        }
+
         UserEntity user = userRepository.findByuserid(userLoginDto.getUserid())
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));   // 로그인 정보가 유효하지 않음
 
@@ -147,6 +247,32 @@ public class AuthServiceImpl implements AuthService {
             log.error("{} Account Password is Corrent!", userLoginDto.getUserid());
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);   // 로그인 정보가 정확하지 않음
         }
+
+        if(!user.isEnabled()) {
+            log.warn("{} Account is disabled.", userLoginDto.getUserid());
+            throw new CustomException(ErrorCode.DISABLED_ACCOUNT);   // 비활성화된 계정
+        }
+
+        // 현재 해시 설정과 알고리즘이 다르거나 강도가 낮은 해시는 평문 비밀번호를 알고 있는 지금 다시 해시
+        if(passwordEncoder.upgradeEncoding(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), passwordEncoder.encode(userLoginDto.getPassword()));
+            log.info("{} Account Password is rehashed.", userLoginDto.getUserid());
+        }
+
+        return user;
+    }
+
+    /**
+     * [AuthServiceImpl] 기본 역할 조회 함수
+     *
+     * @return 회원가입 시 부여하는 ROLE_USER 역할을 리턴합니다.
+     * <pre>
+     * ROLE_USER 는 기동 시(Initalizer) 생성되고 변경되지 않으므로, ReferenceCache 에서 조회합니다.
+     * </pre>
+     */
+    private RoleEntity getDefaultRole() {
+        return referenceFinder.findRoleByName(DEFAULT_ROLE)
+                .orElseThrow(() -> new EntityNotFoundException("Role with Name " + DEFAULT_ROLE + " Not Found."));
     }
 
     /**
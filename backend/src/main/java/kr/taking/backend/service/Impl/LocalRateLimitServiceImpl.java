@@ -0,0 +1,87 @@
+package kr.taking.backend.service.Impl;
+
+import jakarta.annotation.PostConstruct;
+import kr.taking.backend.service.RateLimitService;
+import kr.taking.backend.service.security.RateLimitPolicies;
+import kr.taking.backend.util.cache.LocalCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * <pre>
+ * ClassName : LocalRateLimitServiceImpl
+ * Type : class
+ * Description : 프로세스 내 토큰 버킷으로 호출 빈도를 제한하는 서비스 구현 클래스입니다.
+ * Related : RateLimitService, RateLimitPolicies, LocalCache
+ * How-to :
+ *  1. 키별 버킷은 "다음 토큰 도착 예정 시각(TAT)" 하나만 저장하고, 키 단위 잠금(LocalCache.compute) 안에서 갱신합니다. (GCRA)
+ *  2. 버킷이 가득 찬(TAT <= 현재) 키는 상태가 없는 것과 같으므로, 마지막 요청 후 (burst + 보충 간격)이 지나면 만료됩니다.
+ *  3. 범위별 키 수는 maxKeys 를 넘지 않으며(초과 시 임의 제거), 만료된 키는 sweepIntervalMs 마다 별도 스레드에서 제거합니다.
+ * </pre>
+ */
+@Slf4j
+@Service("rateLimitServiceImpl")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kr.taking.backend.ratelimit.mode", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitServiceImpl implements RateLimitService {
+
+    private final RateLimitPolicies rateLimitPolicies;
+
+    @Value("${kr.taking.backend.ratelimit.maxKeys:100000}")
+    private int maxKeys;
+
+    private final Map<Scope, LocalCache<String, Long>> buckets = new EnumMap<>(Scope.class);
+
+    @PostConstruct
+    void init() {
+        for (Scope scope : Scope.values()) {
+            RateLimitPolicies.Policy policy = rateLimitPolicies.get(scope);
+            buckets.put(scope, new LocalCache<>(maxKeys, policy.burstToleranceMs() + policy.emissionIntervalMs()));
+        }
+    }
+
+    /**
+     * [LocalRateLimitServiceImpl] 토큰 획득 함수
+     *
+     * @param scope 제한 범위(IP, 사용자 아이디)입니다.
+     * @param key 제한 대상 값입니다.
+     * @return 허용된 경우 0, 제한된 경우 다시 시도할 수 있을 때까지 남은 시간(ms)을 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public long tryAcquire(Scope scope, String key) {
+        if (!rateLimitPolicies.isEnabled() || key == null) return 0;
+
+        RateLimitPolicies.Policy policy = rateLimitPolicies.get(scope);
+        long now = System.currentTimeMillis();
+        long[] retryAfter = new long[1];
+
+        buckets.get(scope).compute(key, (k, tat) -> {
+            long base = Math.max((tat != null) ? tat : now, now);
+            long excess = base - now - policy.burstToleranceMs();
+            if (excess > 0) {
+                retryAfter[0] = excess;
+                return base;
+            }
+            return base + policy.emissionIntervalMs();
+        });
+        return retryAfter[0];
+    }
+
+    @Scheduled(fixedDelayString = "${kr.taking.backend.ratelimit.sweepIntervalMs:10000}")
+    void sweep() {
+        buckets.forEach((scope, cache) -> {
+            int before = cache.size();
+            cache.purgeExpired();
+            log.debug("Rate limit buckets swept : {} {} -> {}", scope, before, cache.size());
+        });
+    }
+}
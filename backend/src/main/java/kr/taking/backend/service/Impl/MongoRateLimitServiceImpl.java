@@ -0,0 +1,73 @@
+package kr.taking.backend.service.Impl;
+
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import jakarta.annotation.PostConstruct;
+import kr.taking.backend.service.RateLimitService;
+import kr.taking.backend.service.security.RateLimitPolicies;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Updates.combine;
+import static com.mongodb.client.model.Updates.inc;
+import static com.mongodb.client.model.Updates.setOnInsert;
+
+/**
+ * <pre>
+ * ClassName : MongoRateLimitServiceImpl
+ * Type : class
+ * Description : 여러 서버(replica)가 공유하는 Mongo 카운터로 호출 빈도를 제한하는 서비스 구현 클래스입니다.
+ * Related : RateLimitService, RateLimitPolicies
+ * How-to :
+ *  1. kr.taking.backend.ratelimit.mode=mongo 로 설정하면 사용합니다.
+ *  2. 1분 고정 구간별 카운터를 원자적으로 증가시키며, 지난 구간 카운터는 TTL 인덱스로 삭제됩니다.
+ * </pre>
+ */
+@Slf4j
+@Service("rateLimitServiceImpl")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kr.taking.backend.ratelimit.mode", havingValue = "mongo")
+public class MongoRateLimitServiceImpl implements RateLimitService {
+
+    private static final String COLLECTION = "rate_limits";
+    private static final long WINDOW_MS = TimeUnit.MINUTES.toMillis(1);
+
+    private final RateLimitPolicies rateLimitPolicies;
+    private final MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    void init() {
+        mongoTemplate.indexOps(COLLECTION)
+                .ensureIndex(new Index().on("expireAt", Sort.Direction.ASC).expire(0));
+    }
+
+    @Override
+    public long tryAcquire(Scope scope, String key) {
+        if (!rateLimitPolicies.isEnabled() || key == null) return 0;
+
+        RateLimitPolicies.Policy policy = rateLimitPolicies.get(scope);
+        long now = System.currentTimeMillis();
+        long windowStart = now - (now % WINDOW_MS);
+
+        Document counter = mongoTemplate.getCollection(COLLECTION).findOneAndUpdate(
+                eq("_id", scope.name() + ":" + key + ":" + windowStart),
+                combine(inc("count", 1), setOnInsert("expireAt", new Date(windowStart + WINDOW_MS * 2))),
+                new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER));
+
+        int limit = Math.max(policy.perMinute(), policy.capacity());
+        if (counter != null && counter.getInteger("count", 0) > limit) {
+            return windowStart + WINDOW_MS - now;
+        }
+        return 0;
+    }
+}
@@ -1,19 +1,34 @@
 package kr.taking.backend.service.Impl;
+import java.util.stream.Stream;
 
+import kr.taking.backend.repository.KeysetPagination;
+import kr.taking.backend.repository.ProjectedFinder;
 import kr.taking.backend.repository.OrgRepository;
+import kr.taking.backend.repository.ReferenceFinder;
 import kr.taking.backend.error.enums.ErrorCode;
 import kr.taking.backend.error.exception.CustomException;
 import kr.taking.backend.error.exception.EntityNotFoundException;
 import kr.taking.backend.model.OrgEntity;
 import kr.taking.backend.service.OrgService;
+import kr.taking.backend.service.bulk.BatchOperations;
+import kr.taking.backend.service.bulk.BatchResult;
+import kr.taking.backend.service.summary.UserSummarySynchronizer;
+import kr.taking.backend.util.paging.CursorPage;
+import kr.taking.backend.util.projection.FieldSelection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Set;
 
 /**
  * <pre>
@@ -30,10 +45,17 @@ import java.time.Instant;
 public class OrgServiceImpl implements OrgService {
 
     private final OrgRepository orgRepository;
+    private final KeysetPagination keysetPagination;
+    private final ProjectedFinder projectedFinder;
+    private final UserSummarySynchronizer userSummarySynchronizer;
+    private final ReferenceFinder referenceFinder;
+    private final BatchOperations batchOperations;
 
     /**
      * [OrgServiceImpl] 전체 조직 조회 함수
      *
+     * @param pageable 페이지 정보입니다.
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
      * @return DB에서 전체 조직 정보 목록을 리턴합니다.
      * @throws EntityNotFoundException 조직 정보가 없을 경우 예외 처리 발생
      * <pre>
@@ -44,8 +66,8 @@ public class OrgServiceImpl implements OrgService {
      */
     @Transactional(readOnly = true)
     @Override
-    public Page<OrgEntity> getOrganizations(Pageable pageable) {
-        return orgRepository.findAll(pageable);
+    public Page<OrgEntity> getOrganizations(Pageable pageable, FieldSelection fields) {
+        return fields.isAll() ? orgRepository.findAll(pageable) : projectedFinder.findPage(OrgEntity.class, null, pageable, fields);
 //        return EntityNotFoundException.requireNotEmpty(orgRepository.findAll(), "Orgs Not Found");
     }
 
@@ -54,7 +76,7 @@ public class OrgServiceImpl implements OrgService {
      *
      * @param orgCreateDto 조직 생성에 필요한 조직 등록 정보를 담은 개체입니다.
      * @return 생성된 조직 정보를 리턴합니다.
-     * @throws CustomException 중복된 이름에 대한 예외 처리 발생
+     * @throws org.springframework.dao.DuplicateKeyException 중복된 이름에 대한 예외 처리 발생 (name 유니크 인덱스)
      * <pre>
      * 조직을 등록합니다.
      * </pre>
@@ -64,7 +86,6 @@ public class OrgServiceImpl implements OrgService {
     public OrgEntity createOrganization(OrgEntity.CreateDto orgCreateDto) {
 
         Instant instant = Instant.now();
-        checkExistsWithOrgName(orgCreateDto.getName()); // 동일한 이름 중복체크
 
         OrgEntity orgEntity = OrgEntity.builder()
             .name(orgCreateDto.getName())
@@ -74,39 +95,44 @@ public class OrgServiceImpl implements OrgService {
             .created_at(instant)
             .build();
 
-        return orgRepository.save(orgEntity);
+        return orgRepository.insert(orgEntity);  // 중복된 경우 DuplicateKeyException (409)
     }
     
     /**
      * [OrgServiceImpl] 조직 수정 함수
      *
      * @param org 조직 수정에 필요한 정보를 담은 개체입니다.
+     * @return 수정된 조직 정보를 리턴합니다.
      * @throws EntityNotFoundException 조직 정보가 없을 경우 예외 처리 발생
+     * @throws org.springframework.dao.DuplicateKeyException 중복된 이름에 대한 예외 처리 발생 (name 유니크 인덱스)
      * <pre>
-     * 특정 조직에 대한 정보를 수정합니다.
+     * 특정 조직에 대해 전달된 필드만 $set 하고, 수정된 문서를 한 번에 반환합니다. (findAndModify)
+     * 조직 이름이 전달된 경우 사용자 문서의 조직 요약(orgSummaries)을 별도 스레드에서 일괄 갱신합니다.
      * </pre>
      *
      * Author : taking(taking@duck.com)
      */
-    public void updateById(String id, OrgEntity.UpdateDto org) {
+    public OrgEntity updateById(String id, OrgEntity.UpdateDto org) {
 
-        OrgEntity orgEntity = findById(id);
-
-        if (org.getName() != null || org.getBiznum() != null || org.getContact() != null) {
+        if (org.getName() == null && org.getBiznum() == null && org.getContact() == null) {
+            log.error("[OrgServiceImpl - udpateOrganization] orgName, bizNum, contact 수정 가능합니다.");
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
 
-            orgEntity = OrgEntity.builder()
-                .id(orgEntity.getId())
-                .name((org.getName() != null) ? org.getName() : orgEntity.getName())
-                .biznum((org.getBiznum() != null) ? org.getBiznum() : orgEntity.getBiznum())
-                .contact((org.getBiznum() != null) ? org.getBiznum() : orgEntity.getBiznum())
-                .build();
+        Update update = new Update();
+        if (org.getName() != null) update.set("name", org.getName());
+        if (org.getBiznum() != null) update.set("biznum", org.getBiznum());
+        if (org.getContact() != null) update.set("contact", org.getContact());
 
-            orgRepository.save(orgEntity);
+        OrgEntity orgEntity = orgRepository.updateFields(id, update)
+                .orElseThrow(() -> new EntityNotFoundException("Org with Id " + id + " Not Found."));
+        referenceFinder.evictOrg(id);
 
-        } else {
-            log.error("[OrgServiceImpl - udpateOrganization] orgName, bizNum, contact 수정 가능합니다.");
-            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        if (org.getName() != null) {
+            userSummarySynchronizer.orgRenamed(orgEntity.getId(), orgEntity.getName());
         }
+
+        return orgEntity;
     }
 
     /**
@@ -121,7 +147,9 @@ public class OrgServiceImpl implements OrgService {
      * Author : taking(taking@duck.com)
      */
     public void deleteById(String id) {
-        orgRepository.delete(orgRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Org with Id " + id + " Not Found.")));
+        orgRepository.delete(findById(id));
+        referenceFinder.evictOrg(id);
+        userSummarySynchronizer.orgDeleted(id);
     }
     
     /**
@@ -156,7 +184,14 @@ public class OrgServiceImpl implements OrgService {
      */
     @Transactional(readOnly = true)
     public OrgEntity findById(String id) {
-        return orgRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Org with Id " + id + " Not Found."));
+        return referenceFinder.findOrgById(id).orElseThrow(() -> new EntityNotFoundException("Org with Id " + id + " Not Found."));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public OrgEntity findById(String id, FieldSelection fields) {
+        if (fields.isAll()) return findById(id);
+        return projectedFinder.findById(OrgEntity.class, id, fields).orElseThrow(() -> new EntityNotFoundException("Org with Id " + id + " Not Found."));
     }
 
     /**
@@ -177,7 +212,119 @@ public class OrgServiceImpl implements OrgService {
     }
 
     @Transactional(readOnly = true)
-    public Page<OrgEntity> findPageByName(String name, Pageable pageable) {
-        return orgRepository.findPageByName(name, pageable);
+    public Page<OrgEntity> findPageByName(String name, Pageable pageable, FieldSelection fields) {
+        return fields.isAll()
+                ? orgRepository.findPageByName(name, pageable)
+                : projectedFinder.findPage(OrgEntity.class, Criteria.where("name").is(name), pageable, fields);
+    }
+
+    /**
+     * [OrgServiceImpl] 조직 커서 페이지 조회 함수
+     *
+     * @param name 조회할 조직의 name 입니다. (없으면 전체 조회)
+     * @param sort 정렬 조건입니다. 첫 번째 정렬 조건만 사용합니다.
+     * @param cursor 이전 페이지의 nextCursor 입니다. 비어 있으면 첫 페이지를 조회합니다.
+     * @param size 페이지 크기입니다.
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
+     * @return 조직 목록과 다음 페이지 커서를 리턴합니다.
+     * <pre>
+     * skip, count 없이 커서 이후의 항목만 조회하므로 페이지 깊이와 관계없이 조회 비용이 일정합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<OrgEntity> getOrganizationsByCursor(String name, Sort sort, String cursor, int size, FieldSelection fields) {
+        Criteria filter = (name != null) ? Criteria.where("name").is(name) : null;
+        return keysetPagination.find(OrgEntity.class, filter, sort, cursor, size, fields);
+    }
+
+    /**
+     * [OrgServiceImpl] 조직 내보내기 조회 함수
+     *
+     * @param name 조회할 조직의 name 입니다. (없으면 전체 조회)
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
+     * @return 커서에서 한 건씩 읽는 Stream 을 리턴합니다. 사용 후 닫아야 합니다.
+     * <pre>
+     * _id 순서로 cursorBatchSize 건씩 읽습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Stream<OrgEntity> streamOrganizations(String name, FieldSelection fields) {
+        return projectedFinder.stream(OrgEntity.class, (name != null) ? Criteria.where("name").is(name) : null, fields);
+    }
+
+    /**
+     * [OrgServiceImpl] 조직 일괄 조회 함수
+     *
+     * @param ids 조회할 조직의 식별자 목록입니다.
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
+     * @return 요청한 id 순서대로 조직 정보 또는 404 를 담아 리턴합니다.
+     * <pre>
+     * 전체 필드는 참조 캐시에 없는 조직만, 일부 필드는 선택한 필드만 한 번의 $in 조회로 읽습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public BatchResult findByIds(List<String> ids, FieldSelection fields) {
+        List<String> distinct = batchOperations.ids(ids);
+        List<OrgEntity> found = fields.isAll()
+                ? referenceFinder.findOrgsById(distinct)
+                : projectedFinder.findByIds(OrgEntity.class, distinct, fields);
+        return batchOperations.found(distinct, found, OrgEntity::getId);
+    }
+
+    /**
+     * [OrgServiceImpl] 조직 일괄 생성 함수
+     *
+     * @param orgCreateDtos 조직 등록 정보 목록입니다.
+     * @return 요청 순서대로 생성된 조직 정보 또는 400, 409 를 담아 리턴합니다.
+     * <pre>
+     * 한 번의 unordered bulkWrite 로 등록하며, 이름이 중복된 조직만 실패합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public BatchResult createOrganizations(List<OrgEntity.CreateDto> orgCreateDtos) {
+
+        Instant instant = Instant.now();
+
+        return batchOperations.insert(OrgEntity.class, orgCreateDtos, orgCreateDto -> OrgEntity.builder()
+            .id(new ObjectId().toHexString())   // bulkWrite 는 생성된 id 를 Entity 에 채우지 않음
+            .name(orgCreateDto.getName())
+            .biznum(orgCreateDto.getBiznum())
+            .contact(orgCreateDto.getContact())
+            .enabled(true)
+            .created_at(instant)
+            .build());
+    }
+
+    /**
+     * [OrgServiceImpl] 조직 일괄 삭제 함수
+     *
+     * @param ids 삭제할 조직의 식별자 목록입니다.
+     * @return 요청 순서대로 삭제 결과 또는 404 를 담아 리턴합니다.
+     * <pre>
+     * 존재하는 조직을 한 번에 조회, 삭제하고, 사용자 문서의 조직 요약은 updateMany 한 번으로 갱신합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public BatchResult deleteByIds(List<String> ids) {
+        List<String> distinct = batchOperations.ids(ids);
+        Set<String> existing = batchOperations.existingIds(OrgEntity.class, distinct);
+
+        BatchResult result = batchOperations.delete(OrgEntity.class, distinct, existing);
+        existing.forEach(referenceFinder::evictOrg);
+        if (!existing.isEmpty()) userSummarySynchronizer.orgsDeleted(existing);
+        return result;
     }
 }
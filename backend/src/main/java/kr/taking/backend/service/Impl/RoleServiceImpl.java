@@ -1,18 +1,33 @@
 package kr.taking.backend.service.Impl;
 
+import kr.taking.backend.repository.KeysetPagination;
+import kr.taking.backend.repository.ProjectedFinder;
+import kr.taking.backend.repository.ReferenceFinder;
 import kr.taking.backend.repository.RoleRepository;
 import kr.taking.backend.error.enums.ErrorCode;
 import kr.taking.backend.error.exception.CustomException;
 import kr.taking.backend.error.exception.EntityNotFoundException;
 import kr.taking.backend.model.RoleEntity;
 import kr.taking.backend.service.RoleService;
+import kr.taking.backend.service.bulk.BatchOperations;
+import kr.taking.backend.service.bulk.BatchResult;
+import kr.taking.backend.service.summary.UserSummarySynchronizer;
+import kr.taking.backend.service.security.PrincipalCache;
+import kr.taking.backend.util.paging.CursorPage;
+import kr.taking.backend.util.projection.FieldSelection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * <pre>
@@ -28,11 +43,22 @@ import java.time.Instant;
 @RequiredArgsConstructor
 public class RoleServiceImpl implements RoleService {
 
+    // 기동 시(Initalizer) 생성되어 인증, 회원가입에서 이름으로 찾는 역할은 이름을 바꿀 수 없음
+    private static final Set<String> BUILT_IN_ROLES = Set.of("ROLE_ADMIN", "ROLE_USER");
+
     private final RoleRepository roleRepository;
+    private final KeysetPagination keysetPagination;
+    private final ProjectedFinder projectedFinder;
+    private final UserSummarySynchronizer userSummarySynchronizer;
+    private final ReferenceFinder referenceFinder;
+    private final BatchOperations batchOperations;
+    private final PrincipalCache principalCache;
 
     /**
      * [RoleServiceImpl] 전체 역할 조회 함수
      *
+     * @param pageable 페이지 정보입니다.
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
      * @return DB에서 전체 역할 정보 목록을 리턴합니다.
      * @throws EntityNotFoundException 역할 정보가 없을 경우 예외 처리 발생
      * <pre>
@@ -43,8 +69,8 @@ public class RoleServiceImpl implements RoleService {
      */
     @Transactional(readOnly = true)
     @Override
-    public Page<RoleEntity> getRoles(Pageable pageable) {
-        return roleRepository.findAll(pageable);
+    public Page<RoleEntity> getRoles(Pageable pageable, FieldSelection fields) {
+        return fields.isAll() ? roleRepository.findAll(pageable) : projectedFinder.findPage(RoleEntity.class, null, pageable, fields);
         //        return EntityNotFoundException.requireNotEmpty(orgRepository.findAll(), "Roles Not Found");
     }
 
@@ -53,7 +79,7 @@ public class RoleServiceImpl implements RoleService {
      *
      * @param roleCreateDto 역할 생성에 필요한 역할 등록 정보를 담은 개체입니다.
      * @return 생성된 역할 정보를 리턴합니다.
-     * @throws CustomException 중복된 이름에 대한 예외 처리 발생
+     * @throws org.springframework.dao.DuplicateKeyException 중복된 이름에 대한 예외 처리 발생 (name 유니크 인덱스)
      * <pre>
      * 역할을 등록합니다.
      * </pre>
@@ -63,14 +89,13 @@ public class RoleServiceImpl implements RoleService {
     public RoleEntity createRole(RoleEntity.CreateDto roleCreateDto) {
 
         Instant instant = Instant.now();
-        checkExistsWithRoleName(roleCreateDto.getName()); // 동일한 이름 중복체크
 
         RoleEntity roleEntity = RoleEntity.builder()
             .name("ROLE_" + roleCreateDto.getName())
             .created_at(instant)
             .build();
 
-        return roleRepository.save(roleEntity);
+        return roleRepository.insert(roleEntity);  // 중복된 경우 DuplicateKeyException (409)
     }
 
     /**
@@ -85,7 +110,50 @@ public class RoleServiceImpl implements RoleService {
      * Author : taking(taking@duck.com)
      */
     public void deleteById(String id) {
-        roleRepository.delete(roleRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Role with Id " + id + " Not Found.")));
+        roleRepository.delete(findById(id));
+        referenceFinder.evictRole(id);
+        principalCache.invalidateAll();  // 해당 역할을 가진 사용자를 알 수 없으므로 전체 무효화
+        userSummarySynchronizer.roleDeleted(id);
+    }
+
+    /**
+     * [RoleServiceImpl] 역할 수정 함수
+     *
+     * @param id 수정할 역할의 식별자입니다.
+     * @param role 역할 수정에 필요한 정보를 담은 개체입니다.
+     * @return 수정된 역할 정보를 리턴합니다.
+     * @throws EntityNotFoundException 해당 ID의 역할 정보가 없을 경우 예외 처리 발생
+     * @throws CustomException 이름이 없거나 기본 역할(ROLE_ADMIN, ROLE_USER)인 경우 예외 처리 발생
+     * <pre>
+     * 역할 이름을 변경하고, 사용자 문서의 역할 이름(roleName)을 별도 스레드에서 일괄 갱신합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public RoleEntity updateById(String id, RoleEntity.UpdateDto role) {
+
+        RoleEntity roleEntity = findById(id);
+
+        if (role.getName() == null || BUILT_IN_ROLES.contains(roleEntity.getName())) {
+            log.error("[RoleServiceImpl - updateRole] 기본 역할은 수정할 수 없습니다.");
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        String name = "ROLE_" + role.getName();
+        if (name.equals(roleEntity.getName())) return roleEntity;
+
+        roleEntity = RoleEntity.builder()
+            .id(roleEntity.getId())
+            .name(name)
+            .created_at(roleEntity.getCreated_at())
+            .build();
+
+        roleRepository.save(roleEntity);    // 중복된 경우 DuplicateKeyException (409)
+        referenceFinder.evictRole(roleEntity.getId());
+        principalCache.invalidateAll();
+        userSummarySynchronizer.roleRenamed(roleEntity.getId(), roleEntity.getName());
+
+        return roleEntity;
     }
     
     /**
@@ -120,7 +188,7 @@ public class RoleServiceImpl implements RoleService {
      */
     @Transactional(readOnly = true)
     public RoleEntity findByName(String name) {
-        return roleRepository.findByName(name).orElseThrow(() -> new EntityNotFoundException("Role with Name " + name + " Not Found."));
+        return referenceFinder.findRoleByName(name).orElseThrow(() -> new EntityNotFoundException("Role with Name " + name + " Not Found."));
     }
 
     /**
@@ -137,11 +205,124 @@ public class RoleServiceImpl implements RoleService {
      */
     @Transactional(readOnly = true)
     public RoleEntity findById(String id) {
-        return roleRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Role with Id " + id + " Not Found."));
+        return referenceFinder.findRoleById(id).orElseThrow(() -> new EntityNotFoundException("Role with Id " + id + " Not Found."));
     }
 
     @Transactional(readOnly = true)
-    public Page<RoleEntity> findPageByName(String name, Pageable pageable) {
-        return roleRepository.findPageByName(name, pageable);
+    @Override
+    public RoleEntity findById(String id, FieldSelection fields) {
+        if (fields.isAll()) return findById(id);
+        return projectedFinder.findById(RoleEntity.class, id, fields).orElseThrow(() -> new EntityNotFoundException("Role with Id " + id + " Not Found."));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<RoleEntity> findPageByName(String name, Pageable pageable, FieldSelection fields) {
+        return fields.isAll()
+                ? roleRepository.findPageByName(name, pageable)
+                : projectedFinder.findPage(RoleEntity.class, Criteria.where("name").is(name), pageable, fields);
+    }
+
+    /**
+     * [RoleServiceImpl] 역할 커서 페이지 조회 함수
+     *
+     * @param name 조회할 역할의 name 입니다. (없으면 전체 조회)
+     * @param sort 정렬 조건입니다. 첫 번째 정렬 조건만 사용합니다.
+     * @param cursor 이전 페이지의 nextCursor 입니다. 비어 있으면 첫 페이지를 조회합니다.
+     * @param size 페이지 크기입니다.
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
+     * @return 역할 목록과 다음 페이지 커서를 리턴합니다.
+     * <pre>
+     * skip, count 없이 커서 이후의 항목만 조회하므로 페이지 깊이와 관계없이 조회 비용이 일정합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<RoleEntity> getRolesByCursor(String name, Sort sort, String cursor, int size, FieldSelection fields) {
+        Criteria filter = (name != null) ? Criteria.where("name").is(name) : null;
+        return keysetPagination.find(RoleEntity.class, filter, sort, cursor, size, fields);
+    }
+
+    /**
+     * [RoleServiceImpl] 역할 내보내기 조회 함수
+     *
+     * @param name 조회할 역할의 name 입니다. (없으면 전체 조회)
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
+     * @return 커서에서 한 건씩 읽는 Stream 을 리턴합니다. 사용 후 닫아야 합니다.
+     * <pre>
+     * _id 순서로 cursorBatchSize 건씩 읽습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Stream<RoleEntity> streamRoles(String name, FieldSelection fields) {
+        return projectedFinder.stream(RoleEntity.class, (name != null) ? Criteria.where("name").is(name) : null, fields);
+    }
+
+    /**
+     * [RoleServiceImpl] 역할 일괄 조회 함수
+     *
+     * @param ids 조회할 역할의 식별자 목록입니다.
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
+     * @return 요청한 id 순서대로 역할 정보 또는 404 를 담아 리턴합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public BatchResult findByIds(List<String> ids, FieldSelection fields) {
+        List<String> distinct = batchOperations.ids(ids);
+        return batchOperations.found(distinct, projectedFinder.findByIds(RoleEntity.class, distinct, fields), RoleEntity::getId);
+    }
+
+    /**
+     * [RoleServiceImpl] 역할 일괄 생성 함수
+     *
+     * @param roleCreateDtos 역할 등록 정보 목록입니다.
+     * @return 요청 순서대로 생성된 역할 정보 또는 400, 409 를 담아 리턴합니다.
+     * <pre>
+     * 한 번의 unordered bulkWrite 로 등록하며, 이름이 중복된 역할만 실패합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public BatchResult createRoles(List<RoleEntity.CreateDto> roleCreateDtos) {
+
+        Instant instant = Instant.now();
+
+        return batchOperations.insert(RoleEntity.class, roleCreateDtos, roleCreateDto -> RoleEntity.builder()
+            .id(new ObjectId().toHexString())   // bulkWrite 는 생성된 id 를 Entity 에 채우지 않음
+            .name("ROLE_" + roleCreateDto.getName())
+            .created_at(instant)
+            .build());
+    }
+
+    /**
+     * [RoleServiceImpl] 역할 일괄 삭제 함수
+     *
+     * @param ids 삭제할 역할의 식별자 목록입니다.
+     * @return 요청 순서대로 삭제 결과 또는 404 를 담아 리턴합니다.
+     * <pre>
+     * 존재하는 역할을 한 번에 조회, 삭제하고, 인증 주체 캐시는 한 번만 전체 무효화합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public BatchResult deleteByIds(List<String> ids) {
+        List<String> distinct = batchOperations.ids(ids);
+        Set<String> existing = batchOperations.existingIds(RoleEntity.class, distinct);
+
+        BatchResult result = batchOperations.delete(RoleEntity.class, distinct, existing);
+        if (!existing.isEmpty()) {
+            existing.forEach(referenceFinder::evictRole);
+            principalCache.invalidateAll();
+            userSummarySynchronizer.rolesDeleted(existing);
+        }
+        return result;
     }
 }
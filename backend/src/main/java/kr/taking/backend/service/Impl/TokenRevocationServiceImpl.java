@@ -0,0 +1,295 @@
+package kr.taking.backend.service.Impl;
+
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import kr.taking.backend.configuration.invalidation.Invalidation;
+import kr.taking.backend.configuration.invalidation.InvalidationPublisher;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.repository.UserRepository;
+import kr.taking.backend.service.TokenRevocationService;
+import kr.taking.backend.util.Security.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.in;
+
+/**
+ * <pre>
+ * ClassName : TokenRevocationServiceImpl
+ * Type : class
+ * Description : 폐기된 JWT 토큰 목록과 사용자별 토큰 세대(generation)를 메모리에 유지하여, 요청마다 DB 조회 없이 폐기 여부를 판별하는 클래스입니다.
+ * Related : TokenRevocationService, JwtFilter, AuthServiceImpl
+ * How-to :
+ *  1. 개별 폐기 : jti 를 revoked_tokens 컬렉션(TTL 인덱스)에 저장하고, Bloom filter 와 정확한 집합에 추가합니다.
+ *  2. 전체 폐기 : 사용자의 tokenGeneration 을 증가시키며, 이전 세대(gen 클레임)로 발급된 토큰은 모두 거부됩니다.
+ *  3. 대부분의 폐기되지 않은 토큰은 Bloom filter 에서 바로 걸러지므로 집합 조회도 하지 않습니다.
+ *  4. 다른 인스턴스의 폐기는 InvalidationBus 가 markRevoked, raiseGeneration 으로 반영합니다.
+ *  5. 사용자 삭제 시 마지막 세대를 token_generations 컬렉션(_id : userid)에 남기고, 같은 아이디로 다시 가입하면 그 세대부터 시작합니다.
+ *     (아이디별 최소 세대는 그대로 유지되므로 이전 계정의 토큰은 거부되고, 새 계정의 토큰은 모든 인스턴스에서 유효합니다)
+ * </pre>
+ */
+@Slf4j
+@Service("tokenRevocationServiceImpl")
+@RequiredArgsConstructor
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private static final String COLLECTION = "revoked_tokens";
+    private static final String GENERATIONS = "token_generations";
+
+    private final MongoTemplate mongoTemplate;
+    private final UserRepository userRepository;
+    private final InvalidationPublisher invalidationPublisher;
+
+    @Value("${kr.taking.backend.revocation.expectedInsertions:100000}")
+    private int expectedInsertions;
+
+    // jti -> 만료 시각(epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // userid -> 유효한 최소 토큰 세대
+    private final Map<String, Long> minGenerations = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    // markRevoked 와 Bloom filter 재생성(sweep, reload)이 겹쳐 추가된 항목이 빠지지 않도록 함께 잠금
+    private final Object filterLock = new Object();
+
+    @PostConstruct
+    void init() {
+        mongoTemplate.indexOps(COLLECTION)
+                .ensureIndex(new Index().on("expireAt", Sort.Direction.ASC).expire(0));
+        reload();
+    }
+
+    // 변경 이력을 놓친 경우(InvalidationBus)에도 호출 (폐기는 되돌릴 수 없으므로 추가만 하고, 정리는 sweep 이 담당)
+    @Override
+    public void reload() {
+        Map<String, Long> loaded = new HashMap<>();
+        for (Document document : mongoTemplate.getCollection(COLLECTION).find(gt("expireAt", new Date()))) {
+            loaded.put(document.getString("_id"), document.getDate("expireAt").getTime());
+        }
+        synchronized (filterLock) {
+            revokedTokens.putAll(loaded);
+            rebuildFilter();
+        }
+
+        for (Document document : mongoTemplate.getCollection(GENERATIONS).find()) {
+            raiseGeneration(document.getString("_id"), ((Number) document.get("generation")).longValue());
+        }
+        userRepository.findTokenGenerations().forEach(this::raiseGeneration);
+        log.info("Token revocation loaded : revoked={}, users={}", revokedTokens.size(), minGenerations.size());
+    }
+
+    /**
+     * [TokenRevocationServiceImpl] 토큰 폐기 함수
+     *
+     * @param claims 폐기할 토큰의 Claims 입니다. jti 가 없는 토큰(이전 발급 형식)은 폐기할 수 없습니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) return;
+
+        Date expireAt = (claims.getExpiration() != null) ? claims.getExpiration() : new Date();
+        mongoTemplate.getCollection(COLLECTION).replaceOne(
+                eq("_id", jti),
+                new Document("_id", jti).append("userid", claims.getSubject()).append("expireAt", expireAt),
+                new ReplaceOptions().upsert(true));
+
+        markRevoked(jti, expireAt.getTime());
+        invalidationPublisher.publish(Invalidation.Region.REVOKED_TOKEN, jti, expireAt.getTime());
+    }
+
+    /**
+     * [TokenRevocationServiceImpl] 토큰 1회 사용 처리 함수
+     *
+     * @param claims 사용 처리할 토큰(Refresh 토큰)의 Claims 입니다.
+     * @return 처음 사용된 경우 true, 이미 사용(폐기)된 경우 false 를 반환합니다.
+     * <pre>
+     * 조회 후 폐기(check-then-act) 대신 jti 를 _id 로 insert 하므로, 같은 토큰으로 동시에 요청해도 한 요청만 true 를 받습니다.
+     * jti 가 없는 토큰(이전 발급 형식)은 폐기할 수 없으므로 true 를 반환합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public boolean revokeOnce(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) return true;
+
+        Date expireAt = (claims.getExpiration() != null) ? claims.getExpiration() : new Date();
+        try {
+            mongoTemplate.insert(new Document("_id", jti).append("userid", claims.getSubject()).append("expireAt", expireAt), COLLECTION);
+        } catch (DuplicateKeyException e) {
+            markRevoked(jti, expireAt.getTime());
+            return false;
+        }
+
+        markRevoked(jti, expireAt.getTime());
+        invalidationPublisher.publish(Invalidation.Region.REVOKED_TOKEN, jti, expireAt.getTime());
+        return true;
+    }
+
+    @Override
+    public void markRevoked(String jti, long expireAt) {
+        synchronized (filterLock) {
+            revokedTokens.put(jti, expireAt);
+            bloomFilter.put(jti);
+        }
+    }
+
+    /**
+     * [TokenRevocationServiceImpl] 사용자 토큰 전체 폐기 함수
+     *
+     * @param userid 토큰을 폐기할 사용자 아이디입니다.
+     * @return 증가된 토큰 세대를 반환합니다. 이후 발급되는 토큰은 이 세대를 가집니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public long revokeAll(String userid) {
+        long generation = userRepository.incrementTokenGeneration(userid);
+        raiseGeneration(userid, generation);
+        invalidationPublisher.publish(Invalidation.Region.TOKEN_GENERATION, userid, generation);
+        return generation;
+    }
+
+    /**
+     * [TokenRevocationServiceImpl] 삭제할 사용자 토큰 전체 폐기 함수
+     *
+     * @param ids 삭제할 사용자의 고유번호 목록입니다.
+     * @return 존재하는 사용자의 고유번호 -> userid 를 반환합니다.
+     * <pre>
+     * 사용자 수와 관계없이 updateMany 한 번, 조회 한 번으로 세대를 증가시키고, 다른 인스턴스에는 묶어서 알립니다. (publishAll)
+     * 증가된 세대는 token_generations 에 남겨, 같은 아이디로 다시 가입한 계정이 이어서 사용합니다. (initialGenerations)
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Map<String, String> revokeAllById(Collection<String> ids) {
+        List<UserEntity> users = userRepository.incrementTokenGenerations(ids);
+        if (users.isEmpty()) return Map.of();
+
+        List<WriteModel<Document>> retained = new ArrayList<>(users.size());
+        for (UserEntity user : users) {
+            retained.add(new UpdateOneModel<>(eq("_id", user.getUserid()),
+                    Updates.max("generation", user.getTokenGeneration()), new UpdateOptions().upsert(true)));
+        }
+        mongoTemplate.getCollection(GENERATIONS).bulkWrite(retained);
+
+        Map<String, String> userids = new HashMap<>();
+        Map<String, Long> generations = new HashMap<>();
+        for (UserEntity user : users) {
+            generations.put(user.getUserid(), user.getTokenGeneration());
+            userids.put(user.getId(), user.getUserid());
+        }
+        generationsRaised(generations);
+        return userids;
+    }
+
+    /**
+     * [TokenRevocationServiceImpl] 증가된 토큰 세대 반영 함수
+     *
+     * @param generations 토큰 세대를 증가시킨 사용자 아이디 -> 증가된 세대입니다.
+     * <pre>
+     * DB 에서 tokenGeneration 을 증가시킨 뒤(일괄 변경 등) 호출하며, 이 인스턴스에 반영하고 다른 인스턴스에는 묶어서 알립니다. (publishAll)
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public void generationsRaised(Map<String, Long> generations) {
+        List<Invalidation> invalidations = new ArrayList<>(generations.size());
+        generations.forEach((userid, generation) -> {
+            raiseGeneration(userid, generation);
+            invalidations.add(Invalidation.of(Invalidation.Region.TOKEN_GENERATION, userid, generation));
+        });
+        invalidationPublisher.publishAll(invalidations);
+    }
+
+    /**
+     * [TokenRevocationServiceImpl] 가입 시 토큰 세대 조회 함수
+     *
+     * @param userids 가입할 사용자 아이디 목록입니다.
+     * @return 삭제된 계정이 있던 아이디 -> 이어서 사용할 토큰 세대를 반환합니다. (없는 아이디는 포함하지 않음, 0 부터 시작)
+     * <pre>
+     * token_generations 의 세대는 기동 시(reload)와 다른 인스턴스의 알림(TOKEN_GENERATION)으로 minGenerations 에 모두 반영되어 있으므로,
+     * minGenerations 에 세대가 있는 아이디만 token_generations 를 한 번($in) 조회합니다. (대부분의 가입은 DB 조회 없음)
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public Map<String, Long> initialGenerations(Collection<String> userids) {
+        List<String> retained = userids.stream()
+                .filter(userid -> minGenerations.getOrDefault(userid, 0L) > 0)
+                .toList();
+        if (retained.isEmpty()) return Map.of();
+
+        Map<String, Long> generations = new HashMap<>();
+        for (Document document : mongoTemplate.getCollection(GENERATIONS).find(in("_id", retained))) {
+            generations.put(document.getString("_id"), ((Number) document.get("generation")).longValue());
+        }
+        return generations;
+    }
+
+    @Override
+    public void raiseGeneration(String userid, long generation) {
+        minGenerations.merge(userid, generation, Math::max);
+    }
+
+    @Override
+    public boolean isRevoked(Claims claims) {
+        Long minGeneration = minGenerations.get(claims.getSubject());
+        if (minGeneration != null) {
+            Object generation = claims.get(TokenServiceImpl.CLAIM_GENERATION);
+            long tokenGeneration = (generation instanceof Number number) ? number.longValue() : 0L;
+            if (tokenGeneration < minGeneration) return true;
+        }
+
+        String jti = claims.getId();
+        if (jti == null) return false;
+
+        return bloomFilter.mightContain(jti) && revokedTokens.containsKey(jti);
+    }
+
+    // 만료된 폐기 항목을 제거하고 Bloom filter 를 다시 만듦 (Bloom filter 는 항목 삭제가 불가능)
+    @Scheduled(fixedDelayString = "${kr.taking.backend.revocation.sweepIntervalMs:60000}")
+    void sweep() {
+        long now = System.currentTimeMillis();
+        synchronized (filterLock) {
+            if (!revokedTokens.values().removeIf(expireAt -> expireAt <= now)) return;
+            rebuildFilter();
+        }
+    }
+
+    // filterLock 안에서만 호출 (재생성 중 추가된 항목이 새 filter 에서 빠지지 않도록)
+    private void rebuildFilter() {
+        BloomFilter filter = new BloomFilter(expectedInsertions, 0.01);
+        revokedTokens.keySet().forEach(filter::put);
+        bloomFilter = filter;
+    }
+}
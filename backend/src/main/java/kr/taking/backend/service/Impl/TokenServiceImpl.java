@@ -3,26 +3,37 @@ package kr.taking.backend.service.Impl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import kr.taking.backend.service.security.CustomUserDetailsService;
+import kr.taking.backend.service.security.PrincipalCache;
+import kr.taking.backend.service.security.RoleAuthorities;
 import kr.taking.backend.util.Security.AccessToken;
 import kr.taking.backend.util.Security.SecretKey;
-import kr.taking.backend.model.RoleEntity;
+import kr.taking.backend.util.cache.LocalCache;
 import kr.taking.backend.model.UserEntity;
 import kr.taking.backend.service.TokenService;
-import kr.taking.backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
 
 @Component
 @Slf4j
@@ -35,56 +46,157 @@ public class TokenServiceImpl implements TokenService {
     @Value("${kr.taking.backend.jwtExpirationMs}")
     private int jwtExpirationMs;
 
+    @Value("${kr.taking.backend.jwtRefreshExpirationMs:1209600000}")
+    private long jwtRefreshExpirationMs;
+
+    @Value("${kr.taking.backend.jwtCacheSize:10000}")
+    private int jwtCacheSize;
+
+    @Value("${kr.taking.backend.jwtCacheTtlMs:300000}")
+    private long jwtCacheTtlMs;
+
+    // true : roles 클레임으로 인증 정보 생성 (DB 조회 없음), false : DB 조회 (PrincipalCache 사용)
+    @Value("${kr.taking.backend.jwtClaimsAuthentication:false}")
+    private boolean jwtClaimsAuthentication;
+
     public static final String AUTHORIZATION_HEADER = "Authorization";
+
+    public static final String CLAIM_TYPE = "type";
+    public static final String CLAIM_GENERATION = "gen";
+    private static final String TYPE_ACCESS = "access";
+    private static final String TYPE_REFRESH = "refresh";
     
     private final CustomUserDetailsService userDetailsService;
-    private final UserService userService;
-
-    public AccessToken generateJwtToken(String userid, RoleEntity role) {
-        
-        SecretKey secretKey = new SecretKey(jwtSecretKey, jwtExpirationMs);
-        UserEntity user = userService.findByUserId(userid);
-        
-        Claims claims = Jwts.claims().setSubject(userid);
+    private final PrincipalCache principalCache;
+
+    // 서명 키, 파서는 생성 비용이 크므로 기동 시 한 번만 만들어 재사용합니다. (JwtParser 는 thread-safe)
+    private SecretKey secretKey;
+    private Key signingKey;
+    private JwtParser jwtParser;
+    private LocalCache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        secretKey = new SecretKey(jwtSecretKey, jwtExpirationMs);
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey.getSecretKey()));
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokens = new LocalCache<>(jwtCacheSize, jwtCacheTtlMs);
+    }
+
+    /**
+     * [TokenServiceImpl] JWT 토큰 발급 함수
+     *
+     * @param user 이미 조회(또는 저장)된 사용자 정보입니다.
+     * @return 발급된 Access 토큰과 Refresh 토큰을 반환합니다.
+     * <pre>
+     * 호출 측에서 이미 가지고 있는 사용자 정보로 토큰을 발급하며, 별도로 사용자를 조회하지 않습니다.
+     * 두 토큰 모두 폐기를 위한 jti 와 사용자의 토큰 세대(gen)를 포함합니다.
+     * Access 토큰은 짧게(jwtExpirationMs), Refresh 토큰은 길게(jwtRefreshExpirationMs) 유지됩니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public AccessToken generateJwtToken(UserEntity user) {
+
+        Claims claims = Jwts.claims().setSubject(user.getUserid());
+        claims.put(CLAIM_TYPE, TYPE_ACCESS);
+        claims.put(CLAIM_GENERATION, user.getTokenGeneration());
         claims.put("id", user.getUserid());
         claims.put("name", user.getUsername());
-        claims.put("roles",new SimpleGrantedAuthority(role.getName()));
+        claims.put("roles", user.getRole().getName());
+
+        Claims refreshClaims = Jwts.claims().setSubject(user.getUserid());
+        refreshClaims.put(CLAIM_TYPE, TYPE_REFRESH);
+        refreshClaims.put(CLAIM_GENERATION, user.getTokenGeneration());
 
         Instant issuedAt = Instant.now();
-        Instant validUntil = issuedAt.plusMillis(secretKey.getExpirationInMiliseconds());
-        
-        String token = Jwts
+
+        return new AccessToken(
+                sign(claims, issuedAt, issuedAt.plusMillis(secretKey.getExpirationInMiliseconds())),
+                sign(refreshClaims, issuedAt, issuedAt.plusMillis(jwtRefreshExpirationMs)));
+    }
+
+    private String sign(Claims claims, Instant issuedAt, Instant validUntil) {
+        return Jwts
                 .builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(Date.from(issuedAt))
                 .setExpiration(Date.from(validUntil))
-                .signWith(getSignInKey(secretKey))
+                .signWith(signingKey)
                 .compact();
-        
-        return new AccessToken(token);
     }
 
     public boolean validateToken(AccessToken token) {
-        SecretKey secretKey = new SecretKey(jwtSecretKey,jwtExpirationMs);
-        
+        return verifyToken(token) != null;
+    }
+
+    /**
+     * [TokenServiceImpl] JWT 토큰 검증 함수
+     *
+     * @param token 검증할 JWT 토큰입니다.
+     * @return 검증된 토큰의 Claims 를 반환하고, 유효하지 않은 경우 null 을 반환합니다.
+     * <pre>
+     * 토큰 다이제스트(SHA-256)를 키로 최근 검증된 토큰을 캐시에서 먼저 찾고,
+     * 없는 경우에만 서명 검증 및 파싱을 수행합니다. 캐시 항목은 토큰 만료 시각을 넘지 않습니다.
+     * Refresh 토큰은 API 인증에 사용할 수 없으므로 null 을 반환합니다.
+     * 폐기 여부는 여기서 확인하지 않으며, JwtFilter 에서 TokenRevocationService 로 확인합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public Claims verifyToken(AccessToken token) {
+        if (token == null || !StringUtils.hasText(token.getAccessToken())) return null;
+
+        String digest = digest(token.getAccessToken());
+        Claims claims = verifiedTokens.get(digest);
+        if (claims != null) return claims;
+
+        claims = parse(token.getAccessToken());
+        if (claims == null || TYPE_REFRESH.equals(claims.get(CLAIM_TYPE))) return null;
+
+        Date expiration = claims.getExpiration();
+        verifiedTokens.put(digest, claims, (expiration != null) ? expiration.getTime() : Long.MAX_VALUE);
+        return claims;
+    }
+
+    /**
+     * [TokenServiceImpl] Refresh 토큰 검증 함수
+     *
+     * @param refreshToken 검증할 Refresh 토큰입니다.
+     * @return 검증된 토큰의 Claims 를 반환하고, 유효하지 않거나 Refresh 토큰이 아닌 경우 null 을 반환합니다.
+     * <pre>
+     * Refresh 토큰은 재발급 시 한 번만 사용되므로 캐시하지 않습니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public Claims verifyRefreshToken(String refreshToken) {
+        if (!StringUtils.hasText(refreshToken)) return null;
+
+        Claims claims = parse(refreshToken);
+        if (claims == null || !TYPE_REFRESH.equals(claims.get(CLAIM_TYPE))) return null;
+        return claims;
+    }
+
+    private Claims parse(String token) {
         try {
-            Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey(secretKey))
-                .build()
-                .parseClaimsJws(token.getAccessToken());
-            return true;
-        }catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
+            return jwtParser
+                .parseClaimsJws(token)
+                .getBody();
+        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
+            return null;
         } catch (ExpiredJwtException e) {
             log.info("만료된 JWT 토큰입니다.");
+            return null;
         } catch (UnsupportedJwtException e) {
             log.info("지원되지 않는 JWT 토큰입니다.");
+            return null;
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
+            return null;
         }
-        return false;
-        
     }
 
     public AccessToken resolveJwtToken(HttpServletRequest request) {
@@ -96,23 +208,41 @@ public class TokenServiceImpl implements TokenService {
         return new AccessToken(headerAuth.substring(7));
     }
 
-    public Authentication getAuthentication(AccessToken token) {
-        SecretKey secretKey = new SecretKey(jwtSecretKey, jwtExpirationMs);
-        String username = Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey(secretKey))
-                .build()
-                .parseClaimsJws(token.getAccessToken())
-                .getBody()
-                .getSubject();
-
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    /**
+     * [TokenServiceImpl] 인증 정보 생성 함수
+     *
+     * @param claims 검증된 JWT 토큰의 Claims 입니다.
+     * @return Security Context 에 저장할 인증 정보를 반환합니다.
+     * <pre>
+     * jwtClaimsAuthentication 모드에서는 roles 클레임만으로 인증 정보를 생성하여 DB 를 조회하지 않습니다.
+     * 그 외에는 사용자 정보를 조회하되, PrincipalCache 에 있으면 캐시된 정보를 사용합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public Authentication getAuthentication(Claims claims) {
+        String userid = claims.getSubject();
+
+        if (jwtClaimsAuthentication) {
+            Set<GrantedAuthority> authorities = RoleAuthorities.fromClaim(claims.get("roles"));
+            UserDetails principal = new User(userid, "", authorities);
+            return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+        }
+
+        UserDetails userDetails = principalCache.get(userid, userDetailsService::loadUserByUsername);
+        if (!userDetails.isEnabled()) {
+            throw new DisabledException("User is disabled : " + userid);
+        }
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
-    
-    private Key getSignInKey(SecretKey secretKey) {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey.getSecretKey());
-        return Keys.hmacShaKeyFor(keyBytes);
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);  // 모든 JVM 에서 SHA-256 지원이 보장됨
+        }
     }
     
 }
@@ -1,22 +1,44 @@
 package kr.taking.backend.service.Impl;
 
-import kr.taking.backend.repository.OrgRepository;
+import kr.taking.backend.configuration.index.IndexCatalog;
+import kr.taking.backend.repository.KeysetPagination;
+import kr.taking.backend.repository.ProjectedFinder;
+import kr.taking.backend.repository.ReferenceFinder;
+import kr.taking.backend.repository.UserFilter;
 import kr.taking.backend.repository.UserRepository;
 import kr.taking.backend.error.enums.ErrorCode;
 import kr.taking.backend.error.exception.CustomException;
 import kr.taking.backend.error.exception.EntityNotFoundException;
 import kr.taking.backend.model.OrgEntity;
 import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.service.TokenRevocationService;
 import kr.taking.backend.service.UserService;
+import kr.taking.backend.service.bulk.BatchOperations;
+import kr.taking.backend.service.bulk.BatchResult;
+import kr.taking.backend.service.security.PrincipalCache;
+import kr.taking.backend.service.security.UserIdIndex;
+import kr.taking.backend.util.paging.CursorPage;
+import kr.taking.backend.util.projection.FieldSelection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * <pre>
@@ -33,12 +55,21 @@ import java.util.List;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final OrgRepository orgRepository;
+    private final KeysetPagination keysetPagination;
+    private final ProjectedFinder projectedFinder;
+    private final ReferenceFinder referenceFinder;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserIdIndex userIdIndex;
+    private final BatchOperations batchOperations;
+    private final IndexCatalog indexCatalog;
 
     /**
      * [UserServiceImpl] 전체 사용자 조회 함수
      *
+     * @param pageable 페이지 정보입니다.
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
      * @return DB에서 전체 사용자 정보 목록을 리턴합니다.
      * @throws EntityNotFoundException 사용자 정보가 없을 경우 예외 처리 발생
      * <pre>
@@ -49,8 +80,8 @@ public class UserServiceImpl implements UserService {
      */
     @Transactional(readOnly = true)
     @Override
-    public Page<UserEntity> getUsers(Pageable pageable) {
-        return userRepository.findAll(pageable);
+    public Page<UserEntity> getUsers(Pageable pageable, FieldSelection fields) {
+        return projectedFinder.findPage(UserEntity.class, null, pageable, fields, listLoader(fields));
         //        return EntityNotFoundException.requireNotEmpty(userRepository.findAll(pageable), "Users Not Found");
     }
 
@@ -76,32 +107,36 @@ public class UserServiceImpl implements UserService {
      *
      * @param id 조회할 사용자의 고유번호입니다.
      * @param user 사용자 수정에 필요한 사용자 정보를 담은 개체입니다.
+     * @return 수정된 사용자 정보를 리턴합니다.
      * @throws EntityNotFoundException 사용자 정보가 없을 경우 예외 처리 발생
      * <pre>
-     * 특정 사용자에 대해 사용자 정보를 수정합니다.
+     * 특정 사용자에 대해 전달된 필드(이름, 이메일, 비밀번호)만 $set 하고, 수정된 문서를 한 번에 반환합니다. (findAndModify)
+     * 전달되지 않은 필드(userid, role, orgs 등)는 그대로 유지됩니다.
      * </pre>
      *
      * Author : taking(taking@duck.com)
      */
-    public void updateById(String id, UserEntity.UpdateDto user) {
+    public UserEntity updateById(String id, UserEntity.UpdateDto user) {
 
-        UserEntity userEntity = findById(id);
-
-        if (user.getUsername() != null || user.getEmail() != null || user.getPassword() != null) {
+        if (user.getUsername() == null && user.getEmail() == null && user.getPassword() == null) {
+            log.error("[UserServiceImpl - udpateUser] userName, userEmail, userPassword만 수정 가능합니다.");
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
 
-            userEntity = UserEntity.builder()
-                .id(userEntity.getId())
-                .username((user.getUsername() != null) ? user.getUsername() : userEntity.getUsername())
-                .email((user.getEmail() != null) ? user.getEmail() : userEntity.getEmail())
-                .password((user.getPassword() != null) ? passwordEncoder.encode(user.getPassword()) : userEntity.getPassword())
-                .build();
+        Update update = new Update();
+        if (user.getUsername() != null) update.set("username", user.getUsername());
+        if (user.getEmail() != null) update.set("email", user.getEmail());
+        if (user.getPassword() != null) update.set("password", passwordEncoder.encode(user.getPassword()));
 
-            userRepository.save(userEntity);
+        UserEntity userEntity = userRepository.updateFields(id, update)
+                .orElseThrow(() -> new EntityNotFoundException("User with Id " + id + " Not Found."));
 
-        } else {
-            log.error("[UserServiceImpl - udpateUser] userName, userEmail, userPassword만 수정 가능합니다.");
-            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        principalCache.invalidate(userEntity.getUserid());
+        if (user.getPassword() != null) {
+            tokenRevocationService.revokeAll(userEntity.getUserid()); // 비밀번호 변경 시 기존에 발급된 토큰 모두 폐기
         }
+
+        return userEntity;
     }
 
 
@@ -112,20 +147,23 @@ public class UserServiceImpl implements UserService {
      * @param orgIds 사용자의 조직 정보고유아이번호를 가진 객체입니다.를 담은 리스트입니다.
      * @throws EntityNotFoundException 사용자 정보가 없을 경우 예외 처리 발생
      * <pre>
-     * 특정 사용자에 대해 사용자 정보를 수정합니다.
+     * 특정 사용자에 대해 orgs, orgSummaries 만 $set 합니다.
+     * 문서 전체를 다시 저장하지 않으므로, 동시에 변경된 tokenGeneration, enabled, role 을 덮어쓰지 않습니다.
      * </pre>
      *
      * Author : taking(taking@duck.com)
      */
     public void updateOrgById(String id, List<String> orgIds) {
 
-        UserEntity userEntity = findById(id);
+        List<OrgEntity> selectedOrgs = referenceFinder.findOrgsById(orgIds);   // 캐시에 없는 조직만 조회
 
-        List<OrgEntity> selectedOrgs = orgRepository.findAllById(orgIds);
-        userEntity.getOrgs().clear();  // 기존 org 정보 모두 삭제
-        userEntity.getOrgs().addAll(selectedOrgs);  // 새로 선택된 org 정보 추가
+        // 기존 org 정보를 새로 선택된 org 정보로 교체하고, 목록 조회용 요약도 함께 저장
+        Update update = new Update()
+            .set("orgs", new HashSet<>(selectedOrgs))
+            .set("orgSummaries", selectedOrgs.stream().map(UserEntity.OrgSummary::of).collect(Collectors.toList()));
 
-        userRepository.save(userEntity);
+        userRepository.updateFields(id, update)
+                .orElseThrow(() -> new EntityNotFoundException("User with Id " + id + " Not Found."));
     }
 
 
@@ -141,7 +179,28 @@ public class UserServiceImpl implements UserService {
      * Author : taking(taking@duck.com)
      */
     public void deleteById(String id) {
-        userRepository.delete(userRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("User with Id " + id + " Not Found.")));
+        UserEntity userEntity = userRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("User with Id " + id + " Not Found."));
+        tokenRevocationService.revokeAllById(List.of(userEntity.getId()));   // 삭제 후 같은 아이디로 재가입해도 이전 토큰은 사용 불가
+        userRepository.delete(userEntity);
+        principalCache.invalidate(userEntity.getUserid());
+        userIdIndex.remove(userEntity.getUserid());
+    }
+
+    /**
+     * [UserServiceImpl] 사용자 토큰 전체 폐기 함수
+     *
+     * @param id 토큰을 폐기할 사용자의 고유번호입니다.
+     * @throws EntityNotFoundException 사용자 정보가 없을 경우 예외 처리 발생
+     * <pre>
+     * 사용자의 토큰 세대를 증가시켜, 이전에 발급된 Access/Refresh 토큰을 모두 사용할 수 없게 합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public void revokeTokens(String id) {
+        UserEntity userEntity = findById(id);
+        tokenRevocationService.revokeAll(userEntity.getUserid());
     }
 
     /**
@@ -158,11 +217,164 @@ public class UserServiceImpl implements UserService {
      */
     @Transactional(readOnly = true)
     public UserEntity findById(String id) {
-        return userRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("User with Id " + id + " Not Found."));
+        return findById(id, FieldSelection.all());
+    }
+
+    // 선택하지 않은 역할(userRole), 조직(userOrgs)은 DBRef 를 조회하지 않음
+    @Transactional(readOnly = true)
+    @Override
+    public UserEntity findById(String id, FieldSelection fields) {
+        return userRepository.findAllResolved(fields.applyTo(Query.query(Criteria.where("id").is(id)))).stream().findFirst().orElseThrow(() -> new EntityNotFoundException("User with Id " + id + " Not Found."));
+    }
+
+    /**
+     * [UserServiceImpl] 사용자 커서 페이지 조회 함수
+     *
+     * @param userid 조회할 사용자의 userid 입니다. (없으면 전체 조회)
+     * @param sort 정렬 조건입니다. 첫 번째 정렬 조건만 사용합니다.
+     * @param cursor 이전 페이지의 nextCursor 입니다. 비어 있으면 첫 페이지를 조회합니다.
+     * @param size 페이지 크기입니다.
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
+     * @return 사용자 목록과 다음 페이지 커서를 리턴합니다.
+     * <pre>
+     * skip, count 없이 커서 이후의 항목만 조회하므로 페이지 깊이와 관계없이 조회 비용이 일정합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<UserEntity> getUsersByCursor(String userid, Sort sort, String cursor, int size, FieldSelection fields) {
+        Criteria filter = (userid != null) ? Criteria.where("userid").is(userid) : null;
+        return keysetPagination.find(UserEntity.class, filter, sort, cursor, size, fields, listLoader(fields));
     }
 
+    /**
+     * [UserServiceImpl] 사용자 내보내기 조회 함수
+     *
+     * @param userid 조회할 사용자의 userid 입니다. (없으면 전체 조회)
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
+     * @return 커서에서 한 건씩 읽는 Stream 을 리턴합니다. 사용 후 닫아야 합니다.
+     * <pre>
+     * 전체 필드를 선택하면 건마다 DBRef(userRole, userOrgs)를 읽으므로(ReferenceCache 사용), UserController 는 요약 필드를 기본값으로 사용합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
     @Transactional(readOnly = true)
-    public Page<UserEntity> findPageByUserId(String userid, Pageable pageable) {
-        return userRepository.findPageByUserid(userid, pageable);
+    @Override
+    public Stream<UserEntity> streamUsers(String userid, FieldSelection fields) {
+        return projectedFinder.stream(UserEntity.class, (userid != null) ? Criteria.where("userid").is(userid) : null, fields);
+    }
+
+    /**
+     * [UserServiceImpl] 조건별 사용자 목록 조회 함수
+     *
+     * @param filter 아이디, 역할, 조직, 활성화 여부, 생성일 범위 조건입니다. (없는 조건은 제외)
+     * @param pageable 페이지 정보입니다.
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
+     * @return 조건에 맞는 사용자 목록을 리턴합니다.
+     * @throws CustomException 조건에 맞는 인덱스가 아직 생성 중인 경우 예외 처리 발생 (503)
+     * <pre>
+     * 목록과 count 모두 조건에 맞는 인덱스를 hint 로 지정하여, 전체 컬렉션을 읽지 않고 인덱스 범위만 탐색합니다.
+     * 생성일 범위 조건은 인덱스 순서(created_at, id)로 정렬합니다. (UserFilter.sortFor, 다른 필드로 정렬하면 400)
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Page<UserEntity> findUsers(UserFilter filter, Pageable pageable, FieldSelection fields) {
+        if (filter.isEmpty()) return getUsers(pageable, fields);
+
+        Pageable sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), filter.sortFor(pageable.getSort()));
+        return projectedFinder.findPage(UserEntity.class, filter.toCriteria(), indexHint(filter), sorted, fields, listLoader(fields));
+    }
+
+    /**
+     * [UserServiceImpl] 조건별 사용자 커서 페이지 조회 함수
+     *
+     * @param filter 아이디, 역할, 조직, 활성화 여부, 생성일 범위 조건입니다. (없는 조건은 제외)
+     * @param sort 정렬 조건입니다. 첫 번째 정렬 조건만 사용합니다.
+     * @param cursor 이전 페이지의 nextCursor 입니다. 비어 있으면 첫 페이지를 조회합니다.
+     * @param size 페이지 크기입니다.
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
+     * @return 사용자 목록과 다음 페이지 커서를 리턴합니다.
+     * @throws CustomException 조건에 맞는 인덱스가 아직 생성 중인 경우 예외 처리 발생 (503)
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<UserEntity> getUsersByCursor(UserFilter filter, Sort sort, String cursor, int size, FieldSelection fields) {
+        if (filter.isEmpty()) return getUsersByCursor((String) null, sort, cursor, size, fields);
+
+        String hint = indexHint(filter);
+        Function<Query, List<UserEntity>> loader = listLoader(fields);
+        return keysetPagination.find(UserEntity.class, filter.toCriteria(), filter.sortFor(sort), cursor, size, fields,
+                query -> loader.apply((hint != null) ? query.withHint(hint) : query));
+    }
+
+    // 조건에 맞는 인덱스 키 (생성 중이면 컬렉션 전체를 읽지 않도록 거부, 인덱스 검사를 끈 경우 hint 없음)
+    private String indexHint(UserFilter filter) {
+        String name = filter.indexHint();
+        if (name == null) return null;
+
+        Document keys = indexCatalog.readyKeys(UserEntity.class, name);
+        if (keys != null) return keys.toJson();
+        if (!indexCatalog.isVerifying()) return null;
+
+        log.warn("[UserServiceImpl] index {} is not ready for filter", name);
+        throw new CustomException("인덱스(" + name + ")를 생성 중입니다. 잠시 후 다시 시도해주세요.", ErrorCode.SERVICE_UNAVAILABLE);
+    }
+
+    // 목록은 문서에 포함된 요약(userRoleName, userOrgSummaries)만 사용하며, fields= 로 userRole, userOrgs 를 요청한 경우에만 DBRef 를 일괄 조회
+    private Function<Query, List<UserEntity>> listLoader(FieldSelection fields) {
+        boolean references = !fields.isAll() && (fields.includes("role") || fields.includes("orgs"));
+        return references ? userRepository::findAllResolved : userRepository::findAllSummaries;
+    }
+
+    /**
+     * [UserServiceImpl] 사용자 일괄 조회 함수
+     *
+     * @param ids 조회할 사용자의 식별자 목록입니다.
+     * @param fields 조회할 필드입니다. (fields= 파라미터)
+     * @return 요청한 id 순서대로 사용자 정보 또는 404 를 담아 리턴합니다.
+     * <pre>
+     * 한 번의 $in 조회로 읽으며, 역할/조직 DBRef 는 선택한 경우에만 모아서 조회합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public BatchResult findByIds(List<String> ids, FieldSelection fields) {
+        List<String> distinct = batchOperations.ids(ids);
+        List<UserEntity> found = userRepository.findAllResolved(fields.applyTo(Query.query(Criteria.where("id").in(distinct))));
+        return batchOperations.found(distinct, found, UserEntity::getId);
+    }
+
+    /**
+     * [UserServiceImpl] 사용자 일괄 삭제 함수
+     *
+     * @param ids 삭제할 사용자의 식별자 목록입니다.
+     * @return 요청 순서대로 삭제 결과 또는 404 를 담아 리턴합니다.
+     * <pre>
+     * 단건 삭제와 같이 토큰을 전체 폐기한 뒤 삭제하며, 사용자 수와 관계없이 세대 증가(updateMany), 조회, 삭제(deleteMany) 세 번으로 처리합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Override
+    public BatchResult deleteByIds(List<String> ids) {
+        List<String> distinct = batchOperations.ids(ids);
+        Map<String, String> userids = tokenRevocationService.revokeAllById(distinct);   // 존재하는 사용자만 (id -> userid)
+
+        BatchResult result = batchOperations.delete(UserEntity.class, distinct, userids.keySet());
+        for (String userid : userids.values()) {
+            principalCache.invalidate(userid);
+            userIdIndex.remove(userid);
+        }
+        return result;
     }
 }
@@ -1,9 +1,15 @@
 package kr.taking.backend.service;
 
 import kr.taking.backend.model.OrgEntity;
+import kr.taking.backend.service.bulk.BatchResult;
+import kr.taking.backend.util.paging.CursorPage;
+import kr.taking.backend.util.projection.FieldSelection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * <pre>
@@ -15,11 +21,17 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public interface OrgService {
-    Page<OrgEntity> getOrganizations(Pageable pageable);
+    Page<OrgEntity> getOrganizations(Pageable pageable, FieldSelection fields);
     OrgEntity createOrganization(OrgEntity.CreateDto orgCreateDto);
-    void updateById(String id, OrgEntity.UpdateDto org);
+    OrgEntity updateById(String id, OrgEntity.UpdateDto org);
     OrgEntity findById(String id);
+    OrgEntity findById(String id, FieldSelection fields);
     OrgEntity findByName(String name);
     void deleteById(String id);
-    Page<OrgEntity> findPageByName(String name, Pageable pageable);
+    Page<OrgEntity> findPageByName(String name, Pageable pageable, FieldSelection fields);
+    CursorPage<OrgEntity> getOrganizationsByCursor(String name, Sort sort, String cursor, int size, FieldSelection fields);
+    Stream<OrgEntity> streamOrganizations(String name, FieldSelection fields);
+    BatchResult findByIds(List<String> ids, FieldSelection fields);
+    BatchResult createOrganizations(List<OrgEntity.CreateDto> orgCreateDtos);
+    BatchResult deleteByIds(List<String> ids);
 }
@@ -0,0 +1,19 @@
+package kr.taking.backend.service;
+
+/**
+ * <pre>
+ * ClassName : RateLimitService
+ * Type : interface
+ * Description : 인증 API 호출 빈도 제한과 관련된 함수를 정리한 인터페이스입니다.
+ * Related : RateLimitFilter, AuthServiceImpl, LocalRateLimitServiceImpl, MongoRateLimitServiceImpl
+ * </pre>
+ */
+public interface RateLimitService {
+
+    enum Scope { IP, USERID }
+
+    /**
+     * @return 허용된 경우 0, 제한된 경우 다시 시도할 수 있을 때까지 남은 시간(ms)을 반환합니다.
+     */
+    long tryAcquire(Scope scope, String key);
+}
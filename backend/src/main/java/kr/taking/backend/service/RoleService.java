@@ -1,10 +1,16 @@
 package kr.taking.backend.service;
 
 import kr.taking.backend.model.RoleEntity;
+import kr.taking.backend.service.bulk.BatchResult;
+import kr.taking.backend.util.paging.CursorPage;
+import kr.taking.backend.util.projection.FieldSelection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * <pre>
@@ -16,10 +22,17 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public interface RoleService {
-    Page<RoleEntity> getRoles(Pageable pageable);
+    Page<RoleEntity> getRoles(Pageable pageable, FieldSelection fields);
     RoleEntity createRole(RoleEntity.CreateDto orgCreateDto);
     RoleEntity findById(String id);
+    RoleEntity findById(String id, FieldSelection fields);
     RoleEntity findByName(String name);
     void deleteById(String id);
-    Page<RoleEntity> findPageByName(String name, Pageable pageable);
+    RoleEntity updateById(String id, RoleEntity.UpdateDto role);
+    Page<RoleEntity> findPageByName(String name, Pageable pageable, FieldSelection fields);
+    CursorPage<RoleEntity> getRolesByCursor(String name, Sort sort, String cursor, int size, FieldSelection fields);
+    Stream<RoleEntity> streamRoles(String name, FieldSelection fields);
+    BatchResult findByIds(List<String> ids, FieldSelection fields);
+    BatchResult createRoles(List<RoleEntity.CreateDto> roleCreateDtos);
+    BatchResult deleteByIds(List<String> ids);
 }
@@ -0,0 +1,29 @@
+package kr.taking.backend.service;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * <pre>
+ * ClassName : TokenRevocationService
+ * Type : interface
+ * Description : JWT 토큰 폐기(로그아웃, 전체 폐기)와 관련된 함수를 정리한 인터페이스입니다.
+ * Related : JwtFilter, AuthServiceImpl, UserServiceImpl, TokenRevocationServiceImpl, CacheInvalidator
+ * </pre>
+ */
+public interface TokenRevocationService {
+    void revoke(Claims claims);
+    boolean revokeOnce(Claims claims);
+    long revokeAll(String userid);
+    Map<String, String> revokeAllById(Collection<String> ids);
+    void generationsRaised(Map<String, Long> generations);
+    Map<String, Long> initialGenerations(Collection<String> userids);
+    boolean isRevoked(Claims claims);
+
+    // 다른 인스턴스의 폐기를 메모리에만 반영 (InvalidationBus 에서 호출)
+    void markRevoked(String jti, long expireAt);
+    void raiseGeneration(String userid, long generation);
+    void reload();
+}
@@ -1,13 +1,16 @@
 package kr.taking.backend.service;
 
+import io.jsonwebtoken.Claims;
 import kr.taking.backend.util.Security.AccessToken;
-import kr.taking.backend.model.RoleEntity;
+import kr.taking.backend.model.UserEntity;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.Authentication;
 
 public interface TokenService {
-    AccessToken generateJwtToken(String userid, RoleEntity roles);
+    AccessToken generateJwtToken(UserEntity user);
     boolean validateToken(AccessToken token);
+    Claims verifyToken(AccessToken token);
+    Claims verifyRefreshToken(String refreshToken);
     AccessToken resolveJwtToken(HttpServletRequest request);
-    Authentication getAuthentication(AccessToken token);
+    Authentication getAuthentication(Claims claims);
 }
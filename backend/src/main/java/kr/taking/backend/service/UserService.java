@@ -2,9 +2,15 @@ package kr.taking.backend.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import kr.taking.backend.util.paging.CursorPage;
+import kr.taking.backend.util.projection.FieldSelection;
 import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.repository.UserFilter;
+import kr.taking.backend.service.bulk.BatchResult;
 import java.util.List;
+import java.util.stream.Stream;
 
 
 /**
@@ -17,12 +23,19 @@ import java.util.List;
  */
 @Component
 public interface UserService {
-    Page<UserEntity> getUsers(Pageable pageable);
+    Page<UserEntity> getUsers(Pageable pageable, FieldSelection fields);
     UserEntity findById(String id);
+    UserEntity findById(String id, FieldSelection fields);
     UserEntity findByUserId(String userid);
-    void updateById(String id, UserEntity.UpdateDto user);
+    UserEntity updateById(String id, UserEntity.UpdateDto user);
     void deleteById(String id);
-    Page<UserEntity> findPageByUserId(String userid, Pageable pageable);
+    void revokeTokens(String id);
 
     void updateOrgById(String id, List<String> orgIds);
+    CursorPage<UserEntity> getUsersByCursor(String userid, Sort sort, String cursor, int size, FieldSelection fields);
+    Page<UserEntity> findUsers(UserFilter filter, Pageable pageable, FieldSelection fields);
+    CursorPage<UserEntity> getUsersByCursor(UserFilter filter, Sort sort, String cursor, int size, FieldSelection fields);
+    Stream<UserEntity> streamUsers(String userid, FieldSelection fields);
+    BatchResult findByIds(List<String> ids, FieldSelection fields);
+    BatchResult deleteByIds(List<String> ids);
 }
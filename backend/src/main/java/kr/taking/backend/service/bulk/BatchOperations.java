@@ -0,0 +1,209 @@
+package kr.taking.backend.service.bulk;
+
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.error.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * ClassName : BatchOperations
+ * Type : class
+ * Description : id 목록으로 여러 건을 한 번에 조회, 생성, 삭제하고 항목별 결과(BatchResult)를 만드는 클래스입니다.
+ * Related : BatchResult, UserServiceImpl, OrgServiceImpl, RoleServiceImpl
+ * How-to :
+ *  1. 조회, 삭제는 건수와 관계없이 $in 조회 한 번, deleteMany 한 번으로 처리합니다.
+ *  2. 생성은 unordered bulkWrite 한 번으로 처리하며, 중복 등으로 실패한 항목은 BulkWriteError.index 로 찾아 결과에 남깁니다.
+ *  3. 한 번에 처리할 수 있는 id, 항목 수는 kr.taking.backend.batch.maxSize 로 제한합니다. (중복된 id 는 한 번만 처리)
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchOperations {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final Validator validator;
+
+    @Value("${kr.taking.backend.batch.maxSize:500}")
+    private int maxSize;
+
+    /**
+     * [BatchOperations] 요청 id 확인 함수
+     *
+     * @param ids 요청한 id 목록입니다.
+     * @return 중복을 제거한 id 목록을 요청 순서대로 반환합니다.
+     * @throws CustomException id 가 없거나 maxSize 를 넘는 경우 예외 처리 발생
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public List<String> ids(List<String> ids) {
+        if (ids == null || ids.isEmpty()) throw new CustomException(ErrorCode.NO_BODY);
+        List<String> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        checkSize(distinct.size());
+        return distinct;
+    }
+
+    /**
+     * [BatchOperations] 조회 결과 생성 함수
+     *
+     * @param ids 요청한 id 목록입니다.
+     * @param found $in 으로 조회한 Entity 목록입니다.
+     * @param idOf Entity 의 id 를 반환하는 함수입니다.
+     * @return 요청 순서대로 조회 결과(200) 또는 404 를 담아 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public <T> BatchResult found(List<String> ids, List<T> found, Function<T, String> idOf) {
+        Map<String, T> byId = found.stream().collect(Collectors.toMap(idOf, Function.identity(), (first, second) -> first));
+
+        BatchResult result = new BatchResult();
+        for (String id : ids) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                result.ok(id, entity);
+            } else {
+                result.failed(id, ErrorCode.NOT_FOUND);
+            }
+        }
+        return result;
+    }
+
+    // 존재하는 id 만 조회 (_id 만 projection)
+    public <T> Set<String> existingIds(Class<T> type, Collection<String> ids) {
+        Query query = Query.query(Criteria.where("id").in(ids));
+        query.fields().include("id");
+
+        Set<String> existing = new HashSet<>();
+        for (Document document : mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(type))) {
+            existing.add(document.get("_id").toString());
+        }
+        return existing;
+    }
+
+    /**
+     * [BatchOperations] 일괄 삭제 함수
+     *
+     * @param type 삭제할 Entity 타입입니다.
+     * @param ids 요청한 id 목록입니다.
+     * @param existing 삭제 전에 조회한, 존재하는 id 입니다.
+     * @return 요청 순서대로 삭제 결과(200) 또는 404 를 담아 반환합니다.
+     * <pre>
+     * 존재하는 id 만 한 번의 deleteMany({_id: {$in: ...}}) 로 삭제합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public <T> BatchResult delete(Class<T> type, List<String> ids, Set<String> existing) {
+        if (!existing.isEmpty()) {
+            mongoTemplate.remove(Query.query(Criteria.where("id").in(existing)), type);
+        }
+
+        BatchResult result = new BatchResult();
+        for (String id : ids) {
+            if (existing.contains(id)) {
+                result.ok(id, null);
+            } else {
+                result.failed(id, ErrorCode.NOT_FOUND);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * [BatchOperations] 일괄 생성 함수
+     *
+     * @param type 생성할 Entity 타입입니다.
+     * @param rows 생성 요청 목록입니다. (CreateDto)
+     * @param toEntity 요청을 Entity 로 바꾸는 함수입니다. 생성된 id 를 응답하기 위해 id 를 미리 지정해야 합니다.
+     * @return 요청 순서대로 생성 결과(201) 또는 400, 409 를 담아 반환합니다.
+     * <pre>
+     * 단건 생성(@Valid)과 같은 조건으로 항목별로 검증하고, 통과한 항목만 unordered bulkWrite 로 등록합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public <D, T> BatchResult insert(Class<T> type, List<D> rows, Function<D, T> toEntity) {
+        if (rows == null || rows.isEmpty()) throw new CustomException(ErrorCode.NO_BODY);
+        checkSize(rows.size());
+
+        Map<Integer, String> invalid = new HashMap<>();
+        List<Integer> positions = new ArrayList<>(rows.size());
+        List<T> entities = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            D row = rows.get(i);
+            if (row == null) {
+                invalid.put(i, ErrorCode.NO_BODY.getMessage());
+                continue;
+            }
+            Set<ConstraintViolation<D>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                invalid.put(i, describe(violations));
+                continue;
+            }
+            positions.add(i);
+            entities.add(toEntity.apply(row));
+        }
+
+        Map<Integer, BulkWriteError> errors = new HashMap<>();
+        if (!entities.isEmpty()) {
+            try {
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type).insert(entities).execute();
+            } catch (BulkOperationException e) {
+                for (BulkWriteError error : e.getErrors()) {
+                    errors.put(positions.get(error.getIndex()), error);
+                }
+            }
+        }
+
+        BatchResult result = new BatchResult();
+        int next = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (invalid.containsKey(i)) {
+                result.failed(i, ErrorCode.INVALID_INPUT_VALUE, invalid.get(i));
+                continue;
+            }
+            T entity = entities.get(next++);
+            BulkWriteError error = errors.get(i);
+            if (error == null) {
+                result.created(i, entity);
+            } else if (error.getCode() == DUPLICATE_KEY) {
+                result.failed(i, ErrorCode.DUPLICATE, ErrorCode.DUPLICATE.getMessage());
+            } else {
+                log.warn("[BatchOperations] {} insert failed : {}", type.getSimpleName(), error.getMessage());
+                result.failed(i, ErrorCode.INTERNAL_SERVER_ERROR, error.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private void checkSize(int size) {
+        if (size > maxSize) {
+            throw new CustomException("한 번에 " + maxSize + "건까지 처리할 수 있습니다. (" + size + "건)", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private static <D> String describe(Set<ConstraintViolation<D>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " : " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,62 @@
+package kr.taking.backend.service.bulk;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.taking.backend.error.enums.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * ClassName : BatchResult
+ * Type : class
+ * Description : 여러 건을 한 번에 조회, 생성, 삭제한 결과를 요청한 항목 순서대로 담는 클래스입니다.
+ * Related : BatchOperations, UserController, OrgController, RoleController
+ * How-to :
+ *  1. 항목별 status 는 단건 API 와 같은 HTTP 상태 코드입니다. (200 조회/삭제, 201 생성, 400 입력 오류, 404 없음, 409 중복)
+ *  2. 일부 항목이 실패해도 응답은 200 이며, succeeded, failed 건수와 항목별 status 로 확인합니다.
+ *  3. 조회 결과(data)는 fields= 로 선택한 필드만 직렬화합니다. (FieldSelection.view)
+ * </pre>
+ */
+@Getter
+public class BatchResult {
+
+    private int succeeded;
+    private int failed;
+    private final List<Item> results = new ArrayList<>();
+
+    public void ok(String id, Object data) {
+        add(new Item(null, id, 200, null, data), true);
+    }
+
+    public void created(int index, Object data) {
+        add(new Item(index, null, 201, null, data), true);
+    }
+
+    public void failed(String id, ErrorCode errorCode) {
+        add(new Item(null, id, errorCode.getStatus(), errorCode.getMessage(), null), false);
+    }
+
+    public void failed(int index, ErrorCode errorCode, String message) {
+        add(new Item(index, null, errorCode.getStatus(), message, null), false);
+    }
+
+    private void add(Item item, boolean success) {
+        results.add(item);
+        if (success) succeeded++; else failed++;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+
+        private Integer index;      // 생성 : 요청 목록에서의 위치 (0부터)
+        private String id;          // 조회, 삭제 : 요청한 id
+        private int status;
+        private String message;
+        private Object data;
+    }
+}
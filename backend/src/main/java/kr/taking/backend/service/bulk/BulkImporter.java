@@ -0,0 +1,291 @@
+package kr.taking.backend.service.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import kr.taking.backend.error.exception.EntityNotFoundException;
+import kr.taking.backend.model.OrgEntity;
+import kr.taking.backend.model.RoleEntity;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.repository.ReferenceFinder;
+import kr.taking.backend.service.TokenRevocationService;
+import kr.taking.backend.service.security.UserIdIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * <pre>
+ * ClassName : BulkImporter
+ * Type : class
+ * Description : NDJSON(한 줄에 한 건) 요청 본문을 읽어 사용자, 조직을 일괄 등록하는 클래스입니다.
+ * Related : ImportReport, UserController, OrgController, AuthServiceImpl, OrgServiceImpl
+ * How-to :
+ *  1. 한 줄씩 읽어 RegisterDto, CreateDto 의 검증 조건(@Valid 와 동일)으로 확인하고, batchSize 건씩 모아 unordered bulkWrite 로 등록합니다.
+ *  2. 비밀번호 해시는 배치를 hashThreads(기본값 CPU 수)개로 나누어 applicationTaskExecutor 에서 병렬 실행합니다. (가상 스레드 모드에서는 가상 스레드)
+ *  3. 등록된 아이디는 배치마다 한 번에 아이디 인덱스에 추가하고 다른 인스턴스에 알립니다. (UserIdIndex.addAll)
+ *  4. 중복(파일 안, 유니크 인덱스), 형식 오류 등 실패한 행은 건너뛰고 ImportReport 에 줄 번호와 사유를 남깁니다.
+ *  5. 읽은 배치만 메모리에 두므로 파일 크기와 관계없이 메모리 사용량이 일정합니다. (중복 확인용 키 집합 제외)
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkImporter {
+
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PasswordEncoder passwordEncoder;
+    private final ReferenceFinder referenceFinder;
+    private final UserIdIndex userIdIndex;
+    private final TokenRevocationService tokenRevocationService;
+    private final AsyncTaskExecutor taskExecutor;
+
+    @Value("${kr.taking.backend.import.batchSize:500}")
+    private int batchSize;
+
+    // 0 : CPU 수
+    @Value("${kr.taking.backend.import.hashThreads:0}")
+    private int hashThreads;
+
+    @Value("${kr.taking.backend.import.maxErrors:1000}")
+    private int maxErrors;
+
+    /**
+     * [BulkImporter] 요청 본문 열기 함수
+     *
+     * @param request 일괄 등록 요청입니다.
+     * @return 요청 본문 스트림을 반환합니다. (Content-Encoding: gzip 이면 압축을 풀며 읽습니다)
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public static InputStream body(HttpServletRequest request) throws IOException {
+        InputStream input = request.getInputStream();
+        return "gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING)) ? new GZIPInputStream(input) : input;
+    }
+
+    /**
+     * [BulkImporter] 사용자 일괄 등록 함수
+     *
+     * @param input 한 줄에 RegisterDto 한 건(JSON)이 있는 요청 본문입니다.
+     * @return 전체, 성공, 실패 건수와 실패한 행별 사유를 반환합니다.
+     * <pre>
+     * 회원가입과 같이 기본 역할(ROLE_USER)로 등록하며, 등록된 아이디는 아이디 인덱스에 추가합니다.
+     * 중복 아이디는 사전 조회 없이 userid 유니크 인덱스 위반으로 판별합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public ImportReport importUsers(InputStream input) throws IOException {
+        RoleEntity role = referenceFinder.findRoleByName(DEFAULT_ROLE)
+                .orElseThrow(() -> new EntityNotFoundException("Role with Name " + DEFAULT_ROLE + " Not Found."));
+        Instant createdAt = Instant.now();
+
+        return importRows("users", input, UserEntity.RegisterDto.class, UserEntity.RegisterDto::getUserid, UserEntity.class,
+                rows -> toUsers(rows, role, createdAt),
+                users -> userIdIndex.addAll(users.stream().map(UserEntity::getUserid).toList()));
+    }
+
+    /**
+     * [BulkImporter] 조직 일괄 등록 함수
+     *
+     * @param input 한 줄에 CreateDto 한 건(JSON)이 있는 요청 본문입니다.
+     * @return 전체, 성공, 실패 건수와 실패한 행별 사유를 반환합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public ImportReport importOrganizations(InputStream input) throws IOException {
+        Instant createdAt = Instant.now();
+
+        return importRows("organizations", input, OrgEntity.CreateDto.class, OrgEntity.CreateDto::getName, OrgEntity.class,
+                rows -> rows.stream().map(org -> OrgEntity.builder()
+                        .name(org.getName())
+                        .biznum(org.getBiznum())
+                        .contact(org.getContact())
+                        .enabled(true)
+                        .created_at(createdAt)
+                        .build()).toList(),
+                orgs -> { });
+    }
+
+    private <D, E> ImportReport importRows(String name, InputStream input, Class<D> type, Function<D, String> key, Class<E> entityType,
+                                           Function<List<D>, List<E>> toEntities, Consumer<List<E>> inserted) throws IOException {
+        long start = System.nanoTime();
+        ImportReport report = new ImportReport();
+        Set<String> keys = new HashSet<>();
+        List<Row<D>> batch = new ArrayList<>(batchSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+            report.counted();
+
+            D value;
+            try {
+                value = objectMapper.readValue(line, type);
+            } catch (JsonProcessingException e) {
+                report.failed(maxErrors, lineNumber, null, "INVALID_JSON", e.getOriginalMessage());
+                continue;
+            }
+
+            String rowKey = key.apply(value);
+            Set<ConstraintViolation<D>> violations = validator.validate(value);
+            if (!violations.isEmpty()) {
+                report.failed(maxErrors, lineNumber, rowKey, "INVALID_INPUT_VALUE", describe(violations));
+                continue;
+            }
+            if (!keys.add(rowKey)) {
+                report.failed(maxErrors, lineNumber, rowKey, "DUPLICATE", "파일 안에 중복된 값입니다.");
+                continue;
+            }
+
+            batch.add(new Row<>(lineNumber, rowKey, value));
+            if (batch.size() >= batchSize) {
+                write(batch, entityType, toEntities, inserted, report);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) write(batch, entityType, toEntities, inserted, report);
+
+        report.finished((System.nanoTime() - start) / 1_000_000);
+        log.info("[BulkImporter] {} imported : total={}, inserted={}, failed={}, elapsedMs={}",
+                name, report.getTotal(), report.getInserted(), report.getFailed(), report.getElapsedMs());
+        return report;
+    }
+
+    /**
+     * [BulkImporter] 배치 등록 함수
+     *
+     * <pre>
+     * unordered 로 실행하므로 일부 문서가 실패해도(중복 등) 나머지 문서는 등록되며,
+     * 실패한 문서의 위치(BulkWriteError.index)로 원래 행을 찾아 사유를 남깁니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    private <D, E> void write(List<Row<D>> batch, Class<E> entityType, Function<List<D>, List<E>> toEntities,
+                              Consumer<List<E>> inserted, ImportReport report) {
+        List<E> entities;
+        try {
+            entities = toEntities.apply(batch.stream().map(Row::value).toList());
+        } catch (RuntimeException e) {
+            batch.forEach(row -> report.failed(maxErrors, row.line(), row.key(), "WRITE_ERROR", e.getMessage()));
+            return;
+        }
+
+        Set<Integer> failed = new HashSet<>();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityType).insert(entities).execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                Row<D> row = batch.get(error.getIndex());
+                failed.add(error.getIndex());
+                if (error.getCode() == DUPLICATE_KEY) {
+                    report.failed(maxErrors, row.line(), row.key(), "DUPLICATE", "이미 등록된 값입니다.");
+                } else {
+                    report.failed(maxErrors, row.line(), row.key(), "WRITE_ERROR", error.getMessage());
+                }
+            }
+        } catch (RuntimeException e) {
+            // 전송 전 실패(검증 이벤트, 연결 오류 등)는 배치 전체를 실패로 처리
+            log.warn("[BulkImporter] batch failed : {}", e.getMessage());
+            batch.forEach(row -> report.failed(maxErrors, row.line(), row.key(), "WRITE_ERROR", e.getMessage()));
+            return;
+        }
+
+        List<E> written = new ArrayList<>(entities.size() - failed.size());
+        for (int i = 0; i < entities.size(); i++) {
+            if (!failed.contains(i)) written.add(entities.get(i));
+        }
+        if (!written.isEmpty()) inserted.accept(written);
+        report.inserted(written.size());
+    }
+
+    // 비밀번호 해시(수십~수백 ms)를 배치 단위로 병렬 실행 (한 번에 제출하는 작업은 hashThreads 개)
+    private List<UserEntity> toUsers(List<UserEntity.RegisterDto> rows, RoleEntity role, Instant createdAt) {
+        int threads = Math.max(1, Math.min(rows.size(), (hashThreads > 0) ? hashThreads : Runtime.getRuntime().availableProcessors()));
+        int chunkSize = (rows.size() + threads - 1) / threads;
+        List<Future<List<String>>> chunks = new ArrayList<>(threads);
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<UserEntity.RegisterDto> chunk = rows.subList(from, Math.min(rows.size(), from + chunkSize));
+            chunks.add(taskExecutor.submit(() -> chunk.stream().map(row -> passwordEncoder.encode(row.getPassword())).toList()));
+        }
+        List<String> hashes = new ArrayList<>(rows.size());
+        for (Future<List<String>> chunk : chunks) {
+            hashes.addAll(await(chunk));
+        }
+
+        // 삭제된 계정과 같은 아이디는 이전 토큰 세대부터 시작 (배치당 한 번 조회)
+        Map<String, Long> generations = tokenRevocationService.initialGenerations(
+                rows.stream().map(UserEntity.RegisterDto::getUserid).toList());
+
+        List<UserEntity> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            UserEntity.RegisterDto row = rows.get(i);
+            users.add(UserEntity.builder()
+                    .userid(row.getUserid())
+                    .username(row.getUsername())
+                    .email(row.getEmail())
+                    .password(hashes.get(i))
+                    .role(role)
+                    .roleName(role.getName())
+                    .enabled(true)
+                    .created_at(createdAt)
+                    .tokenGeneration(generations.getOrDefault(row.getUserid(), 0L))
+                    .build());
+        }
+        return users;
+    }
+
+    private static List<String> await(Future<List<String>> hashes) {
+        try {
+            return hashes.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("password hashing failed", e.getCause());
+        }
+    }
+
+    private static <D> String describe(Set<ConstraintViolation<D>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " : " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private record Row<D>(long line, String key, D value) {
+    }
+}
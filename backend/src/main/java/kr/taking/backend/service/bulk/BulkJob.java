@@ -0,0 +1,87 @@
+package kr.taking.backend.service.bulk;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * ClassName : BulkJob
+ * Type : class
+ * Description : 조건으로 실행한 사용자 일괄 작업의 진행 상태(대상, 처리, 변경 건수)를 담는 클래스입니다.
+ * Related : UserBulkUpdater, UserController
+ * How-to :
+ *  1. status : DRY_RUN(건수만 조회), RUNNING, DONE, FAILED
+ *  2. processed / matched 로 진행률을 확인합니다. (matched 는 시작 시점의 건수이므로 실행 중 변경된 문서만큼 다를 수 있음)
+ *  3. 작업은 bulk_jobs 컬렉션에 보관되므로(UserBulkUpdater) 다른 인스턴스에서도 조회할 수 있습니다.
+ * </pre>
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkJob {
+
+    public enum Status { DRY_RUN, RUNNING, DONE, FAILED }
+
+    private final String id;
+    private final UserBulkRequest.Action action;
+    private final long matched;
+    private final Instant startedAt;
+    private volatile Status status;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong modified = new AtomicLong();
+
+    BulkJob(UserBulkRequest.Action action, long matched, boolean dryRun) {
+        this.id = UUID.randomUUID().toString();
+        this.action = action;
+        this.matched = matched;
+        this.startedAt = Instant.now();
+        this.status = dryRun ? Status.DRY_RUN : Status.RUNNING;
+    }
+
+    // 저장된 작업 복원 (UserBulkUpdater.findJob)
+    BulkJob(String id, UserBulkRequest.Action action, long matched, Instant startedAt, Status status, Instant finishedAt,
+            String error, long processed, long modified) {
+        this.id = id;
+        this.action = action;
+        this.matched = matched;
+        this.startedAt = startedAt;
+        this.status = status;
+        this.finishedAt = finishedAt;
+        this.error = error;
+        this.processed.set(processed);
+        this.modified.set(modified);
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public long getModified() {
+        return modified.get();
+    }
+
+    void progressed(long processed, long modified) {
+        this.processed.addAndGet(processed);
+        this.modified.addAndGet(modified);
+    }
+
+    void done() {
+        finish(Status.DONE, null);
+    }
+
+    void failed(String error) {
+        finish(Status.FAILED, error);
+    }
+
+    private void finish(Status status, String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+}
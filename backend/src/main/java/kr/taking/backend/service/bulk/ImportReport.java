@@ -0,0 +1,61 @@
+package kr.taking.backend.service.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * ClassName : ImportReport
+ * Type : class
+ * Description : 일괄 등록 결과(전체, 성공, 실패 건수)와 실패한 행별 사유를 담는 클래스입니다.
+ * Related : BulkImporter, UserController, OrgController
+ * How-to :
+ *  1. errors 의 line 은 요청 본문(NDJSON)의 줄 번호(1부터)이며, key 는 userid 또는 조직 이름입니다.
+ *  2. code : INVALID_JSON, INVALID_INPUT_VALUE, DUPLICATE(파일 안 또는 DB 에 이미 있음), WRITE_ERROR
+ *  3. 실패 사유는 kr.taking.backend.import.maxErrors 건까지만 담고, 넘으면 errorsTruncated=true 입니다. (건수는 모두 집계)
+ * </pre>
+ */
+@Getter
+public class ImportReport {
+
+    private long total;
+    private long inserted;
+    private long failed;
+    private long elapsedMs;
+    private boolean errorsTruncated;
+    private final List<RowError> errors = new ArrayList<>();
+
+    void counted() {
+        total++;
+    }
+
+    void inserted(long count) {
+        inserted += count;
+    }
+
+    void failed(int maxErrors, long line, String key, String code, String message) {
+        failed++;
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(line, key, code, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    void finished(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+
+        private long line;
+        private String key;
+        private String code;
+        private String message;
+    }
+}
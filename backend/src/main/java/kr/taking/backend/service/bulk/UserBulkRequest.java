@@ -0,0 +1,50 @@
+package kr.taking.backend.service.bulk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import kr.taking.backend.repository.UserFilter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * <pre>
+ * ClassName : UserBulkRequest
+ * Type : class
+ * Description : 조건(filter)에 맞는 사용자 전체에 한 번에 적용할 작업을 담는 요청 클래스입니다.
+ * Related : UserBulkUpdater, UserController
+ * How-to :
+ *  1. ENABLE, DISABLE : 활성화 여부를 변경합니다.
+ *  2. ASSIGN_ROLE : 역할을 roleId 로 변경합니다.
+ *  3. ADD_ORG, REMOVE_ORG : 조직 orgId 를 추가, 제거합니다.
+ *  4. DELETE : 사용자를 삭제합니다. (토큰 전체 폐기 포함)
+ *  5. dryRun=true 이면 변경하지 않고 대상 건수만 반환합니다.
+ * </pre>
+ */
+@Getter
+@Builder
+@NoArgsConstructor @AllArgsConstructor
+public class UserBulkRequest {
+
+    public enum Action { ENABLE, DISABLE, ASSIGN_ROLE, ADD_ORG, REMOVE_ORG, DELETE }
+
+    @Valid
+    @NotNull
+    @Schema(title = "대상 사용자 조건")
+    private UserFilter filter;
+
+    @NotNull
+    @Schema(title = "작업", example = "DISABLE")
+    private Action action;
+
+    @Schema(title = "역할 고유번호 (ASSIGN_ROLE)", example = "64ed89aa9e813b5ab16da6de")
+    private String roleId;
+
+    @Schema(title = "조직 고유번호 (ADD_ORG, REMOVE_ORG)", example = "64ed89aa9e813b5ab16da6de")
+    private String orgId;
+
+    @Schema(title = "대상 건수만 조회", example = "true")
+    private boolean dryRun;
+}
@@ -0,0 +1,293 @@
+package kr.taking.backend.service.bulk;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.result.UpdateResult;
+import jakarta.annotation.PostConstruct;
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.error.exception.CustomException;
+import kr.taking.backend.error.exception.EntityNotFoundException;
+import kr.taking.backend.model.OrgEntity;
+import kr.taking.backend.model.RoleEntity;
+import kr.taking.backend.model.UserEntity;
+import kr.taking.backend.repository.ReferenceFinder;
+import kr.taking.backend.service.TokenRevocationService;
+import kr.taking.backend.service.security.PrincipalCache;
+import kr.taking.backend.service.security.UserIdIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.mongodb.client.model.Filters.eq;
+
+/**
+ * <pre>
+ * ClassName : UserBulkUpdater
+ * Type : class
+ * Description : 조건(UserFilter)에 맞는 사용자 전체를 서버에서 updateMany / deleteMany 로 한 번에 변경하는 클래스입니다.
+ * Related : UserBulkRequest, BulkJob, UserFilter, UserController
+ * How-to :
+ *  1. 대상을 _id 순서의 keyset 범위(_id > 이전 chunk 의 마지막 _id)로 chunkSize 건씩 읽고, 범위마다 updateMany 합니다.
+ *     한 번의 쓰기가 너무 커지지 않도록(oplog, 복제 지연) 나누며, skip 을 사용하지 않으므로 chunk 수와 관계없이 조회 비용이 일정합니다.
+ *  2. 대상이 chunkSize 건 이하이면 요청 스레드에서 처리하고 결과(DONE)를 반환하며, 더 많으면 별도 스레드에서 처리하고 RUNNING 작업을 바로 반환합니다.
+ *  3. 작업은 bulk_jobs 컬렉션에 보관하므로(jobTtlMs 후 TTL 인덱스로 삭제) 어느 인스턴스에서든 작업 id 로 진행 상황을 조회할 수 있습니다.
+ *  4. DISABLE, ASSIGN_ROLE 은 tokenGeneration 을 함께 증가시켜 이전 토큰(이전 역할, 비활성화 전)을 폐기하고, 증가된 세대를 다른 인스턴스에 알립니다.
+ *  5. 삭제는 단건 삭제와 같이 토큰을 전체 폐기한 뒤 삭제합니다. (deleteChunkSize)
+ *  6. 인증 주체 캐시는 chunk 마다 변경된 사용자만 무효화합니다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserBulkUpdater {
+
+    private static final String JOBS = "bulk_jobs";
+
+    private final MongoTemplate mongoTemplate;
+    private final ReferenceFinder referenceFinder;
+    private final TokenRevocationService tokenRevocationService;
+    private final PrincipalCache principalCache;
+    private final UserIdIndex userIdIndex;
+    private final AsyncTaskExecutor taskExecutor;
+
+    @Value("${kr.taking.backend.bulk.chunkSize:10000}")
+    private int chunkSize;
+
+    @Value("${kr.taking.backend.bulk.deleteChunkSize:500}")
+    private int deleteChunkSize;
+
+    @Value("${kr.taking.backend.bulk.jobTtlMs:3600000}")
+    private long jobTtlMs;
+
+    @PostConstruct
+    void init() {
+        mongoTemplate.indexOps(JOBS)
+                .ensureIndex(new Index().on("expireAt", Sort.Direction.ASC).expire(0));
+    }
+
+    /**
+     * [UserBulkUpdater] 일괄 작업 실행 함수
+     *
+     * @param request 대상 조건과 작업입니다.
+     * @return 대상 건수와 진행 상태를 반환합니다. (DRY_RUN, DONE, RUNNING)
+     * @throws CustomException 조건이 없거나 작업에 필요한 값(roleId, orgId)이 없는 경우 예외 처리 발생
+     * @throws EntityNotFoundException 역할, 조직이 없는 경우 예외 처리 발생
+     * <pre>
+     * 조건 없이 전체 사용자를 변경하지 않도록, 조건이 하나 이상 있어야 합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public BulkJob run(UserBulkRequest request) {
+        if (request.getFilter() == null || request.getFilter().isEmpty()) {
+            throw new CustomException("조건(filter)이 하나 이상 필요합니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Criteria criteria = request.getFilter().toCriteria();
+        Update update = toUpdate(request);   // 실행 전에 역할, 조직 확인
+
+        long matched = mongoTemplate.count(Query.query(criteria), UserEntity.class);
+        BulkJob job = new BulkJob(request.getAction(), matched, request.isDryRun());
+        if (request.isDryRun()) return job;
+
+        saveJob(job);
+        if (matched <= chunkSize) {
+            execute(job, criteria, update);
+        } else {
+            taskExecutor.execute(() -> execute(job, criteria, update));
+        }
+        return job;
+    }
+
+    public BulkJob findJob(String id) {
+        Document document = mongoTemplate.getCollection(JOBS).find(eq("_id", id)).first();
+        if (document == null) throw new EntityNotFoundException("Bulk job with Id " + id + " Not Found.");
+
+        Date finishedAt = document.getDate("finishedAt");
+        return new BulkJob(id,
+                UserBulkRequest.Action.valueOf(document.getString("action")),
+                ((Number) document.get("matched")).longValue(),
+                document.getDate("startedAt").toInstant(),
+                BulkJob.Status.valueOf(document.getString("status")),
+                (finishedAt != null) ? finishedAt.toInstant() : null,
+                document.getString("error"),
+                ((Number) document.get("processed")).longValue(),
+                ((Number) document.get("modified")).longValue());
+    }
+
+    private void execute(BulkJob job, Criteria criteria, Update update) {
+        long start = System.nanoTime();
+        try {
+            if (update == null) {
+                deleteInChunks(job, criteria);
+            } else {
+                updateInChunks(job, criteria, update);
+            }
+            job.done();
+        } catch (RuntimeException e) {
+            log.warn("[UserBulkUpdater] {} failed after {} rows : {}", job.getAction(), job.getProcessed(), e.getMessage());
+            job.failed(e.getMessage());
+        }
+        saveJob(job);
+
+        log.info("[UserBulkUpdater] {} {} : matched={}, processed={}, modified={}, elapsedMs={}",
+                job.getAction(), job.getStatus(), job.getMatched(), job.getProcessed(), job.getModified(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // keyset 범위(last, chunk 의 마지막 _id] 마다 updateMany
+    private void updateInChunks(BulkJob job, Criteria criteria, Update update) {
+        boolean revokes = job.getAction() == UserBulkRequest.Action.DISABLE || job.getAction() == UserBulkRequest.Action.ASSIGN_ROLE;
+
+        Object last = null;
+        while (true) {
+            Map<Object, String> chunk = nextChunk(criteria, last, chunkSize);
+            if (chunk.isEmpty()) return;
+
+            Object first = last;
+            last = lastKey(chunk);
+            Criteria range = Criteria.where("_id").lte(last);
+            if (first != null) range.gt(first);
+
+            UpdateResult result = mongoTemplate.updateMulti(Query.query(new Criteria().andOperator(criteria, range)), update, UserEntity.class);
+            if (revokes) tokenRevocationService.generationsRaised(generations(chunk.keySet()));
+            principalCache.invalidate(chunk.values());
+            progressed(job, chunk.size(), result.getModifiedCount());
+
+            if (chunk.size() < chunkSize) return;
+        }
+    }
+
+    private void deleteInChunks(BulkJob job, Criteria criteria) {
+        Object last = null;
+        while (true) {
+            Map<Object, String> chunk = nextChunk(criteria, last, deleteChunkSize);
+            if (chunk.isEmpty()) return;
+            last = lastKey(chunk);
+
+            List<String> ids = chunk.keySet().stream().map(Object::toString).toList();
+            Map<String, String> userids = tokenRevocationService.revokeAllById(ids);   // 삭제 후 같은 아이디로 재가입해도 이전 토큰은 사용 불가
+            long deleted = mongoTemplate.remove(Query.query(Criteria.where("id").in(userids.keySet())), UserEntity.class).getDeletedCount();
+            userids.values().forEach(userIdIndex::remove);
+            principalCache.invalidate(userids.values());
+            progressed(job, chunk.size(), deleted);
+
+            if (chunk.size() < deleteChunkSize) return;
+        }
+    }
+
+    // _id > last 인 대상 size 건의 _id -> userid (_id 순서)
+    private Map<Object, String> nextChunk(Criteria criteria, Object last, int size) {
+        Query query = Query.query((last == null) ? criteria : new Criteria().andOperator(criteria, Criteria.where("_id").gt(last)))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(size);
+        query.fields().include("_id", "userid");
+
+        Map<Object, String> chunk = new LinkedHashMap<>();
+        for (Document document : mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(UserEntity.class))) {
+            chunk.put(document.get("_id"), document.getString("userid"));
+        }
+        return chunk;
+    }
+
+    private static Object lastKey(Map<Object, String> chunk) {
+        Object last = null;
+        for (Object key : chunk.keySet()) last = key;
+        return last;
+    }
+
+    // 증가된 세대 (userid -> tokenGeneration)
+    private Map<String, Long> generations(Collection<Object> ids) {
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        query.fields().include("userid", "tokenGeneration");
+
+        Map<String, Long> generations = new HashMap<>();
+        for (Document document : mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(UserEntity.class))) {
+            Object generation = document.get("tokenGeneration");
+            generations.put(document.getString("userid"), (generation instanceof Number number) ? number.longValue() : 0L);
+        }
+        return generations;
+    }
+
+    private void progressed(BulkJob job, long processed, long modified) {
+        job.progressed(processed, modified);
+        mongoTemplate.getCollection(JOBS).updateOne(eq("_id", job.getId()),
+                Updates.combine(Updates.inc("processed", processed), Updates.inc("modified", modified)));
+    }
+
+    private void saveJob(BulkJob job) {
+        Document document = new Document("_id", job.getId())
+                .append("action", job.getAction().name())
+                .append("matched", job.getMatched())
+                .append("startedAt", Date.from(job.getStartedAt()))
+                .append("status", job.getStatus().name())
+                .append("finishedAt", (job.getFinishedAt() != null) ? Date.from(job.getFinishedAt()) : null)
+                .append("error", job.getError())
+                .append("processed", job.getProcessed())
+                .append("modified", job.getModified())
+                .append("expireAt", new Date(System.currentTimeMillis() + jobTtlMs));
+        mongoTemplate.getCollection(JOBS).replaceOne(eq("_id", job.getId()), document, new ReplaceOptions().upsert(true));
+    }
+
+    // DELETE 는 null
+    private Update toUpdate(UserBulkRequest request) {
+        return switch (request.getAction()) {
+            case ENABLE -> Update.update("enabled", true);
+            case DISABLE -> Update.update("enabled", false).inc("tokenGeneration", 1);
+            case ASSIGN_ROLE -> {
+                RoleEntity role = referenceFinder.findRoleById(require(request.getRoleId(), "roleId"))
+                        .orElseThrow(() -> new EntityNotFoundException("Role with Id " + request.getRoleId() + " Not Found."));
+                yield new Update()
+                        .set("role", new DBRef(mongoTemplate.getCollectionName(RoleEntity.class), toObjectId(role.getId())))
+                        .set("roleName", role.getName())
+                        .inc("tokenGeneration", 1);
+            }
+            case ADD_ORG -> {
+                OrgEntity org = findOrg(request.getOrgId());
+                yield new Update()
+                        .addToSet("orgs", new DBRef(mongoTemplate.getCollectionName(OrgEntity.class), toObjectId(org.getId())))
+                        .addToSet("orgSummaries", new Document("orgId", org.getId()).append("orgName", org.getName()));
+            }
+            case REMOVE_ORG -> {
+                OrgEntity org = findOrg(request.getOrgId());
+                yield new Update()
+                        .pull("orgs", new DBRef(mongoTemplate.getCollectionName(OrgEntity.class), toObjectId(org.getId())))
+                        .pull("orgSummaries", new Document("orgId", org.getId()));
+            }
+            case DELETE -> null;
+        };
+    }
+
+    private OrgEntity findOrg(String orgId) {
+        return referenceFinder.findOrgById(require(orgId, "orgId"))
+                .orElseThrow(() -> new EntityNotFoundException("Org with Id " + orgId + " Not Found."));
+    }
+
+    private static String require(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new CustomException(name + " 값이 필요합니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return value;
+    }
+
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
@@ -0,0 +1,38 @@
+package kr.taking.backend.service.export;
+
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.error.exception.CustomException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * <pre>
+ * ClassName : ExportFormat
+ * Type : enum
+ * Description : 내보내기 파일 형식(NDJSON, CSV)과 Content-Type, 확장자를 정의한 enum 입니다.
+ * Related : StreamingExporter, UserController, OrgController, RoleController
+ * </pre>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    // format= 파라미터 (ndjson, csv)
+    public static ExportFormat of(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new CustomException(format + " 은(는) 지원하지 않는 형식입니다. (ndjson, csv)", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package kr.taking.backend.service.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import kr.taking.backend.error.exception.RateLimitExceededException;
+import kr.taking.backend.util.projection.FieldSelection;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <pre>
+ * ClassName : StreamingExporter
+ * Type : class
+ * Description : Mongo 커서에서 읽은 Entity 를 한 건씩 NDJSON 또는 CSV 로 응답에 바로 쓰는 내보내기 클래스입니다.
+ * Related : ExportFormat, ProjectedFinder, UserController, OrgController, RoleController
+ * How-to :
+ *  1. 조회(rows)는 응답을 쓰는 스레드(MVC 비동기 스레드)에서 시작하며, 커서 배치(export.cursorBatchSize) 외에는 결과를 모으지 않으므로 메모리 사용량이 건수와 관계없이 일정합니다.
+ *  2. NDJSON : 한 줄에 한 건씩 API 응답과 같은 JSON(fields= 적용)을 씁니다.
+ *  3. CSV : 선택한 필드를 Entity 선언 순서의 열로 쓰며, 객체/배열 값은 JSON 문자열로 씁니다. (Excel 호환을 위해 UTF-8 BOM 포함)
+ *  4. gzip=true 이면 압축한 파일(.gz)로 내려받습니다.
+ *  5. 응답을 쓰기 시작한 뒤 발생한 오류는 상태 코드로 알릴 수 없으므로, 파일이 중간에 끊기고 서버 로그에 남습니다.
+ *  6. 동시 내보내기는 export.maxConcurrent 개로 제한하며, 초과 요청은 대기시키지 않고 429(Retry-After)로 거절합니다.
+ *     응답은 전용 스레드 풀(exportTaskExecutor, WebMvcConfig)에서 씁니다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingExporter {
+
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss").withZone(ZoneId.of("Asia/Seoul"));
+    private static final String CSV_LINE_END = "\r\n";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${kr.taking.backend.export.bufferSize:65536}")
+    private int bufferSize;
+
+    @Value("${kr.taking.backend.export.maxConcurrent:4}")
+    private int maxConcurrent;
+
+    @Value("${kr.taking.backend.export.retryAfterMs:5000}")
+    private long retryAfterMs;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * [StreamingExporter] 내보내기 응답 생성 함수
+     *
+     * @param name 파일 이름 앞부분입니다. (ex. users → users-20240101120000.csv)
+     * @param type 내보낼 Entity 타입입니다.
+     * @param fields 내보낼 필드입니다. (fields= 파라미터)
+     * @param format 파일 형식입니다.
+     * @param gzip true 이면 gzip 으로 압축합니다.
+     * @param rows 커서로 Entity 를 읽는 Stream 을 만드는 함수입니다. 응답을 쓸 때 호출하고, 다 쓰면 닫습니다.
+     * @return 내려받기(attachment) 응답을 반환합니다.
+     * @throws RateLimitExceededException 동시 내보내기 수(export.maxConcurrent)를 초과한 경우 예외 처리 발생
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String name, Class<T> type, FieldSelection fields,
+                                                            ExportFormat format, boolean gzip, Supplier<Stream<T>> rows) {
+        if (!permits.tryAcquire()) {
+            log.warn("[StreamingExporter] {} export rejected : {} exports running", name, maxConcurrent);
+            throw new RateLimitExceededException(retryAfterMs);
+        }
+
+        String filename = name + "-" + FILE_TIMESTAMP.format(Instant.now()) + "." + format.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = response -> {
+            try {
+                write(response, name, type, fields, format, gzip, rows);
+            } finally {
+                permits.release();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    private <T> void write(OutputStream response, String name, Class<T> type, FieldSelection fields,
+                           ExportFormat format, boolean gzip, Supplier<Stream<T>> rows) throws IOException {
+        long start = System.nanoTime();
+        long count = 0;
+
+        // 응답 스트림은 MVC 가 닫으므로 압축/버퍼 스트림만 닫음
+        OutputStream target = StreamUtils.nonClosing(response);
+        try (OutputStream output = gzip ? new GZIPOutputStream(target, bufferSize) : new BufferedOutputStream(target, bufferSize);
+             RowWriter<T> writer = (format == ExportFormat.CSV) ? new CsvWriter<>(output, fields.jsonNames(type)) : new NdjsonWriter<>(output, fields);
+             Stream<T> stream = rows.get()) {
+
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                count++;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("[StreamingExporter] {} export aborted after {} rows : {}", name, count, e.getMessage());
+            throw e;
+        }
+
+        log.info("[StreamingExporter] {} exported : rows={}, format={}, gzip={}, elapsedMs={}",
+                name, count, format, gzip, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private interface RowWriter<T> extends Closeable {
+        void write(T row) throws IOException;
+    }
+
+    // 매 건 flush 하지 않음 (버퍼가 찰 때 또는 닫을 때 응답으로 전송)
+    private class NdjsonWriter<T> implements RowWriter<T> {
+
+        private final SequenceWriter sequence;
+
+        NdjsonWriter(OutputStream output, FieldSelection fields) throws IOException {
+            this.sequence = objectMapper.writer(fields.filters())
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(output);
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            sequence.write(row);
+        }
+
+        @Override
+        public void close() throws IOException {
+            sequence.flush();
+            sequence.close();
+        }
+    }
+
+    private class CsvWriter<T> implements RowWriter<T> {
+
+        private final Writer writer;
+        private final List<String> columns;
+
+        CsvWriter(OutputStream output, List<String> columns) throws IOException {
+            this.writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            this.columns = columns;
+
+            writer.write('\uFEFF');
+            writer.write(String.join(",", columns.stream().map(StreamingExporter::escape).toList()));
+            writer.write(CSV_LINE_END);
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            JsonNode node = objectMapper.valueToTree(row);
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) writer.write(',');
+                writer.write(cell(node.get(columns.get(i))));
+            }
+            writer.write(CSV_LINE_END);
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private static String cell(JsonNode value) {
+        if (value == null || value.isNull()) return "";
+        if (!value.isValueNode()) return escape(value.toString());
+
+        String text = value.asText();
+        // 스프레드시트에서 수식으로 실행되지 않도록 (=, +, -, @ 로 시작하는 문자열)
+        if (value.isTextual() && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) text = "'" + text;
+        return escape(text);
+    }
+
+    private static String escape(String text) {
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) return text;
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+}
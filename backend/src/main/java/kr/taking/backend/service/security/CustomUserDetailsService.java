@@ -4,17 +4,12 @@ import kr.taking.backend.repository.UserRepository;
 import kr.taking.backend.model.RoleEntity;
 import kr.taking.backend.model.UserEntity;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
-import java.util.Set;
-
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
@@ -34,17 +29,12 @@ public class CustomUserDetailsService implements UserDetailsService {
         return org.springframework.security.core.userdetails.User
                 .withUsername(user.getUserid())
                 .password(user.getPassword())
-                .authorities(getSimpleGrantedAuthorities(role))
+                .authorities(RoleAuthorities.of(role.getName()))
                 .accountExpired(false)
                 .accountLocked(false)
-                .disabled(false)
+                .disabled(!user.isEnabled())
                 .credentialsExpired(false)
                 .build();
 
     }
-        private Set<GrantedAuthority> getSimpleGrantedAuthorities(RoleEntity role){
-        Set<GrantedAuthority> grantedAuthorities = new HashSet<>();
-        grantedAuthorities.add(new SimpleGrantedAuthority(role.getName()));
-        return grantedAuthorities;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package kr.taking.backend.service.security;
+
+import jakarta.annotation.PostConstruct;
+import kr.taking.backend.configuration.invalidation.Invalidation;
+import kr.taking.backend.configuration.invalidation.InvalidationPublisher;
+import kr.taking.backend.util.cache.LocalCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * ClassName : PrincipalCache
+ * Type : class
+ * Description : 사용자 아이디별 인증 주체(UserDetails)를 보관하는 크기 제한 캐시 클래스입니다.
+ * Related : TokenServiceImpl, UserServiceImpl, RoleServiceImpl
+ * How-to :
+ *  1. kr.taking.backend.principalCacheSize=0 으로 설정하면 캐시를 사용하지 않습니다.
+ *  2. 사용자 정보, 역할이 변경되면 invalidate(userid) 또는 invalidateAll() 을 호출합니다. (일괄 변경은 chunk 마다 invalidate(userids))
+ *  3. 다른 인스턴스의 캐시는 InvalidationBus 가 같은 함수로 지웁니다.
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+
+    private final InvalidationPublisher invalidationPublisher;
+
+    @Value("${kr.taking.backend.principalCacheSize:10000}")
+    private int principalCacheSize;
+
+    @Value("${kr.taking.backend.principalCacheTtlMs:60000}")
+    private long principalCacheTtlMs;
+
+    private LocalCache<String, UserDetails> principals;
+
+    @PostConstruct
+    void init() {
+        principals = new LocalCache<>(principalCacheSize, principalCacheTtlMs);
+    }
+
+    public UserDetails get(String userid, Function<String, UserDetails> loader) {
+        return principals.computeIfAbsent(userid, loader);
+    }
+
+    public void invalidate(String userid) {
+        if (userid == null) return;
+        principals.invalidate(userid);
+        invalidationPublisher.publish(Invalidation.Region.PRINCIPAL, userid);
+    }
+
+    // 다른 인스턴스에는 묶어서 알림 (publishAll)
+    public void invalidate(Collection<String> userids) {
+        if (userids.isEmpty()) return;
+        userids.forEach(principals::invalidate);
+        invalidationPublisher.publishAll(userids.stream().map(userid -> Invalidation.of(Invalidation.Region.PRINCIPAL, userid)).toList());
+    }
+
+    public void invalidateAll() {
+        principals.invalidateAll();
+        invalidationPublisher.publish(Invalidation.Region.PRINCIPAL, null);
+    }
+}
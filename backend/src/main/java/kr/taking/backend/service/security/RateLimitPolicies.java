@@ -0,0 +1,64 @@
+package kr.taking.backend.service.security;
+
+import jakarta.annotation.PostConstruct;
+import kr.taking.backend.service.RateLimitService.Scope;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : RateLimitPolicies
+ * Type : class
+ * Description : 호출 빈도 제한 범위(IP, 사용자 아이디)별 허용량 설정을 포함하고 있는 클래스입니다.
+ * Related : LocalRateLimitServiceImpl, MongoRateLimitServiceImpl
+ * How-to :
+ *  1. capacity : 한 번에 허용하는 최대 요청 수 (burst)
+ *  2. perMinute : 분당 보충되는 요청 수
+ * </pre>
+ */
+@Component
+public class RateLimitPolicies {
+
+    @Getter
+    @Value("${kr.taking.backend.ratelimit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${kr.taking.backend.ratelimit.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${kr.taking.backend.ratelimit.ip.perMinute:60}")
+    private int ipPerMinute;
+
+    @Value("${kr.taking.backend.ratelimit.userid.capacity:5}")
+    private int useridCapacity;
+
+    @Value("${kr.taking.backend.ratelimit.userid.perMinute:10}")
+    private int useridPerMinute;
+
+    private Policy ipPolicy;
+    private Policy useridPolicy;
+
+    @PostConstruct
+    void init() {
+        ipPolicy = new Policy(ipCapacity, ipPerMinute);
+        useridPolicy = new Policy(useridCapacity, useridPerMinute);
+    }
+
+    public Policy get(Scope scope) {
+        return (scope == Scope.IP) ? ipPolicy : useridPolicy;
+    }
+
+    public record Policy(int capacity, int perMinute) {
+
+        // 토큰 1개가 보충되는 간격(ms)
+        public long emissionIntervalMs() {
+            return 60000L / Math.max(1, perMinute);
+        }
+
+        // 한 번에 허용하는 초과 요청 구간(ms)
+        public long burstToleranceMs() {
+            return emissionIntervalMs() * (Math.max(1, capacity) - 1);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package kr.taking.backend.service.security;
+
+import kr.taking.backend.configuration.invalidation.Invalidation;
+import kr.taking.backend.configuration.invalidation.InvalidationPublisher;
+import kr.taking.backend.repository.UserRepository;
+import kr.taking.backend.util.Security.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <pre>
+ * ClassName : UserIdIndex
+ * Type : class
+ * Description : 등록된 전체 사용자 아이디를 Bloom filter 로 유지하여, 아이디 중복 체크의 "사용 가능" 응답을 DB 조회 없이 판별하는 클래스입니다.
+ * Related : AuthServiceImpl, UserServiceImpl, UserRepositoryCustom
+ * How-to :
+ *  1. mightExist(userid) 가 false 이면 등록되지 않은 아이디입니다. true 이면 DB(covered 쿼리)로 확인합니다.
+ *  2. 사용자 등록 시 add(userid), 삭제 시 remove(userid) 를 호출합니다. (일괄 등록은 배치마다 addAll)
+ *  3. Bloom filter 는 항목을 지울 수 없으므로, 삭제/추가가 누적되거나 rebuildIntervalMs 가 지나면 다시 만듭니다.
+ *     (최종 중복 판정은 userid 유니크 인덱스가 담당합니다.)
+ *  4. 다른 인스턴스에서 등록된 아이디는 InvalidationBus 가 add(userid) 로 반영합니다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserIdIndex {
+
+    private final UserRepository userRepository;
+    private final AsyncTaskExecutor taskExecutor;
+    private final InvalidationPublisher invalidationPublisher;
+
+    @Value("${kr.taking.backend.useridIndex.enabled:true}")
+    private boolean enabled;
+
+    @Value("${kr.taking.backend.useridIndex.expectedInsertions:100000}")
+    private int expectedInsertions;
+
+    @Value("${kr.taking.backend.useridIndex.fpp:0.01}")
+    private double fpp;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+    private volatile int capacity;
+    // put 과 재생성 후 교체(filter = next, building = null)가 겹쳐 새 filter 에서 아이디가 빠지지 않도록 함께 잠금
+    private final Object swapLock = new Object();
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicInteger insertions = new AtomicInteger();
+    private final AtomicInteger removals = new AtomicInteger();
+
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder lookups = new LongAdder();
+
+    @EventListener(ApplicationReadyEvent.class)
+    void init() {
+        if (enabled) rebuild();
+    }
+
+    // 다른 인스턴스의 등록분 반영 및 삭제된 아이디 정리
+    @Scheduled(fixedDelayString = "${kr.taking.backend.useridIndex.rebuildIntervalMs:600000}",
+               initialDelayString = "${kr.taking.backend.useridIndex.rebuildIntervalMs:600000}")
+    void scheduledRebuild() {
+        if (enabled) rebuild();
+    }
+
+    /**
+     * [UserIdIndex] 아이디 존재 가능성 확인 함수
+     *
+     * @param userid 확인할 사용자 아이디입니다.
+     * @return false 이면 등록되지 않은 아이디이고, true 이면 등록되었을 수 있으므로 DB 확인이 필요합니다.
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public boolean mightExist(String userid) {
+        BloomFilter current = filter;
+        if (current == null || current.mightContain(userid)) {
+            lookups.increment();
+            return true;
+        }
+        negatives.increment();
+        return false;
+    }
+
+    public void add(String userid) {
+        invalidationPublisher.publish(Invalidation.Region.USER_CREATED, userid);
+        put(userid);
+    }
+
+    // 다른 인스턴스에는 배치당 한 번만 알림
+    public void addAll(Collection<String> userids) {
+        invalidationPublisher.publishAll(userids.stream().map(userid -> Invalidation.of(Invalidation.Region.USER_CREATED, userid)).toList());
+        userids.forEach(this::put);
+    }
+
+    private void put(String userid) {
+        synchronized (swapLock) {
+            BloomFilter current = filter;
+            if (current == null) return;
+
+            current.put(userid);
+            BloomFilter next = building;
+            if (next != null) next.put(userid);  // 재생성 중 커서가 이미 지나간 아이디 누락 방지
+        }
+
+        if (insertions.incrementAndGet() > capacity) rebuildAsync();  // 설계 용량 초과 시 오탐률 증가
+    }
+
+    public void remove(String userid) {
+        if (filter == null) return;
+
+        // 지워진 아이디는 오탐으로 남아 DB 확인으로 처리되며, 누적되면 다시 만듦
+        if (removals.incrementAndGet() > capacity / 10) rebuildAsync();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", enabled);
+        snapshot.put("ready", filter != null);
+        snapshot.put("capacity", capacity);
+        snapshot.put("insertions", insertions.get());
+        snapshot.put("removals", removals.get());
+        snapshot.put("answeredInMemory", negatives.sum());
+        snapshot.put("databaseLookups", lookups.sum());
+        return snapshot;
+    }
+
+    // 변경 이력을 놓친 경우(InvalidationBus) 다른 인스턴스의 등록분을 다시 읽음
+    public void rebuildAsync() {
+        if (!enabled || rebuilding.get()) return;
+        taskExecutor.execute(this::rebuild);
+    }
+
+    private void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+        try {
+            long start = System.nanoTime();
+            int size = (int) Math.min(Integer.MAX_VALUE / 2, userRepository.count());
+            int nextCapacity = Math.max(expectedInsertions, size * 2);
+
+            BloomFilter next = new BloomFilter(nextCapacity, fpp);
+            building = next;
+            int[] loaded = {0};
+            userRepository.forEachUserid(userid -> {
+                next.put(userid);
+                loaded[0]++;
+            });
+
+            synchronized (swapLock) {
+                capacity = nextCapacity;
+                insertions.set(loaded[0]);
+                removals.set(0);
+                filter = next;
+                building = null;
+            }
+
+            log.info("UserId index built : userids={}, capacity={}, elapsedMs={}",
+                    loaded[0], nextCapacity, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("UserId index build failed, falling back to database lookups : {}", e.getMessage());
+        } finally {
+            synchronized (swapLock) {
+                building = null;
+            }
+            rebuilding.set(false);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package kr.taking.backend.service.summary;
+
+import com.mongodb.DBRef;
+import jakarta.annotation.PreDestroy;
+import kr.taking.backend.model.OrgEntity;
+import kr.taking.backend.model.RoleEntity;
+import kr.taking.backend.model.UserEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <pre>
+ * ClassName : UserSummarySynchronizer
+ * Type : class
+ * Description : 사용자 문서에 포함된 역할 이름(roleName), 조직 요약(orgSummaries)을 원본(roles, organizations)과 맞추는 클래스입니다.
+ * Related : UserEntity, OrgServiceImpl, RoleServiceImpl, MonitorController
+ * How-to :
+ *  1. 조직 이름 변경, 조직 삭제, 역할 이름 변경, 역할 삭제 시 해당 함수를 호출하면 별도 스레드에서 updateMany 로 한 번에 갱신합니다.
+ *     같은 조직/역할에 대한 변경이 대기 중이면 마지막 변경만 반영합니다.
+ *  2. 갱신이 실패하거나 누락된 경우를 위해, 주기적으로 전체 사용자를 검사하여 다른 값을 복구합니다. (checkIntervalMs)
+ *     기존 사용자 문서(요약 필드가 없는 문서)도 이 검사에서 채워집니다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSummarySynchronizer {
+
+    private static final int REPAIR_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${kr.taking.backend.summary.enabled:true}")
+    private boolean enabled;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-summary-fanout");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, Runnable> pending = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean checking = new AtomicBoolean();
+    private final LongAdder fanouts = new LongAdder();
+    private final LongAdder fanoutFailures = new LongAdder();
+    private final LongAdder repaired = new LongAdder();
+    private volatile Map<String, Object> lastCheck = Map.of();
+
+    public void orgRenamed(String orgId, String orgName) {
+        submit("org:" + orgId, () -> mongoTemplate.updateMulti(
+                Query.query(Criteria.where("orgs.$id").is(toObjectId(orgId))),   // orgs_id 인덱스
+                new Update().set("orgSummaries.$[summary].orgName", orgName)
+                        .filterArray(Criteria.where("summary.orgId").is(orgId)),
+                UserEntity.class));
+    }
+
+    public void orgDeleted(String orgId) {
+        submit("org:" + orgId, () -> mongoTemplate.updateMulti(
+                Query.query(Criteria.where("orgs.$id").is(toObjectId(orgId))),
+                new Update().pull("orgSummaries", new Document("orgId", orgId)),
+                UserEntity.class));
+    }
+
+    // 조직 일괄 삭제 : 삭제된 조직 전체를 updateMany 한 번으로 반영
+    public void orgsDeleted(Collection<String> orgIds) {
+        List<Object> ids = orgIds.stream().map(UserSummarySynchronizer::toObjectId).toList();
+        submit("orgs:" + String.join(",", orgIds), () -> mongoTemplate.updateMulti(
+                Query.query(Criteria.where("orgs.$id").in(ids)),
+                new Update().pull("orgSummaries", new Document("orgId", new Document("$in", orgIds))),
+                UserEntity.class));
+    }
+
+    public void roleRenamed(String roleId, String roleName) {
+        submit("role:" + roleId, () -> mongoTemplate.updateMulti(
+                Query.query(Criteria.where("role.$id").is(toObjectId(roleId))),  // role_id 인덱스
+                Update.update("roleName", roleName),
+                UserEntity.class));
+    }
+
+    public void roleDeleted(String roleId) {
+        submit("role:" + roleId, () -> mongoTemplate.updateMulti(
+                Query.query(Criteria.where("role.$id").is(toObjectId(roleId))),
+                new Update().unset("roleName"),
+                UserEntity.class));
+    }
+
+    public void rolesDeleted(Collection<String> roleIds) {
+        List<Object> ids = roleIds.stream().map(UserSummarySynchronizer::toObjectId).toList();
+        submit("roles:" + String.join(",", roleIds), () -> mongoTemplate.updateMulti(
+                Query.query(Criteria.where("role.$id").in(ids)),
+                new Update().unset("roleName"),
+                UserEntity.class));
+    }
+
+    /**
+     * [UserSummarySynchronizer] 요약 정보 검사 및 복구 함수
+     *
+     * <pre>
+     * 역할, 조직 전체(소량)를 읽어 id -> 이름 맵을 만든 뒤, 사용자 문서를 참조/요약 필드만 projection 하여 순회합니다.
+     * 기대값과 다른 사용자만 unordered bulk 로 묶어 $set 하며, 읽은 role, orgs, 요약 값이 그대로인 문서에만 적용합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    @Scheduled(initialDelayString = "${kr.taking.backend.summary.checkInitialDelayMs:30000}",
+               fixedDelayString = "${kr.taking.backend.summary.checkIntervalMs:3600000}")
+    public void checkConsistency() {
+        if (!enabled || !checking.compareAndSet(false, true)) return;
+
+        long start = System.nanoTime();
+        long scanned = 0;
+        long fixed = 0;
+        try {
+            Map<String, String> roleNames = namesById(RoleEntity.class);
+            Map<String, String> orgNames = namesById(OrgEntity.class);
+
+            Query query = new Query();
+            query.fields().include("role", "orgs", "roleName", "orgSummaries");
+
+            BulkOperations bulk = null;
+            int batched = 0;
+            String collection = mongoTemplate.getCollectionName(UserEntity.class);
+
+            for (Document user : mongoTemplate.getCollection(collection)
+                    .find(query.getQueryObject()).projection(query.getFieldsObject()).batchSize(1000)) {
+                scanned++;
+
+                String roleName = (user.get("role") instanceof DBRef role) ? roleNames.get(role.getId().toString()) : null;
+                List<Document> summaries = new ArrayList<>();
+                if (user.get("orgs") instanceof List<?> orgs) {
+                    for (Object org : orgs) {
+                        if (!(org instanceof DBRef ref)) continue;
+                        String orgId = ref.getId().toString();
+                        String orgName = orgNames.get(orgId);
+                        if (orgName != null) summaries.add(new Document("orgId", orgId).append("orgName", orgName));
+                    }
+                }
+
+                // 조직 요약은 순서가 달라도 같은 값이므로 집합으로 비교 ($addToSet, $pull 로 갱신되어 순서가 바뀔 수 있음)
+                if (Objects.equals(roleName, user.getString("roleName")) && sameSummaries(summaries, user.get("orgSummaries"))) continue;
+
+                if (bulk == null) bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+                Update update = new Update().set("orgSummaries", summaries);
+                if (roleName != null) update.set("roleName", roleName); else update.unset("roleName");
+                // 읽은 뒤 역할/조직 변경이나 팬아웃이 먼저 반영된 문서는 건너뛰고 다음 검사에서 다시 비교
+                bulk.updateOne(Query.query(Criteria.where("_id").is(user.get("_id"))
+                        .and("role").is(user.get("role"))
+                        .and("orgs").is(user.get("orgs"))
+                        .and("roleName").is(user.get("roleName"))
+                        .and("orgSummaries").is(user.get("orgSummaries"))), update);
+
+                fixed++;
+                if (++batched == REPAIR_BATCH_SIZE) {
+                    bulk.execute();
+                    bulk = null;
+                    batched = 0;
+                }
+            }
+            if (bulk != null) bulk.execute();
+
+            repaired.add(fixed);
+            if (fixed > 0) log.info("User summary drift repaired : scanned={}, repaired={}", scanned, fixed);
+        } catch (RuntimeException e) {
+            log.warn("User summary consistency check failed : {}", e.getMessage());
+        } finally {
+            Map<String, Object> check = new LinkedHashMap<>();
+            check.put("at", new Date());
+            check.put("scanned", scanned);
+            check.put("repaired", fixed);
+            check.put("elapsedMs", (System.nanoTime() - start) / 1_000_000);
+            lastCheck = check;
+            checking.set(false);
+        }
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", enabled);
+        snapshot.put("pending", pending.size());
+        snapshot.put("fanouts", fanouts.sum());
+        snapshot.put("fanoutFailures", fanoutFailures.sum());
+        snapshot.put("repairedTotal", repaired.sum());
+        snapshot.put("lastCheck", lastCheck);
+        return snapshot;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.shutdown();
+    }
+
+    // 같은 키의 변경이 대기 중이면 마지막 작업으로 교체 (실행은 한 번)
+    private void submit(String key, Runnable task) {
+        if (!enabled) return;
+        if (pending.put(key, task) != null) return;
+
+        worker.execute(() -> {
+            Runnable latest = pending.remove(key);
+            if (latest == null) return;
+            try {
+                latest.run();
+                fanouts.increment();
+            } catch (RuntimeException e) {
+                fanoutFailures.increment();  // 다음 정합성 검사에서 복구됨
+                log.warn("User summary fan-out failed : {} : {}", key, e.getMessage());
+            }
+        });
+    }
+
+    private <T> Map<String, String> namesById(Class<T> type) {
+        Map<String, String> names = new HashMap<>();
+        Query query = new Query();
+        query.fields().include("name");
+        for (Document document : mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(type))) {
+            names.put(document.get("_id").toString(), document.getString("name"));
+        }
+        return names;
+    }
+
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    private static boolean sameSummaries(List<Document> expected, Object actual) {
+        if (!(actual instanceof List<?> stored)) return false;
+        return stored.size() == expected.size() && new HashSet<>(stored).equals(new HashSet<>(expected));
+    }
+}
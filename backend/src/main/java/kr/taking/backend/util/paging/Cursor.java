@@ -0,0 +1,67 @@
+package kr.taking.backend.util.paging;
+
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.error.exception.CustomException;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonParseException;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * <pre>
+ * ClassName : Cursor
+ * Type : record
+ * Description : 마지막으로 조회한 항목의 정렬 키 값과 _id 를 담는 불투명(opaque) 페이지 커서입니다.
+ * Related : CursorPage, KeysetPagination
+ * How-to :
+ *  1. 정렬 필드, 방향, 마지막 값, 마지막 _id 를 Extended JSON(relaxed) 으로 직렬화한 뒤 Base64(URL-safe)로 인코딩합니다.
+ *     (ObjectId, 날짜 등 BSON 타입이 그대로 복원됩니다.)
+ *  2. 커서를 만든 정렬과 다른 정렬로 요청하면 유효하지 않은 입력으로 처리합니다.
+ * </pre>
+ */
+public record Cursor(String field, Sort.Direction direction, Object value, Object id) {
+
+    private static final JsonWriterSettings JSON = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+
+    public String encode() {
+        Document document = new Document("f", field)
+                .append("d", direction == Sort.Direction.ASC ? 1 : -1)
+                .append("v", value)
+                .append("i", id);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(document.toJson(JSON).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * [Cursor] 커서 복원 함수
+     *
+     * @param cursor 이전 응답의 nextCursor 값입니다. 비어 있으면 첫 페이지입니다.
+     * @param field 요청한 정렬 필드(Mongo 필드명)입니다.
+     * @param direction 요청한 정렬 방향입니다.
+     * @return 복원된 커서를 반환하며, 첫 페이지인 경우 null 을 반환합니다.
+     * @throws CustomException 커서 형식이 잘못되었거나, 요청한 정렬과 다른 경우 예외 처리 발생
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public static Cursor decode(String cursor, String field, Sort.Direction direction) {
+        if (!StringUtils.hasText(cursor)) return null;
+
+        Document document;
+        try {
+            document = Document.parse(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException | JsonParseException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Sort.Direction cursorDirection = Integer.valueOf(1).equals(document.get("d")) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        if (!field.equals(document.getString("f")) || cursorDirection != direction || !document.containsKey("i")) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);   // 다른 정렬로 만든 커서
+        }
+        return new Cursor(field, direction, document.get("v"), document.get("i"));
+    }
+}
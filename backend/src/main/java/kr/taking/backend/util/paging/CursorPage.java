@@ -0,0 +1,26 @@
+package kr.taking.backend.util.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * ClassName : CursorPage
+ * Type : class
+ * Description : Keyset(cursor) 페이징 결과를 담는 클래스입니다. 전체 건수(count)는 조회하지 않습니다.
+ * Related : Cursor, KeysetPagination
+ * How-to :
+ *  1. 첫 페이지는 cursor= (빈 값)으로 요청합니다.
+ *  2. 응답의 nextCursor 를 다음 요청의 cursor 로 전달하며, nextCursor 가 없으면 마지막 페이지입니다.
+ * </pre>
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+}
@@ -27,8 +27,11 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(500, "서버에 문제가 발생했습니다."),
     NOT_FOUND(404, "찾을 수 없습니다."),
     FORBIDDEN(403, "접근 권한이 없어 거부되었습니다."),
+    DISABLED_ACCOUNT(403, "비활성화된 계정입니다."),
     ACCESS_DENIED_EXCEPTION(401, "인증 정보가 유효하지 않습니다."),
     DUPLICATE(409, "중복된 데이터가 있습니다."),
+    TOO_MANY_REQUESTS(429, "요청 횟수가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    SERVICE_UNAVAILABLE(503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     NO_BODY(400, "파라미터 값이 입력되지 않았습니다.");
 
     private final int status;
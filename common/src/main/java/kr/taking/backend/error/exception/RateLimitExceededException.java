@@ -0,0 +1,17 @@
+package kr.taking.backend.error.exception;
+
+import kr.taking.backend.error.enums.ErrorCode;
+
+public class RateLimitExceededException extends CustomException {
+
+    private final long retryAfterMs;
+
+    public RateLimitExceededException(long retryAfterMs) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfterMs + 999) / 1000);
+    }
+}
@@ -1,5 +1,6 @@
 package kr.taking.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
@@ -12,6 +13,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.io.Serializable;
@@ -29,6 +31,7 @@ import java.time.Instant;
 @Builder
 @NoArgsConstructor @AllArgsConstructor
 @Document(collection = "organizations")
+@JsonFilter("orgFields")    // fields= 파라미터로 선택한 필드만 직렬화 (FieldSelection)
 @JsonPropertyOrder({ "id", "orgName", "orgBiznum", "orgContact", "orgEnabled", "created_at" })
 public class OrgEntity implements Serializable {
 
@@ -38,6 +41,7 @@ public class OrgEntity implements Serializable {
     private String id;
 
     @NotNull
+    @Indexed(unique = true)
     @JsonProperty("orgName")
     @Schema(title = "조직 이름", example = "더모멘트")
     @Size(min = 4, max = 255, message = "Minimum name length: 4 characters")
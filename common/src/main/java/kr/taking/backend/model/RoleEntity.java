@@ -1,5 +1,6 @@
 package kr.taking.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,6 +11,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.io.Serializable;
@@ -27,6 +29,7 @@ import java.time.Instant;
 @Builder
 @NoArgsConstructor @AllArgsConstructor
 @Document(collection = "roles")
+@JsonFilter("roleFields")    // fields= 파라미터로 선택한 필드만 직렬화 (FieldSelection)
 public class RoleEntity implements Serializable {
 
     @Id
@@ -35,6 +38,7 @@ public class RoleEntity implements Serializable {
     private String id;
 
     @NotNull
+    @Indexed(unique = true)
     @JsonProperty("roleName")
     @Schema(title = "권한 이름", example = "ROLE_USER")
     private String name;
@@ -57,4 +61,15 @@ public class RoleEntity implements Serializable {
 
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor @AllArgsConstructor
+    public static class UpdateDto {
+
+        @Schema(title = "권한 이름", example = "MANAGER")
+        @Size(min = 4, max = 20, message = "Minimum name length: 4 characters")
+        private String name;
+
+    }
+
 }
@@ -1,6 +1,8 @@
 package kr.taking.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,15 +12,21 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -30,10 +38,17 @@ import java.util.Set;
  * </pre>
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor @AllArgsConstructor
 @Document(collection = "users")
-@JsonPropertyOrder({ "id", "userId", "userName", "userEmail", "userRole", "userEnabled", "userRole", "userOrgs", "created_at" })
+@JsonFilter("userFields")    // fields= 파라미터로 선택한 필드만 직렬화 (FieldSelection)
+@CompoundIndexes({
+    @CompoundIndex(name = "role_id", def = "{ 'role.$id': 1, '_id': -1 }"),    // 역할별 사용자 조회 (최신순)
+    @CompoundIndex(name = "orgs_id", def = "{ 'orgs.$id': 1, '_id': -1 }"),    // 조직별 사용자 조회 (최신순)
+    @CompoundIndex(name = "enabled_id", def = "{ 'enabled': 1, '_id': -1 }"),   // 활성화 여부별 사용자 조회 (최신순)
+    @CompoundIndex(name = "created_at_id", def = "{ 'created_at': -1, '_id': -1 }")    // 생성일 범위 조회
+})
+@JsonPropertyOrder({ "id", "userId", "userName", "userEmail", "userRole", "userEnabled", "userRole", "userOrgs", "userRoleName", "userOrgSummaries", "created_at" })
 public class UserEntity implements Serializable {
 
     @Id
@@ -42,12 +57,14 @@ public class UserEntity implements Serializable {
     private String id;
 
     @NotNull
+    @Indexed(unique = true)
     @JsonProperty("userId")
     @Schema(title = "사용자 아이디", example = "admin")
     @Size(min = 4, max = 10, message = "Minimum userId length: 4 characters")
     private String userid;
 
     @NotNull
+    @Indexed
     @JsonProperty("userName")
     @Schema(title = "사용자 이름", example = "홍길동")
     @Size(min = 2, max = 10, message = "Minimum username length: 4 characters")
@@ -85,8 +102,42 @@ public class UserEntity implements Serializable {
     @Schema(title = "Org 정보", example = "더모멘트")
     private Set<OrgEntity> orgs = new HashSet<>();
 
+    // 목록 조회용 역할 이름, 조직 요약 (원본 변경 시 UserSummarySynchronizer 가 갱신)
+    @JsonProperty("userRoleName")
+    @Schema(title = "사용자 권한 이름", example = "ROLE_USER")
+    private String roleName;
+
+    @Builder.Default
+    @JsonProperty("userOrgSummaries")
+    @Schema(title = "조직 요약 정보")
+    private List<OrgSummary> orgSummaries = new ArrayList<>();
+
+    // 토큰 전체 폐기 시 증가하며, 이보다 낮은 세대(gen 클레임)로 발급된 토큰은 거부됨
+    @JsonIgnore
+    @Indexed(partialFilter = "{ 'tokenGeneration': { '$gt': 0 } }")
+    private long tokenGeneration;
+
 //////////////////////////////////////////////////////////////////////////
 
+    @Getter
+    @Builder
+    @EqualsAndHashCode
+    @NoArgsConstructor @AllArgsConstructor
+    public static class OrgSummary {
+
+        @JsonProperty("orgSeq")
+        @Schema(title = "조직 고유번호", example = "64ed89aa9e813b5ab16da6de")
+        private String orgId;
+
+        @JsonProperty("orgName")
+        @Schema(title = "조직 이름", example = "더모멘트")
+        private String orgName;
+
+        public static OrgSummary of(OrgEntity org) {
+            return new OrgSummary(org.getId(), org.getName());
+        }
+    }
+
     @Getter
     @Builder
     @NoArgsConstructor @AllArgsConstructor
@@ -0,0 +1,248 @@
+package kr.taking.backend.service.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * <pre>
+ * ClassName : CalibratedPasswordEncoder
+ * Type : class
+ * Description : 기동 시 호스트 성능을 측정하여 목표 해시 시간에 맞는 강도를 선택하는 위임형 PasswordEncoder 클래스입니다.
+ * Related : BeanConfig, AuthServiceImpl, PasswordHashMetrics
+ * How-to :
+ *  1. 저장 형식 : {bcrypt}$2a$11$... , {pbkdf2@310000}...
+ *  2. 접두어가 없는 기존 해시($2a$12$...)는 bcrypt 로 간주합니다.
+ *  3. upgradeEncoding() 이 true 인 해시(다른 알고리즘, 다른 강도)는 로그인 성공 시 현재 설정으로 다시 해시합니다.
+ *  4. 강도는 배포 전체에서 같아야 합니다. 설정한 강도(fixedStrength)를 사용하거나, 처음 측정한 값을 DB 에 저장하여 모든 인스턴스가 공유합니다.
+ *     (인스턴스마다 측정값이 다르면 서로의 해시를 번갈아 바꾸므로, 공유하지 못한 경우에는 더 낮은 강도만 올림)
+ * </pre>
+ */
+@Slf4j
+public class CalibratedPasswordEncoder implements PasswordEncoder {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+    // 배포 전체에서 공유하는 강도를 저장하는 컬렉션 (_id : 알고리즘, strength)
+    public static final String SETTINGS_COLLECTION = "password_settings";
+
+    private static final String CALIBRATION_PASSWORD = "calibration-Pa@sW0rd";
+    private static final int PBKDF2_PROBE_ITERATIONS = 20000;
+
+    private final String algorithm;
+    private final int strength;     // bcrypt : cost, pbkdf2 : iterations
+    private final boolean shared;   // 배포 전체에서 같은 강도인 경우 true (다른 강도는 낮추는 방향으로도 다시 해시)
+    private final String encodingId;
+    private final PasswordEncoder encoder;
+    private final PasswordHashMetrics metrics;
+
+    private final BCryptPasswordEncoder bcryptMatcher = new BCryptPasswordEncoder();
+    private final Map<Integer, PasswordEncoder> pbkdf2Matchers = new ConcurrentHashMap<>();
+
+    private CalibratedPasswordEncoder(String algorithm, int strength, boolean shared, PasswordHashMetrics metrics) {
+        this.algorithm = algorithm;
+        this.strength = strength;
+        this.shared = shared;
+        this.encodingId = BCRYPT.equals(algorithm) ? BCRYPT : PBKDF2 + "@" + strength;
+        this.encoder = BCRYPT.equals(algorithm) ? new BCryptPasswordEncoder(strength) : pbkdf2(strength);
+        this.metrics = metrics;
+    }
+
+    /**
+     * [CalibratedPasswordEncoder] 강도 측정 및 생성 함수
+     *
+     * @param algorithm 해시 알고리즘입니다. (bcrypt, pbkdf2)
+     * @param targetMs 해시 1회에 허용할 목표 시간(ms)입니다.
+     * @param fixedStrength 0 보다 큰 경우 측정 없이 해당 강도를 사용합니다.
+     * @param minStrength 최소 강도입니다. (bcrypt : cost, pbkdf2 : iterations)
+     * @param maxStrength 최대 강도입니다.
+     * @param sharedStrength 측정한 강도를 받아 배포 전체에서 사용할 강도(처음 저장된 값)를 반환하는 함수입니다. 실패하면 0 을 반환합니다.
+     * <pre>
+     * 목표 시간을 넘지 않는 가장 높은 강도를 선택합니다. 최소 강도보다 낮아지지는 않습니다.
+     * fixedStrength 를 설정하지 않은 경우, sharedStrength 가 반환한 강도를 사용합니다.
+     * </pre>
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public static CalibratedPasswordEncoder calibrate(String algorithm, long targetMs, int fixedStrength,
+                                                      int minStrength, int maxStrength, PasswordHashMetrics metrics,
+                                                      IntUnaryOperator sharedStrength) {
+
+        if (!BCRYPT.equals(algorithm) && !PBKDF2.equals(algorithm)) {
+            throw new IllegalArgumentException("Unsupported password algorithm : " + algorithm);
+        }
+
+        long start = System.nanoTime();
+        int strength;
+        long measuredMs;
+
+        if (fixedStrength > 0) {
+            strength = fixedStrength;
+            measuredMs = measure(BCRYPT.equals(algorithm) ? new BCryptPasswordEncoder(strength) : pbkdf2(strength));
+        } else if (BCRYPT.equals(algorithm)) {
+            // bcrypt 는 cost 1 증가 시 시간이 2배가 되므로, 다음 단계가 목표를 넘기 전까지 올림
+            strength = minStrength;
+            measuredMs = measure(new BCryptPasswordEncoder(strength));
+            while (strength < maxStrength && measuredMs * 2 <= targetMs) {
+                strength++;
+                measuredMs = measure(new BCryptPasswordEncoder(strength));
+            }
+        } else {
+            // pbkdf2 는 iterations 에 비례하므로, 측정값으로 환산한 후 10,000 단위로 맞춤
+            long probeMs = Math.max(1, measure(pbkdf2(PBKDF2_PROBE_ITERATIONS)));
+            long iterations = PBKDF2_PROBE_ITERATIONS * targetMs / probeMs;
+            strength = (int) Math.max(minStrength, Math.min(maxStrength, iterations / 10000 * 10000));
+            measuredMs = measure(pbkdf2(strength));
+        }
+
+        boolean shared = fixedStrength > 0;
+        int measuredStrength = strength;
+        if (!shared) {
+            int agreed = sharedStrength.applyAsInt(strength);
+            if (agreed > 0) {
+                shared = true;
+                strength = agreed;
+            }
+        }
+
+        Map<String, Object> calibration = new LinkedHashMap<>();
+        calibration.put("algorithm", algorithm);
+        calibration.put("strength", strength);
+        calibration.put("measuredStrength", measuredStrength);
+        calibration.put("shared", shared);
+        calibration.put("targetMs", targetMs);
+        calibration.put("measuredMs", measuredMs);
+        calibration.put("calibrationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        metrics.setCalibration(calibration);
+
+        log.info("Password encoder calibrated : {}", calibration);
+        return new CalibratedPasswordEncoder(algorithm, strength, shared, metrics);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        try {
+            return "{" + encodingId + "}" + encoder.encode(rawPassword);
+        } finally {
+            metrics.recordEncode(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) return false;
+
+        long start = System.nanoTime();
+        try {
+            String id = extractId(encodedPassword);
+            String hash = extractHash(encodedPassword);
+
+            if (id == null || BCRYPT.equals(id)) {
+                return bcryptMatcher.matches(rawPassword, hash);
+            }
+            if (id.startsWith(PBKDF2 + "@")) {
+                int iterations = pbkdf2Iterations(id);
+                if (iterations <= 0) {
+                    log.warn("Invalid pbkdf2 encoding id : {}", id);
+                    return false;
+                }
+                return pbkdf2Matchers.computeIfAbsent(iterations, CalibratedPasswordEncoder::pbkdf2).matches(rawPassword, hash);
+            }
+            log.warn("Unknown password encoding id : {}", id);
+            return false;
+        } finally {
+            metrics.recordMatches(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * [CalibratedPasswordEncoder] 재해시 필요 여부 확인 함수
+     *
+     * @param encodedPassword 저장된 비밀번호 해시입니다.
+     * @return 다른 알고리즘이거나 현재 강도와 다른 해시인 경우 true 를 반환합니다.
+     * <pre>
+     * 강도가 배포 전체에서 같으면(shared) 더 높은 강도의 해시도 현재 강도로 낮춥니다. (ex. $2a$12$ 해시를 측정된 cost 로)
+     * 공유하지 못한 경우 강도는 호스트마다 측정되므로, 더 낮은 강도의 해시만 다시 해시합니다.
+     * (측정값이 다른 서버끼리 서로의 해시를 번갈아 바꾸지 않도록)
+     * </pre>
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) return false;
+
+        String id = extractId(encodedPassword);
+        if (id == null || BCRYPT.equals(id)) {   // 접두어 없는 기존 해시는 bcrypt
+            return !BCRYPT.equals(algorithm) || differs(bcryptCost(extractHash(encodedPassword)));
+        }
+        if (id.startsWith(PBKDF2 + "@")) {
+            return !PBKDF2.equals(algorithm) || differs(pbkdf2Iterations(id));
+        }
+        return true;
+    }
+
+    private boolean differs(int encodedStrength) {
+        return shared ? encodedStrength != strength : encodedStrength < strength;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    private static String extractId(String encodedPassword) {
+        if (!encodedPassword.startsWith("{")) return null;
+        int end = encodedPassword.indexOf('}');
+        return (end > 0) ? encodedPassword.substring(1, end) : null;
+    }
+
+    private static String extractHash(String encodedPassword) {
+        if (!encodedPassword.startsWith("{")) return encodedPassword;
+        return encodedPassword.substring(encodedPassword.indexOf('}') + 1);
+    }
+
+    // $2a$12$... 형식에서 cost 추출
+    private static int bcryptCost(String hash) {
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    // pbkdf2@310000 형식에서 iterations 추출
+    private static int pbkdf2Iterations(String id) {
+        try {
+            return Integer.parseInt(id.substring(PBKDF2.length() + 1));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static PasswordEncoder pbkdf2(int iterations) {
+        return new Pbkdf2PasswordEncoder("", 16, iterations, SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+
+    private static long measure(PasswordEncoder encoder) {
+        encoder.encode(CALIBRATION_PASSWORD);   // warm-up
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(best);
+    }
+}
@@ -0,0 +1,44 @@
+package kr.taking.backend.service.security;
+
+import kr.taking.backend.util.LatencyHistogram;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <pre>
+ * ClassName : PasswordHashMetrics
+ * Type : class
+ * Description : 비밀번호 해시 생성(encode), 검증(matches) 처리 시간 분포를 집계하는 클래스입니다.
+ * Related : CalibratedPasswordEncoder, MonitorController
+ * </pre>
+ */
+@Component
+public class PasswordHashMetrics {
+
+    private final LatencyHistogram encode = new LatencyHistogram(10, 25, 50, 100, 250, 500, 1000);
+    private final LatencyHistogram matches = new LatencyHistogram(10, 25, 50, 100, 250, 500, 1000);
+
+    private volatile Map<String, Object> calibration = Map.of();
+
+    void recordEncode(long elapsedNanos) {
+        encode.record(elapsedNanos);
+    }
+
+    void recordMatches(long elapsedNanos) {
+        matches.record(elapsedNanos);
+    }
+
+    void setCalibration(Map<String, Object> calibration) {
+        this.calibration = calibration;
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("calibration", calibration);
+        snapshot.put("encode", encode.snapshot());
+        snapshot.put("matches", matches.snapshot());
+        return snapshot;
+    }
+}
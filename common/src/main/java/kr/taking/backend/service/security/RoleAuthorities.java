@@ -0,0 +1,68 @@
+package kr.taking.backend.service.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * ClassName : RoleAuthorities
+ * Type : class
+ * Description : 역할 이름별 GrantedAuthority Set 을 한 번만 생성하여 공유(intern)하는 클래스입니다.
+ * Related : CustomUserDetailsService, TokenServiceImpl
+ * </pre>
+ */
+public final class RoleAuthorities {
+
+    // 역할 종류는 소수이므로 상한 없이 보관
+    private static final Map<String, Set<GrantedAuthority>> AUTHORITIES = new ConcurrentHashMap<>();
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * [RoleAuthorities] 역할 이름에 해당하는 권한 Set 조회 함수
+     *
+     * @param roleName 역할 이름입니다. (ex. ROLE_USER)
+     * @return 불변 권한 Set 을 반환합니다. 같은 역할 이름에는 항상 같은 인스턴스를 반환합니다.
+     */
+    public static Set<GrantedAuthority> of(String roleName) {
+        if (roleName == null) return Collections.emptySet();
+        return AUTHORITIES.computeIfAbsent(roleName,
+                name -> Collections.singleton(new SimpleGrantedAuthority(name)));
+    }
+
+    /**
+     * [RoleAuthorities] JWT roles 클레임 변환 함수
+     *
+     * @param roles JWT 의 roles 클레임 값입니다.
+     * <pre>
+     * 문자열("ROLE_USER"), 이전 발급 형식({"authority": "ROLE_USER"}), 목록 형식을 모두 지원합니다.
+     * </pre>
+     */
+    public static Set<GrantedAuthority> fromClaim(Object roles) {
+        if (roles instanceof String name) {
+            return of(name);
+        }
+        if (roles instanceof Map<?, ?> map) {
+            Object authority = map.get("authority");
+            return (authority != null) ? of(authority.toString()) : Collections.emptySet();
+        }
+        if (roles instanceof Collection<?> collection) {
+            if (collection.size() == 1) return fromClaim(collection.iterator().next());
+
+            Set<GrantedAuthority> merged = new HashSet<>();
+            for (Object role : collection) {
+                merged.addAll(fromClaim(role));
+            }
+            return Collections.unmodifiableSet(merged);
+        }
+        return Collections.emptySet();
+    }
+}
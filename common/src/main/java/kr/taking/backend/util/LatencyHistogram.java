@@ -0,0 +1,65 @@
+package kr.taking.backend.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <pre>
+ * ClassName : LatencyHistogram
+ * Type : class
+ * Description : 고정 구간(ms)별 처리 시간 분포를 집계하는 클래스입니다.
+ * Related : PasswordHashMetrics
+ * How-to :
+ *  1. LatencyHistogram histogram = new LatencyHistogram(10, 50, 100, 500);
+ *  2. histogram.record(System.nanoTime() - start);
+ *  3. histogram.snapshot();
+ * </pre>
+ */
+public class LatencyHistogram {
+
+    private final long[] boundsMs;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public LatencyHistogram(long... boundsMs) {
+        this.boundsMs = boundsMs.clone();
+        this.buckets = new LongAdder[boundsMs.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long elapsedNanos) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        int index = 0;
+        while (index < boundsMs.length && elapsedMs >= boundsMs[index]) {
+            index++;
+        }
+        buckets[index].increment();
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    public Map<String, Object> snapshot() {
+        long total = count.sum();
+
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length; i++) {
+            String label = (i < boundsMs.length) ? "<" + boundsMs[i] + "ms" : ">=" + boundsMs[boundsMs.length - 1] + "ms";
+            distribution.put(label, buckets[i].sum());
+        }
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("count", total);
+        snapshot.put("meanMs", (total == 0) ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / total));
+        snapshot.put("maxMs", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+        snapshot.put("distribution", distribution);
+        return snapshot;
+    }
+}
@@ -1,5 +1,7 @@
 package kr.taking.backend.util.Security;
 
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
 import kr.taking.backend.model.RoleEntity;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +15,11 @@ import lombok.NoArgsConstructor;
 public class AccessToken {
 
     private String accessToken;
+    private String refreshToken;
+
+    public AccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
 
     //////////////////////////////////////////////////////////////////////////
 
@@ -30,4 +37,14 @@ public class AccessToken {
 
     }
 
-}
\ No newline at end of file
+    @Getter
+    @Builder
+    @NoArgsConstructor @AllArgsConstructor
+    public static class RefreshDto {
+
+        @NotBlank
+        @Schema(title = "리프레시 토큰", example = "eyJhbGciOiJIUzI1NiJ9...")
+        private String refreshToken;
+    }
+
+}
@@ -0,0 +1,255 @@
+package kr.taking.backend.util.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * ClassName : LocalCache
+ * Type : class
+ * Description : 최대 크기와 만료 시간을 가진 프로세스 내 캐시 클래스입니다.
+ * Related : TokenServiceImpl, PrincipalCache, ReferenceCache
+ * How-to :
+ *  1. LocalCache<String, Claims> cache = new LocalCache<>(10000, 300000);
+ *  2. cache.put(key, value, expiresAtMillis);
+ *  3. 조회 후 저장은 computeIfAbsent 를 사용합니다. 조회 중 invalidate 가 호출되면 조회한(이전) 값은 캐시에 남기지 않습니다.
+ *  4. cache.snapshot() 으로 적중(hits), 실패(misses), 크기 초과 제거(evictions), 만료(expirations) 건수를 확인합니다.
+ * </pre>
+ */
+public class LocalCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMs;
+    private final Map<K, Entry<V>> entries;
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+    private final AtomicLong epoch = new AtomicLong();  // invalidate 호출마다 증가
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public LocalCache(int maxSize, long ttlMs) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.entries = new ConcurrentHashMap<>(Math.max(16, Math.min(maxSize, 1 << 16)));
+    }
+
+    /**
+     * [LocalCache] 캐시 조회 함수
+     *
+     * @param key 조회할 키입니다.
+     * @return 만료되지 않은 값을 반환하고, 없거나 만료된 경우 null 을 반환합니다.
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (entry.isExpired(System.currentTimeMillis())) {
+            if (entries.remove(key, entry)) expirations.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * [LocalCache] 캐시 저장 함수
+     * <pre>
+     * 기본 만료 시간(ttlMs)을 적용하여 저장합니다.
+     * </pre>
+     */
+    public void put(K key, V value) {
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    /**
+     * [LocalCache] 만료 시각 지정 캐시 저장 함수
+     *
+     * @param expiresAt 값의 만료 시각(epoch millis)입니다. 기본 만료 시간보다 늦은 경우 기본 만료 시간이 적용됩니다.
+     */
+    public void put(K key, V value, long expiresAt) {
+        store(key, value, expiresAt);
+    }
+
+    /**
+     * [LocalCache] 조회 후 저장 함수
+     *
+     * @param key 조회할 키입니다.
+     * @param loader 캐시에 없을 때 값을 읽는 함수입니다.
+     * @return 캐시된 값 또는 loader 로 읽은 값을 반환합니다.
+     * <pre>
+     * loader 는 잠금 없이 실행하고, 실행 전후로 무효화 세대(epoch)를 비교합니다.
+     * 조회 중 invalidate 가 호출된 경우 읽은 값은 반환만 하고 캐시에서 제거합니다. (무효화 이후 이전 값이 ttlMs 동안 남지 않음)
+     * </pre>
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) return value;
+
+        long stamp = epoch();
+        value = loader.apply(key);
+        putIfUnchanged(key, value, stamp);
+        return value;
+    }
+
+    // 조회 전에 받아 putIfUnchanged 에 전달하는 무효화 세대
+    public long epoch() {
+        return epoch.get();
+    }
+
+    /**
+     * [LocalCache] 무효화 세대 확인 저장 함수
+     *
+     * @param stamp 값을 읽기 전에 epoch() 로 받은 무효화 세대입니다.
+     * <pre>
+     * 저장한 뒤 세대가 바뀌었으면 저장한 항목을 다시 제거합니다.
+     * invalidate 는 세대를 먼저 올리므로, 세대 비교 이후의 invalidate 는 저장된 항목을 제거합니다.
+     * </pre>
+     */
+    public void putIfUnchanged(K key, V value, long stamp) {
+        Entry<V> entry = store(key, value, Long.MAX_VALUE);
+        if (entry != null && epoch.get() != stamp) {
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * [LocalCache] 원자적 갱신 함수
+     *
+     * @param key 갱신할 키입니다.
+     * @param remapping 현재 값(없거나 만료된 경우 null)으로 새 값을 만드는 함수입니다. null 을 반환하면 제거합니다.
+     * @return 저장된 새 값을 반환합니다.
+     * <pre>
+     * 키 단위로 잠근 채 실행하므로 같은 키의 갱신, 만료 제거와 겹치지 않습니다.
+     * 갱신할 때마다 만료 시각을 기본 만료 시간(ttlMs)만큼 늘립니다. (마지막 접근 기준 만료)
+     * </pre>
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remapping) {
+        long now = System.currentTimeMillis();
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            evict(now);
+        }
+
+        Entry<V> entry = entries.compute(key, (k, current) -> {
+            V value = remapping.apply(k, (current == null || current.isExpired(now)) ? null : current.value);
+            return (value == null) ? null : new Entry<>(value, now + ttlMs);
+        });
+        return (entry != null) ? entry.value : null;
+    }
+
+    // 만료된 항목 제거 (주기 작업에서 호출, 제거 직전에 갱신된 항목은 제거하지 않음)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = entries.size();
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+        expirations.add(Math.max(0, before - entries.size()));
+    }
+
+    // 세대를 먼저 올려야 진행 중인 computeIfAbsent 가 제거 이후에 이전 값을 남기지 않음
+    public void invalidate(K key) {
+        epoch.incrementAndGet();
+        entries.remove(key);
+    }
+
+    // 같은 값(동일 객체)이 저장되어 있는 경우에만 제거
+    public void invalidate(K key, V value) {
+        entries.computeIfPresent(key, (k, entry) -> (entry.value == value) ? null : entry);
+    }
+
+    public void invalidateIf(BiPredicate<? super K, ? super V> predicate) {
+        epoch.incrementAndGet();
+        entries.entrySet().removeIf(e -> predicate.test(e.getKey(), e.getValue().value));
+    }
+
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public Map<String, Object> snapshot() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("size", entries.size());
+        snapshot.put("maxSize", maxSize);
+        snapshot.put("ttlMs", ttlMs);
+        snapshot.put("hits", hitCount);
+        snapshot.put("misses", missCount);
+        snapshot.put("hitRatio", (hitCount + missCount > 0) ? (double) hitCount / (hitCount + missCount) : 0.0);
+        snapshot.put("evictions", evictions.sum());
+        snapshot.put("expirations", expirations.sum());
+        return snapshot;
+    }
+
+    private Entry<V> store(K key, V value, long expiresAt) {
+        if (maxSize <= 0 || value == null) return null;
+
+        long now = System.currentTimeMillis();
+        long validUntil = Math.min(expiresAt, now + ttlMs);
+        if (validUntil <= now) return null;
+
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        Entry<V> entry = new Entry<>(value, validUntil);
+        entries.put(key, entry);
+        return entry;
+    }
+
+    // 만료된 항목을 먼저 제거하고, 그래도 가득 찬 경우 약 10%를 임의로 제거합니다.
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) return;
+
+        try {
+            int before = entries.size();
+            entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+            expirations.add(before - entries.size());
+
+            int overflow = entries.size() - maxSize + Math.max(1, maxSize / 10);
+            Iterator<K> iterator = entries.keySet().iterator();
+            while (overflow-- > 0 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package kr.taking.backend.util.projection;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import kr.taking.backend.error.enums.ErrorCode;
+import kr.taking.backend.error.exception.CustomException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * ClassName : FieldSelection
+ * Type : class
+ * Description : fields= 파라미터(응답 JSON 필드명)를 Mongo projection 과 Jackson 필터(serialization view)로 변환하는 클래스입니다.
+ * Related : UserController, OrgController, RoleController, KeysetPagination, ProjectedFinder, StreamingExporter
+ * How-to :
+ *  1. FieldSelection fields = FieldSelection.of(UserEntity.class, "userId,userName");
+ *  2. fields.applyTo(query) 로 요청한 필드(+ id)만 조회하고, fields.view(body) 로 요청한 필드만 직렬화합니다.
+ *  3. Entity 에는 @JsonFilter 가 선언되어 있어야 하며, 필터 id 는 Entity 별로 달라야 합니다. (하위 Entity 에 적용되지 않도록)
+ *  4. 알 수 없는 필드, 쓰기 전용(password), @JsonIgnore 필드를 요청하면 유효하지 않은 입력으로 처리합니다.
+ * </pre>
+ */
+public final class FieldSelection {
+
+    private static final String ID_PROPERTY = "id";
+    private static final FieldSelection ALL = new FieldSelection(null, Set.of(), Set.of());
+    private static final Map<Class<?>, Map<String, String>> PROPERTIES_BY_JSON_NAME = new ConcurrentHashMap<>();
+
+    private final Class<?> type;
+    private final Set<String> jsonNames;
+    private final Set<String> properties;
+
+    private FieldSelection(Class<?> type, Set<String> jsonNames, Set<String> properties) {
+        this.type = type;
+        this.jsonNames = jsonNames;
+        this.properties = properties;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * [FieldSelection] 필드 선택 생성 함수
+     *
+     * @param type 응답 Entity 타입입니다.
+     * @param fields 쉼표로 구분한 응답 JSON 필드명입니다. 비어 있으면 전체 필드를 선택합니다.
+     * @return 필드 선택 정보를 반환합니다.
+     * @throws CustomException 선택할 수 없는 필드가 포함된 경우 예외 처리 발생
+     *
+     * Author : taking(taking@duck.com)
+     */
+    public static FieldSelection of(Class<?> type, String fields) {
+        if (!StringUtils.hasText(fields)) return ALL;
+
+        Map<String, String> selectable = PROPERTIES_BY_JSON_NAME.computeIfAbsent(type, FieldSelection::selectableProperties);
+        Set<String> jsonNames = new LinkedHashSet<>();
+        Set<String> properties = new LinkedHashSet<>();
+        int requested = 0;
+
+        for (String field : fields.split(",")) {
+            String jsonName = field.trim();
+            if (jsonName.isEmpty()) continue;
+            requested++;
+
+            String property = selectable.get(jsonName);
+            if (property == null) {
+                throw new CustomException(jsonName + " 은(는) 선택할 수 없는 필드입니다.", ErrorCode.INVALID_INPUT_VALUE);
+            }
+            jsonNames.add(jsonName);
+            properties.add(property);
+        }
+        if (requested == 0) return ALL;
+
+        // 식별자(userSeq, orgSeq, roleSeq)는 항상 포함
+        selectable.forEach((jsonName, property) -> {
+            if (ID_PROPERTY.equals(property)) jsonNames.add(jsonName);
+        });
+        return new FieldSelection(type, Set.copyOf(jsonNames), Set.copyOf(properties));
+    }
+
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    public boolean includes(String property) {
+        return isAll() || properties.contains(property);
+    }
+
+    // 요청한 필드와 id 만 조회 (Query 의 필드명은 Entity 속성명이며, MongoTemplate 이 Mongo 필드명으로 변환)
+    public Query applyTo(Query query) {
+        if (isAll()) return query;
+        query.fields().include(ID_PROPERTY);
+        properties.forEach(property -> query.fields().include(property));
+        return query;
+    }
+
+    // 요청한 필드만 직렬화 (Page, CursorPage 등으로 감싼 경우에도 해당 Entity 에만 적용)
+    public Object view(Object body) {
+        if (isAll()) return body;
+
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(filters());
+        return value;
+    }
+
+    // view 와 같은 필터 (ObjectWriter 로 직접 직렬화할 때 사용)
+    public FilterProvider filters() {
+        if (isAll()) return defaultFilters();
+        return defaultFilters().addFilter(filterId(type), SimpleBeanPropertyFilter.filterOutAllExcept(jsonNames));
+    }
+
+    // 선택한 응답 JSON 필드명을 Entity 필드 선언 순서로 반환 (CSV 열 순서)
+    public List<String> jsonNames(Class<?> type) {
+        List<String> names = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            String jsonName = jsonName(field);
+            if (jsonName != null && (isAll() || jsonNames.contains(jsonName))) names.add(jsonName);
+        }
+        return names;
+    }
+
+    // Jackson 전역 설정 : fields= 가 없는 요청은 모든 필드를 직렬화
+    public static SimpleFilterProvider defaultFilters() {
+        return new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .setFailOnUnknownId(false);
+    }
+
+    private static String filterId(Class<?> type) {
+        JsonFilter filter = type.getAnnotation(JsonFilter.class);
+        if (filter == null) throw new IllegalStateException(type.getSimpleName() + " has no @JsonFilter");
+        return filter.value();
+    }
+
+    private static Map<String, String> selectableProperties(Class<?> type) {
+        Map<String, String> selectable = new HashMap<>();
+        for (Field field : type.getDeclaredFields()) {
+            String jsonName = jsonName(field);
+            if (jsonName != null) selectable.put(jsonName, field.isAnnotationPresent(Id.class) ? ID_PROPERTY : field.getName());
+        }
+        return Map.copyOf(selectable);
+    }
+
+    // 선택할 수 없는 필드(static, @JsonIgnore, 쓰기 전용)는 null
+    private static String jsonName(Field field) {
+        if (Modifier.isStatic(field.getModifiers()) || field.isAnnotationPresent(JsonIgnore.class)) return null;
+
+        JsonProperty json = field.getAnnotation(JsonProperty.class);
+        if (json != null && json.access() == JsonProperty.Access.WRITE_ONLY) return null;
+
+        return (json != null && !json.value().isEmpty()) ? json.value() : field.getName();
+    }
+}